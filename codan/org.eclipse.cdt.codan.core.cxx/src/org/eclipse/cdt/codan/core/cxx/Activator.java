@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.core.cxx;
 
+import org.eclipse.cdt.codan.core.CodanRuntime;
+import org.eclipse.cdt.codan.core.cxx.internal.model.CxxIncludeClosureProvider;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
@@ -37,6 +39,7 @@ public class Activator extends Plugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		plugin = this;
+		CodanRuntime.getInstance().setIncludeClosureProvider(new CxxIncludeClosureProvider());
 	}
 
 	@Override
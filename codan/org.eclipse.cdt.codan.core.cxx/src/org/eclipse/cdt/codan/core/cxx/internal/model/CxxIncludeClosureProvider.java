@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.internal.model;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.cdt.codan.core.model.IIncludeClosureProvider;
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.index.IIndex;
+import org.eclipse.cdt.core.index.IIndexFile;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.index.IIndexInclude;
+import org.eclipse.cdt.core.index.IIndexManager;
+import org.eclipse.cdt.core.index.IndexLocationFactory;
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.parser.IExtendedScannerInfo;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.IScannerInfoProvider;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+
+/**
+ * Computes the include closure of a file from the index. Unresolved includes are
+ * reported by the name they are included with. The scanner settings are taken from the
+ * scanner info of the file.
+ */
+public class CxxIncludeClosureProvider implements IIncludeClosureProvider {
+	private volatile boolean indexerJoined;
+
+	@Override
+	public boolean isSourceFile(IFile file) {
+		return CoreModel.isTranslationUnit(file);
+	}
+
+	@Override
+	public Collection<IPath> getIncludeClosure(IFile file) throws CoreException {
+		if (!indexerJoined) {
+			CCorePlugin.getIndexManager().joinIndexer(IIndexManager.FOREVER, new NullProgressMonitor());
+			indexerJoined = true;
+		}
+		Set<IPath> closure = new LinkedHashSet<>();
+		IIndex index = CCorePlugin.getIndexManager().getIndex(CoreModel.getDefault().create(file.getProject()));
+		try {
+			index.acquireReadLock();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return closure;
+		}
+		try {
+			for (IIndexFile indexFile : index.getFiles(IndexLocationFactory.getWorkspaceIFL(file))) {
+				for (IIndexInclude include : index.findIncludes(indexFile, IIndex.DEPTH_INFINITE)) {
+					IIndexFileLocation location = include.getIncludesLocation();
+					IPath path = location == null ? null : IndexLocationFactory.getAbsolutePath(location);
+					closure.add(path != null ? path : new Path(include.getFullName()));
+				}
+			}
+		} finally {
+			index.releaseReadLock();
+		}
+		return closure;
+	}
+
+	@Override
+	public String getScannerSettings(IFile file) {
+		IScannerInfoProvider provider = CCorePlugin.getDefault().getScannerInfoProvider(file.getProject());
+		IScannerInfo info = provider == null ? null : provider.getScannerInformation(file);
+		if (info == null)
+			return null;
+		StringBuilder buf = new StringBuilder();
+		// The order of the macros does not matter, the order of the paths does
+		Map<String, String> symbols = info.getDefinedSymbols();
+		if (symbols != null) {
+			for (Map.Entry<String, String> symbol : new TreeMap<>(symbols).entrySet()) {
+				buf.append("-D").append(symbol.getKey()).append('='); //$NON-NLS-1$
+				buf.append(symbol.getValue()).append('\n');
+			}
+		}
+		append(buf, "-I", info.getIncludePaths()); //$NON-NLS-1$
+		if (info instanceof IExtendedScannerInfo) {
+			IExtendedScannerInfo extendedInfo = (IExtendedScannerInfo) info;
+			append(buf, "-iquote", extendedInfo.getLocalIncludePath()); //$NON-NLS-1$
+			append(buf, "-imacros", extendedInfo.getMacroFiles()); //$NON-NLS-1$
+			append(buf, "-include", extendedInfo.getIncludeFiles()); //$NON-NLS-1$
+		}
+		return buf.toString();
+	}
+
+	private static void append(StringBuilder buf, String option, String[] values) {
+		if (values != null) {
+			for (String value : values) {
+				buf.append(option).append(value).append('\n');
+			}
+		}
+	}
+}
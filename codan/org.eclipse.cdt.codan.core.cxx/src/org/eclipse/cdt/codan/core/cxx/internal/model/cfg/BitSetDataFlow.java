@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.internal.model.cfg;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+
+/**
+ * Solves a gen/kill data flow problem whose facts are represented by bit sets,
+ * such as reaching definitions or live variables. Nodes are numbered from
+ * <code>0</code>, and the facts flowing into a node are the union of the facts
+ * flowing out of its neighbors.
+ */
+public final class BitSetDataFlow {
+	private final BitSet[] in;
+	private final BitSet[] out;
+
+	private BitSetDataFlow(BitSet[] in, BitSet[] out) {
+		this.in = in;
+		this.out = out;
+	}
+
+	/**
+	 * Solves a problem where facts flow along the edges, such as reaching definitions.
+	 *
+	 * @param predecessors - the predecessors of each node
+	 * @param successors - the successors of each node
+	 * @param gen - the facts generated by each node
+	 * @param kill - the facts killed by each node
+	 */
+	public static BitSetDataFlow forward(int[][] predecessors, int[][] successors, BitSet[] gen, BitSet[] kill) {
+		BitSet[] in = new BitSet[gen.length];
+		BitSet[] out = new BitSet[gen.length];
+		solve(predecessors, successors, gen, kill, in, out, false);
+		return new BitSetDataFlow(in, out);
+	}
+
+	/**
+	 * Solves a problem where facts flow against the edges, such as live variables.
+	 *
+	 * @param predecessors - the predecessors of each node
+	 * @param successors - the successors of each node
+	 * @param gen - the facts generated by each node
+	 * @param kill - the facts killed by each node
+	 */
+	public static BitSetDataFlow backward(int[][] predecessors, int[][] successors, BitSet[] gen, BitSet[] kill) {
+		BitSet[] in = new BitSet[gen.length];
+		BitSet[] out = new BitSet[gen.length];
+		solve(successors, predecessors, gen, kill, out, in, true);
+		return new BitSetDataFlow(in, out);
+	}
+
+	/**
+	 * Iterates to the fixed point, starting from empty sets. <code>before</code> is
+	 * computed from the <code>after</code> sets of the <code>sources</code> of a node,
+	 * and a node is visited again when the <code>after</code> set of one of its
+	 * sources changes.
+	 */
+	private static void solve(int[][] sources, int[][] targets, BitSet[] gen, BitSet[] kill, BitSet[] before,
+			BitSet[] after, boolean reverse) {
+		int size = gen.length;
+		ArrayDeque<Integer> worklist = new ArrayDeque<>(size);
+		boolean[] queued = new boolean[size];
+		for (int i = 0; i < size; i++) {
+			before[i] = new BitSet();
+			after[i] = (BitSet) gen[i].clone();
+			int node = reverse ? size - 1 - i : i;
+			worklist.add(node);
+			queued[node] = true;
+		}
+		BitSet next = new BitSet();
+		while (!worklist.isEmpty()) {
+			int node = worklist.poll();
+			queued[node] = false;
+			BitSet facts = before[node];
+			for (int source : sources[node]) {
+				facts.or(after[source]);
+			}
+			next.clear();
+			next.or(facts);
+			next.andNot(kill[node]);
+			next.or(gen[node]);
+			if (next.equals(after[node]))
+				continue;
+			after[node].clear();
+			after[node].or(next);
+			for (int target : targets[node]) {
+				if (!queued[target]) {
+					queued[target] = true;
+					worklist.add(target);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the facts holding on entry to a node. The returned set must not be modified.
+	 */
+	public BitSet getIn(int node) {
+		return in[node];
+	}
+
+	/**
+	 * Returns the facts holding on exit from a node. The returned set must not be modified.
+	 */
+	public BitSet getOut(int node) {
+		return out[node];
+	}
+}
@@ -0,0 +1,377 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.internal.model.cfg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.cdt.codan.core.cxx.model.ICxxDataFlow;
+import org.eclipse.cdt.codan.core.model.cfg.IBasicBlock;
+import org.eclipse.cdt.codan.core.model.cfg.IControlFlowGraph;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTBinaryExpression;
+import org.eclipse.cdt.core.dom.ast.IASTDeclarator;
+import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.IASTIdExpression;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTParameterDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTStandardFunctionDeclarator;
+import org.eclipse.cdt.core.dom.ast.IASTUnaryExpression;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.IField;
+import org.eclipse.cdt.core.dom.ast.IVariable;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.cpp.ICPPASTTryBlockStatement;
+import org.eclipse.cdt.internal.core.dom.parser.ASTQueries;
+import org.eclipse.cdt.internal.core.dom.parser.c.CVariableReadWriteFlags;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.semantics.CPPVariableReadWriteFlags;
+import org.eclipse.cdt.internal.core.pdom.dom.PDOMName;
+
+/**
+ * Data flow facts about the local variables and parameters of a function: reaching
+ * definitions, live variables and the def-use chains built from them.
+ * <p>
+ * The facts are computed on the nodes of the control flow graph of the function,
+ * so a statement or condition is the unit of the analysis: the variables it reads
+ * are read before the variables it writes are written. An access that may or may
+ * not be a write, such as passing the address of a variable to a function, is
+ * both a use and a definition that does not kill the previous definitions.
+ * <p>
+ * The graph and the accesses are indexed when the object is created. The
+ * analyses run on first use, and their results are kept for later queries.
+ */
+public class CxxDataFlow implements ICxxDataFlow {
+	private final IBasicBlock[] nodes;
+	private final Map<IBasicBlock, Integer> nodeIndex = new IdentityHashMap<>();
+	private final int[][] predecessors;
+	private final int[][] successors;
+
+	private final List<IVariable> variables = new ArrayList<>();
+	private final Map<IBinding, Integer> variableIndex = new HashMap<>();
+
+	/** Names of the definitions, numbered in the order of the nodes. */
+	private final List<IASTName> definitions = new ArrayList<>();
+	private final List<Integer> definitionVariables = new ArrayList<>();
+	/** Names of the uses, with the node and variable of each. */
+	private final Map<IASTName, int[]> uses = new LinkedHashMap<>();
+	private final Map<IASTName, Integer> nameNodes = new IdentityHashMap<>();
+
+	private final BitSet[] definitionsGenerated;
+	private final BitSet[] variablesDefined;
+	private final BitSet[] variablesKilled;
+	private final BitSet[] variablesUsed;
+
+	private BitSetDataFlow reachingDefinitions;
+	private BitSetDataFlow liveVariables;
+	private Map<IASTName, Set<IASTName>> useDefinitions;
+	private Map<IASTName, Set<IASTName>> definitionUses;
+
+	public CxxDataFlow(IASTFunctionDefinition func, IControlFlowGraph graph) {
+		Collection<IBasicBlock> graphNodes = graph.getNodes();
+		nodes = graphNodes.toArray(new IBasicBlock[graphNodes.size()]);
+		for (int i = 0; i < nodes.length; i++) {
+			nodeIndex.put(nodes[i], i);
+		}
+		predecessors = new int[nodes.length][];
+		successors = new int[nodes.length][];
+		definitionsGenerated = new BitSet[nodes.length];
+		variablesDefined = new BitSet[nodes.length];
+		variablesKilled = new BitSet[nodes.length];
+		variablesUsed = new BitSet[nodes.length];
+		IBinding function = ASTQueries.findInnermostDeclarator(func.getDeclarator()).getName().resolveBinding();
+		boolean cpp = func.getTranslationUnit() instanceof ICPPASTTranslationUnit;
+		for (int i = 0; i < nodes.length; i++) {
+			predecessors[i] = indexOf(nodes[i].getIncomingNodes());
+			successors[i] = indexOf(nodes[i].getOutgoingNodes());
+			definitionsGenerated[i] = new BitSet();
+			variablesDefined[i] = new BitSet();
+			variablesKilled[i] = new BitSet();
+			variablesUsed[i] = new BitSet();
+			if (nodes[i] == graph.getStartNode()) {
+				addParameters(i, func, function);
+			}
+			IASTNode ast = getAstNode(nodes[i]);
+			if (ast != null) {
+				addAccesses(i, ast, function, cpp);
+			}
+		}
+	}
+
+	private int[] indexOf(IBasicBlock[] blocks) {
+		int[] result = new int[blocks.length];
+		int count = 0;
+		for (IBasicBlock block : blocks) {
+			Integer index = block != null ? nodeIndex.get(block) : null;
+			if (index != null)
+				result[count++] = index;
+		}
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	private static IASTNode getAstNode(IBasicBlock node) {
+		if (node instanceof CxxPlainNode)
+			return ((CxxPlainNode) node).getNode();
+		if (node instanceof CxxDecisionNode) {
+			// The decision of a try block is the whole statement, its accesses are in the branches
+			IASTNode ast = ((CxxDecisionNode) node).getNode();
+			return ast instanceof ICPPASTTryBlockStatement ? null : ast;
+		}
+		if (node instanceof CxxExitNode)
+			return ((CxxExitNode) node).getNode();
+		return null;
+	}
+
+	private void addParameters(int node, IASTFunctionDefinition func, IBinding function) {
+		IASTDeclarator declarator = ASTQueries.findTypeRelevantDeclarator(func.getDeclarator());
+		if (!(declarator instanceof IASTStandardFunctionDeclarator))
+			return;
+		for (IASTParameterDeclaration parameter : ((IASTStandardFunctionDeclarator) declarator).getParameters()) {
+			IASTName name = ASTQueries.findInnermostDeclarator(parameter.getDeclarator()).getName();
+			int variable = getVariable(name.resolveBinding(), function);
+			if (variable >= 0) {
+				addDefinition(node, variable, name, true);
+			}
+		}
+	}
+
+	private void addAccesses(int node, IASTNode ast, IBinding function, boolean cpp) {
+		ast.accept(new ASTVisitor() {
+			{
+				shouldVisitNames = true;
+			}
+
+			@Override
+			public int visit(IASTName name) {
+				int variable = getVariable(name.resolveBinding(), function);
+				if (variable < 0)
+					return PROCESS_CONTINUE;
+				Optional<Integer> flags = cpp ? CPPVariableReadWriteFlags.getReadWriteFlags(name)
+						: CVariableReadWriteFlags.getReadWriteFlags(name);
+				boolean read = !flags.isPresent() || (flags.get() & PDOMName.READ_ACCESS) != 0;
+				boolean write = !flags.isPresent() || (flags.get() & PDOMName.WRITE_ACCESS) != 0;
+				if (read) {
+					uses.put(name, new int[] { node, variable });
+					nameNodes.put(name, node);
+					variablesUsed[node].set(variable);
+				}
+				if (write) {
+					addDefinition(node, variable, name, flags.isPresent() && isDefiniteWrite(name));
+				}
+				return PROCESS_CONTINUE;
+			}
+		});
+	}
+
+	/**
+	 * Returns whether a write access certainly replaces the value of the variable, as
+	 * opposed to passing the variable by address or reference.
+	 */
+	private static boolean isDefiniteWrite(IASTName name) {
+		IASTNode parent = name.getParent();
+		if (parent instanceof IASTDeclarator)
+			return true;
+		if (!(parent instanceof IASTIdExpression))
+			return false;
+		IASTNode expr = parent;
+		while (expr.getParent() instanceof IASTUnaryExpression
+				&& ((IASTUnaryExpression) expr.getParent()).getOperator() == IASTUnaryExpression.op_bracketedPrimary) {
+			expr = expr.getParent();
+		}
+		IASTNode grand = expr.getParent();
+		if (grand instanceof IASTBinaryExpression) {
+			IASTBinaryExpression binary = (IASTBinaryExpression) grand;
+			return binary.getOperand1() == expr && binary.getOperator() >= IASTBinaryExpression.op_assign
+					&& binary.getOperator() <= IASTBinaryExpression.op_binaryOrAssign;
+		}
+		if (grand instanceof IASTUnaryExpression) {
+			switch (((IASTUnaryExpression) grand).getOperator()) {
+			case IASTUnaryExpression.op_prefixIncr:
+			case IASTUnaryExpression.op_prefixDecr:
+			case IASTUnaryExpression.op_postFixIncr:
+			case IASTUnaryExpression.op_postFixDecr:
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void addDefinition(int node, int variable, IASTName name, boolean kills) {
+		definitionsGenerated[node].set(definitions.size());
+		definitions.add(name);
+		definitionVariables.add(variable);
+		nameNodes.put(name, node);
+		variablesDefined[node].set(variable);
+		if (kills)
+			variablesKilled[node].set(variable);
+	}
+
+	/**
+	 * Returns the index of a local variable or parameter of the function, or
+	 * <code>-1</code> if the binding is not one.
+	 */
+	private int getVariable(IBinding binding, IBinding function) {
+		if (!(binding instanceof IVariable) || binding instanceof IField)
+			return -1;
+		Integer index = variableIndex.get(binding);
+		if (index != null)
+			return index;
+		IVariable variable = (IVariable) binding;
+		if (variable.isStatic() || variable.isExtern() || function == null || !function.equals(binding.getOwner()))
+			return -1;
+		variableIndex.put(binding, variables.size());
+		variables.add(variable);
+		return variables.size() - 1;
+	}
+
+	private int getNodeIndex(IBasicBlock node) {
+		Integer index = nodeIndex.get(node);
+		if (index == null)
+			throw new IllegalArgumentException();
+		return index;
+	}
+
+	private synchronized BitSetDataFlow solveReachingDefinitions() {
+		if (reachingDefinitions == null) {
+			BitSet[] definitionsOf = new BitSet[variables.size()];
+			for (int i = 0; i < definitionsOf.length; i++) {
+				definitionsOf[i] = new BitSet();
+			}
+			for (int i = 0; i < definitions.size(); i++) {
+				definitionsOf[definitionVariables.get(i)].set(i);
+			}
+			BitSet[] kill = new BitSet[nodes.length];
+			for (int i = 0; i < nodes.length; i++) {
+				kill[i] = new BitSet();
+				BitSet killed = variablesKilled[i];
+				for (int v = killed.nextSetBit(0); v >= 0; v = killed.nextSetBit(v + 1)) {
+					kill[i].or(definitionsOf[v]);
+				}
+				kill[i].andNot(definitionsGenerated[i]);
+			}
+			reachingDefinitions = BitSetDataFlow.forward(predecessors, successors, definitionsGenerated, kill);
+		}
+		return reachingDefinitions;
+	}
+
+	private synchronized BitSetDataFlow solveLiveVariables() {
+		if (liveVariables == null) {
+			BitSet[] kill = new BitSet[nodes.length];
+			for (int i = 0; i < nodes.length; i++) {
+				// The variables read by the node are read before it writes them
+				kill[i] = (BitSet) variablesKilled[i].clone();
+				kill[i].andNot(variablesUsed[i]);
+			}
+			liveVariables = BitSetDataFlow.backward(predecessors, successors, variablesUsed, kill);
+		}
+		return liveVariables;
+	}
+
+	private synchronized void computeChains() {
+		if (useDefinitions != null)
+			return;
+		useDefinitions = new HashMap<>();
+		definitionUses = new HashMap<>();
+		for (IASTName definition : definitions) {
+			definitionUses.put(definition, new LinkedHashSet<>());
+		}
+		BitSetDataFlow reaching = solveReachingDefinitions();
+		for (Map.Entry<IASTName, int[]> use : uses.entrySet()) {
+			int node = use.getValue()[0];
+			int variable = use.getValue()[1];
+			Set<IASTName> defs = new LinkedHashSet<>();
+			BitSet in = reaching.getIn(node);
+			for (int d = in.nextSetBit(0); d >= 0; d = in.nextSetBit(d + 1)) {
+				if (definitionVariables.get(d) == variable) {
+					defs.add(definitions.get(d));
+					definitionUses.get(definitions.get(d)).add(use.getKey());
+				}
+			}
+			useDefinitions.put(use.getKey(), defs);
+		}
+	}
+
+	@Override
+	public List<IVariable> getVariables() {
+		return Collections.unmodifiableList(variables);
+	}
+
+	@Override
+	public IBasicBlock getNode(IASTName name) {
+		Integer node = nameNodes.get(name);
+		return node != null ? nodes[node] : null;
+	}
+
+	@Override
+	public Set<IASTName> getReachingDefinitions(IBasicBlock node, IVariable variable) {
+		Integer index = variableIndex.get(variable);
+		Set<IASTName> result = new LinkedHashSet<>();
+		if (index == null)
+			return result;
+		BitSet in = solveReachingDefinitions().getIn(getNodeIndex(node));
+		for (int d = in.nextSetBit(0); d >= 0; d = in.nextSetBit(d + 1)) {
+			if (definitionVariables.get(d).intValue() == index.intValue())
+				result.add(definitions.get(d));
+		}
+		return result;
+	}
+
+	@Override
+	public boolean isLiveIn(IBasicBlock node, IVariable variable) {
+		Integer index = variableIndex.get(variable);
+		return index != null && solveLiveVariables().getIn(getNodeIndex(node)).get(index);
+	}
+
+	@Override
+	public boolean isLiveOut(IBasicBlock node, IVariable variable) {
+		Integer index = variableIndex.get(variable);
+		return index != null && solveLiveVariables().getOut(getNodeIndex(node)).get(index);
+	}
+
+	@Override
+	public Set<IASTName> getDefinitions(IASTName use) {
+		computeChains();
+		Set<IASTName> result = useDefinitions.get(use);
+		return result != null ? Collections.unmodifiableSet(result) : Collections.emptySet();
+	}
+
+	@Override
+	public Set<IASTName> getUses(IASTName definition) {
+		computeChains();
+		Set<IASTName> result = definitionUses.get(definition);
+		return result != null ? Collections.unmodifiableSet(result) : Collections.emptySet();
+	}
+
+	@Override
+	public List<IASTName> getUnusedDefinitions() {
+		computeChains();
+		List<IASTName> result = new ArrayList<>();
+		for (IASTName definition : definitions) {
+			if (definitionUses.get(definition).isEmpty())
+				result.add(definition);
+		}
+		return result;
+	}
+}
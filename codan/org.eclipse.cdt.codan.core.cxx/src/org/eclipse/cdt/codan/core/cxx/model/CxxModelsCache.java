@@ -18,6 +18,7 @@ import java.util.WeakHashMap;
 
 import org.eclipse.cdt.codan.core.cxx.internal.model.CodanCommentMap;
 import org.eclipse.cdt.codan.core.cxx.internal.model.cfg.CxxControlFlowGraph;
+import org.eclipse.cdt.codan.core.cxx.internal.model.cfg.CxxDataFlow;
 import org.eclipse.cdt.codan.core.model.ICodanDisposable;
 import org.eclipse.cdt.codan.core.model.cfg.IControlFlowGraph;
 import org.eclipse.cdt.core.CCorePlugin;
@@ -45,6 +46,7 @@ public class CxxModelsCache implements ICodanDisposable {
 	private IASTTranslationUnit ast;
 	private IIndex index;
 	private final WeakHashMap<IASTFunctionDefinition, IControlFlowGraph> cfgmap;
+	private final WeakHashMap<IASTFunctionDefinition, ICxxDataFlow> dataFlowMap;
 	private ICodanCommentMap commentMap;
 	private boolean disposed;
 
@@ -52,6 +54,7 @@ public class CxxModelsCache implements ICodanDisposable {
 		this.tu = tu;
 		this.file = tu != null ? (IFile) tu.getResource() : null;
 		cfgmap = new WeakHashMap<>(0);
+		dataFlowMap = new WeakHashMap<>(0);
 	}
 
 	CxxModelsCache(IASTTranslationUnit ast) {
@@ -95,6 +98,25 @@ public class CxxModelsCache implements ICodanDisposable {
 		return cfg;
 	}
 
+	/**
+	 * Returns the data flow facts of a function, shared by the checkers analyzing it.
+	 * They are computed on the control flow graph returned by
+	 * {@link #getControlFlowGraph(IASTFunctionDefinition)}.
+	 *
+	 * @since 3.7
+	 */
+	public synchronized ICxxDataFlow getDataFlow(IASTFunctionDefinition func) {
+		ICxxDataFlow dataFlow = dataFlowMap.get(func);
+		if (dataFlow != null)
+			return dataFlow;
+		dataFlow = new CxxDataFlow(func, getControlFlowGraph(func));
+		if (dataFlowMap.size() > 20) { // same limit as the graphs they are computed on
+			dataFlowMap.clear();
+		}
+		dataFlowMap.put(func, dataFlow);
+		return dataFlow;
+	}
+
 	public synchronized ICodanCommentMap getCommentedNodeMap() {
 		return getCommentedNodeMap(tu);
 	}
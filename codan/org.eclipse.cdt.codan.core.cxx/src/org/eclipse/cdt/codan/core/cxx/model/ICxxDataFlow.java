@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx.model;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.cdt.codan.core.model.cfg.IBasicBlock;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IVariable;
+
+/**
+ * Data flow facts about the local variables and parameters of a function, computed
+ * on the nodes of its control flow graph.
+ *
+ * @see CxxModelsCache#getDataFlow(org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition)
+ * @since 3.7
+ */
+public interface ICxxDataFlow {
+	/**
+	 * Returns the local variables and parameters of the function that are accessed
+	 * in the graph.
+	 */
+	public List<IVariable> getVariables();
+
+	/**
+	 * Returns the node of the graph containing a definition or a use, or
+	 * <code>null</code> if the name is neither.
+	 */
+	public IBasicBlock getNode(IASTName name);
+
+	/**
+	 * Returns the definitions of a variable that reach the entry of a node.
+	 */
+	public Set<IASTName> getReachingDefinitions(IBasicBlock node, IVariable variable);
+
+	/**
+	 * Returns whether the value of a variable on entry to a node may be read later.
+	 */
+	public boolean isLiveIn(IBasicBlock node, IVariable variable);
+
+	/**
+	 * Returns whether the value of a variable on exit from a node may be read later.
+	 */
+	public boolean isLiveOut(IBasicBlock node, IVariable variable);
+
+	/**
+	 * Returns the definitions whose value may be read by a use, or an empty set if the
+	 * name is not a use of a local variable or parameter.
+	 */
+	public Set<IASTName> getDefinitions(IASTName use);
+
+	/**
+	 * Returns the uses that may read the value of a definition, or an empty set if the
+	 * name is not a definition of a local variable or parameter.
+	 */
+	public Set<IASTName> getUses(IASTName definition);
+
+	/**
+	 * Returns the definitions whose value is never read.
+	 */
+	public List<IASTName> getUnusedDefinitions();
+}
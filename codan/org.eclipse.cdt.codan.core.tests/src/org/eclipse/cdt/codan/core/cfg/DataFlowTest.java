@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cfg;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import org.eclipse.cdt.codan.core.cxx.internal.model.cfg.BitSetDataFlow;
+import org.eclipse.cdt.codan.core.cxx.internal.model.cfg.ControlFlowGraphBuilder;
+import org.eclipse.cdt.codan.core.cxx.internal.model.cfg.CxxDataFlow;
+import org.eclipse.cdt.codan.core.tests.CodanFastCxxAstTestCase;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IVariable;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+
+/**
+ * Tests for CxxDataFlow and BitSetDataFlow
+ */
+public class DataFlowTest extends CodanFastCxxAstTestCase {
+	private String code;
+	private CxxDataFlow flow;
+
+	private void buildFlow(String code, boolean cpp) {
+		this.code = code;
+		parse(code, cpp ? ParserLanguage.CPP : ParserLanguage.C, true);
+		for (IASTDeclaration decl : tu.getDeclarations()) {
+			if (decl instanceof IASTFunctionDefinition) {
+				IASTFunctionDefinition func = (IASTFunctionDefinition) decl;
+				flow = new CxxDataFlow(func, new ControlFlowGraphBuilder().build(func));
+				return;
+			}
+		}
+		fail("no function");
+	}
+
+	/**
+	 * Returns the name <code>name</code> in the first occurrence of <code>section</code>.
+	 */
+	private IASTName name(String section, String name) {
+		int offset = code.indexOf(section);
+		assertTrue(section, offset >= 0);
+		offset += section.indexOf(name);
+		IASTName result = tu.getNodeSelector(null).findName(offset, name.length());
+		assertNotNull(section, result);
+		return result;
+	}
+
+	private IVariable variable(String section, String name) {
+		return (IVariable) name(section, name).resolveBinding();
+	}
+
+	private void assertNames(Set<IASTName> names, IASTName... expected) {
+		assertEquals(names.toString(), expected.length, names.size());
+		for (IASTName name : expected) {
+			assertTrue(name.toString(), names.contains(name));
+		}
+	}
+
+	//	int f(int p) {
+	//	  int a = 1;
+	//	  int b = a;
+	//	  a = 2;
+	//	  return a + b + p;
+	//	}
+	public void testStraightLine() {
+		buildFlow(getAboveComment(), false);
+		assertEquals(3, flow.getVariables().size());
+		assertNames(flow.getUses(name("a = 1", "a")), name("b = a", "a"));
+		assertNames(flow.getUses(name("a = 2", "a")), name("a + b", "a"));
+		assertNames(flow.getDefinitions(name("a + b", "b")), name("b = a", "b"));
+		assertNames(flow.getDefinitions(name("+ p", "p")), name("int p", "p"));
+	}
+
+	//	int f(int c) {
+	//	  int x;
+	//	  if (c)
+	//	    x = 1;
+	//	  else
+	//	    x = 2;
+	//	  return x;
+	//	}
+	public void testIf() {
+		buildFlow(getAboveComment(), false);
+		assertNames(flow.getDefinitions(name("return x", "x")), name("x = 1", "x"), name("x = 2", "x"));
+		assertNames(flow.getReachingDefinitions(flow.getNode(name("return x", "x")), variable("int x", "x")),
+				name("x = 1", "x"), name("x = 2", "x"));
+	}
+
+	//	int f(int n) {
+	//	  int s = 0;
+	//	  while (n) {
+	//	    s = s + n;
+	//	    n--;
+	//	  }
+	//	  return s;
+	//	}
+	public void testLoop() {
+		buildFlow(getAboveComment(), false);
+		assertNames(flow.getDefinitions(name("s + n", "s")), name("s = 0", "s"), name("s = s", "s"));
+		assertNames(flow.getDefinitions(name("while (n)", "n")), name("int n", "n"), name("n--", "n"));
+		IVariable n = variable("int n", "n");
+		IVariable s = variable("int s", "s");
+		assertTrue(flow.isLiveOut(flow.getNode(name("s = 0", "s")), n));
+		assertTrue(flow.isLiveOut(flow.getNode(name("s = 0", "s")), s));
+		assertTrue(flow.isLiveIn(flow.getNode(name("return s", "s")), s));
+		assertFalse(flow.isLiveIn(flow.getNode(name("return s", "s")), n));
+	}
+
+	//	int f() {
+	//	  int a = 1;
+	//	  a = 2;
+	//	  return a;
+	//	}
+	public void testUnusedDefinition() {
+		buildFlow(getAboveComment(), false);
+		assertEquals(1, flow.getUnusedDefinitions().size());
+		assertSame(name("a = 1", "a"), flow.getUnusedDefinitions().get(0));
+		assertFalse(flow.isLiveOut(flow.getNode(name("a = 1", "a")), variable("int a", "a")));
+	}
+
+	//	void g(int* p);
+	//	int f() {
+	//	  int a = 1;
+	//	  g(&a);
+	//	  return a;
+	//	}
+	public void testMayDefinition() {
+		buildFlow(getAboveComment(), true);
+		// The call may or may not write a, so both definitions reach the return
+		assertNames(flow.getDefinitions(name("return a", "a")), name("a = 1", "a"), name("&a", "a"));
+		assertTrue(flow.getUnusedDefinitions().isEmpty());
+	}
+
+	//	void g();
+	//	int f() {
+	//	  int x = 0;
+	//	  try {
+	//	    x = 1;
+	//	    g();
+	//	    x = x + 1;
+	//	  } catch (...) {
+	//	    x = 2;
+	//	  }
+	//	  return x;
+	//	}
+	public void testTryCatch() {
+		buildFlow(getAboveComment(), true);
+		// The accesses are in the nodes of the try body and the handler, not in the try node
+		assertNames(flow.getDefinitions(name("x + 1", "x")), name("x = 1", "x"));
+		assertNames(flow.getDefinitions(name("return x", "x")), name("x = x", "x"), name("x = 2", "x"));
+		assertNotSame(flow.getNode(name("x = 1", "x")), flow.getNode(name("x = 2", "x")));
+		assertEquals(1, flow.getUnusedDefinitions().size());
+		assertSame(name("x = 0", "x"), flow.getUnusedDefinitions().get(0));
+	}
+
+	//	int f() {
+	//	  static int c = 0;
+	//	  int a = c;
+	//	  return a;
+	//	}
+	public void testStaticNotTracked() {
+		buildFlow(getAboveComment(), true);
+		assertEquals(1, flow.getVariables().size());
+		assertTrue(flow.getDefinitions(name("= c", "c")).isEmpty());
+	}
+
+	private static BitSet bits(int... bits) {
+		BitSet result = new BitSet();
+		for (int bit : bits) {
+			result.set(bit);
+		}
+		return result;
+	}
+
+	public void testForwardLoop() {
+		// 0 -> 1 -> 2 -> 1, 1 -> 3; node 0 and node 2 define fact 0 and fact 1 of the same variable
+		int[][] predecessors = { {}, { 0, 2 }, { 1 }, { 1 } };
+		int[][] successors = { { 1 }, { 2, 3 }, { 1 }, {} };
+		BitSet[] gen = { bits(0), bits(), bits(1), bits() };
+		BitSet[] kill = { bits(1), bits(), bits(0), bits() };
+		BitSetDataFlow result = BitSetDataFlow.forward(predecessors, successors, gen, kill);
+		assertEquals(bits(), result.getIn(0));
+		assertEquals(bits(0, 1), result.getIn(1));
+		assertEquals(bits(0, 1), result.getIn(3));
+		assertEquals(bits(1), result.getOut(2));
+	}
+
+	public void testBackwardLoop() {
+		// Same graph, node 2 uses variable 0 and node 3 uses variable 1; node 0 defines both
+		int[][] predecessors = { {}, { 0, 2 }, { 1 }, { 1 } };
+		int[][] successors = { { 1 }, { 2, 3 }, { 1 }, {} };
+		BitSet[] use = { bits(), bits(), bits(0), bits(1) };
+		BitSet[] def = { bits(0, 1), bits(), bits(), bits() };
+		BitSetDataFlow result = BitSetDataFlow.backward(predecessors, successors, use, def);
+		assertEquals(bits(), result.getIn(0));
+		assertEquals(bits(0, 1), result.getOut(0));
+		assertEquals(bits(0, 1), result.getIn(2));
+		assertEquals(bits(), result.getOut(3));
+	}
+}
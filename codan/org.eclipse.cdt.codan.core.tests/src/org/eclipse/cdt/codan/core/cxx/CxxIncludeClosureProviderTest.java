@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.cxx;
+
+import org.eclipse.cdt.codan.core.cxx.internal.model.CxxIncludeClosureProvider;
+import org.eclipse.cdt.codan.core.tests.CodanTestCase;
+import org.eclipse.cdt.core.testplugin.TestScannerProvider;
+
+/**
+ * Tests the scanner settings {@link CxxIncludeClosureProvider} keys the results of a file with.
+ */
+public class CxxIncludeClosureProviderTest extends CodanTestCase {
+	@Override
+	public void tearDown() throws Exception {
+		TestScannerProvider.clear();
+		super.tearDown();
+	}
+
+	public void testScannerSettings() throws Exception {
+		loadcode("int x;");
+		CxxIncludeClosureProvider provider = new CxxIncludeClosureProvider();
+		assertEquals("", provider.getScannerSettings(currentIFile));
+
+		TestScannerProvider.sDefinedSymbols.put("B", "");
+		TestScannerProvider.sDefinedSymbols.put("A", "1");
+		TestScannerProvider.sIncludes = new String[] { "/inc2", "/inc1" };
+		TestScannerProvider.sLocalIncludes = new String[] { "/local" };
+		TestScannerProvider.sMacroFiles = new String[] { "macros.h" };
+		TestScannerProvider.sIncludeFiles = new String[] { "prefix.h" };
+		assertEquals("-DA=1\n-DB=\n-I/inc2\n-I/inc1\n-iquote/local\n-imacrosmacros.h\n-includeprefix.h\n",
+				provider.getScannerSettings(currentIFile));
+
+		// The search order of the include paths matters
+		TestScannerProvider.sIncludes = new String[] { "/inc1", "/inc2" };
+		assertEquals("-DA=1\n-DB=\n-I/inc1\n-I/inc2\n-iquote/local\n-imacrosmacros.h\n-includeprefix.h\n",
+				provider.getScannerSettings(currentIFile));
+	}
+}
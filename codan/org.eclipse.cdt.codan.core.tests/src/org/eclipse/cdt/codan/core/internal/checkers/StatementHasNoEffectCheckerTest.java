@@ -15,10 +15,14 @@ package org.eclipse.cdt.codan.core.internal.checkers;
 
 import java.io.File;
 
+import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.PreferenceConstants;
 import org.eclipse.cdt.codan.core.param.IProblemPreference;
 import org.eclipse.cdt.codan.core.tests.CheckerTestCase;
 import org.eclipse.cdt.codan.internal.checkers.StatementHasNoEffectChecker;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 
 /**
  * Test for {@see StatementHasNoEffectChecker} class
@@ -122,6 +126,37 @@ public class StatementHasNoEffectCheckerTest extends CheckerTestCase {
 		checkErrorLine(f2, 4);
 	}
 
+	// int main() {
+	// int a;
+	// +a; // error here on line 3
+	// }
+
+	// void foo() {
+	// int a;
+	//
+	// +a; // error here on line 4
+	// }
+	public void testFilesAnalyzedInParallel() throws Exception {
+		/* This test is using four files, analyzed by two threads */
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(CodanCorePlugin.PLUGIN_ID);
+		node.putInt(PreferenceConstants.P_ANALYSIS_THREADS, 2);
+		try {
+			CharSequence[] code = getContents(2);
+			File f1 = loadcode(code[0].toString());
+			File f2 = loadcode(code[1].toString());
+			File f3 = loadcode(code[0].toString());
+			File f4 = loadcode(code[1].toString());
+			runOnProject();
+			checkErrorLine(f1, 3);
+			checkErrorLine(f2, 4);
+			checkErrorLine(f3, 3);
+			checkErrorLine(f4, 4);
+			assertEquals(4, markers.length);
+		} finally {
+			node.remove(PreferenceConstants.P_ANALYSIS_THREADS);
+		}
+	}
+
 	// int main() {
 	// 	for (a=b;a;a=a->next);
 	// }
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.core.tests;
 
+import org.eclipse.cdt.codan.core.cxx.CxxIncludeClosureProviderTest;
 import org.eclipse.cdt.codan.core.internal.checkers.AbstractClassInstantiationCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.AssignmentInConditionCheckerTest;
 import org.eclipse.cdt.codan.core.internal.checkers.AssignmentOperatorCheckerTest;
@@ -113,6 +114,7 @@ public class AutomatedIntegrationSuite extends TestSuite {
 		suite.addTestSuite(NoDiscardCheckerTest.class);
 		// framework
 		suite.addTest(CodanFastTestSuite.suite());
+		suite.addTestSuite(CxxIncludeClosureProviderTest.class);
 		// quick fixes
 		suite.addTestSuite(CreateLocalVariableQuickFixTest.class);
 		suite.addTestSuite(SuggestedParenthesisQuickFixTest.class);
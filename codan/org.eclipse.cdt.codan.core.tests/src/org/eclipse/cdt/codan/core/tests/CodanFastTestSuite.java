@@ -15,10 +15,12 @@
 package org.eclipse.cdt.codan.core.tests;
 
 import org.eclipse.cdt.codan.core.cfg.ControlFlowGraphTest;
+import org.eclipse.cdt.codan.core.cfg.DataFlowTest;
 import org.eclipse.cdt.codan.core.cxx.CxxAstUtilsTest;
 import org.eclipse.cdt.codan.core.param.BasicProblemPreferenceTest;
 import org.eclipse.cdt.codan.core.param.ListProblemPreferenceTest;
 import org.eclipse.cdt.codan.core.param.MapProblemPreferenceTest;
+import org.eclipse.cdt.codan.internal.core.CodanResultCacheTest;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -47,6 +49,8 @@ public class CodanFastTestSuite extends TestSuite {
 		suite.addTestSuite(MapProblemPreferenceTest.class);
 		suite.addTestSuite(CxxAstUtilsTest.class);
 		suite.addTestSuite(ControlFlowGraphTest.class);
+		suite.addTestSuite(DataFlowTest.class);
+		suite.addTestSuite(CodanResultCacheTest.class);
 		return suite;
 	}
 }
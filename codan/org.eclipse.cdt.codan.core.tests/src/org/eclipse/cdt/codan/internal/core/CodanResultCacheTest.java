@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.cdt.codan.internal.core.CodanResultCache.Result;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests for CodanResultCache and CodanResultWriter
+ */
+public class CodanResultCacheTest extends TestCase {
+	private static final Result R1 = new Result("/ws/p/a.c", "id.1", "Error", 3, 10, 15, "first \"problem\"");
+	private static final Result R2 = new Result("/ws/p/a.c", "id.2", "Info", 0, -1, -1, "second <problem>");
+	private static final Result R3 = new Result("/ws/p/b.c", "id.1", "Warning", 7, -1, -1, "third");
+
+	private CodanResultCache cache;
+
+	@Override
+	protected void setUp() throws Exception {
+		cache = new CodanResultCache();
+		cache.put("/p/a.c", "k1", Arrays.asList(R1, R2));
+		cache.put("/p/b.c", "k2", Arrays.asList(R3));
+		cache.put("/p/c.c", "k3", Arrays.asList());
+	}
+
+	public void testGet() {
+		assertEquals(2, cache.get("/p/a.c", "k1").size());
+		assertNull(cache.get("/p/a.c", "k2"));
+		assertNull(cache.get("/p/d.c", "k1"));
+		assertEquals(0, cache.get("/p/c.c", "k3").size());
+	}
+
+	public void testRemoveIf() {
+		cache.removeIf(path -> path.startsWith("/p/") && !path.equals("/p/b.c"));
+		assertEquals(1, cache.size());
+		assertNotNull(cache.get("/p/b.c", "k2"));
+	}
+
+	public void testWriteRead() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		cache.write(out);
+		CodanResultCache read = new CodanResultCache();
+		read.read(new ByteArrayInputStream(out.toByteArray()));
+		assertEquals(3, read.size());
+		List<Result> results = read.get("/p/a.c", "k1");
+		assertEquals(2, results.size());
+		Result result = results.get(0);
+		assertEquals(R1.getPath(), result.getPath());
+		assertEquals(R1.getProblemId(), result.getProblemId());
+		assertEquals(R1.getSeverity(), result.getSeverity());
+		assertEquals(R1.getLine(), result.getLine());
+		assertEquals(R1.getStartChar(), result.getStartChar());
+		assertEquals(R1.getEndChar(), result.getEndChar());
+		assertEquals(R1.getMessage(), result.getMessage());
+	}
+
+	public void testReadOtherFormat() throws Exception {
+		CodanResultCache read = new CodanResultCache();
+		read.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4 }));
+		assertEquals(0, read.size());
+	}
+
+	public void testSarif() throws Exception {
+		StringWriter out = new StringWriter();
+		CodanResultWriter.writeSarif(out, Arrays.asList(R3, R2, R1));
+		String sarif = out.toString();
+		assertTrue(sarif, sarif.contains("\"version\": \"2.1.0\""));
+		assertTrue(sarif, sarif.contains("\"level\": \"error\""));
+		assertTrue(sarif, sarif.contains("\"level\": \"note\""));
+		assertTrue(sarif, sarif.contains("first \\\"problem\\\""));
+		assertTrue(sarif, sarif.contains("\"startLine\": 3"));
+		assertTrue(sarif, sarif.indexOf("id.2") < sarif.indexOf("third"));
+	}
+
+	public void testXml() throws Exception {
+		StringWriter out = new StringWriter();
+		CodanResultWriter.writeXml(out, Arrays.asList(R3, R2, R1));
+		String xml = out.toString();
+		assertTrue(xml, xml.contains("second &lt;problem&gt;"));
+		assertTrue(xml, xml.indexOf("/ws/p/a.c") < xml.indexOf("/ws/p/b.c"));
+	}
+}
@@ -15,6 +15,7 @@ package org.eclipse.cdt.codan.core;
 
 import org.eclipse.cdt.codan.core.model.ICheckersRegistry;
 import org.eclipse.cdt.codan.core.model.ICodanBuilder;
+import org.eclipse.cdt.codan.core.model.IIncludeClosureProvider;
 import org.eclipse.cdt.codan.core.model.IProblemLocationFactory;
 import org.eclipse.cdt.codan.core.model.IProblemReporter;
 import org.eclipse.cdt.codan.internal.core.CheckersRegistry;
@@ -39,6 +40,7 @@ public class CodanRuntime {
 	private ICodanBuilder builder = new CodanBuilder();
 	private CheckersRegistry checkers = CheckersRegistry.getInstance();
 	private IProblemLocationFactory locFactory = new ProblemLocationFactory();
+	private IIncludeClosureProvider includeClosureProvider;
 
 	/**
 	 * CodanRuntime - only can be called by subclasses to override default
@@ -113,4 +115,25 @@ public class CodanRuntime {
 	public void setProblemLocationFactory(IProblemLocationFactory factory) {
 		locFactory = factory;
 	}
+
+	/**
+	 * Get provider of the files included by a file.
+	 *
+	 * @return the provider, or <code>null</code> if there is none
+	 * @since 4.3
+	 */
+	public IIncludeClosureProvider getIncludeClosureProvider() {
+		return includeClosureProvider;
+	}
+
+	/**
+	 * Set provider of the files included by a file, used to tell whether results of
+	 * a previous code analysis of the file are still valid.
+	 *
+	 * @param provider
+	 * @since 4.3
+	 */
+	public void setIncludeClosureProvider(IIncludeClosureProvider provider) {
+		includeClosureProvider = provider;
+	}
 }
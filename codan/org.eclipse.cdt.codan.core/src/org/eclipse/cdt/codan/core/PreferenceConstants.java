@@ -21,4 +21,11 @@ public class PreferenceConstants {
 	public static final String P_RUN_IN_EDITOR = "inEditor"; //$NON-NLS-1$
 	public static final String P_PROBLEMS = "problems"; //$NON-NLS-1$
 	public static final String P_USE_PARENT = "useParentScope"; //$NON-NLS-1$
+	/**
+	 * Number of files analyzed at once when running code analysis on a project or
+	 * folder. 1 analyzes them one after the other, 0 uses one thread per processor.
+	 *
+	 * @since 4.3
+	 */
+	public static final String P_ANALYSIS_THREADS = "analysisThreads"; //$NON-NLS-1$
 }
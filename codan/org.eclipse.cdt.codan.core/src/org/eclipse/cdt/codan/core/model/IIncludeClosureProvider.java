@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.core.model;
+
+import java.util.Collection;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Provides the files a file includes, directly or indirectly, and the settings it is parsed
+ * with, such that results of code analysis of the file can be reused as long as none of them
+ * changes.
+ *
+ * @see org.eclipse.cdt.codan.core.CodanRuntime#setIncludeClosureProvider(IIncludeClosureProvider)
+ * @since 4.3
+ */
+public interface IIncludeClosureProvider {
+	/**
+	 * Returns whether code analysis runs on the given file, i.e. whether it is a source
+	 * file of the language of the provider.
+	 *
+	 * @param file - the file
+	 * @return <code>true</code> if the file is analyzed
+	 */
+	boolean isSourceFile(IFile file);
+
+	/**
+	 * Returns the locations in the file system of the files included by the given file,
+	 * directly or indirectly. Includes that could not be resolved are returned as written
+	 * in the include directive, as relative paths.
+	 *
+	 * @param file - the including file
+	 * @return the locations of the included files, empty if they are not known
+	 * @throws CoreException if the includes cannot be determined
+	 */
+	Collection<IPath> getIncludeClosure(IFile file) throws CoreException;
+
+	/**
+	 * Returns a description of the settings the file is parsed with, i.e. the defined macros
+	 * and the include paths. Results of code analysis are not reused once it changes.
+	 *
+	 * @param file - the file
+	 * @return the settings, or <code>null</code> if they are not known
+	 */
+	String getScannerSettings(IFile file);
+}
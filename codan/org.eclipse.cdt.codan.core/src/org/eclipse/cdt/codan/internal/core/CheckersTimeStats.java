@@ -16,9 +16,12 @@ package org.eclipse.cdt.codan.internal.core;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Class to collect time states for checkers runs
+ * Class to collect time states for checkers runs. Times are recorded separately
+ * for each thread, such that checkers can run on several threads at once.
  */
 public class CheckersTimeStats {
 	public static final String ALL = "ALL"; //$NON-NLS-1$
@@ -60,13 +63,15 @@ public class CheckersTimeStats {
 		}
 	}
 
-	private Map<String, TimeRecord> records = new HashMap<>();
+	private Map<String, Map<String, TimeRecord>> threadRecords = new ConcurrentHashMap<>();
 
 	/**
 	 * @param id - checker id
-	 * @return
+	 * @return the record of the current thread
 	 */
 	private TimeRecord getTimeRecord(String id) {
+		Map<String, TimeRecord> records = threadRecords.computeIfAbsent(Thread.currentThread().getName(),
+				name -> new HashMap<>());
 		TimeRecord record = records.get(id);
 		if (record == null) {
 			record = new TimeRecord();
@@ -75,6 +80,21 @@ public class CheckersTimeStats {
 		return record;
 	}
 
+	/**
+	 * @return the records of all threads, summed up by id
+	 */
+	private Map<String, TimeRecord> getRecords() {
+		Map<String, TimeRecord> records = new TreeMap<>();
+		for (Map<String, TimeRecord> threadRecord : threadRecords.values()) {
+			for (Map.Entry<String, TimeRecord> entry : threadRecord.entrySet()) {
+				TimeRecord record = records.computeIfAbsent(entry.getKey(), id -> new TimeRecord());
+				record.duration += entry.getValue().duration;
+				record.count += entry.getValue().count;
+			}
+		}
+		return records;
+	}
+
 	/**
 	 * Start measuring elapsed time for checker with given id
 	 *
@@ -133,14 +153,26 @@ public class CheckersTimeStats {
 	public void printStats() {
 		System.out.println("---"); //$NON-NLS-1$
 		String totalId = getKey(ALL, ELAPSED);
+		Map<String, TimeRecord> records = getRecords();
 		TimeRecord all = records.get(totalId);
+		if (all == null)
+			return;
 		for (Iterator<String> iterator = records.keySet().iterator(); iterator.hasNext();) {
 			String id = iterator.next();
 			if (id.equals(totalId))
 				continue;
-			TimeRecord timeRecord = getTimeRecord(id);
+			TimeRecord timeRecord = records.get(id);
 			System.out.println(timeRecord.toString(all.duration) + " " + id); //$NON-NLS-1$
 		}
+		if (threadRecords.size() > 1) {
+			for (Map.Entry<String, Map<String, TimeRecord>> entry : new TreeMap<>(threadRecords).entrySet()) {
+				TimeRecord threadAll = entry.getValue().get(totalId);
+				if (threadAll != null) {
+					String threadId = totalId + " [" + entry.getKey() + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+					System.out.println(threadAll.toString(all.duration) + " " + threadId); //$NON-NLS-1$
+				}
+			}
+		}
 		System.out.println(all.toString() + " " + totalId); //$NON-NLS-1$
 	}
 
@@ -148,7 +180,7 @@ public class CheckersTimeStats {
 	 *
 	 */
 	public void reset() {
-		records.clear();
+		threadRecords.clear();
 	}
 
 	/**
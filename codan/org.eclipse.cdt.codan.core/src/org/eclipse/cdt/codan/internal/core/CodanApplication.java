@@ -13,20 +13,52 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.core;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
+import org.eclipse.cdt.codan.core.CodanCorePlugin;
 import org.eclipse.cdt.codan.core.CodanRuntime;
 import org.eclipse.cdt.codan.core.model.AbstractProblemReporter;
+import org.eclipse.cdt.codan.core.model.IChecker;
 import org.eclipse.cdt.codan.core.model.ICodanProblemMarker;
+import org.eclipse.cdt.codan.core.model.IIncludeClosureProvider;
+import org.eclipse.cdt.codan.core.model.IProblem;
+import org.eclipse.cdt.codan.core.model.IProblemLocation;
+import org.eclipse.cdt.codan.internal.core.CodanResultCache.Result;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.eclipse.osgi.util.NLS;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * Application to support headless build
@@ -38,6 +70,11 @@ public class CodanApplication implements IApplication {
 	private Collection<String> projects = new ArrayList<>();
 	private boolean verbose;
 	private boolean all;
+	private File cacheFile;
+	private File sarifFile;
+	private File xmlFile;
+	private final List<Result> results = new ArrayList<>();
+	private List<Result> fileResults;
 
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
@@ -52,13 +89,19 @@ public class CodanApplication implements IApplication {
 		runtime.setProblemReporter(new AbstractProblemReporter() {
 			@Override
 			protected void reportProblem(ICodanProblemMarker pm) {
-				IResource file = pm.getResource();
-				System.out.println(file.getLocation() + ":" + pm.getLocation().getLineNumber() + ": " //$NON-NLS-1$ //$NON-NLS-2$
-						+ pm.createMessage());
+				Result result = createResult(pm);
+				print(result);
+				synchronized (results) {
+					results.add(result);
+					if (fileResults != null)
+						fileResults.add(result);
+				}
 			}
 		});
 		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
-		if (all) {
+		if (cacheFile != null) {
+			processIncrementally(codanBuilder, root);
+		} else if (all) {
 			log(Messages.CodanApplication_LogRunWorkspace);
 			codanBuilder.processResource(root, new NullProgressMonitor());
 		} else {
@@ -73,9 +116,265 @@ public class CodanApplication implements IApplication {
 				codanBuilder.processResource(wProject, new NullProgressMonitor());
 			}
 		}
+		writeReports();
 		return EXIT_OK;
 	}
 
+	private static Result createResult(ICodanProblemMarker pm) {
+		IResource file = pm.getResource();
+		IPath path = file.getLocation() != null ? file.getLocation() : file.getFullPath();
+		IProblemLocation location = pm.getLocation();
+		IProblem problem = pm.getProblem();
+		return new Result(path.toString(), problem.getId(), problem.getSeverity().name(), location.getLineNumber(),
+				location.getStartingChar(), location.getEndingChar(), pm.createMessage());
+	}
+
+	private static void print(Result result) {
+		System.out.println(result.getPath() + ":" + result.getLine() + ": " + result.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Runs code analysis file by file, reusing the results of the files whose key did not
+	 * change since they were stored in the cache file.
+	 */
+	private void processIncrementally(CodanBuilder codanBuilder, IWorkspaceRoot root) {
+		CodanResultCache cache = new CodanResultCache();
+		try {
+			cache.load(cacheFile);
+		} catch (IOException e) {
+			System.err.println(NLS.bind(Messages.CodanApplication_Error_CacheFile, cacheFile, e.getMessage()));
+			cache = new CodanResultCache();
+		}
+		List<IProject> wProjects = new ArrayList<>();
+		if (all) {
+			log(Messages.CodanApplication_LogRunWorkspace);
+			wProjects.addAll(Arrays.asList(root.getProjects()));
+		} else {
+			for (String project : projects) {
+				IProject wProject = root.getProject(project);
+				if (!wProject.exists()) {
+					System.err.println( //
+							NLS.bind(Messages.CodanApplication_Error_ProjectDoesNotExists, project));
+					continue;
+				}
+				wProjects.add(wProject);
+			}
+		}
+		// Loading the checkers starts the bundle contributing the provider
+		CheckersRegistry.getInstance();
+		IIncludeClosureProvider closureProvider = CodanRuntime.getInstance().getIncludeClosureProvider();
+		Map<IProject, List<IFile>> projectFiles = new LinkedHashMap<>();
+		Map<String, List<String>> locationsByName = new HashMap<>();
+		for (IProject wProject : wProjects) {
+			if (!wProject.isAccessible())
+				continue;
+			List<IFile> files = new ArrayList<>();
+			try {
+				wProject.accept(resource -> {
+					// Build output is neither analyzed nor included
+					if (resource.isDerived())
+						return false;
+					if (resource instanceof IFile) {
+						IFile file = (IFile) resource;
+						if (file.getLocation() != null) {
+							locationsByName.computeIfAbsent(file.getName(), name -> new ArrayList<>())
+									.add(file.getLocation().toString());
+						}
+						if (closureProvider == null || closureProvider.isSourceFile(file))
+							files.add(file);
+					}
+					return true;
+				});
+			} catch (CoreException e) {
+				CodanCorePlugin.log(e);
+			}
+			projectFiles.put(wProject, files);
+		}
+		Map<String, String> includedDigests = new HashMap<>();
+		int analyzed = 0;
+		int reused = 0;
+		for (Map.Entry<IProject, List<IFile>> entry : projectFiles.entrySet()) {
+			IProject wProject = entry.getKey();
+			log(Messages.CodanApplication_LogRunProject + wProject.getName());
+			String profileDigest = getProfileDigest(wProject);
+			Set<String> paths = new HashSet<>();
+			for (IFile file : entry.getValue()) {
+				String path = file.getFullPath().toString();
+				paths.add(path);
+				String key = getKey(file, profileDigest, closureProvider, locationsByName, includedDigests);
+				List<Result> cached = key == null ? null : cache.get(path, key);
+				if (cached != null) {
+					for (Result result : cached) {
+						print(result);
+						results.add(result);
+					}
+					reused++;
+					continue;
+				}
+				fileResults = new ArrayList<>();
+				codanBuilder.processResource(file, new NullProgressMonitor());
+				if (key != null)
+					cache.put(path, key, fileResults);
+				fileResults = null;
+				analyzed++;
+			}
+			String prefix = wProject.getFullPath().toString() + '/';
+			cache.removeIf(path -> path.startsWith(prefix) && !paths.contains(path));
+		}
+		log(NLS.bind(Messages.CodanApplication_LogCacheStats, analyzed, reused));
+		try {
+			cache.save(cacheFile);
+		} catch (IOException e) {
+			System.err.println(NLS.bind(Messages.CodanApplication_Error_CacheFile, cacheFile, e.getMessage()));
+		}
+	}
+
+	/**
+	 * Returns the key of the results of a file: a digest of its contents, the contents
+	 * of the files it includes, the settings it is parsed with and the problem profile.
+	 * Returns <code>null</code> if it cannot be computed, in which case the file is always
+	 * analyzed.
+	 * <p>
+	 * An unresolved include is keyed by the files of the analyzed projects it may refer to,
+	 * such that adding the missing header invalidates the results.
+	 */
+	private static String getKey(IFile file, String profileDigest, IIncludeClosureProvider closureProvider,
+			Map<String, List<String>> locationsByName, Map<String, String> includedDigests) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			try (InputStream in = file.getContents(true)) {
+				update(digest, in);
+			}
+			digest.update(profileDigest.getBytes(StandardCharsets.UTF_8));
+			if (closureProvider != null) {
+				String settings = closureProvider.getScannerSettings(file);
+				if (settings != null)
+					digest.update(settings.getBytes(StandardCharsets.UTF_8));
+				Set<String> included = new TreeSet<>();
+				Set<String> unresolved = new TreeSet<>();
+				for (IPath path : closureProvider.getIncludeClosure(file)) {
+					if (path.isAbsolute()) {
+						included.add(path.toString());
+					} else {
+						unresolved.add(path.toString());
+						included.addAll(getCandidates(path, locationsByName));
+					}
+				}
+				for (String path : unresolved) {
+					digest.update(('?' + path + '\n').getBytes(StandardCharsets.UTF_8));
+				}
+				for (String path : included) {
+					String includedDigest = includedDigests.get(path);
+					if (includedDigest == null) {
+						includedDigest = getFileDigest(path);
+						includedDigests.put(path, includedDigest);
+					}
+					digest.update((path + '=' + includedDigest + '\n').getBytes(StandardCharsets.UTF_8));
+				}
+			}
+			return toHex(digest.digest());
+		} catch (CoreException | IOException | NoSuchAlgorithmException e) {
+			CodanCorePlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the locations of the files that end with the path of an unresolved include.
+	 */
+	private static List<String> getCandidates(IPath include, Map<String, List<String>> locationsByName) {
+		while (include.segmentCount() > 1 && include.segment(0).equals("..")) { //$NON-NLS-1$
+			include = include.removeFirstSegments(1);
+		}
+		List<String> locations = locationsByName.get(include.lastSegment());
+		if (locations == null)
+			return Collections.emptyList();
+		String suffix = '/' + include.toString();
+		List<String> candidates = new ArrayList<>();
+		for (String location : locations) {
+			if (location.endsWith(suffix))
+				candidates.add(location);
+		}
+		return candidates;
+	}
+
+	private static String getFileDigest(String path) throws IOException, NoSuchAlgorithmException {
+		if (!new File(path).isFile())
+			return "-"; //$NON-NLS-1$
+		MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		try (InputStream in = Files.newInputStream(Paths.get(path))) {
+			update(digest, in);
+		}
+		return toHex(digest.digest());
+	}
+
+	/**
+	 * Returns a digest of the enabled checkers, the versions of the bundles contributing
+	 * them and of the settings of the problems of a project.
+	 */
+	private static String getProfileDigest(IProject project) {
+		CheckersRegistry registry = CheckersRegistry.getInstance();
+		StringBuilder buf = new StringBuilder();
+		Set<String> checkers = new TreeSet<>();
+		for (IChecker checker : registry) {
+			Bundle bundle = FrameworkUtil.getBundle(checker.getClass());
+			String version = bundle != null ? bundle.getVersion().toString() : "-"; //$NON-NLS-1$
+			checkers.add(checker.getClass().getName() + ' ' + version);
+		}
+		for (String checker : checkers) {
+			buf.append(checker).append('\n');
+		}
+		List<IProblem> problems = new ArrayList<>(
+				Arrays.asList(registry.getResourceProfile(project).getProblems()));
+		Collections.sort(problems, Comparator.comparing(IProblem::getId));
+		for (IProblem problem : problems) {
+			buf.append(problem.getId()).append(' ').append(problem.isEnabled()).append(' ')
+					.append(problem.getSeverity());
+			if (problem.getPreference() != null)
+				buf.append(' ').append(problem.getPreference().exportValue());
+			buf.append('\n');
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return toHex(digest.digest(buf.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			return buf.toString();
+		}
+	}
+
+	private static void update(MessageDigest digest, InputStream in) throws IOException {
+		byte[] buffer = new byte[8192];
+		int n;
+		while ((n = in.read(buffer)) > 0) {
+			digest.update(buffer, 0, n);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder buf = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			buf.append(String.format("%02x", b & 0xff)); //$NON-NLS-1$
+		}
+		return buf.toString();
+	}
+
+	private void writeReports() {
+		if (sarifFile != null) {
+			try (Writer out = new OutputStreamWriter(new FileOutputStream(sarifFile), StandardCharsets.UTF_8)) {
+				CodanResultWriter.writeSarif(out, results);
+			} catch (IOException e) {
+				System.err.println(NLS.bind(Messages.CodanApplication_Error_ReportFile, sarifFile, e.getMessage()));
+			}
+		}
+		if (xmlFile != null) {
+			try (Writer out = new OutputStreamWriter(new FileOutputStream(xmlFile), StandardCharsets.UTF_8)) {
+				CodanResultWriter.writeXml(out, results);
+			} catch (IOException e) {
+				System.err.println(NLS.bind(Messages.CodanApplication_Error_ReportFile, xmlFile, e.getMessage()));
+			}
+		}
+	}
+
 	/**
 	 * @param string
 	 */
@@ -94,6 +393,12 @@ public class CodanApplication implements IApplication {
 				verbose = true;
 			} else if (string.equals("-all")) { //$NON-NLS-1$
 				all = true;
+			} else if (string.equals("-cache") && i + 1 < args.length) { //$NON-NLS-1$
+				cacheFile = new File(args[++i]);
+			} else if (string.equals("-sarif") && i + 1 < args.length) { //$NON-NLS-1$
+				sarifFile = new File(args[++i]);
+			} else if (string.equals("-xml") && i + 1 < args.length) { //$NON-NLS-1$
+				xmlFile = new File(args[++i]);
 			} else {
 				projects.add(string);
 			}
@@ -108,6 +413,9 @@ public class CodanApplication implements IApplication {
 		System.out.println(Messages.CodanApplication_Options);
 		System.out.println(Messages.CodanApplication_all_option);
 		System.out.println(Messages.CodanApplication_verbose_option);
+		System.out.println(Messages.CodanApplication_cache_option);
+		System.out.println(Messages.CodanApplication_sarif_option);
+		System.out.println(Messages.CodanApplication_xml_option);
 	}
 
 	@Override
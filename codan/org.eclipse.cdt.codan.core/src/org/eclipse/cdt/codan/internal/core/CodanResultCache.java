@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Results of code analysis by file, kept between runs of {@link CodanApplication}.
+ * Each entry has a key computed from everything the results depend on, the results
+ * are reused as long as the key of the file does not change.
+ */
+public class CodanResultCache {
+	private static final int MAGIC = 0x43524331; // CRC1
+
+	/**
+	 * A problem reported by code analysis.
+	 */
+	public static class Result {
+		private final String path;
+		private final String problemId;
+		private final String severity;
+		private final int line;
+		private final int startChar;
+		private final int endChar;
+		private final String message;
+
+		/**
+		 * @param path - location of the file in the file system
+		 * @param problemId - id of the problem
+		 * @param severity - name of the severity, see {@link org.eclipse.cdt.codan.core.model.CodanSeverity}
+		 * @param line - line number, starting at 1, or -1 if unknown
+		 * @param startChar - offset of the start of the problem, or -1 if unknown
+		 * @param endChar - offset of the end of the problem, or -1 if unknown
+		 * @param message - the message of the problem
+		 */
+		public Result(String path, String problemId, String severity, int line, int startChar, int endChar,
+				String message) {
+			this.path = path;
+			this.problemId = problemId;
+			this.severity = severity;
+			this.line = line;
+			this.startChar = startChar;
+			this.endChar = endChar;
+			this.message = message;
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		public String getProblemId() {
+			return problemId;
+		}
+
+		public String getSeverity() {
+			return severity;
+		}
+
+		public int getLine() {
+			return line;
+		}
+
+		public int getStartChar() {
+			return startChar;
+		}
+
+		public int getEndChar() {
+			return endChar;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+	}
+
+	private static class Entry {
+		final String key;
+		final List<Result> results;
+
+		Entry(String key, List<Result> results) {
+			this.key = key;
+			this.results = results;
+		}
+	}
+
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	/**
+	 * Returns the cached results of a file.
+	 *
+	 * @param file - the workspace path of the file
+	 * @param key - the current key of the file
+	 * @return the results, or <code>null</code> if there are none for this key
+	 */
+	public List<Result> get(String file, String key) {
+		Entry entry = entries.get(file);
+		if (entry == null || !entry.key.equals(key))
+			return null;
+		return Collections.unmodifiableList(entry.results);
+	}
+
+	/**
+	 * Stores the results of a file.
+	 *
+	 * @param file - the workspace path of the file
+	 * @param key - the key of the file the results were computed for
+	 * @param results - the results
+	 */
+	public void put(String file, String key, List<Result> results) {
+		entries.put(file, new Entry(key, new ArrayList<>(results)));
+	}
+
+	/**
+	 * Drops the entries of the files matching the given predicate.
+	 */
+	public void removeIf(Predicate<String> file) {
+		entries.keySet().removeIf(file);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Reads the entries of a cache file. Nothing is read if the file does not exist
+	 * or was written by another version.
+	 */
+	public void load(File file) throws IOException {
+		if (!file.isFile())
+			return;
+		try (InputStream in = new FileInputStream(file)) {
+			read(in);
+		}
+	}
+
+	public void read(InputStream stream) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+		if (in.readInt() != MAGIC)
+			return;
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			String file = in.readUTF();
+			String key = in.readUTF();
+			int resultCount = in.readInt();
+			List<Result> results = new ArrayList<>(resultCount);
+			for (int j = 0; j < resultCount; j++) {
+				results.add(new Result(in.readUTF(), in.readUTF(), in.readUTF(), in.readInt(), in.readInt(),
+						in.readInt(), in.readUTF()));
+			}
+			entries.put(file, new Entry(key, results));
+		}
+	}
+
+	/**
+	 * Writes all entries to a cache file.
+	 */
+	public void save(File file) throws IOException {
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null)
+			parent.mkdirs();
+		try (OutputStream out = new FileOutputStream(file)) {
+			write(out);
+		}
+	}
+
+	public void write(OutputStream stream) throws IOException {
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+		out.writeInt(MAGIC);
+		out.writeInt(entries.size());
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			out.writeUTF(entry.getKey());
+			out.writeUTF(entry.getValue().key);
+			out.writeInt(entry.getValue().results.size());
+			for (Result result : entry.getValue().results) {
+				out.writeUTF(result.path);
+				out.writeUTF(result.problemId);
+				out.writeUTF(result.severity);
+				out.writeInt(result.line);
+				out.writeInt(result.startChar);
+				out.writeInt(result.endChar);
+				out.writeUTF(result.message);
+			}
+		}
+		out.flush();
+	}
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.codan.internal.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.cdt.codan.internal.core.CodanResultCache.Result;
+
+/**
+ * Writes results of code analysis in the formats read by continuous integration
+ * tools: SARIF 2.1.0 and a plain XML format.
+ */
+public class CodanResultWriter {
+	private static final Comparator<Result> ORDER = Comparator.comparing(Result::getPath)
+			.thenComparingInt(Result::getLine).thenComparingInt(Result::getStartChar)
+			.thenComparing(Result::getProblemId);
+
+	/** Do not instantiate. All methods are static */
+	private CodanResultWriter() {
+	}
+
+	private static List<Result> sort(List<Result> results) {
+		List<Result> sorted = new ArrayList<>(results);
+		sorted.sort(ORDER);
+		return sorted;
+	}
+
+	/**
+	 * Writes the results as a SARIF log with a single run.
+	 */
+	public static void writeSarif(Writer out, List<Result> results) throws IOException {
+		List<Result> sorted = sort(results);
+		Set<String> rules = new TreeSet<>();
+		for (Result result : sorted) {
+			rules.add(result.getProblemId());
+		}
+		out.write("{\n"); //$NON-NLS-1$
+		out.write("  \"$schema\": \"https://json.schemastore.org/sarif-2.1.0.json\",\n"); //$NON-NLS-1$
+		out.write("  \"version\": \"2.1.0\",\n"); //$NON-NLS-1$
+		out.write("  \"runs\": [ {\n"); //$NON-NLS-1$
+		out.write("    \"tool\": { \"driver\": {\n"); //$NON-NLS-1$
+		out.write("      \"name\": \"Codan\",\n"); //$NON-NLS-1$
+		out.write("      \"informationUri\": \"https://www.eclipse.org/cdt/\",\n"); //$NON-NLS-1$
+		out.write("      \"rules\": ["); //$NON-NLS-1$
+		String separator = "\n"; //$NON-NLS-1$
+		for (String rule : rules) {
+			out.write(separator);
+			out.write("        { \"id\": " + json(rule) + " }"); //$NON-NLS-1$ //$NON-NLS-2$
+			separator = ",\n"; //$NON-NLS-1$
+		}
+		out.write(" ]\n    } },\n"); //$NON-NLS-1$
+		out.write("    \"results\": ["); //$NON-NLS-1$
+		separator = "\n"; //$NON-NLS-1$
+		for (Result result : sorted) {
+			out.write(separator);
+			out.write("      { \"ruleId\": " + json(result.getProblemId())); //$NON-NLS-1$
+			out.write(", \"level\": " + json(sarifLevel(result.getSeverity()))); //$NON-NLS-1$
+			out.write(", \"message\": { \"text\": " + json(result.getMessage()) + " }"); //$NON-NLS-1$ //$NON-NLS-2$
+			out.write(",\n        \"locations\": [ { \"physicalLocation\": { \"artifactLocation\": { \"uri\": "); //$NON-NLS-1$
+			out.write(json(new File(result.getPath()).toURI().toString()) + " }"); //$NON-NLS-1$
+			List<String> region = new ArrayList<>();
+			if (result.getLine() > 0)
+				region.add("\"startLine\": " + result.getLine()); //$NON-NLS-1$
+			if (result.getStartChar() >= 0 && result.getEndChar() >= result.getStartChar()) {
+				region.add("\"charOffset\": " + result.getStartChar()); //$NON-NLS-1$
+				region.add("\"charLength\": " + (result.getEndChar() - result.getStartChar())); //$NON-NLS-1$
+			}
+			if (!region.isEmpty())
+				out.write(", \"region\": { " + String.join(", ", region) + " }"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			out.write(" } } ] }"); //$NON-NLS-1$
+			separator = ",\n"; //$NON-NLS-1$
+		}
+		out.write(" ]\n  } ]\n}\n"); //$NON-NLS-1$
+		out.flush();
+	}
+
+	/**
+	 * Writes the results as XML, grouped by file.
+	 */
+	public static void writeXml(Writer out, List<Result> results) throws IOException {
+		out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"); //$NON-NLS-1$
+		out.write("<codan>\n"); //$NON-NLS-1$
+		String path = null;
+		for (Result result : sort(results)) {
+			if (!result.getPath().equals(path)) {
+				if (path != null)
+					out.write("  </file>\n"); //$NON-NLS-1$
+				path = result.getPath();
+				out.write("  <file name=\"" + xml(path) + "\">\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			out.write("    <problem id=\"" + xml(result.getProblemId()) + "\" severity=\"" //$NON-NLS-1$ //$NON-NLS-2$
+					+ xml(result.getSeverity()) + "\" line=\"" + result.getLine() + "\" start=\"" //$NON-NLS-1$ //$NON-NLS-2$
+					+ result.getStartChar() + "\" end=\"" + result.getEndChar() + "\">" //$NON-NLS-1$ //$NON-NLS-2$
+					+ xml(result.getMessage()) + "</problem>\n"); //$NON-NLS-1$
+		}
+		if (path != null)
+			out.write("  </file>\n"); //$NON-NLS-1$
+		out.write("</codan>\n"); //$NON-NLS-1$
+		out.flush();
+	}
+
+	private static String sarifLevel(String severity) {
+		switch (severity) {
+		case "Error": //$NON-NLS-1$
+			return "error"; //$NON-NLS-1$
+		case "Warning": //$NON-NLS-1$
+			return "warning"; //$NON-NLS-1$
+		default:
+			return "note"; //$NON-NLS-1$
+		}
+	}
+
+	private static String json(String value) {
+		StringBuilder buf = new StringBuilder(value.length() + 2);
+		buf.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				buf.append("\\\""); //$NON-NLS-1$
+				break;
+			case '\\':
+				buf.append("\\\\"); //$NON-NLS-1$
+				break;
+			case '\n':
+				buf.append("\\n"); //$NON-NLS-1$
+				break;
+			case '\r':
+				buf.append("\\r"); //$NON-NLS-1$
+				break;
+			case '\t':
+				buf.append("\\t"); //$NON-NLS-1$
+				break;
+			default:
+				if (c < 0x20) {
+					buf.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+				} else {
+					buf.append(c);
+				}
+			}
+		}
+		return buf.append('"').toString();
+	}
+
+	private static String xml(String value) {
+		StringBuilder buf = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '<':
+				buf.append("&lt;"); //$NON-NLS-1$
+				break;
+			case '>':
+				buf.append("&gt;"); //$NON-NLS-1$
+				break;
+			case '&':
+				buf.append("&amp;"); //$NON-NLS-1$
+				break;
+			case '"':
+				buf.append("&quot;"); //$NON-NLS-1$
+				break;
+			default:
+				buf.append(c);
+			}
+		}
+		return buf.toString();
+	}
+}
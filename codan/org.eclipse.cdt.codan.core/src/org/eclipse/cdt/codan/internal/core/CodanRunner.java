@@ -14,7 +14,19 @@
  *******************************************************************************/
 package org.eclipse.cdt.codan.internal.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.cdt.codan.core.CodanCorePlugin;
+import org.eclipse.cdt.codan.core.PreferenceConstants;
 import org.eclipse.cdt.codan.core.model.CheckerLaunchMode;
 import org.eclipse.cdt.codan.core.model.IChecker;
 import org.eclipse.cdt.codan.core.model.ICheckerInvocationContext;
@@ -23,7 +35,9 @@ import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.util.NLS;
 
@@ -80,44 +94,17 @@ public class CodanRunner {
 		SubMonitor subMonitor = SubMonitor.convert(monitor, work);
 		subMonitor.subTask(NLS.bind(Messages.CodanRunner_Code_analysis_on, resource.getFullPath().toString()));
 		try {
-			CheckersTimeStats.getInstance().checkerStart(CheckersTimeStats.ALL);
-			ICheckerInvocationContext context = new CheckerInvocationContext(resource);
 			if (children == null) {
-				try {
-					for (IChecker checker : chegistry) {
-						if (subMonitor.isCanceled())
-							return;
-						if (chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode)) {
-							synchronized (checker) {
-								try {
-									checker.before(resource);
-									CheckersTimeStats.getInstance().checkerStart(checker.getClass().getName());
-									if (checkerLaunchMode == CheckerLaunchMode.RUN_AS_YOU_TYPE) {
-										((IRunnableInEditorChecker) checker).processModel(model, context);
-									} else {
-										checker.processResource(resource, context);
-									}
-								} catch (OperationCanceledException e) {
-									return;
-								} catch (Throwable e) {
-									CodanCorePlugin.log(e);
-								} finally {
-									CheckersTimeStats.getInstance().checkerStop(checker.getClass().getName());
-									checker.after(resource);
-								}
-							}
-						}
-						subMonitor.worked(1);
-					}
-				} finally {
-					context.dispose();
-					CheckersTimeStats.getInstance().checkerStop(CheckersTimeStats.ALL);
-					//CheckersTimeStats.getInstance().printStats();
-				}
+				runCheckers(resource, model, checkerLaunchMode, subMonitor, 0);
 			}
 
 			if (children != null && (checkerLaunchMode == CheckerLaunchMode.RUN_ON_FULL_BUILD
 					|| checkerLaunchMode == CheckerLaunchMode.RUN_ON_DEMAND)) {
+				int threads = getAnalysisThreads();
+				if (threads > 1) {
+					processInParallel(resource, checkerLaunchMode, threads, subMonitor);
+					return;
+				}
 				for (IResource child : children) {
 					if (monitor.isCanceled())
 						return;
@@ -128,4 +115,143 @@ public class CodanRunner {
 			monitor.done();
 		}
 	}
+
+	/**
+	 * Runs the enabled checkers on a single resource.
+	 *
+	 * @param firstChecker - index of the checker to start with, the checkers before it
+	 *     run last. Workers analyzing files in parallel start with different checkers,
+	 *     such that they do not all wait for the same one.
+	 */
+	private static void runCheckers(IResource resource, Object model, CheckerLaunchMode checkerLaunchMode,
+			IProgressMonitor monitor, int firstChecker) {
+		CheckersRegistry chegistry = CheckersRegistry.getInstance();
+		List<IChecker> checkers = new ArrayList<>(chegistry.getCheckersSize());
+		for (IChecker checker : chegistry) {
+			checkers.add(checker);
+		}
+		CheckersTimeStats.getInstance().checkerStart(CheckersTimeStats.ALL);
+		ICheckerInvocationContext context = new CheckerInvocationContext(resource);
+		try {
+			int size = checkers.size();
+			for (int i = 0; i < size; i++) {
+				IChecker checker = checkers.get((firstChecker + i) % size);
+				if (monitor.isCanceled())
+					return;
+				if (chegistry.isCheckerEnabled(checker, resource, checkerLaunchMode)) {
+					synchronized (checker) {
+						try {
+							checker.before(resource);
+							CheckersTimeStats.getInstance().checkerStart(checker.getClass().getName());
+							if (checkerLaunchMode == CheckerLaunchMode.RUN_AS_YOU_TYPE) {
+								((IRunnableInEditorChecker) checker).processModel(model, context);
+							} else {
+								checker.processResource(resource, context);
+							}
+						} catch (OperationCanceledException e) {
+							return;
+						} catch (Throwable e) {
+							CodanCorePlugin.log(e);
+						} finally {
+							CheckersTimeStats.getInstance().checkerStop(checker.getClass().getName());
+							checker.after(resource);
+						}
+					}
+				}
+				monitor.worked(1);
+			}
+		} finally {
+			context.dispose();
+			CheckersTimeStats.getInstance().checkerStop(CheckersTimeStats.ALL);
+			//CheckersTimeStats.getInstance().printStats();
+		}
+	}
+
+	/**
+	 * Runs the checkers on all files under a container, analyzing several files at once.
+	 * Each file gets its own invocation context, so its AST is built once and shared by
+	 * the checkers. A checker still processes one file at a time.
+	 */
+	private static void processInParallel(IResource container, CheckerLaunchMode checkerLaunchMode, int threads,
+			IProgressMonitor monitor) {
+		List<IResource> files = new ArrayList<>();
+		collectFiles(container, files);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, files.size());
+		final NullProgressMonitor workerMonitor = new NullProgressMonitor();
+		final AtomicInteger workerCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(files.size(), 1)), r -> {
+			Thread thread = new Thread(r, "Codan Worker " + workerCount.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		List<Future<IResource>> futures = new ArrayList<>(files.size());
+		try {
+			CompletionService<IResource> completion = new ExecutorCompletionService<>(executor);
+			for (int i = 0; i < files.size(); i++) {
+				final IResource file = files.get(i);
+				final int firstChecker = i;
+				futures.add(completion.submit(() -> {
+					if (!workerMonitor.isCanceled()) {
+						runCheckers(file, null, checkerLaunchMode, workerMonitor, firstChecker);
+					}
+					return file;
+				}));
+			}
+			for (int remaining = files.size(); remaining > 0;) {
+				if (monitor.isCanceled()) {
+					workerMonitor.setCanceled(true);
+				}
+				Future<IResource> done = completion.poll(100, TimeUnit.MILLISECONDS);
+				if (done != null) {
+					remaining--;
+					subMonitor.subTask(NLS.bind(Messages.CodanRunner_Code_analysis_on,
+							done.get().getFullPath().toString()));
+					subMonitor.worked(1);
+				}
+			}
+		} catch (InterruptedException e) {
+			cancel(futures, workerMonitor);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// A worker failed outside of the checkers, do not analyze the remaining files.
+			cancel(futures, workerMonitor);
+			CodanCorePlugin.log(e.getCause());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Cancels the files that are not analyzed yet and stops the checkers on the files being analyzed.
+	 */
+	private static void cancel(List<Future<IResource>> futures, IProgressMonitor workerMonitor) {
+		workerMonitor.setCanceled(true);
+		for (Future<IResource> future : futures) {
+			future.cancel(false);
+		}
+	}
+
+	private static void collectFiles(IResource resource, List<IResource> files) {
+		if (resource instanceof IContainer) {
+			try {
+				for (IResource child : ((IContainer) resource).members()) {
+					collectFiles(child, files);
+				}
+			} catch (CoreException e) {
+				CodanCorePlugin.log(e);
+			}
+		} else {
+			files.add(resource);
+		}
+	}
+
+	/**
+	 * @return the number of files to analyze at once when running the checkers on a
+	 *     container, 1 to analyze them one after the other
+	 */
+	private static int getAnalysisThreads() {
+		int threads = Platform.getPreferencesService().getInt(CodanCorePlugin.PLUGIN_ID,
+				PreferenceConstants.P_ANALYSIS_THREADS, 1, null);
+		return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+	}
 }
@@ -22,12 +22,18 @@ import org.eclipse.osgi.util.NLS;
  */
 class Messages extends NLS {
 	public static String CodanApplication_all_option;
+	public static String CodanApplication_cache_option;
+	public static String CodanApplication_Error_CacheFile;
 	public static String CodanApplication_Error_ProjectDoesNotExists;
+	public static String CodanApplication_Error_ReportFile;
+	public static String CodanApplication_LogCacheStats;
 	public static String CodanApplication_LogRunProject;
 	public static String CodanApplication_LogRunWorkspace;
 	public static String CodanApplication_Options;
+	public static String CodanApplication_sarif_option;
 	public static String CodanApplication_Usage;
 	public static String CodanApplication_verbose_option;
+	public static String CodanApplication_xml_option;
 	public static String CodanRunner_Code_analysis_on;
 
 	static {
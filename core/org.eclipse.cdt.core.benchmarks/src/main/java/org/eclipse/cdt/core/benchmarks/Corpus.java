@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.gnu.c.GCCLanguage;
+import org.eclipse.cdt.core.dom.ast.gnu.cpp.GPPLanguage;
+import org.eclipse.cdt.core.index.IIndexFileLocation;
+import org.eclipse.cdt.core.model.AbstractLanguage;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IScannerInfo;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+import org.eclipse.cdt.core.parser.ScannerInfo;
+import org.eclipse.cdt.internal.core.parser.IMacroDictionary;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContentProvider;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * The fixed inputs of the benchmarks. The sources and the headers they include are loaded
+ * from the class path once and served from memory, such that file system access does not
+ * distort the measurements and no workspace is needed.
+ */
+public enum Corpus {
+	/** C file using X-macros, token pasting and variadic macros. */
+	MACROS("macros.c", ParserLanguage.C), //$NON-NLS-1$
+	/** Self-contained C++ file with template metaprogramming. */
+	TEMPLATES("templates.cpp", ParserLanguage.CPP), //$NON-NLS-1$
+	/** C++ file including a set of STL-like headers. */
+	STL("stl.cpp", ParserLanguage.CPP); //$NON-NLS-1$
+
+	static final String ROOT = "/corpus/"; //$NON-NLS-1$
+	static final String INCLUDE_DIR = ROOT + "include"; //$NON-NLS-1$
+	private static final String[] HEADERS = { "bits/config.h", "algorithm", "map", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"memory", "string", "vector" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static Map<String, char[]> sHeaders;
+
+	private final String fFileName;
+	private final ParserLanguage fLanguage;
+	private char[] fContents;
+
+	Corpus(String fileName, ParserLanguage language) {
+		fFileName = fileName;
+		fLanguage = language;
+	}
+
+	public String getPath() {
+		return ROOT + fFileName;
+	}
+
+	public ParserLanguage getParserLanguage() {
+		return fLanguage;
+	}
+
+	public AbstractLanguage getLanguage() {
+		return fLanguage == ParserLanguage.C ? GCCLanguage.getDefault() : GPPLanguage.getDefault();
+	}
+
+	public synchronized char[] getContents() throws IOException {
+		if (fContents == null) {
+			fContents = load(fFileName);
+		}
+		return fContents;
+	}
+
+	public FileContent createFileContent() throws IOException {
+		return FileContent.create(getPath(), true, getContents());
+	}
+
+	public IScannerInfo createScannerInfo() {
+		return new ScannerInfo(new HashMap<>(), new String[] { INCLUDE_DIR });
+	}
+
+	/**
+	 * Creates a fresh provider for the headers of the corpus. Providers keep state per
+	 * translation unit, a new one must be used for every parse.
+	 */
+	public InternalFileContentProvider createIncludeProvider() throws IOException {
+		return new HeaderProvider(getHeaders());
+	}
+
+	public IASTTranslationUnit parse() throws IOException, CoreException {
+		return getLanguage().getASTTranslationUnit(createFileContent(), createScannerInfo(), createIncludeProvider(),
+				null, 0, new NullLogService());
+	}
+
+	private static synchronized Map<String, char[]> getHeaders() throws IOException {
+		if (sHeaders == null) {
+			Map<String, char[]> headers = new HashMap<>();
+			for (String header : HEADERS) {
+				headers.put(INCLUDE_DIR + '/' + header, load("include/" + header)); //$NON-NLS-1$
+			}
+			sHeaders = headers;
+		}
+		return sHeaders;
+	}
+
+	private static char[] load(String name) throws IOException {
+		try (InputStream in = Corpus.class.getResourceAsStream("corpus/" + name)) { //$NON-NLS-1$
+			if (in == null) {
+				throw new IOException("Missing corpus file " + name); //$NON-NLS-1$
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8).toCharArray();
+		}
+	}
+
+	private static final class HeaderProvider extends InternalFileContentProvider {
+		private final Map<String, char[]> fHeaders;
+
+		HeaderProvider(Map<String, char[]> headers) {
+			fHeaders = headers;
+		}
+
+		@Override
+		public boolean getInclusionExists(String path) {
+			return fHeaders.containsKey(normalize(path));
+		}
+
+		@Override
+		public InternalFileContent getContentForInclusion(String filePath, IMacroDictionary macroDictionary) {
+			String path = normalize(filePath);
+			char[] contents = fHeaders.get(path);
+			if (contents == null) {
+				return null;
+			}
+			return (InternalFileContent) FileContent.create(path, false, contents);
+		}
+
+		@Override
+		public InternalFileContent getContentForInclusion(IIndexFileLocation ifl, String astPath) {
+			return null;
+		}
+
+		private static String normalize(String path) {
+			return path.replace('\\', '/');
+		}
+	}
+}
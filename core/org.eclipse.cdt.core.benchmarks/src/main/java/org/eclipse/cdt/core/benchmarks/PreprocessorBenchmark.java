@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.core.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.dom.parser.IScannerExtensionConfiguration;
+import org.eclipse.cdt.core.dom.parser.c.GCCScannerExtensionConfiguration;
+import org.eclipse.cdt.core.dom.parser.cpp.GPPScannerExtensionConfiguration;
+import org.eclipse.cdt.core.parser.EndOfFileException;
+import org.eclipse.cdt.core.parser.NullLogService;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+import org.eclipse.cdt.internal.core.parser.scanner.CPreprocessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures preprocessing of a translation unit, including macro expansion and the processing
+ * of included headers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PreprocessorBenchmark {
+	@Param({ "MACROS", "TEMPLATES", "STL" })
+	public Corpus corpus;
+
+	@Benchmark
+	public int preprocess() throws IOException {
+		ParserLanguage lang = corpus.getParserLanguage();
+		IScannerExtensionConfiguration config = lang == ParserLanguage.C
+				? GCCScannerExtensionConfiguration.getInstance()
+				: GPPScannerExtensionConfiguration.getInstance();
+		CPreprocessor cpp = new CPreprocessor(corpus.createFileContent(), corpus.createScannerInfo(), lang,
+				new NullLogService(), config, corpus.createIncludeProvider());
+		int count = 0;
+		try {
+			while (true) {
+				cpp.nextToken();
+				count++;
+			}
+		} catch (EndOfFileException e) {
+			// Done.
+		}
+		return count;
+	}
+}
@@ -0,0 +1,52 @@
+// Benchmark corpus: minimal standard library configuration.
+#ifndef BITS_CONFIG_H
+#define BITS_CONFIG_H
+
+namespace std {
+typedef unsigned long size_t;
+typedef long ptrdiff_t;
+
+template<typename T> struct remove_reference { typedef T type; };
+template<typename T> struct remove_reference<T&> { typedef T type; };
+template<typename T> struct remove_reference<T&&> { typedef T type; };
+
+template<typename T>
+typename remove_reference<T>::type&& move(T&& t) noexcept {
+	return static_cast<typename remove_reference<T>::type&&>(t);
+}
+
+template<typename T>
+T&& forward(typename remove_reference<T>::type& t) noexcept {
+	return static_cast<T&&>(t);
+}
+
+template<typename T>
+struct less {
+	bool operator()(const T& a, const T& b) const { return a < b; }
+};
+
+template<typename T1, typename T2>
+struct pair {
+	T1 first;
+	T2 second;
+	pair() : first(), second() {}
+	pair(const T1& a, const T2& b) : first(a), second(b) {}
+};
+
+template<typename T1, typename T2>
+pair<T1, T2> make_pair(T1 a, T2 b) { return pair<T1, T2>(a, b); }
+
+template<typename T>
+class allocator {
+public:
+	typedef T value_type;
+	T* allocate(size_t n) { return static_cast<T*>(::operator new(n * sizeof(T))); }
+	void deallocate(T* p, size_t) { ::operator delete(p); }
+};
+} // namespace std
+
+void* operator new(std::size_t);
+void* operator new(std::size_t, void* p) noexcept;
+void operator delete(void*) noexcept;
+
+#endif
@@ -0,0 +1,134 @@
+/*
+ * Benchmark corpus: macro-heavy C code.
+ * X-macros, token pasting, stringification, variadic and recursive expansion.
+ */
+#define STR_(x) #x
+#define STR(x) STR_(x)
+#define CAT_(a, b) a##b
+#define CAT(a, b) CAT_(a, b)
+#define CAT3(a, b, c) CAT(CAT(a, b), c)
+
+#define COUNT_ARGS_(_1, _2, _3, _4, _5, _6, _7, _8, N, ...) N
+#define COUNT_ARGS(...) COUNT_ARGS_(__VA_ARGS__, 8, 7, 6, 5, 4, 3, 2, 1, 0)
+
+#define APPLY1(m, a) m(a)
+#define APPLY2(m, a, ...) m(a) APPLY1(m, __VA_ARGS__)
+#define APPLY3(m, a, ...) m(a) APPLY2(m, __VA_ARGS__)
+#define APPLY4(m, a, ...) m(a) APPLY3(m, __VA_ARGS__)
+#define APPLY5(m, a, ...) m(a) APPLY4(m, __VA_ARGS__)
+#define APPLY6(m, a, ...) m(a) APPLY5(m, __VA_ARGS__)
+#define APPLY7(m, a, ...) m(a) APPLY6(m, __VA_ARGS__)
+#define APPLY8(m, a, ...) m(a) APPLY7(m, __VA_ARGS__)
+#define FOR_EACH(m, ...) CAT(APPLY, COUNT_ARGS(__VA_ARGS__))(m, __VA_ARGS__)
+
+#define MIN(a, b) ((a) < (b) ? (a) : (b))
+#define MAX(a, b) ((a) > (b) ? (a) : (b))
+#define CLAMP(v, lo, hi) MIN(MAX(v, lo), hi)
+#define ARRAY_SIZE(a) (sizeof(a) / sizeof((a)[0]))
+#define UNUSED(x) ((void) (x))
+
+#define LOG(level, fmt, ...) log_message(level, __FILE__, __LINE__, fmt, ##__VA_ARGS__)
+#define LOG_DEBUG(fmt, ...) LOG(0, fmt, ##__VA_ARGS__)
+#define LOG_INFO(fmt, ...) LOG(1, fmt, ##__VA_ARGS__)
+#define LOG_ERROR(fmt, ...) LOG(2, fmt, ##__VA_ARGS__)
+
+#define CHECK(cond) do { if (!(cond)) { LOG_ERROR("check failed: %s", STR(cond)); return -1; } } while (0)
+
+typedef unsigned long size_t;
+int log_message(int level, const char *file, int line, const char *fmt, ...);
+void *memset(void *s, int c, size_t n);
+
+#define COLORS(X) \
+	X(RED, 0xff0000) \
+	X(GREEN, 0x00ff00) \
+	X(BLUE, 0x0000ff) \
+	X(CYAN, 0x00ffff) \
+	X(MAGENTA, 0xff00ff) \
+	X(YELLOW, 0xffff00) \
+	X(BLACK, 0x000000) \
+	X(WHITE, 0xffffff)
+
+#define COLOR_ENUM(name, value) CAT(COLOR_, name) = value,
+enum color { COLORS(COLOR_ENUM) };
+
+#define COLOR_NAME(name, value) STR(name),
+static const char *color_names[] = { COLORS(COLOR_NAME) };
+
+#define COLOR_CASE(name, value) case CAT(COLOR_, name): return STR(name);
+static const char *color_to_string(enum color c) {
+	switch (c) {
+	COLORS(COLOR_CASE)
+	}
+	return "unknown";
+}
+
+#define FIELDS(X) \
+	X(int, id) \
+	X(int, flags) \
+	X(long, offset) \
+	X(long, length) \
+	X(double, weight) \
+	X(double, scale) \
+	X(char, kind) \
+	X(unsigned, checksum)
+
+#define DECLARE_FIELD(type, name) type name;
+struct record { FIELDS(DECLARE_FIELD) };
+
+#define DECLARE_GETTER(type, name) \
+	static inline type CAT3(record_, get_, name)(const struct record *r) { return r->name; }
+#define DECLARE_SETTER(type, name) \
+	static inline void CAT3(record_, set_, name)(struct record *r, type v) { r->name = v; }
+FIELDS(DECLARE_GETTER)
+FIELDS(DECLARE_SETTER)
+
+#define PRINT_FIELD(type, name) LOG_DEBUG(STR(name) " = %d", (int) r->name);
+static void record_dump(const struct record *r) {
+	FIELDS(PRINT_FIELD)
+}
+
+#define DECLARE_VEC(T) \
+	struct CAT(vec_, T) { T *data; size_t size; size_t capacity; }; \
+	static inline T CAT(vec_get_, T)(const struct CAT(vec_, T) *v, size_t i) { \
+		return v->data[CLAMP(i, 0, v->size - 1)]; \
+	} \
+	static inline size_t CAT(vec_size_, T)(const struct CAT(vec_, T) *v) { return v->size; }
+
+DECLARE_VEC(int)
+DECLARE_VEC(long)
+DECLARE_VEC(double)
+DECLARE_VEC(char)
+
+#define SQUARE(x) ((x) * (x))
+#define CUBE(x) (SQUARE(x) * (x))
+#define POLY(x) (CUBE(x) + SQUARE(x) + (x) + 1)
+
+#define DECLARE_INT(n) int CAT(value_, n) = POLY(n);
+FOR_EACH(DECLARE_INT, 1, 2, 3, 4, 5, 6, 7, 8)
+
+static int validate(const struct record *r) {
+	CHECK(r != 0);
+	CHECK(r->id >= 0);
+	CHECK(MIN(r->offset, r->length) >= 0);
+	CHECK(CLAMP(r->weight, 0.0, 1.0) == r->weight);
+	CHECK(r->kind != 0);
+	return 0;
+}
+
+int process(struct record *records, size_t n) {
+	int errors = 0;
+	size_t i;
+	for (i = 0; i < n; i++) {
+		if (validate(&records[i]) != 0) {
+			errors++;
+			LOG_ERROR("invalid record %d of %d", (int) i, (int) n);
+			continue;
+		}
+		record_set_flags(&records[i], record_get_flags(&records[i]) | 1);
+		record_set_weight(&records[i], CLAMP(record_get_weight(&records[i]) * 2.0, 0.0, 1.0));
+		LOG_INFO("color %s", color_to_string((enum color) (i % ARRAY_SIZE(color_names))));
+		record_dump(&records[i]);
+	}
+	UNUSED(value_1);
+	return errors + POLY(value_2) + CUBE(value_3);
+}
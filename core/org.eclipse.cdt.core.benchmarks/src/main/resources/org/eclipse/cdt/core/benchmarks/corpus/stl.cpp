@@ -0,0 +1,88 @@
+// Benchmark corpus: a translation unit using standard library headers.
+#include <algorithm>
+#include <map>
+#include <memory>
+#include <string>
+#include <vector>
+
+namespace inventory {
+
+struct item {
+	std::string name;
+	int quantity;
+	double price;
+
+	item() : quantity(0), price(0) {}
+	item(const std::string& n, int q, double p) : name(n), quantity(q), price(p) {}
+	double total() const { return quantity * price; }
+};
+
+class store {
+public:
+	void add(const item& i) {
+		fItems.push_back(i);
+		fByName[i.name] = fItems.size() - 1;
+	}
+
+	const item* find(const std::string& name) const {
+		auto it = fByName.find(name);
+		return it != fByName.end() ? &fItems[it->second] : nullptr;
+	}
+
+	double value() const {
+		double sum = 0;
+		std::for_each(fItems.begin(), fItems.end(), [&sum](const item& i) { sum += i.total(); });
+		return sum;
+	}
+
+	long count_low_stock(int limit) const {
+		return std::count_if(fItems.begin(), fItems.end(), [limit](const item& i) { return i.quantity < limit; });
+	}
+
+	std::vector<item> sorted_by_price() const {
+		std::vector<item> result(fItems);
+		std::sort(result.begin(), result.end(), [](const item& a, const item& b) { return a.price < b.price; });
+		return result;
+	}
+
+private:
+	std::vector<item> fItems;
+	std::map<std::string, std::size_t> fByName;
+};
+
+class report {
+public:
+	explicit report(std::shared_ptr<store> s) : fStore(s) {}
+
+	std::string summary() const {
+		std::string text("inventory:");
+		for (const item& i : fStore->sorted_by_price()) {
+			text += ' ';
+			text += i.name;
+		}
+		return text;
+	}
+
+private:
+	std::shared_ptr<store> fStore;
+};
+
+} // namespace inventory
+
+int main() {
+	std::shared_ptr<inventory::store> s = std::make_shared<inventory::store>();
+	s->add(inventory::item("apple", 10, 0.5));
+	s->add(inventory::item("pear", 3, 0.75));
+	s->add(inventory::item("plum", 25, 0.2));
+	std::unique_ptr<inventory::report> r = std::make_unique<inventory::report>(s);
+	std::map<std::string, int> counts;
+	std::vector<std::string> words;
+	words.push_back("apple");
+	words.push_back("plum");
+	for (const std::string& w : words) {
+		counts[w]++;
+	}
+	const inventory::item* apple = s->find("apple");
+	int n = std::max(apple ? apple->quantity : 0, static_cast<int>(s->count_low_stock(5)));
+	return r->summary().size() + n + counts.size() + static_cast<int>(s->value());
+}
@@ -0,0 +1,163 @@
+// Benchmark corpus: template metaprogramming, self-contained.
+
+namespace meta {
+
+template<typename T, T v>
+struct integral_constant {
+	static constexpr T value = v;
+	typedef T value_type;
+	typedef integral_constant type;
+	constexpr operator value_type() const { return value; }
+};
+
+typedef integral_constant<bool, true> true_type;
+typedef integral_constant<bool, false> false_type;
+
+template<typename T, typename U> struct is_same : false_type {};
+template<typename T> struct is_same<T, T> : true_type {};
+
+template<bool B, typename T = void> struct enable_if {};
+template<typename T> struct enable_if<true, T> { typedef T type; };
+
+template<bool B, typename T, typename F> struct conditional { typedef T type; };
+template<typename T, typename F> struct conditional<false, T, F> { typedef F type; };
+
+template<typename T> struct remove_const { typedef T type; };
+template<typename T> struct remove_const<const T> { typedef T type; };
+template<typename T> struct remove_reference { typedef T type; };
+template<typename T> struct remove_reference<T&> { typedef T type; };
+template<typename T> struct remove_reference<T&&> { typedef T type; };
+
+template<typename T>
+struct decay {
+	typedef typename remove_const<typename remove_reference<T>::type>::type type;
+};
+
+template<typename T> T&& declval();
+
+template<typename... Ts> struct type_list {};
+
+template<typename List> struct size;
+template<typename... Ts>
+struct size<type_list<Ts...>> : integral_constant<int, sizeof...(Ts)> {};
+
+template<typename List, typename T> struct push_front;
+template<typename... Ts, typename T>
+struct push_front<type_list<Ts...>, T> { typedef type_list<T, Ts...> type; };
+
+template<typename List, int N> struct at;
+template<typename T, typename... Ts>
+struct at<type_list<T, Ts...>, 0> { typedef T type; };
+template<typename T, typename... Ts, int N>
+struct at<type_list<T, Ts...>, N> { typedef typename at<type_list<Ts...>, N - 1>::type type; };
+
+template<typename List, typename T> struct index_of;
+template<typename T, typename... Ts>
+struct index_of<type_list<T, Ts...>, T> : integral_constant<int, 0> {};
+template<typename U, typename... Ts, typename T>
+struct index_of<type_list<U, Ts...>, T> : integral_constant<int, 1 + index_of<type_list<Ts...>, T>::value> {};
+
+template<typename List> struct reverse;
+template<> struct reverse<type_list<>> { typedef type_list<> type; };
+template<typename T, typename... Ts>
+struct reverse<type_list<T, Ts...>> {
+	template<typename L, typename U> struct append;
+	template<typename... Us, typename U>
+	struct append<type_list<Us...>, U> { typedef type_list<Us..., U> type; };
+	typedef typename append<typename reverse<type_list<Ts...>>::type, T>::type type;
+};
+
+template<template<typename> class F, typename List> struct transform;
+template<template<typename> class F, typename... Ts>
+struct transform<F, type_list<Ts...>> { typedef type_list<typename F<Ts>::type...> type; };
+
+template<typename T> struct add_pointer { typedef T* type; };
+
+template<int N> struct factorial : integral_constant<long, N * factorial<N - 1>::value> {};
+template<> struct factorial<0> : integral_constant<long, 1> {};
+
+template<int N> struct fibonacci : integral_constant<long, fibonacci<N - 1>::value + fibonacci<N - 2>::value> {};
+template<> struct fibonacci<1> : integral_constant<long, 1> {};
+template<> struct fibonacci<0> : integral_constant<long, 0> {};
+
+constexpr long power(long base, int exp) {
+	return exp == 0 ? 1 : base * power(base, exp - 1);
+}
+
+template<typename T, typename = void>
+struct has_size : false_type {};
+template<typename T>
+struct has_size<T, decltype((void) declval<T>().size())> : true_type {};
+
+template<int... Is> struct index_sequence {};
+template<int N, int... Is> struct make_index_sequence : make_index_sequence<N - 1, N - 1, Is...> {};
+template<int... Is> struct make_index_sequence<0, Is...> : index_sequence<Is...> {};
+
+} // namespace meta
+
+namespace data {
+
+template<int I, typename T>
+struct leaf {
+	T value;
+};
+
+template<typename Seq, typename... Ts> struct tuple_impl;
+template<int... Is, typename... Ts>
+struct tuple_impl<meta::index_sequence<Is...>, Ts...> : leaf<Is, Ts>... {
+};
+
+template<typename... Ts>
+struct tuple : tuple_impl<meta::make_index_sequence<sizeof...(Ts)>, Ts...> {
+};
+
+template<int I, typename T>
+T& get_leaf(leaf<I, T>& l) { return l.value; }
+
+template<int I, typename... Ts>
+typename meta::at<meta::type_list<Ts...>, I>::type& get(tuple<Ts...>& t) {
+	return get_leaf<I>(t);
+}
+
+struct sized { int size() const { return 3; } };
+struct unsized {};
+
+template<typename T>
+typename meta::enable_if<meta::has_size<T>::value, int>::type length(const T& t) { return t.size(); }
+template<typename T>
+typename meta::enable_if<!meta::has_size<T>::value, int>::type length(const T&) { return 0; }
+
+template<typename T>
+T sum(T t) { return t; }
+template<typename T, typename... Ts>
+T sum(T t, Ts... ts) { return t + sum(ts...); }
+
+template<typename F, typename... Args>
+auto invoke(F f, Args&&... args) -> decltype(f(static_cast<Args&&>(args)...)) {
+	return f(static_cast<Args&&>(args)...);
+}
+
+} // namespace data
+
+typedef meta::type_list<char, short, int, long, float, double, bool> types;
+typedef meta::reverse<types>::type reversed;
+typedef meta::transform<meta::add_pointer, reversed>::type pointers;
+
+static_assert(meta::size<types>::value == 7, "size");
+static_assert(meta::index_of<types, long>::value == 3, "index_of");
+static_assert(meta::is_same<meta::at<reversed, 0>::type, bool>::value, "reverse");
+static_assert(meta::is_same<meta::at<pointers, 1>::type, double*>::value, "transform");
+static_assert(meta::factorial<10>::value == 3628800, "factorial");
+static_assert(meta::fibonacci<20>::value == 6765, "fibonacci");
+static_assert(meta::power(2, 10) == 1024, "power");
+
+int main() {
+	data::tuple<int, double, char> t;
+	data::get<0>(t) = 1;
+	data::get<1>(t) = 2.0;
+	data::get<2>(t) = 'c';
+	meta::conditional<meta::has_size<data::sized>::value, long, short>::type n = data::length(data::sized());
+	meta::decay<const int&>::type x = data::sum(1, 2, 3, 4, 5);
+	int y = data::invoke([](int a, int b) { return a * b; }, x, 2);
+	return n + data::length(data::unsized()) + y + data::get<0>(t);
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.utils.debug.dwarf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.cdt.utils.debug.dwarf.DwarfIndex.CompileUnit;
+import org.eclipse.cdt.utils.debug.dwarf.DwarfIndex.DebugEntry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests the lookups of {@link DwarfIndex} on builds of two C++ units, looked up through
+ * <code>.gdb_index</code>, <code>.debug_aranges</code> and <code>.debug_rnglists</code>.
+ */
+@RunWith(Parameterized.class)
+public class DwarfIndexCppTest {
+
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> elfFiles() {
+		return Arrays.asList(new Object[][] { { "gdb_index", "resources/elf/unit_test/cpp-gdbindex.elf" },
+				{ "aranges", "resources/elf/unit_test/cpp-aranges.elf" },
+				{ "rnglists", "resources/elf/unit_test/cpp-rnglists.elf" }, });
+	}
+
+	private final String path;
+	private DwarfIndex index;
+
+	public DwarfIndexCppTest(String testName, String path) {
+		this.path = path;
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		index = new DwarfIndex(path);
+	}
+
+	@After
+	public void tearDown() {
+		index.close();
+	}
+
+	private DebugEntry findEntry(String name) throws IOException {
+		List<DebugEntry> entries = index.findEntries(name);
+		assertEquals(name, 1, entries.size());
+		return entries.get(0);
+	}
+
+	@Test
+	public void testCompileUnits() throws IOException {
+		CompileUnit[] units = index.getCompileUnits();
+		assertEquals(2, units.length);
+		assertEquals("cpp_main.cpp", units[0].getName());
+		assertEquals("cpp_util.cpp", units[1].getName());
+	}
+
+	@Test
+	public void testQualifiedNames() throws IOException {
+		DebugEntry foo = findEntry("ns::foo");
+		assertEquals("foo", foo.getName());
+		assertEquals("_ZN2ns3fooEi", foo.getLinkageName());
+		assertEquals(DwarfConstants.DW_TAG_subprogram, foo.getTag());
+		assertEquals("cpp_util.cpp", foo.getCompileUnit().getName());
+		assertTrue(foo.getLowPC() > 0);
+
+		DebugEntry size = findEntry("ns::Widget::size");
+		assertEquals("size", size.getName());
+		assertEquals("_ZN2ns6Widget4sizeEv", size.getLinkageName());
+		assertEquals("cpp_util.cpp", size.getCompileUnit().getName());
+
+		DebugEntry counter = findEntry("ns::counter");
+		assertEquals(DwarfConstants.DW_TAG_variable, counter.getTag());
+		assertEquals("cpp_util.cpp", counter.getCompileUnit().getName());
+
+		assertTrue(index.findEntries("ns::missing").isEmpty());
+	}
+
+	@Test
+	public void testPlainAndLinkageNames() throws IOException {
+		// Neither is in .gdb_index, which only has the qualified names
+		long offset = findEntry("ns::foo").getOffset();
+		assertEquals(offset, findEntry("foo").getOffset());
+		assertEquals(offset, findEntry("_ZN2ns3fooEi").getOffset());
+		assertEquals(findEntry("ns::Widget::size").getOffset(), findEntry("_ZN2ns6Widget4sizeEv").getOffset());
+
+		DebugEntry twice = findEntry("twice");
+		assertEquals(twice.getOffset(), findEntry("_Z5twicei").getOffset());
+		assertEquals("cpp_main.cpp", twice.getCompileUnit().getName());
+	}
+
+	@Test
+	public void testCompileUnitByAddress() throws IOException {
+		CompileUnit[] units = index.getCompileUnits();
+		// In the optimized builds main and twice are in different ranges of the first unit
+		for (String name : new String[] { "main", "twice" }) {
+			DebugEntry entry = findEntry(name);
+			assertSame(name, units[0], index.getCompileUnit(entry.getLowPC()));
+			assertSame(name, units[0], index.getCompileUnit(entry.getHighPC() - 1));
+		}
+		for (String name : new String[] { "ns::foo", "ns::Widget::size" }) {
+			DebugEntry entry = findEntry(name);
+			assertSame(name, units[1], index.getCompileUnit(entry.getLowPC()));
+			assertSame(name, units[1], index.getCompileUnit(entry.getHighPC() - 1));
+		}
+		assertNull(index.getCompileUnit(0));
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.utils.debug.dwarf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.cdt.utils.debug.dwarf.DwarfIndex.CompileUnit;
+import org.eclipse.cdt.utils.debug.dwarf.DwarfIndex.DebugEntry;
+import org.eclipse.cdt.utils.debug.dwarf.DwarfIndex.LineTable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Tests the lookups of {@link DwarfIndex} on the DWARF 4 and 5 builds of simple.c.
+ */
+@RunWith(Parameterized.class)
+public class DwarfIndexTest {
+
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> elfFiles() {
+		return Arrays.asList(new Object[][] { { "DWARF4", "resources/elf/unit_test/simple-dwarf4.elf", 4 },
+				{ "DWARF5", "resources/elf/unit_test/simple-dwarf5.elf", 5 }, });
+	}
+
+	private final String path;
+	private final int version;
+	private DwarfIndex index;
+
+	public DwarfIndexTest(String testName, String path, int version) {
+		this.path = path;
+		this.version = version;
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		index = new DwarfIndex(path);
+	}
+
+	@After
+	public void tearDown() {
+		index.close();
+	}
+
+	@Test
+	public void testCompileUnits() throws IOException {
+		CompileUnit[] units = index.getCompileUnits();
+		assertEquals(1, units.length);
+		assertEquals("simple.c", units[0].getName());
+		assertEquals("/work", units[0].getCompDir());
+		assertEquals(0x1129, units[0].getLowPC());
+		assertEquals(version, units[0].getVersion());
+	}
+
+	@Test
+	public void testCompileUnitByAddress() throws IOException {
+		CompileUnit unit = index.getCompileUnits()[0];
+		assertSame(unit, index.getCompileUnit(0x1129));
+		assertSame(unit, index.getCompileUnit(0x1140));
+		assertSame(unit, index.getCompileUnit(0x114e));
+		assertNull(index.getCompileUnit(0x114f));
+		assertNull(index.getCompileUnit(0x1000));
+	}
+
+	@Test
+	public void testFindEntries() throws IOException {
+		List<DebugEntry> entries = index.findEntries("main");
+		assertEquals(1, entries.size());
+		DebugEntry main = entries.get(0);
+		assertEquals("main", main.getName());
+		assertEquals(DwarfConstants.DW_TAG_subprogram, main.getTag());
+		assertEquals(0x113b, main.getLowPC());
+		assertEquals(0x114f, main.getHighPC());
+		assertEquals("simple.c", main.getCompileUnit().getName());
+
+		entries = index.findEntries("function");
+		assertEquals(1, entries.size());
+		assertEquals(0x1129, entries.get(0).getLowPC());
+		assertEquals(0x113b, entries.get(0).getHighPC());
+
+		// Parameters are local to their function
+		assertTrue(index.findEntries("argument").isEmpty());
+		assertTrue(index.findEntries("missing").isEmpty());
+	}
+
+	@Test
+	public void testLineTable() throws IOException {
+		LineTable table = index.getLineTable(index.getCompileUnit(0x1129));
+		assertNotNull(table);
+		long[] addresses = { 0x1129, 0x1134, 0x1139, 0x113b, 0x1143, 0x114d, 0x114f };
+		int[] lines = { 2, 3, 4, 7, 8, 9 };
+		assertEquals(addresses.length, table.size());
+		for (int row = 0; row < lines.length; row++) {
+			assertEquals(addresses[row], table.getAddress(row));
+			assertEquals(lines[row], table.getLine(row));
+			assertEquals("simple.c", table.getFileName(row));
+		}
+		assertTrue(table.isEndSequence(addresses.length - 1));
+
+		assertEquals(3, table.getLine(table.findRow(0x1136)));
+		assertEquals(7, table.getLine(table.findRow(0x113b)));
+		assertEquals(-1, table.findRow(0x1000));
+		assertEquals(-1, table.findRow(0x114f));
+	}
+}
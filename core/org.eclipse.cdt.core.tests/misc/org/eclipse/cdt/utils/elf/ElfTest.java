@@ -26,6 +26,7 @@ import org.eclipse.cdt.core.ISymbolReader;
 import org.eclipse.cdt.utils.elf.Elf.Attribute;
 import org.eclipse.cdt.utils.elf.Elf.Section;
 import org.eclipse.cdt.utils.elf.Elf.Symbol;
+import org.eclipse.cdt.utils.elf.ElfSymbolTable.SymbolView;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -148,6 +149,36 @@ public class ElfTest {
 		assertEquals(arch + ": " + "Main address", mainAddress, symbol.st_value.toHexAddressString());
 	}
 
+	/**
+	 * Test the mapped symbol table against the loaded symbols
+	 * @throws IOException
+	 */
+	@Test
+	public void testMapSymbolTable() throws IOException {
+		ElfSymbolTable table = elf.mapSymbolTable();
+		assertNotNull(table);
+		assertEquals(arch + ": " + "Number of symbols", nbSymbols, table.size());
+		for (int i = 1; i < table.size(); i++) {
+			assertTrue(arch + ": " + "Sorted symbols",
+					Long.compareUnsigned(table.get(i - 1).getValue(), table.get(i).getValue()) <= 0);
+		}
+
+		List<SymbolView> mains = table.findSymbols("main");
+		assertEquals(arch + ": " + "main symbols", 1, mains.size());
+		SymbolView main = mains.get(0);
+		assertEquals(arch + ": " + "Main address", mainAddress, main.getAddress().toHexAddressString());
+		assertEquals(arch + ": " + "Main type", Symbol.STT_FUNC, main.getType());
+		assertEquals(arch + ": " + "Main binding", Symbol.STB_GLOBAL, main.getBind());
+		assertEquals(arch + ": " + "Symbol at main", "main", table.getSymbol(main.getValue()).getName());
+		assertEquals(arch + ": " + "Symbol in main", "main", table.getSymbol(main.getValue() + 1).getName());
+		for (String function : functions) {
+			if (!function.isEmpty()) {
+				assertTrue(arch + ": " + "Symbol \"" + function + '"', !table.findSymbols(function).isEmpty());
+			}
+		}
+		assertTrue(arch + ": " + "Missing symbol", table.findSymbols("missing").isEmpty());
+	}
+
 	@Test
 	public void testGetAttributes() throws IOException {
 		Attribute attributes = elf.getAttributes();
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.core.parser.tests.ast2;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.IASTName;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.core.dom.ast.IBinding;
+import org.eclipse.cdt.core.dom.ast.IFunction;
+import org.eclipse.cdt.core.parser.FileContent;
+import org.eclipse.cdt.core.parser.IScanner;
+import org.eclipse.cdt.core.parser.ParserLanguage;
+import org.eclipse.cdt.core.parser.ParserMode;
+import org.eclipse.cdt.internal.core.dom.parser.FunctionBodyReuse;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.GNUCPPSourceParser;
+import org.eclipse.cdt.internal.core.dom.parser.cpp.GPPParserExtensionConfiguration;
+import org.eclipse.cdt.internal.core.parser.scanner.CharArray;
+
+import junit.framework.TestSuite;
+
+/**
+ * Tests for reparsing a file while reusing the function bodies of the previous AST.
+ */
+public class FunctionBodyReuseTests extends AST2TestBase {
+
+	public static TestSuite suite() {
+		return suite(FunctionBodyReuseTests.class);
+	}
+
+	private IASTTranslationUnit parse(String code, FunctionBodyReuse reuse) throws Exception {
+		IScanner scanner = createScanner(FileContent.create(TEST_CODE, code.toCharArray()), ParserLanguage.CPP,
+				ParserMode.COMPLETE_PARSE, createScannerInfo(ScannerKind.GNU));
+		GNUCPPSourceParser parser = new GNUCPPSourceParser(scanner, ParserMode.COMPLETE_PARSE, NULL_LOG,
+				new GPPParserExtensionConfiguration(), null);
+		parser.setFunctionBodyReuse(reuse);
+		IASTTranslationUnit tu = parser.parse();
+		assertFalse(parser.encounteredError());
+		return tu;
+	}
+
+	private FunctionBodyReuse createReuse(IASTTranslationUnit ast, String oldCode, String newCode) {
+		return FunctionBodyReuse.create(ast, new CharArray(oldCode), new CharArray(newCode));
+	}
+
+	private List<IASTFunctionDefinition> getFunctionDefinitions(IASTTranslationUnit tu) {
+		final List<IASTFunctionDefinition> result = new ArrayList<>();
+		tu.accept(new ASTVisitor() {
+			{
+				shouldVisitDeclarations = true;
+			}
+
+			@Override
+			public int visit(IASTDeclaration declaration) {
+				if (declaration instanceof IASTFunctionDefinition) {
+					result.add((IASTFunctionDefinition) declaration);
+				}
+				return PROCESS_CONTINUE;
+			}
+		});
+		return result;
+	}
+
+	private void assertSameStructure(IASTTranslationUnit expected, IASTTranslationUnit actual) {
+		List<IASTFunctionDefinition> expectedDefs = getFunctionDefinitions(expected);
+		List<IASTFunctionDefinition> actualDefs = getFunctionDefinitions(actual);
+		assertEquals(expectedDefs.size(), actualDefs.size());
+		for (int i = 0; i < expectedDefs.size(); i++) {
+			IASTFunctionDefinition e = expectedDefs.get(i);
+			IASTFunctionDefinition a = actualDefs.get(i);
+			assertEquals(e.getBody().getFileLocation().getNodeOffset(), a.getBody().getFileLocation().getNodeOffset());
+			assertEquals(e.getBody().getFileLocation().getNodeLength(), a.getBody().getFileLocation().getNodeLength());
+			assertEquals(e.getBody().getRawSignature(), a.getBody().getRawSignature());
+			assertSame(a, a.getBody().getParent());
+		}
+	}
+
+	//	int a;
+	//	int f(int x) { return x + a; }
+	//	int g(int y) { int z = y * 2; return z; }
+	//	struct S { int m() { return f(2); } };
+	//	int h() { return f(1) + g(2); }
+	public void testReuseOfUnchangedBodies() throws Exception {
+		final String oldCode = getAboveComment();
+		final String newCode = oldCode.replace("y * 2", "y * 3 + a");
+		IASTTranslationUnit oldAST = parse(oldCode, null);
+		FunctionBodyReuse reuse = createReuse(oldAST, oldCode, newCode);
+		assertNotNull(reuse);
+
+		IASTTranslationUnit newAST = parse(newCode, reuse);
+		assertEquals(3, reuse.getReusedCount());
+		assertSameStructure(parse(newCode, null), newAST);
+
+		// Names in copied bodies are resolved in the new AST.
+		List<IASTFunctionDefinition> defs = getFunctionDefinitions(newAST);
+		IBinding f = defs.get(0).getDeclarator().getName().resolveBinding();
+		IBinding g = defs.get(1).getDeclarator().getName().resolveBinding();
+		final List<IBinding> called = new ArrayList<>();
+		defs.get(3).getBody().accept(new ASTVisitor() {
+			{
+				shouldVisitNames = true;
+			}
+
+			@Override
+			public int visit(IASTName name) {
+				called.add(name.resolveBinding());
+				return PROCESS_CONTINUE;
+			}
+		});
+		assertTrue(f instanceof IFunction);
+		assertEquals(2, called.size());
+		assertSame(f, called.get(0));
+		assertSame(g, called.get(1));
+	}
+
+	//	int f() { return 1; }
+	//	int g() { return 2; }
+	public void testEditOutsideOfBodies() throws Exception {
+		final String oldCode = getAboveComment();
+		IASTTranslationUnit oldAST = parse(oldCode, null);
+		assertNull(createReuse(oldAST, oldCode, oldCode.replace("int g", "long g")));
+		assertNull(createReuse(oldAST, oldCode, oldCode));
+	}
+
+	//	#define ONE 1
+	//	int f() {
+	//	#define TWO 2
+	//	  return ONE;
+	//	}
+	//	int g() { return TWO; }
+	public void testEditsAffectingOtherBodies() throws Exception {
+		final String oldCode = getAboveComment();
+		IASTTranslationUnit oldAST = parse(oldCode, null);
+		// Changes a macro definition.
+		assertNull(createReuse(oldAST, oldCode, oldCode.replace("TWO 2", "TWO 3")));
+		// Changes the nesting of braces.
+		assertNull(createReuse(oldAST, oldCode, oldCode.replace("return ONE;", "return ONE; {")));
+		// Starts a comment.
+		assertNull(createReuse(oldAST, oldCode, oldCode.replace("return ONE;", "return ONE; //")));
+		// Edit within the body.
+		assertNotNull(createReuse(oldAST, oldCode, oldCode.replace("return ONE;", "return ONE + 1;")));
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.core.parser.tests.scanner;
+
+import java.io.File;
+
+import org.eclipse.cdt.core.parser.Keywords;
+import org.eclipse.cdt.core.parser.util.CharArrayIntMap;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase;
+import org.eclipse.cdt.internal.core.parser.scanner.CharArray;
+import org.eclipse.cdt.internal.core.parser.scanner.IncludeGuardCache;
+import org.eclipse.cdt.internal.core.parser.scanner.Lexer.LexerOptions;
+
+import junit.framework.TestSuite;
+
+/**
+ * Unit test for IncludeGuardCache class.
+ */
+public class IncludeGuardCacheTests extends BaseTestCase {
+	private static final String GUARDED = "#ifndef GUARD_H\n#define GUARD_H\nint x;\n#endif\n";
+	private static final String UNGUARDED = "#define NO_GUARD_H\nint y;\n";
+
+	private final CharArrayIntMap fPPKeywords = new CharArrayIntMap(40, -1);
+
+	public static TestSuite suite() {
+		return suite(IncludeGuardCacheTests.class);
+	}
+
+	public IncludeGuardCacheTests() {
+		super();
+	}
+
+	public IncludeGuardCacheTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		Keywords.addKeywordsPreprocessor(fPPKeywords);
+	}
+
+	private char[] detect(IncludeGuardCache cache, String content, LexerOptions options) {
+		return cache.detectIncludeGuard(new CharArray(content), options, fPPKeywords);
+	}
+
+	public void testCachedResults() throws Exception {
+		IncludeGuardCache cache = new IncludeGuardCache(100);
+		LexerOptions options = new LexerOptions();
+		assertEquals("GUARD_H", new String(detect(cache, GUARDED, options)));
+		assertEquals("GUARD_H", new String(detect(cache, GUARDED, options)));
+		assertNull(detect(cache, UNGUARDED, options));
+		assertNull(detect(cache, UNGUARDED, options));
+		assertEquals(2, cache.size());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(2, cache.getHitCount());
+	}
+
+	public void testLexerOptions() throws Exception {
+		IncludeGuardCache cache = new IncludeGuardCache(100);
+		LexerOptions options = new LexerOptions();
+		detect(cache, GUARDED, options);
+		LexerOptions rawStrings = (LexerOptions) options.clone();
+		rawStrings.fSupportRawStringLiterals = !options.fSupportRawStringLiterals;
+		assertEquals("GUARD_H", new String(detect(cache, GUARDED, rawStrings)));
+		assertEquals(2, cache.getMissCount());
+	}
+
+	public void testSaveAndLoad() throws Exception {
+		IncludeGuardCache cache = new IncludeGuardCache(100);
+		LexerOptions options = new LexerOptions();
+		detect(cache, GUARDED, options);
+		detect(cache, UNGUARDED, options);
+		File file = File.createTempFile("includeGuards", ".dat");
+		try {
+			cache.save(file);
+			IncludeGuardCache loaded = new IncludeGuardCache(100);
+			loaded.load(file);
+			assertEquals(2, loaded.size());
+			assertEquals("GUARD_H", new String(detect(loaded, GUARDED, options)));
+			assertNull(detect(loaded, UNGUARDED, options));
+			assertEquals(0, loaded.getMissCount());
+		} finally {
+			file.delete();
+		}
+	}
+}
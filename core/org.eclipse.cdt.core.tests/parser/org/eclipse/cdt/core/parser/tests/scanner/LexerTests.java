@@ -705,6 +705,50 @@ public class LexerTests extends BaseTestCase {
 		eof();
 	}
 
+	public void testTokensAfterSkipping() throws Exception {
+		// Tokens skipped by nextDirective() and consumeLine() are recycled by the lexer, the
+		// tokens handed out afterwards must not be affected by that.
+		init("a\n" + "x + y \"str\" 'c' u8\"s\"_u 12 <: x\n" + "#if 1 + 2\n" + "#endif", CPP_OPTIONS);
+		id("a");
+		Token last = fLexer.currentToken();
+		Token pound = fLexer.nextDirective();
+		assertNotSame(last, pound);
+		assertEquals(IToken.tPOUND, pound.getType());
+		assertTrue(fLexer.currentTokenIsFirstOnLine());
+		assertEquals(pound.getOffset(), fLexer.getLastEndOffset());
+		Token ident = fLexer.nextToken();
+		assertEquals("if", ident.getImage());
+		final int endOffset = fLexer.consumeLine(0);
+		Token nl = fLexer.currentToken();
+		assertEquals(Lexer.tNEWLINE, nl.getType());
+		assertEquals(nl.getOffset(), endOffset);
+		assertEquals(IToken.tPOUND, pound.getType());
+		assertEquals("if", ident.getImage());
+
+		Token pound2 = fLexer.nextDirective();
+		assertNotSame(pound, pound2);
+		assertNotSame(nl, pound2);
+		assertEquals(Lexer.tNEWLINE, nl.getType());
+		fLastEndOffset = pound2.getOffset();
+		token(IToken.tPOUND);
+		id("endif");
+		eof();
+	}
+
+	public void testDigraphAfterSkipping() throws Exception {
+		// A digraph handed out after skipping keeps its image.
+		init("a <:\n" + "%:if 1\n" + "x <:\n" + "%:endif", CPP_OPTIONS);
+		id("a");
+		nextDirective();
+		token(IToken.tPOUND, "%:");
+		id("if");
+		fLexer.consumeLine(0);
+		nextDirective();
+		token(IToken.tPOUND, "%:");
+		id("endif");
+		eof();
+	}
+
 	public void testOperatorAndPunctuators() throws Exception {
 		final String ops = "{}[]###()<::><%%>%:%:%:;:...?.::..*+-*/%^&|~=!<>+=-=*=/=%="
 				+ "^=&=|=<<>><<=>>===!=<=>=&&||++--,->*-><?>?\\";
@@ -39,6 +39,7 @@ import org.eclipse.cdt.core.model.IPathEntry;
 import org.eclipse.cdt.core.testplugin.CProjectHelper;
 import org.eclipse.cdt.core.testplugin.TestScannerProvider;
 import org.eclipse.cdt.core.testplugin.util.TestSourceReader;
+import org.eclipse.cdt.internal.core.pdom.PDOMMetrics;
 import org.eclipse.cdt.internal.core.pdom.indexer.IndexerPreferences;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -289,6 +290,72 @@ public class IndexIncludeTest extends IndexTestBase {
 		}
 	}
 
+	public void testParallelParsing() throws Exception {
+		IProject project = fProject.getProject();
+		IFile header = TestSourceReader.createFile(project, "shared_parallel.h",
+				"struct Shared_parallel { int member; };\n");
+		final int numSources = 12;
+		for (int i = 0; i < numSources; i++) {
+			TestSourceReader.createFile(project, "source" + i + "_parallel.cpp", "#include \"shared_parallel.h\"\n"
+					+ "Shared_parallel var" + i + "_parallel;\n" + "int get" + i + "() { return var" + i
+					+ "_parallel.member; }\n");
+		}
+		IndexerPreferences.set(project, IndexerPreferences.KEY_PARSER_THREADS, "4");
+		CCorePlugin.getIndexManager().reindex(fProject);
+		waitForIndexer();
+
+		fIndex.acquireReadLock();
+		try {
+			IIndexFile[] indexFiles = fIndex.getFiles(ILinkage.CPP_LINKAGE_ID,
+					IndexLocationFactory.getWorkspaceIFL(header));
+			assertEquals(1, indexFiles.length);
+			IIndexBinding[] shared = fIndex.findBindings("Shared_parallel".toCharArray(), IndexFilter.ALL, npm());
+			assertEquals(1, shared.length);
+			for (int i = 0; i < numSources; i++) {
+				IBinding[] vars = fIndex.findBindings(("var" + i + "_parallel").toCharArray(), IndexFilter.ALL,
+						npm());
+				assertEquals(1, vars.length);
+				assertTrue(vars[0] instanceof IVariable);
+			}
+			assertEquals(numSources, fIndex.findReferences(shared[0]).length);
+		} finally {
+			fIndex.releaseReadLock();
+			IndexerPreferences.set(project, IndexerPreferences.KEY_PARSER_THREADS,
+					String.valueOf(IndexerPreferences.DEFAULT_PARSER_THREADS));
+		}
+	}
+
+	public void testMetricsOfSequentialAndParallelParsing() throws Exception {
+		IProject project = fProject.getProject();
+		final int numSources = 8;
+		for (int i = 0; i < numSources; i++) {
+			TestSourceReader.createFile(project, "source" + i + "_metrics.cpp",
+					"int get" + i + "_metrics() { return " + i + "; }\n");
+		}
+		waitForIndexer();
+		boolean enabled = PDOMMetrics.isEnabled();
+		PDOMMetrics.setEnabled(true);
+		try {
+			for (String threads : new String[] { "1", "4" }) {
+				IndexerPreferences.set(project, IndexerPreferences.KEY_PARSER_THREADS, threads);
+				waitForIndexer();
+				long parsed = PDOMMetrics.PARSE.getCount();
+				long resolved = PDOMMetrics.RESOLVE.getCount();
+				CCorePlugin.getIndexManager().reindex(fProject);
+				waitForIndexer();
+				parsed = PDOMMetrics.PARSE.getCount() - parsed;
+				resolved = PDOMMetrics.RESOLVE.getCount() - resolved;
+				// The names of every file are resolved once, whether or not it is parsed in parallel.
+				assertTrue(threads, parsed >= numSources);
+				assertEquals(threads, parsed, resolved);
+			}
+		} finally {
+			PDOMMetrics.setEnabled(enabled);
+			IndexerPreferences.set(project, IndexerPreferences.KEY_PARSER_THREADS,
+					String.valueOf(IndexerPreferences.DEFAULT_PARSER_THREADS));
+		}
+	}
+
 	// #define SOME_MACRO1 ok_1_220358
 	// #define SOME_MACRO2 ok_2_220358
 
@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.pdom.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.cdt.core.testplugin.CTestPlugin;
+import org.eclipse.cdt.core.testplugin.util.BaseTestCase5;
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.core.runtime.IPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link ChunkCache} class, with databases that have many more chunks than fit into
+ * the cache.
+ */
+public class ChunkCacheTest extends BaseTestCase5 {
+	private static final int RECORDS = 64;
+	private static final int READERS = 4;
+
+	private final List<File> fFiles = new ArrayList<>();
+	private final List<Database> fDatabases = new ArrayList<>();
+
+	@AfterEach
+	protected void afterEach() throws Exception {
+		for (Database db : fDatabases) {
+			db.setExclusiveLock();
+			db.close();
+		}
+		for (File file : fFiles) {
+			if (!file.delete()) {
+				file.deleteOnExit();
+			}
+		}
+	}
+
+	private File createFile(String suffix) {
+		IPath path = CTestPlugin.getDefault().getStateLocation().append("tests/");
+		File dir = path.toFile();
+		if (!dir.exists())
+			dir.mkdir();
+		File file = path.append(getName() + System.currentTimeMillis() + suffix + ".dat").toFile();
+		fFiles.add(file);
+		return file;
+	}
+
+	private Database openDatabase(File file, ChunkCache cache) throws Exception {
+		Database db = new Database(file, cache, 0, false);
+		fDatabases.add(db);
+		return db;
+	}
+
+	/**
+	 * Allocates records in separate chunks and stores their index plus <code>base</code> in them,
+	 * the database is left locked exclusively.
+	 */
+	private long[] createRecords(Database db, int base) throws Exception {
+		db.setExclusiveLock();
+		long[] records = new long[RECORDS];
+		for (int i = 0; i < records.length; i++) {
+			records[i] = db.malloc(Database.MAX_MALLOC_SIZE);
+			db.putInt(records[i], base + i);
+		}
+		return records;
+	}
+
+	private void checkRecords(Database db, long[] records, int base) throws Exception {
+		for (int i = 0; i < records.length; i++) {
+			assertEquals(base + i, db.getInt(records[i]));
+		}
+	}
+
+	/**
+	 * Starts threads reading random records of the database, until <code>stop</code> is set or
+	 * the given number of reads has been done.
+	 */
+	private Thread[] startReaders(Database db, long[] records, int base, int reads, AtomicBoolean stop,
+			AtomicReference<Throwable> error) {
+		Thread[] threads = new Thread[READERS];
+		for (int t = 0; t < threads.length; t++) {
+			final Random random = new Random(t);
+			threads[t] = new Thread(() -> {
+				try {
+					for (int n = 0; n < reads && !stop.get() && error.get() == null; n++) {
+						int i = random.nextInt(records.length);
+						int value = db.getInt(records[i]);
+						if (value != base + i) {
+							throw new AssertionError("Record " + i + " has value " + value);
+						}
+					}
+				} catch (Throwable e) {
+					error.compareAndSet(null, e);
+				}
+			});
+			threads[t].start();
+		}
+		return threads;
+	}
+
+	private void join(Thread[] threads, AtomicReference<Throwable> error) throws Throwable {
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		if (error.get() != null) {
+			throw error.get();
+		}
+	}
+
+	@Test
+	public void testBudgetSplit() throws Exception {
+		final long chunk = Database.CHUNK_SIZE;
+		assertEquals(64 * chunk, new ChunkCache(64 * chunk, 4).getMaxSize());
+		assertEquals(64 * chunk, new ChunkCache(64 * chunk, 3).getMaxSize());
+		assertEquals(64 * chunk, new ChunkCache(64 * chunk, 100).getMaxSize());
+		// The budget is divided evenly among the segments, the remainder is not used.
+		assertEquals(96 * chunk, new ChunkCache(100 * chunk, 16).getMaxSize());
+
+		// Small budgets reduce the number of segments, rather than being exceeded.
+		assertEquals(2 * chunk, new ChunkCache(2 * chunk, 16).getMaxSize());
+		assertEquals(2 * chunk, new ChunkCache(3 * chunk, 16).getMaxSize());
+		assertEquals(chunk, new ChunkCache(chunk, 16).getMaxSize());
+		assertEquals(chunk, new ChunkCache(0, 16).getMaxSize());
+
+		// The number of segments is fixed, each of them keeps at least one chunk.
+		ChunkCache cache = new ChunkCache(16 * chunk, 16);
+		cache.setMaxSize(32 * chunk);
+		assertEquals(32 * chunk, cache.getMaxSize());
+		cache.setMaxSize(2 * chunk);
+		assertEquals(16 * chunk, cache.getMaxSize());
+	}
+
+	@Test
+	public void testConcurrentReaders() throws Throwable {
+		Database db = openDatabase(createFile("reader"), new ChunkCache(8 * Database.CHUNK_SIZE, READERS));
+		long[] records = createRecords(db, 1000);
+		db.giveUpExclusiveLock(true);
+		db.setLocked(true);
+
+		// The readers constantly evict each other's chunks.
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		join(startReaders(db, records, 1000, 20000, new AtomicBoolean(), error), error);
+		checkRecords(db, records, 1000);
+	}
+
+	@Test
+	public void testEvictionDuringExclusiveWrites() throws Throwable {
+		ChunkCache cache = new ChunkCache(4 * Database.CHUNK_SIZE, READERS);
+		Database readerDb = openDatabase(createFile("reader"), cache);
+		long[] readerRecords = createRecords(readerDb, 1000);
+		readerDb.giveUpExclusiveLock(true);
+		readerDb.setLocked(true);
+
+		File writerFile = createFile("writer");
+		Database writerDb = openDatabase(writerFile, cache);
+		long[] writerRecords = createRecords(writerDb, 0);
+		writerDb.flush();
+
+		// Readers of the other database evict the chunks of the writer, also between it looking up
+		// a chunk and the cache locking it. The modified chunks must be put back to be flushed.
+		AtomicBoolean stop = new AtomicBoolean();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+		Thread[] readers = startReaders(readerDb, readerRecords, 1000, Integer.MAX_VALUE, stop, error);
+		try {
+			for (int round = 1; round <= 20; round++) {
+				for (int i = 0; i < writerRecords.length; i++) {
+					writerDb.putInt(writerRecords[i], round * 1000 + i);
+				}
+				if (round % 5 == 0) {
+					writerDb.flush();
+				}
+			}
+			writerDb.giveUpExclusiveLock(true);
+		} finally {
+			stop.set(true);
+		}
+		join(readers, error);
+
+		writerDb.setLocked(true);
+		checkRecords(writerDb, writerRecords, 20000);
+
+		fDatabases.remove(writerDb);
+		writerDb.setExclusiveLock();
+		writerDb.close();
+		Database reopened = openDatabase(writerFile, new ChunkCache());
+		reopened.setLocked(true);
+		checkRecords(reopened, writerRecords, 20000);
+	}
+}
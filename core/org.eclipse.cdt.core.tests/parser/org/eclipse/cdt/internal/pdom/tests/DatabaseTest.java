@@ -151,6 +151,131 @@ public class DatabaseTest extends BaseTestCase5 {
 		assertEquals(mem2, mem1);
 	}
 
+	@Test
+	public void testMappedStorage() throws Exception {
+		File file = getTestDir().append(getName() + System.currentTimeMillis() + "-mapped.dat").toFile();
+		Database mapped = new Database(file, new ChunkCache(), 0, false, true);
+		try {
+			assertTrue(mapped.isMapped());
+			mapped.setExclusiveLock();
+			long[] records = new long[1000];
+			for (int i = 0; i < records.length; i++) {
+				records[i] = mapped.malloc(Database.MAX_MALLOC_SIZE / 2);
+				mapped.putInt(records[i], i);
+				mapped.putLong(records[i] + Database.INT_SIZE, -i);
+				IString string = mapped.newString("string" + i);
+				mapped.putRecPtr(records[i] + Database.INT_SIZE + 8, string.getRecord());
+			}
+			mapped.giveUpExclusiveLock(true);
+			mapped.setLocked(true);
+
+			// Readers are served from the mapping.
+			mapped.resetCacheCounters();
+			for (int i = 0; i < records.length; i++) {
+				assertEquals(i, mapped.getInt(records[i]));
+				assertEquals(-i, mapped.getLong(records[i] + Database.INT_SIZE));
+				IString string = mapped.getString(mapped.getRecPtr(records[i] + Database.INT_SIZE + 8));
+				assertEquals("string" + i, string.getString());
+			}
+			assertEquals(0, mapped.getCacheMisses());
+
+			// Modifications are visible to readers after they have been flushed.
+			mapped.setExclusiveLock();
+			mapped.putInt(records[records.length - 1], 4711);
+			long record = mapped.malloc(Database.MAX_MALLOC_SIZE);
+			mapped.putInt(record, 4712);
+			mapped.giveUpExclusiveLock(true);
+			assertEquals(4711, mapped.getInt(records[records.length - 1]));
+			assertEquals(4712, mapped.getInt(record));
+		} finally {
+			mapped.setExclusiveLock();
+			mapped.close();
+			if (!file.delete()) {
+				file.deleteOnExit();
+			}
+		}
+	}
+
+	@Test
+	public void testClearMappedStorage() throws Exception {
+		File file = getTestDir().append(getName() + System.currentTimeMillis() + "-mapped.dat").toFile();
+		Database mapped = new Database(file, new ChunkCache(), 0, false, true);
+		try {
+			for (int round = 0; round < 2; round++) {
+				mapped.setExclusiveLock();
+				mapped.clear(0);
+				long[] records = new long[100];
+				for (int i = 0; i < records.length; i++) {
+					records[i] = mapped.malloc(Database.MAX_MALLOC_SIZE);
+					mapped.putInt(records[i], i + round);
+				}
+				mapped.giveUpExclusiveLock(true);
+				mapped.setLocked(true);
+
+				// The cleared database is read through the mapping of the file it was written to.
+				mapped.resetCacheCounters();
+				for (int i = 0; i < records.length; i++) {
+					assertEquals(i + round, mapped.getInt(records[i]));
+				}
+				assertEquals(0, mapped.getCacheMisses());
+				mapped.setLocked(false);
+			}
+		} finally {
+			mapped.setExclusiveLock();
+			mapped.close();
+			if (!file.delete()) {
+				file.deleteOnExit();
+			}
+		}
+	}
+
+	@Test
+	public void testReopenClearedMappedStorage() throws Exception {
+		File file = getTestDir().append(getName() + System.currentTimeMillis() + "-mapped.dat").toFile();
+		Database mapped = new Database(file, new ChunkCache(), 0, false, true);
+		try {
+			mapped.setExclusiveLock();
+			long record = 0;
+			for (int i = 0; i < 100; i++) {
+				record = mapped.malloc(Database.MAX_MALLOC_SIZE);
+			}
+			mapped.giveUpExclusiveLock(true);
+			mapped.setLocked(true);
+			mapped.getInt(record); // Maps the file.
+			mapped.setLocked(false);
+
+			// Refill the cleared database with less data than before.
+			mapped.setExclusiveLock();
+			mapped.clear(0);
+			long[] records = new long[10];
+			for (int i = 0; i < records.length; i++) {
+				records[i] = mapped.malloc(Database.MAX_MALLOC_SIZE);
+				mapped.putInt(records[i], i);
+			}
+			mapped.flush();
+			final long usedSize = (records.length + 1) * Database.CHUNK_SIZE;
+			assertEquals(usedSize, mapped.getSizeBytes());
+			mapped.close();
+			assertEquals(usedSize, file.length());
+
+			// The stale chunks are gone, new chunks are appended to the used ones.
+			mapped = new Database(file, new ChunkCache(), 0, false, true);
+			mapped.setExclusiveLock();
+			assertEquals(usedSize, mapped.getSizeBytes());
+			for (int i = 0; i < records.length; i++) {
+				assertEquals(i, mapped.getInt(records[i]));
+			}
+			record = mapped.malloc(Database.MAX_MALLOC_SIZE);
+			assertEquals(records.length + 1, record / Database.CHUNK_SIZE);
+		} finally {
+			mapped.setExclusiveLock();
+			mapped.close();
+			if (!file.delete()) {
+				file.deleteOnExit();
+			}
+		}
+	}
+
 	private static class FindVisitor implements IBTreeVisitor {
 		private Database db;
 		private String key;
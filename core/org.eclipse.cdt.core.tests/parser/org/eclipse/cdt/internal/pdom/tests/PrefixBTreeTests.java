@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.pdom.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.cdt.internal.core.pdom.db.ChunkCache;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreePrefixComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreePrefixVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.PrefixBTree;
+import org.eclipse.cdt.internal.core.pdom.db.ShortString;
+import org.eclipse.core.runtime.CoreException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the tests of {@link BTreeTests} on a B-tree with key prefixes and checks the
+ * order of the name prefixes.
+ */
+public class PrefixBTreeTests extends BTreeTests {
+	private static final char[] ALPHABET = { 'a', 'b', 'z', 'A', 'B', 'Z', '_', '0', '\u00e4', '\u00ff', '\u0100',
+			'\u4e00' };
+
+	@Override
+	protected void init(int degree) throws Exception {
+		dbFile = File.createTempFile("pdomtest", "db");
+		db = new Database(dbFile, new ChunkCache(), 0, false);
+		db.setExclusiveLock();
+		rootRecord = Database.DATA_AREA;
+		PrefixMockRecordComparator prefixComparator = new PrefixMockRecordComparator();
+		comparator = prefixComparator;
+		btree = new PrefixBTree(db, rootRecord, degree, prefixComparator);
+	}
+
+	@Test
+	public void testLookupWithPrefixVisitor() throws Exception {
+		init(4);
+		try {
+			Random random = new Random(4711);
+			List<Long> records = new ArrayList<>();
+			for (int i = 0; i < 5000; i++) {
+				long record = db.malloc(Database.INT_SIZE);
+				db.putInt(record, random.nextInt(Integer.MAX_VALUE));
+				records.add(btree.insert(record));
+			}
+			for (long record : records) {
+				int value = db.getInt(record);
+				ValueFinder finder = new ValueFinder(value);
+				btree.accept(finder);
+				assertEquals(record, finder.result);
+			}
+			ValueFinder finder = new ValueFinder(-1);
+			btree.accept(finder);
+			assertEquals(0L, finder.result);
+			assertBTreeInvariantsHold("");
+		} finally {
+			finish();
+		}
+	}
+
+	@Test
+	public void testNamePrefixOrder() throws Exception {
+		Random random = new Random(42);
+		List<char[]> names = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			names.add(randomName(random, 12));
+		}
+		for (char[] name1 : names) {
+			long prefix1 = PrefixBTree.getNamePrefix(name1);
+			for (char[] name2 : names) {
+				int cmp = Long.compareUnsigned(prefix1, PrefixBTree.getNamePrefix(name2));
+				if (cmp != 0) {
+					assertEquals(cmp, Integer.signum(ShortString.compareCompatibleWithIgnoreCase(name1, name2)),
+							new String(name1) + " <> " + new String(name2));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testNamePrefixRange() throws Exception {
+		Random random = new Random(43);
+		for (int i = 0; i < 400; i++) {
+			char[] prefix = randomName(random, 10);
+			long lower = PrefixBTree.getNamePrefix(prefix);
+			long upper = PrefixBTree.getNamePrefixUpperBound(prefix);
+			for (int j = 0; j < 400; j++) {
+				char[] name = randomName(random, 12);
+				int expected = Integer.signum(ShortString.comparePrefix(name, prefix, false));
+				int cmp = PrefixBTree.compareKeyPrefix(PrefixBTree.getNamePrefix(name), lower, upper);
+				assertTrue(cmp == 0 || cmp == expected, new String(name) + " <> " + new String(prefix));
+			}
+		}
+	}
+
+	private static char[] randomName(Random random, int maxLength) {
+		char[] name = new char[random.nextInt(maxLength + 1)];
+		for (int i = 0; i < name.length; i++) {
+			name[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+		}
+		return name;
+	}
+
+	/**
+	 * Uses the upper half of the value as key prefix, such that records with equal
+	 * prefixes need to be compared, also.
+	 */
+	private class PrefixMockRecordComparator implements IBTreePrefixComparator {
+		@Override
+		public int compare(long record1, long record2) throws CoreException {
+			return db.getInt(record1) - db.getInt(record2);
+		}
+
+		@Override
+		public long getKeyPrefix(long record) throws CoreException {
+			return db.getInt(record) >> 16;
+		}
+	}
+
+	private class ValueFinder implements IBTreePrefixVisitor {
+		final int value;
+		long result;
+
+		ValueFinder(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public int compareKeyPrefix(long keyPrefix) {
+			return Long.compare(keyPrefix, value >> 16);
+		}
+
+		@Override
+		public int compare(long record) throws CoreException {
+			return Integer.compare(db.getInt(record), value);
+		}
+
+		@Override
+		public boolean visit(long record) throws CoreException {
+			result = record;
+			return false;
+		}
+	}
+}
@@ -0,0 +1,19 @@
+namespace ns {
+extern int counter;
+int foo(int value);
+}
+
+static int square(int value)
+{
+	return value * value;
+}
+
+int twice(int value)
+{
+	return 2 * value;
+}
+
+int main()
+{
+	return ns::foo(square(twice(ns::counter)));
+}
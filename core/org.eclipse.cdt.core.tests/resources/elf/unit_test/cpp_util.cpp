@@ -0,0 +1,18 @@
+namespace ns {
+int counter = 2;
+
+int foo(int value)
+{
+	return value + 1;
+}
+
+class Widget {
+public:
+	int size();
+};
+
+int Widget::size()
+{
+	return 3;
+}
+}
@@ -22,6 +22,7 @@ package org.eclipse.cdt.internal.core.model;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -73,9 +74,12 @@ import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
 import org.eclipse.cdt.core.settings.model.ICProjectDescription;
 import org.eclipse.cdt.internal.core.dom.parser.ASTTranslationUnit;
 import org.eclipse.cdt.internal.core.dom.parser.CompositeValue;
+import org.eclipse.cdt.internal.core.dom.parser.FunctionBodyReuse;
 import org.eclipse.cdt.internal.core.index.IndexBasedFileContentProvider;
 import org.eclipse.cdt.internal.core.parser.InternalParserUtil;
 import org.eclipse.cdt.internal.core.parser.ParserLogService;
+import org.eclipse.cdt.internal.core.parser.scanner.AbstractCharArray;
+import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContent;
 import org.eclipse.cdt.internal.core.parser.scanner.InternalFileContentProvider;
 import org.eclipse.cdt.internal.core.pdom.indexer.ProjectIndexerIncludeResolutionHeuristics;
 import org.eclipse.cdt.internal.core.pdom.indexer.ProjectIndexerInputAdapter;
@@ -119,6 +123,32 @@ public class TranslationUnit extends Openable implements ITranslationUnit {
 	SourceManipulationInfo sourceManipulationInfo;
 	private ILanguage fLanguageOfContext;
 
+	/**
+	 * The last AST with function bodies created for this working copy. Function bodies that are
+	 * not affected by an edit are taken from it rather than being parsed again.
+	 */
+	private volatile PreviousAST fPreviousAST;
+
+	private static final class PreviousAST {
+		// The AST is reused only as long as someone else (typically the editor) holds on to it.
+		final WeakReference<IASTTranslationUnit> fAST;
+		final AbstractCharArray fContents;
+		final int fStyle;
+		final ILanguage fLanguage;
+		final ITranslationUnit fConfigureWith;
+		final long fIndexWriteAccess;
+
+		PreviousAST(IASTTranslationUnit ast, AbstractCharArray contents, int style, ILanguage language,
+				ITranslationUnit configureWith, long indexWriteAccess) {
+			fAST = new WeakReference<>(ast);
+			fContents = contents;
+			fStyle = style;
+			fLanguage = language;
+			fConfigureWith = configureWith;
+			fIndexWriteAccess = indexWriteAccess;
+		}
+	}
+
 	public TranslationUnit(ICElement parent, IFile file, String idType) {
 		super(parent, file, ICElement.C_UNIT);
 		setContentTypeID(idType);
@@ -883,15 +913,42 @@ public class TranslationUnit extends Openable implements ITranslationUnit {
 		} else {
 			log = ParserUtil.getParserLogService();
 		}
+		// Function bodies can be reused by working copies, when they are parsed repeatedly while
+		// being edited.
+		final boolean reuseBodies = isWorkingCopy() && (style & AST_SKIP_FUNCTION_BODIES) == 0
+				&& fileContent instanceof InternalFileContent;
+		final long indexWriteAccess = index != null ? index.getLastWriteAccess() : -1;
+		if (reuseBodies) {
+			InternalFileContent ifc = (InternalFileContent) fileContent;
+			ifc.setFunctionBodyReuse(
+					getFunctionBodyReuse(ifc.getSource(), style, language, configureWith, indexWriteAccess));
+		}
 		ASTTranslationUnit ast = (ASTTranslationUnit) ((AbstractLanguage) language).getASTTranslationUnit(fileContent,
 				scanInfo, crf, index, options, log);
 		if (ast == null)
 			return null;
 		ast.setOriginatingTranslationUnit(this);
 		ast.setBasedOnIncompleteIndex(incompleteIndex);
+		if (reuseBodies) {
+			fPreviousAST = new PreviousAST(ast, ((InternalFileContent) fileContent).getSource(), style, language,
+					configureWith, indexWriteAccess);
+		}
 		return ast;
 	}
 
+	private FunctionBodyReuse getFunctionBodyReuse(AbstractCharArray contents, int style, ILanguage language,
+			ITranslationUnit configureWith, long indexWriteAccess) {
+		final PreviousAST previous = fPreviousAST;
+		if (previous == null || contents == null || previous.fStyle != style || previous.fLanguage != language
+				|| previous.fConfigureWith != configureWith || previous.fIndexWriteAccess != indexWriteAccess) {
+			return null;
+		}
+		final IASTTranslationUnit ast = previous.fAST.get();
+		if (ast == null)
+			return null;
+		return FunctionBodyReuse.create(ast, previous.fContents, contents);
+	}
+
 	private IncludeFileContentProvider getIncludeFileContentProvider(int style, IIndex index, int linkageID,
 			IIndexFile[] contextToHeader) {
 		final ICProject cprj = getCProject();
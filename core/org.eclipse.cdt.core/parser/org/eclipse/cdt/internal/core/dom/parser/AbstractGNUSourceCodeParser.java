@@ -227,6 +227,7 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 
 	private final INodeFactory nodeFactory;
 	private boolean fActiveCode = true;
+	private FunctionBodyReuse fFunctionBodyReuse;
 
 	protected AbstractGNUSourceCodeParser(IScanner scanner, IParserLogService logService, ParserMode parserMode,
 			INodeFactory nodeFactory, boolean supportStatementsInExpressions, boolean supportTypeOfUnaries,
@@ -253,6 +254,14 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 		maximumTrivialExpressionsInAggregateInitializers = limit;
 	}
 
+	/**
+	 * Provides function bodies of a previous AST that can be used instead of parsing the bodies
+	 * again.
+	 */
+	public void setFunctionBodyReuse(FunctionBodyReuse reuse) {
+		fFunctionBodyReuse = reuse;
+	}
+
 	private AbstractParserLogService wrapLogService(IParserLogService logService) {
 		if (logService instanceof AbstractParserLogService) {
 			return (AbstractParserLogService) logService;
@@ -1524,9 +1533,50 @@ public abstract class AbstractGNUSourceCodeParser implements ISourceCodeParser {
 		}
 
 		// full parse
+		if (fFunctionBodyReuse != null) {
+			IASTStatement body = reuseFunctionBody();
+			if (body != null)
+				return body;
+		}
 		return functionBody();
 	}
 
+	/**
+	 * Skips over the function body and returns a copy of the same body from the previous AST,
+	 * or returns <code>null</code> without consuming any tokens.
+	 */
+	private IASTStatement reuseFunctionBody() throws EndOfFileException, BacktrackException {
+		if (!scanner.isOnTopContext())
+			return null;
+		final IToken first = LA(1);
+		if (first.getType() != IToken.tLBRACE)
+			return null;
+
+		final int offset = first.getOffset();
+		final ILocationResolver lr = getTranslationUnit().getAdapter(ILocationResolver.class);
+		final IASTFileLocation floc = lr.getMappedFileLocation(offset, 1);
+		if (floc == null || !floc.getFileName().equals(lr.getTranslationUnitPath()))
+			return null;
+		final int fileOffset = floc.getNodeOffset();
+		final int length = fFunctionBodyReuse.getSequenceLength(fileOffset);
+		if (length < 0)
+			return null;
+
+		final IToken mark = mark();
+		try {
+			final IToken last = skipOverCompoundStatement(false);
+			if (last.getEndOffset() - offset == length) {
+				IASTCompoundStatement body = fFunctionBodyReuse.reuseBody(fileOffset, offset);
+				if (body != null)
+					return body;
+			}
+		} catch (EndOfFileException e) {
+			// Let the regular parser deal with it.
+		}
+		backup(mark);
+		return null;
+	}
+
 	/**
 	 * Parses a function body.
 	 *
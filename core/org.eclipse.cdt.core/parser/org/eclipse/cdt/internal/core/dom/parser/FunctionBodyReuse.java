@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.dom.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.core.dom.ast.ASTGenericVisitor;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
+import org.eclipse.cdt.core.dom.ast.IASTCompoundStatement;
+import org.eclipse.cdt.core.dom.ast.IASTDeclaration;
+import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTFunctionDefinition;
+import org.eclipse.cdt.core.dom.ast.IASTNode;
+import org.eclipse.cdt.core.dom.ast.IASTNode.CopyStyle;
+import org.eclipse.cdt.core.dom.ast.IASTNodeLocation;
+import org.eclipse.cdt.core.dom.ast.IASTPreprocessorStatement;
+import org.eclipse.cdt.core.dom.ast.IASTStatement;
+import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
+import org.eclipse.cdt.internal.core.parser.scanner.AbstractCharArray;
+
+/**
+ * Allows to reparse a translation unit after an edit that is confined to a single function body,
+ * such that only the edited body is parsed again. The bodies of all other functions are copied
+ * from the AST of the previous version of the file and moved to their new positions.
+ * <p>
+ * Reuse is only possible when the edit cannot change how the rest of the file is preprocessed or
+ * parsed. An instance is therefore only created when the edit lies strictly within a function
+ * body of the main file, does not touch a preprocessor directive and neither adds nor removes
+ * braces, quotes, comments or line-splices. When the parser does not find the same tokens for
+ * a body it parses it as usual.
+ */
+public final class FunctionBodyReuse {
+	private static final class Body {
+		final IASTCompoundStatement fStatement;
+		final int fSequenceLength;
+
+		Body(IASTCompoundStatement statement) {
+			fStatement = statement;
+			fSequenceLength = ((ASTNode) statement).getLength();
+		}
+	}
+
+	private final Map<Integer, Body> fBodies;
+	private int fReusedCount;
+
+	private FunctionBodyReuse(Map<Integer, Body> bodies) {
+		fBodies = bodies;
+	}
+
+	/**
+	 * Creates the information needed to reuse the function bodies of a previous AST for
+	 * parsing the new contents of its main file.
+	 *
+	 * @param ast the AST for the previous version of the file.
+	 * @param oldContents the contents of the file that were used to create the AST.
+	 * @param newContents the contents of the file that are about to be parsed.
+	 * @return the reusable function bodies, or <code>null</code> if the edit requires to parse
+	 *     the entire file.
+	 */
+	public static FunctionBodyReuse create(IASTTranslationUnit ast, AbstractCharArray oldContents,
+			AbstractCharArray newContents) {
+		final int oldLength = oldContents.tryGetLength();
+		final int newLength = newContents.tryGetLength();
+		if (oldLength < 0 || newLength < 0)
+			return null;
+
+		int prefix = 0;
+		final int maxCommon = Math.min(oldLength, newLength);
+		while (prefix < maxCommon && oldContents.get(prefix) == newContents.get(prefix)) {
+			prefix++;
+		}
+		if (prefix == oldLength && prefix == newLength)
+			return null; // No change at all.
+
+		int suffix = 0;
+		while (suffix < maxCommon - prefix
+				&& oldContents.get(oldLength - suffix - 1) == newContents.get(newLength - suffix - 1)) {
+			suffix++;
+		}
+		final int editOffset = prefix;
+		final int oldEditEnd = oldLength - suffix;
+		final int newEditEnd = newLength - suffix;
+		if (!isLocalEdit(oldContents, editOffset, oldEditEnd) || !isLocalEdit(newContents, editOffset, newEditEnd))
+			return null;
+
+		for (IASTPreprocessorStatement stmt : ast.getAllPreprocessorStatements()) {
+			if (stmt.isPartOfTranslationUnitFile()) {
+				IASTFileLocation loc = stmt.getFileLocation();
+				if (loc != null && loc.getNodeOffset() <= oldEditEnd
+						&& editOffset <= loc.getNodeOffset() + loc.getNodeLength()) {
+					return null;
+				}
+			}
+		}
+
+		final BodyCollector collector = new BodyCollector(editOffset, oldEditEnd, newEditEnd - oldEditEnd);
+		ast.accept(collector);
+		if (collector.fConflict || !collector.fFoundEditedBody)
+			return null;
+		return new FunctionBodyReuse(collector.fBodies);
+	}
+
+	/**
+	 * Checks whether the given range of the contents may be changed without affecting the
+	 * tokenization of the rest of the file.
+	 */
+	private static boolean isLocalEdit(AbstractCharArray contents, int offset, int endOffset) {
+		for (int i = offset; i < endOffset; i++) {
+			switch (contents.get(i)) {
+			case '{':
+			case '}':
+			case '#':
+			case '"':
+			case '\'':
+			case '\\':
+			case '/':
+				return false;
+			case '*':
+				// Could combine with a slash outside of the edit to a comment delimiter.
+				if ((i == offset && i > 0 && contents.get(i - 1) == '/')
+						|| (i == endOffset - 1 && contents.isValidOffset(i + 1) && contents.get(i + 1) == '/')) {
+					return false;
+				}
+				break;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the length, in terms of sequence numbers, of the function body that started at the
+	 * same location in the previous version of the file, or <code>-1</code> if there is no such
+	 * body. The new body can only be reused if it has the same length.
+	 *
+	 * @param fileOffset the offset of the opening brace in the new contents of the file.
+	 */
+	int getSequenceLength(int fileOffset) {
+		Body body = fBodies.get(fileOffset);
+		return body == null ? -1 : body.fSequenceLength;
+	}
+
+	/**
+	 * Returns a copy of the function body that started at the same location in the previous
+	 * version of the file, moved to the given sequence number. Returns <code>null</code> if there
+	 * is no such body or if it cannot be copied.
+	 *
+	 * @param fileOffset the offset of the opening brace in the new contents of the file.
+	 * @param sequenceNumber the sequence number of the opening brace in the new AST.
+	 */
+	IASTCompoundStatement reuseBody(int fileOffset, int sequenceNumber) {
+		final Body body = fBodies.remove(fileOffset);
+		if (body == null)
+			return null;
+
+		final IASTCompoundStatement copy;
+		try {
+			copy = body.fStatement.copy(CopyStyle.withoutLocations);
+		} catch (UnsupportedOperationException e) {
+			return null;
+		}
+		final int shift = sequenceNumber - ((ASTNode) body.fStatement).getOffset();
+		if (shift != 0) {
+			copy.accept(new ASTGenericVisitor(true) {
+				@Override
+				protected int genericVisit(IASTNode node) {
+					final ASTNode n = (ASTNode) node;
+					n.setOffset(n.getOffset() + shift);
+					return PROCESS_CONTINUE;
+				}
+			});
+		}
+		fReusedCount++;
+		return copy;
+	}
+
+	/**
+	 * Returns the number of bodies that have been reused.
+	 */
+	public int getReusedCount() {
+		return fReusedCount;
+	}
+
+	private static final class BodyCollector extends ASTVisitor {
+		private final int fEditOffset;
+		private final int fEditEndOffset;
+		private final int fDelta;
+		final Map<Integer, Body> fBodies = new HashMap<>();
+		boolean fFoundEditedBody;
+		boolean fConflict;
+
+		BodyCollector(int editOffset, int editEndOffset, int delta) {
+			super(false);
+			shouldVisitDeclarations = true;
+			fEditOffset = editOffset;
+			fEditEndOffset = editEndOffset;
+			fDelta = delta;
+		}
+
+		@Override
+		public int visit(IASTDeclaration declaration) {
+			if (!(declaration instanceof IASTFunctionDefinition))
+				return PROCESS_CONTINUE;
+
+			// Nested function definitions are part of the enclosing body.
+			final IASTStatement body = ((IASTFunctionDefinition) declaration).getBody();
+			if (!(body instanceof IASTCompoundStatement) || !declaration.isActive()
+					|| !body.isPartOfTranslationUnitFile()) {
+				return PROCESS_SKIP;
+			}
+			final IASTNodeLocation[] locations = body.getNodeLocations();
+			if (locations.length != 1 || !(locations[0] instanceof IASTFileLocation))
+				return PROCESS_SKIP;
+
+			final IASTFileLocation loc = (IASTFileLocation) locations[0];
+			final int offset = loc.getNodeOffset();
+			final int endOffset = offset + loc.getNodeLength();
+			if (endOffset <= fEditOffset) {
+				fBodies.put(offset, new Body((IASTCompoundStatement) body));
+			} else if (offset >= fEditEndOffset) {
+				fBodies.put(offset + fDelta, new Body((IASTCompoundStatement) body));
+			} else if (offset < fEditOffset && fEditEndOffset < endOffset && !fFoundEditedBody) {
+				fFoundEditedBody = true;
+			} else {
+				fConflict = true;
+				return PROCESS_ABORT;
+			}
+			return PROCESS_SKIP;
+		}
+	}
+}
@@ -279,6 +279,7 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 	final private char[] fAdditionalNumericLiteralSuffixes;
 	final private CharArrayIntMap fKeywords;
 	final private CharArrayIntMap fPPKeywords;
+	private boolean fCacheIncludeGuards = true;
 	private final IncludeSearchPath fIncludeSearchPath;
 	private String[][] fPreIncludedFiles = null;
 
@@ -373,7 +374,9 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 
 	private char[] detectIncludeGuard(String filePath, AbstractCharArray source, ScannerContext ctx) {
 		if (!fFileContentProvider.shouldIndexAllHeaderVersions(filePath)) {
-			final char[] guard = IncludeGuardDetection.detectIncludeGuard(source, fLexOptions, fPPKeywords);
+			final char[] guard = fCacheIncludeGuards
+					? IncludeGuardCache.getDefault().detectIncludeGuard(source, fLexOptions, fPPKeywords)
+					: IncludeGuardDetection.detectIncludeGuard(source, fLexOptions, fPPKeywords);
 			if (guard != null) {
 				IFileNomination nom = fLocationMap.reportPragmaOnceSemantics(ctx.getLocationCtx());
 				fFileContentProvider.reportPragmaOnceSemantics(filePath, nom);
@@ -462,6 +465,8 @@ public class CPreprocessor implements ILexerLog, IScanner, IAdaptable {
 		additionalKeywords = configuration.getAdditionalPreprocessorKeywords();
 		if (additionalKeywords != null) {
 			fPPKeywords.putAll(additionalKeywords);
+			// The shared cache assumes the standard preprocessor keywords.
+			fCacheIncludeGuards = false;
 		}
 	}
 
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.parser.scanner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import org.eclipse.cdt.core.parser.util.CharArrayIntMap;
+import org.eclipse.cdt.internal.core.parser.scanner.Lexer.LexerOptions;
+import org.eclipse.cdt.internal.core.parser.util.LRUCache;
+
+/**
+ * Caches the results of {@link IncludeGuardDetection} for file contents. Detecting an include guard
+ * requires lexing the entire file, with the cache this is done once per version of a file, rather
+ * than once per translation unit including it. The entries are keyed by the hash of the file
+ * content, such that the cache is shared by all parsers of the process and can be saved to disk.
+ */
+public final class IncludeGuardCache {
+	private static final int VERSION = 1;
+	private static final int MAX_ENTRIES = 50000;
+	private static final char[] NO_GUARD = {};
+	private static final IncludeGuardCache INSTANCE = new IncludeGuardCache(MAX_ENTRIES);
+
+	private static final class Key {
+		final long fHash;
+		final int fLength;
+		final int fOptions;
+
+		Key(long hash, int length, int options) {
+			fHash = hash;
+			fLength = length;
+			fOptions = options;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(fHash) * 31 + fLength;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return fHash == other.fHash && fLength == other.fLength && fOptions == other.fOptions;
+		}
+	}
+
+	private final Map<Key, char[]> fCache;
+	private int fHits;
+	private int fMisses;
+
+	public static IncludeGuardCache getDefault() {
+		return INSTANCE;
+	}
+
+	public IncludeGuardCache(int maxEntries) {
+		fCache = new LRUCache<>(maxEntries);
+	}
+
+	/**
+	 * Returns the include guard of the given content, or <code>null</code> if it has none.
+	 * @see IncludeGuardDetection#detectIncludeGuard(AbstractCharArray, LexerOptions, CharArrayIntMap)
+	 */
+	public char[] detectIncludeGuard(AbstractCharArray content, LexerOptions lexOptions, CharArrayIntMap ppKeywords) {
+		if (content.hasError() || !content.isValidOffset(0)) {
+			return IncludeGuardDetection.detectIncludeGuard(content, lexOptions, ppKeywords);
+		}
+		final Key key = new Key(content.getContentsHash(), content.getLength(), getOptionBits(lexOptions));
+		char[] guard;
+		synchronized (this) {
+			guard = fCache.get(key);
+			if (guard != null) {
+				fHits++;
+				return guard == NO_GUARD ? null : guard;
+			}
+			fMisses++;
+		}
+		guard = IncludeGuardDetection.detectIncludeGuard(content, lexOptions, ppKeywords);
+		synchronized (this) {
+			fCache.put(key, guard == null ? NO_GUARD : guard);
+		}
+		return guard;
+	}
+
+	/**
+	 * The lexer options that may influence the detection of an include guard.
+	 */
+	private static int getOptionBits(LexerOptions options) {
+		int bits = 0;
+		if (options.fSupportDollarInIdentifiers)
+			bits |= 0x1;
+		if (options.fSupportAtSignInIdentifiers)
+			bits |= 0x2;
+		if (options.fSupportMinAndMax)
+			bits |= 0x4;
+		if (options.fSupportSlashPercentComments)
+			bits |= 0x8;
+		if (options.fSupportUTFLiterals)
+			bits |= 0x10;
+		if (options.fSupportRawStringLiterals)
+			bits |= 0x20;
+		if (options.fSupportUserDefinedLiterals)
+			bits |= 0x40;
+		if (options.fSupportDigitSeparators)
+			bits |= 0x80;
+		if (options.fSupportThreeWayComparisonOperator)
+			bits |= 0x100;
+		return bits;
+	}
+
+	public synchronized int size() {
+		return fCache.size();
+	}
+
+	public synchronized int getHitCount() {
+		return fHits;
+	}
+
+	public synchronized int getMissCount() {
+		return fMisses;
+	}
+
+	public synchronized void clear() {
+		fCache.clear();
+		fHits = fMisses = 0;
+	}
+
+	/**
+	 * Adds the entries stored in the given file to the cache. A missing file or a file in an
+	 * outdated format is ignored.
+	 */
+	public void load(File file) throws IOException {
+		if (!file.isFile())
+			return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION)
+				return;
+			final int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				final long hash = in.readLong();
+				final int length = in.readInt();
+				final int options = in.readInt();
+				final int guardLength = in.readInt();
+				char[] guard = NO_GUARD;
+				if (guardLength > 0) {
+					guard = new char[guardLength];
+					for (int j = 0; j < guardLength; j++) {
+						guard[j] = in.readChar();
+					}
+				}
+				synchronized (this) {
+					fCache.put(new Key(hash, length, options), guard);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the entries of the cache to the given file, from the least to the most recently used.
+	 */
+	public synchronized void save(File file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			out.writeInt(fCache.size());
+			for (Map.Entry<Key, char[]> entry : fCache.entrySet()) {
+				final Key key = entry.getKey();
+				final char[] guard = entry.getValue();
+				out.writeLong(key.fHash);
+				out.writeInt(key.fLength);
+				out.writeInt(key.fOptions);
+				out.writeInt(guard.length);
+				out.writeChars(new String(guard));
+			}
+		}
+	}
+}
@@ -22,6 +22,7 @@ import org.eclipse.cdt.core.index.IIndexMacro;
 import org.eclipse.cdt.core.model.ITranslationUnit;
 import org.eclipse.cdt.core.parser.FileContent;
 import org.eclipse.cdt.core.parser.ISignificantMacros;
+import org.eclipse.cdt.internal.core.dom.parser.FunctionBodyReuse;
 
 /**
  * Instructs the preprocessor on how to handle a file-inclusion.
@@ -73,6 +74,7 @@ public class InternalFileContent extends FileContent {
 	private final long fFileSize;
 	private final long fReadTime;
 	private final ISignificantMacros fSignificantMacros;
+	private FunctionBodyReuse fFunctionBodyReuse;
 
 	/**
 	 * For skipping include files.
@@ -303,6 +305,18 @@ public class InternalFileContent extends FileContent {
 		fFoundOnPath = isp;
 	}
 
+	/**
+	 * Returns the function bodies of a previous AST for this file that can be reused by the
+	 * parser, or <code>null</code>.
+	 */
+	public FunctionBodyReuse getFunctionBodyReuse() {
+		return fFunctionBodyReuse;
+	}
+
+	public void setFunctionBodyReuse(FunctionBodyReuse reuse) {
+		fFunctionBodyReuse = reuse;
+	}
+
 	/**
 	 * This method is slow. Use only for debugging.
 	 */
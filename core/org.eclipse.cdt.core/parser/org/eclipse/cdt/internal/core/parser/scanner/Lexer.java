@@ -96,6 +96,18 @@ final public class Lexer implements ITokenSequence {
 	private Token fToken;
 	private Token fLastToken;
 
+	// While skipping over tokens that are not handed out, the lexer recycles two tokens rather
+	// than creating a new one (with a copy of its image) for each preprocessor token. Two are
+	// needed, because the previous token has to stay intact while the next one is computed.
+	private boolean fDiscardTokens;
+	private Token[] fScratchTokens;
+	private int fScratchIndex;
+	// How the image of each scratch token is obtained, when it has to be handed out after all:
+	// the length of its image in the input, or one of NO_IMAGE and DIGRAPH_IMAGE.
+	private final int[] fScratchImageLengths = new int[2];
+	private static final int NO_IMAGE = -1;
+	private static final int DIGRAPH_IMAGE = -2;
+
 	// For the few cases where we have to lookahead more than one character
 	private int fMarkPhase3Offset;
 	private int fMarkPhase3EndOffset;
@@ -211,29 +223,34 @@ final public class Lexer implements ITokenSequence {
 	public final int consumeLine(int origin) throws OffsetLimitReachedException {
 		Token t = fToken;
 		Token lt = null;
-		while (true) {
-			switch (t.getType()) {
-			case IToken.tCOMPLETION:
-				if (lt != null) {
-					fLastToken = lt;
-				}
-				fToken = t;
-				throw new OffsetLimitReachedException(origin, t);
-			case IToken.tEND_OF_INPUT:
-				if (fSupportContentAssist) {
-					t.setType(IToken.tCOMPLETION);
+		startDiscardingTokens();
+		try {
+			while (true) {
+				switch (t.getType()) {
+				case IToken.tCOMPLETION:
+					if (lt != null) {
+						fLastToken = detach(lt);
+					}
+					fToken = t = detach(t);
 					throw new OffsetLimitReachedException(origin, t);
+				case IToken.tEND_OF_INPUT:
+					if (fSupportContentAssist) {
+						t.setType(IToken.tCOMPLETION);
+						throw new OffsetLimitReachedException(origin, t);
+					}
+					//$FALL-THROUGH$
+				case Lexer.tNEWLINE:
+					fToken = detach(t);
+					if (lt != null) {
+						fLastToken = detach(lt);
+					}
+					return getLastEndOffset();
 				}
-				//$FALL-THROUGH$
-			case Lexer.tNEWLINE:
-				fToken = t;
-				if (lt != null) {
-					fLastToken = lt;
-				}
-				return getLastEndOffset();
+				lt = t;
+				t = fetchRecycledToken();
 			}
-			lt = t;
-			t = fetchToken();
+		} finally {
+			fDiscardTokens = false;
 		}
 	}
 
@@ -245,20 +262,88 @@ final public class Lexer implements ITokenSequence {
 	public Token nextDirective() throws OffsetLimitReachedException {
 		Token t0;
 		Token t1 = fToken;
-		for (;;) {
-			t0 = t1;
-			t1 = fetchToken();
-			final int tt1 = t1.getType();
-			if (tt1 == IToken.tEND_OF_INPUT || tt1 == IToken.tCOMPLETION)
-				break;
-			if (tt1 == IToken.tPOUND) {
-				final int tt0 = t0.getType();
-				if (tt0 == tNEWLINE || tt0 == tBEFORE_INPUT)
+		startDiscardingTokens();
+		try {
+			for (;;) {
+				t0 = t1;
+				t1 = fetchRecycledToken();
+				final int tt1 = t1.getType();
+				if (tt1 == IToken.tEND_OF_INPUT || tt1 == IToken.tCOMPLETION)
 					break;
+				if (tt1 == IToken.tPOUND) {
+					final int tt0 = t0.getType();
+					if (tt0 == tNEWLINE || tt0 == tBEFORE_INPUT)
+						break;
+				}
 			}
+		} finally {
+			fDiscardTokens = false;
 		}
-		fLastToken = t0;
-		return fToken = t1;
+		fLastToken = detach(t0);
+		return fToken = detach(t1);
+	}
+
+	/**
+	 * Causes the lexer to recycle tokens until {@link #fDiscardTokens} is reset. Tokens obtained
+	 * in this mode must not be handed out without calling {@link #detach(Token)}. In content assist
+	 * mode tokens may be passed on with an {@link OffsetLimitReachedException}, therefore they are
+	 * not recycled.
+	 */
+	private void startDiscardingTokens() {
+		if (!fSupportContentAssist) {
+			if (fScratchTokens == null) {
+				fScratchTokens = new Token[] { new Token(0, fSource, 0, 0), new Token(0, fSource, 0, 0) };
+			}
+			fDiscardTokens = true;
+		}
+	}
+
+	/**
+	 * Returns a token that can be handed out, copying the token if it is recycled by the lexer.
+	 */
+	private Token detach(Token t) {
+		if (fScratchTokens != null) {
+			for (int i = 0; i < fScratchTokens.length; i++) {
+				if (t == fScratchTokens[i]) {
+					return copyScratchToken(t, fScratchImageLengths[i]);
+				}
+			}
+		}
+		return t;
+	}
+
+	/**
+	 * Creates the token that would have been created if the lexer had not been recycling tokens.
+	 */
+	private Token copyScratchToken(Token t, int imageLength) {
+		final int kind = t.getType();
+		final int offset = t.getOffset();
+		final int endOffset = t.getEndOffset();
+		switch (imageLength) {
+		case NO_IMAGE:
+			return new Token(kind, fSource, offset, endOffset);
+		case DIGRAPH_IMAGE:
+			return new TokenForDigraph(kind, fSource, offset, endOffset);
+		default:
+			return new TokenWithImage(kind, fSource, offset, endOffset, getCharImage(offset, endOffset, imageLength));
+		}
+	}
+
+	/**
+	 * Computes the next token in a way that does not overwrite a recycled token returned by the
+	 * previous call.
+	 */
+	private Token fetchRecycledToken() throws OffsetLimitReachedException {
+		fScratchIndex ^= 1;
+		return fetchToken();
+	}
+
+	private Token scratchToken(int kind, int offset, int endOffset, int imageLength) {
+		fScratchImageLengths[fScratchIndex] = imageLength;
+		final Token t = fScratchTokens[fScratchIndex];
+		t.setType(kind);
+		t.setOffset(offset, endOffset);
+		return t;
 	}
 
 	/**
@@ -721,15 +806,23 @@ final public class Lexer implements ITokenSequence {
 	}
 
 	private Token newToken(int kind, int offset) {
+		if (fDiscardTokens)
+			return scratchToken(kind, offset, fOffset, NO_IMAGE);
 		return new Token(kind, fSource, offset, fOffset);
 	}
 
 	private Token newDigraphToken(int kind, int offset) {
+		if (fDiscardTokens)
+			return scratchToken(kind, offset, fOffset, DIGRAPH_IMAGE);
 		return new TokenForDigraph(kind, fSource, offset, fOffset);
 	}
 
 	private Token newToken(final int kind, final int offset, final int imageLength) {
 		final int endOffset = fOffset;
+		if (fDiscardTokens) {
+			// The image is not needed for tokens that are skipped, unless the token is detached.
+			return scratchToken(kind, offset, endOffset, imageLength);
+		}
 		final int sourceLen = endOffset - offset;
 		char[] image;
 		if (sourceLen != imageLength) {
@@ -33,14 +33,20 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.dom.ILinkage;
 import org.eclipse.cdt.core.dom.IPDOMIndexerTask;
+import org.eclipse.cdt.core.dom.ast.ASTVisitor;
 import org.eclipse.cdt.core.dom.ast.IASTComment;
 import org.eclipse.cdt.core.dom.ast.IASTFileLocation;
+import org.eclipse.cdt.core.dom.ast.IASTName;
 import org.eclipse.cdt.core.dom.ast.IASTPreprocessorIncludeStatement;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit;
 import org.eclipse.cdt.core.dom.ast.IASTTranslationUnit.IDependencyTree;
@@ -312,6 +318,181 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		}
 	}
 
+	/**
+	 * A source file parsed by a {@link ParallelParser}.
+	 */
+	private static final class ParsedSource {
+		final Object fTu;
+		final IIndexFileLocation fLocation;
+		FileContent fCodeReader;
+		IASTTranslationUnit fAST;
+		Throwable fError;
+		long fParsingTime;
+		long fResolutionTime;
+
+		ParsedSource(Object tu, IIndexFileLocation location) {
+			fTu = tu;
+			fLocation = location;
+		}
+	}
+
+	/**
+	 * Parses source files with multiple threads and hands the ASTs to the thread running the
+	 * indexer task, which remains the only one writing to the index. The parser threads read
+	 * the index without holding a lock of their own, they rely on the read lock held by the
+	 * indexer task. While the indexer task writes to the index no parser thread is active.
+	 */
+	private final class ParallelParser {
+		private final int fLinkageID;
+		private final List<ParsedSource> fSources;
+		private final AtomicInteger fNextSource = new AtomicInteger();
+		private final BlockingQueue<ParsedSource> fParsed;
+		private final ReentrantReadWriteLock fParseLock = new ReentrantReadWriteLock(true);
+		private final Thread[] fThreads;
+		private volatile boolean fStopped;
+		private int fReturned;
+
+		ParallelParser(int linkageID, List<ParsedSource> sources, int threadCount) {
+			fLinkageID = linkageID;
+			fSources = sources;
+			fParsed = new ArrayBlockingQueue<>(threadCount);
+			fThreads = new Thread[threadCount];
+			for (int i = 0; i < threadCount; i++) {
+				// The content providers are not thread-safe, every thread uses its own one.
+				final InternalFileContentProvider fileContentProvider = createFileContentProvider(linkageID, null);
+				fThreads[i] = new Thread(() -> parseSources(fileContentProvider), "CDT Indexer Parser " + i); //$NON-NLS-1$
+				fThreads[i].setDaemon(true);
+			}
+		}
+
+		int getThreadCount() {
+			return fThreads.length;
+		}
+
+		void start() {
+			for (Thread thread : fThreads) {
+				thread.start();
+			}
+		}
+
+		/**
+		 * Returns the next parsed source or {@code null} if all sources have been returned. The
+		 * caller may write to the index until it calls this method again.
+		 */
+		ParsedSource next() throws InterruptedException {
+			if (fReturned == fSources.size())
+				return null;
+
+			long start = System.currentTimeMillis();
+			ParsedSource source = fParsed.poll();
+			if (source == null) {
+				if (fParseLock.isWriteLockedByCurrentThread())
+					fParseLock.writeLock().unlock();
+				source = fParsed.take();
+			}
+			if (!fParseLock.isWriteLockedByCurrentThread())
+				fParseLock.writeLock().lockInterruptibly();
+			fStatistics.fWriterWaitTime += System.currentTimeMillis() - start;
+			fReturned++;
+			return source;
+		}
+
+		/**
+		 * Stops parsing and waits for the parser threads to terminate. Parsed sources that have
+		 * not been returned by {@link #next()} are discarded.
+		 */
+		void stop() {
+			fStopped = true;
+			if (fParseLock.isWriteLockedByCurrentThread())
+				fParseLock.writeLock().unlock();
+			boolean interrupted = false;
+			for (Thread thread : fThreads) {
+				while (thread.isAlive()) {
+					// Unblock threads waiting for space in the queue.
+					fParsed.clear();
+					try {
+						thread.join(100);
+					} catch (InterruptedException e) {
+						// The parser threads must not outlive the read lock of the indexer task.
+						interrupted = true;
+					}
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+
+		private void parseSources(InternalFileContentProvider fileContentProvider) {
+			try {
+				int i;
+				while (!fStopped && (i = fNextSource.getAndIncrement()) < fSources.size()) {
+					ParsedSource source = fSources.get(i);
+					fParseLock.readLock().lock();
+					try {
+						parse(source, fileContentProvider);
+					} finally {
+						fParseLock.readLock().unlock();
+					}
+					// Wait for space in the queue without blocking the indexer task.
+					fParsed.put(source);
+				}
+			} catch (InterruptedException e) {
+				// Parsing was stopped.
+			}
+		}
+
+		private void parse(ParsedSource source, InternalFileContentProvider fileContentProvider) {
+			try {
+				final AbstractLanguage language;
+				final IScannerInfo scannerInfo;
+				synchronized (this) {
+					language = getLanguage(source.fTu, fLinkageID);
+					scannerInfo = getScannerInfo(fLinkageID, source.fTu);
+				}
+				source.fCodeReader = fResolver.getCodeReader(source.fTu);
+				if (source.fCodeReader == null || isTooLarge(source.fCodeReader))
+					return;
+
+				long start = System.currentTimeMillis();
+				source.fAST = language.getASTTranslationUnit(source.fCodeReader, scannerInfo, fileContentProvider,
+						fIndex, fASTOptions, getLogService());
+				source.fParsingTime = System.currentTimeMillis() - start;
+				if (source.fAST != null) {
+					start = System.currentTimeMillis();
+					resolveNames(source.fAST);
+					source.fResolutionTime = System.currentTimeMillis() - start;
+				}
+			} catch (Throwable e) {
+				source.fError = e;
+			}
+		}
+
+		/**
+		 * Resolves the names of the AST in advance, such that the indexer task finds the bindings
+		 * cached when writing the AST to the index. Problems are reported by the indexer task.
+		 */
+		private void resolveNames(IASTTranslationUnit ast) {
+			ast.accept(new ASTVisitor() {
+				{
+					shouldVisitNames = true;
+					shouldVisitImplicitNames = true;
+				}
+
+				@Override
+				public int visit(IASTName name) {
+					if (fStopped)
+						return PROCESS_ABORT;
+					try {
+						name.resolveBinding();
+					} catch (RuntimeException | StackOverflowError e) {
+						// Reported when the name is resolved for the index.
+					}
+					return PROCESS_CONTINUE;
+				}
+			});
+		}
+	}
+
 	protected enum MessageKind {
 		parsingFileTask, errorWhileParsing, tooManyIndexProblems
 	}
@@ -323,8 +504,10 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private Set<String> fHeadersToIndexAllVersions = Collections.emptySet();
 	private Pattern fPragmaPrivatePattern;
 	private List<LinkageTask> fRequestsPerLinkage = new ArrayList<>();
-	private Map<IIndexFile, IndexFileContent> fIndexContentCache = new LRUCache<>(500);
-	private Map<IIndexFileLocation, IIndexFragmentFile[]> fIndexFilesCache = new LRUCache<>(5000);
+	// The caches are accessed by the parser threads, see ParallelParser.
+	private Map<IIndexFile, IndexFileContent> fIndexContentCache = Collections.synchronizedMap(new LRUCache<>(500));
+	private Map<IIndexFileLocation, IIndexFragmentFile[]> fIndexFilesCache = Collections
+			.synchronizedMap(new LRUCache<>(5000));
 	private Map<IIndexFileLocation, LocationTask> fOneLinkageTasks = new HashMap<>();
 
 	private Object[] fFilesToUpdate;
@@ -338,6 +521,7 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	private long fTranslationUnitSizeLimit;
 	private long fIncludedFileSizeLimit;
 	private InternalFileContentProvider fCodeReaderFactory;
+	private int fParserThreads = 1;
 	private int fSwallowOutOfMemoryError = 5;
 	/**
 	 * A queue of urgent indexing tasks that contribute additional files to this task.
@@ -386,6 +570,16 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		fIncludedFileSizeLimit = includedFileSizeLimit;
 	}
 
+	/**
+	 * Sets the number of threads used for parsing source files. With more than one thread the
+	 * required sources are parsed concurrently, the results are still written to the index by
+	 * the thread running this task. The bindings of a parsed AST may be deleted when other files
+	 * are updated before it is written, so this is only safe for a task filling a cleared index.
+	 */
+	public final void setParserThreads(int threads) {
+		fParserThreads = Math.max(1, threads);
+	}
+
 	public void setIndexAllHeaderVersions(boolean indexAllHeaderVersions) {
 		fIndexAllHeaderVersions = indexAllHeaderVersions;
 	}
@@ -897,12 +1091,18 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 				continue;
 
 			// First parse the required sources.
+			Set<IIndexFileLocation> parsedInParallel = Collections.emptySet();
+			if (fParserThreads > 1) {
+				parsedInParallel = new HashSet<>();
+				if (!parseSourcesInParallel(linkageID, map, filesAtPriority, parsedInParallel, progress))
+					return;
+			}
 			for (Iterator<IIndexFileLocation> it = filesAtPriority.iterator(); it.hasNext();) {
 				IIndexFileLocation ifl = it.next();
 				LocationTask locTask = map.find(ifl);
 				if (locTask == null || locTask.isCompleted()) {
 					it.remove();
-				} else if (locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
+				} else if (locTask.fKind == UpdateKind.REQUIRED_SOURCE && !parsedInParallel.contains(ifl)) {
 					if (hasUrgentTasks())
 						return;
 					final Object tu = locTask.fTu;
@@ -979,6 +1179,110 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		}
 	}
 
+	/**
+	 * Parses the required sources among the given files with multiple threads, while this thread
+	 * writes the results to the index.
+	 *
+	 * @param parsed collects the locations of the sources that have been processed.
+	 * @return {@code false} if the work was interrupted by an urgent task.
+	 */
+	private boolean parseSourcesInParallel(int linkageID, LinkageTask map, List<IIndexFileLocation> files,
+			Set<IIndexFileLocation> parsed, SubMonitor progress) throws CoreException, InterruptedException {
+		List<ParsedSource> sources = new ArrayList<>();
+		for (IIndexFileLocation ifl : files) {
+			LocationTask locTask = map.find(ifl);
+			if (locTask != null && !locTask.isCompleted() && locTask.fKind == UpdateKind.REQUIRED_SOURCE) {
+				sources.add(new ParsedSource(locTask.fTu, ifl));
+			}
+		}
+		if (sources.size() < 2)
+			return true;
+		if (hasUrgentTasks())
+			return false;
+
+		ParallelParser parser = new ParallelParser(linkageID, sources, Math.min(fParserThreads, sources.size()));
+		fStatistics.fParserThreads = Math.max(fStatistics.fParserThreads, parser.getThreadCount());
+		parser.start();
+		try {
+			ParsedSource source;
+			while ((source = parser.next()) != null) {
+				parsed.add(source.fLocation);
+				long start = System.currentTimeMillis();
+				writeParsedSource(linkageID, source, progress.split(1));
+				fStatistics.fWriterBusyTime += System.currentTimeMillis() - start;
+				if (hasUrgentTasks())
+					return false;
+			}
+		} finally {
+			parser.stop();
+		}
+		return true;
+	}
+
+	/**
+	 * Writes a source file parsed by a {@link ParallelParser} to the index. The error handling
+	 * corresponds to the one of {@link #parseFile}.
+	 */
+	private void writeParsedSource(int linkageID, ParsedSource source, IProgressMonitor monitor)
+			throws CoreException, InterruptedException {
+		SubMonitor progress = SubMonitor.convert(monitor, 11);
+		boolean resultCacheCleared = false;
+		IPath path = getLabel(source.fLocation);
+		fStatistics.fParsingTime += source.fParsingTime;
+		fStatistics.fResolutionTime += source.fResolutionTime;
+		fStatistics.fParallelParsedCount++;
+		if (PDOMMetrics.sEnabled) {
+			PDOMMetrics.PARSE.addMillis(source.fParsingTime);
+			if (source.fAST != null) {
+				PDOMMetrics.RESOLVE.addMillis(source.fResolutionTime);
+			}
+		}
+		Throwable th = source.fError;
+		if (th == null) {
+			try {
+				if (fShowActivity) {
+					trace("Indexer: parsed " + path.toOSString() + " [" + source.fParsingTime + " ms]"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+				progress.subTask(getMessage(MessageKind.parsingFileTask, path.lastSegment(),
+						path.removeLastSegments(1).toString()));
+				if (source.fAST == null) {
+					++fStatistics.fTooManyTokensCount;
+				} else {
+					writeToIndex(linkageID, source.fAST, source.fCodeReader, null, true, progress.split(10));
+					resultCacheCleared = true; // The cache was cleared while writing to the index.
+				}
+			} catch (OperationCanceledException e) {
+			} catch (RuntimeException | StackOverflowError | CoreException | AssertionError e) {
+				th = e;
+			} catch (OutOfMemoryError e) {
+				if (--fSwallowOutOfMemoryError < 0)
+					throw e;
+				th = e;
+			}
+		} else if (th instanceof OperationCanceledException
+				|| th.getCause() instanceof DependsOnOutdatedFileException) {
+			// The file will be handled later on.
+			th = null;
+		} else if (th instanceof OutOfMemoryError) {
+			if (--fSwallowOutOfMemoryError < 0)
+				throw (OutOfMemoryError) th;
+		} else if (th instanceof Error && !(th instanceof StackOverflowError || th instanceof AssertionError)) {
+			throw (Error) th;
+		}
+		if (th != null) {
+			swallowError(path, th);
+		}
+
+		if (!resultCacheCleared) {
+			fIndex.acquireWriteLock(progress.split(1));
+			try {
+				fIndex.clearResultCache();
+			} finally {
+				fIndex.releaseWriteLock();
+			}
+		}
+	}
+
 	private void parseVersionInContext(int linkageID, LinkageTask map, IIndexFileLocation ifl,
 			final FileVersionTask versionTask, Object tu, LinkedHashSet<IIndexFile> safeGuard, IProgressMonitor monitor)
 			throws CoreException, InterruptedException {
@@ -1100,11 +1404,15 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 
 			long start = System.currentTimeMillis();
 			IASTTranslationUnit ast = createAST(lang, codeReader, scanInfo, fASTOptions, ctx, progress.split(10));
-			fStatistics.fParsingTime += System.currentTimeMillis() - start;
+			long parsingTime = System.currentTimeMillis() - start;
+			fStatistics.fParsingTime += parsingTime;
+			if (PDOMMetrics.sEnabled) {
+				PDOMMetrics.PARSE.addMillis(parsingTime);
+			}
 			if (ast == null) {
 				++fStatistics.fTooManyTokensCount;
 			} else {
-				writeToIndex(lang.getLinkageID(), ast, codeReader, ctx, progress.split(10));
+				writeToIndex(lang.getLinkageID(), ast, codeReader, ctx, false, progress.split(10));
 				resultCacheCleared = true; // The cache was cleared while writing to the index.
 			}
 			if (fShowActivity) {
@@ -1210,31 +1518,12 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 
 	private final IASTTranslationUnit createAST(AbstractLanguage language, FileContent codeReader,
 			IScannerInfo scanInfo, int options, FileContext ctx, IProgressMonitor monitor) throws CoreException {
-		if (codeReader == null) {
-			return null;
-		}
-		if (fTranslationUnitSizeLimit > 0
-				&& fResolver.getFileSize(codeReader.getFileLocation()) > fTranslationUnitSizeLimit) {
-			if (fShowActivity) {
-				trace("Indexer: Skipping large file " + codeReader.getFileLocation()); //$NON-NLS-1$
-			}
+		if (codeReader == null || isTooLarge(codeReader)) {
 			return null;
 		}
 		final IIndexFile[] ctx2header = ctx == null ? null : new IIndexFile[] { ctx.fContext, ctx.fOldFile };
 		if (fCodeReaderFactory == null) {
-			InternalFileContentProvider fileContentProvider = createInternalFileContentProvider();
-			if (fIsFastIndexer) {
-				IndexBasedFileContentProvider ibfcp = new IndexBasedFileContentProvider(fIndex, fResolver,
-						language.getLinkageID(), fileContentProvider, this);
-				ibfcp.setContextToHeaderGap(ctx2header);
-				ibfcp.setFileSizeLimit(fIncludedFileSizeLimit);
-				ibfcp.setHeadersToIndexAllVersions(fHeadersToIndexAllVersions);
-				ibfcp.setIndexAllHeaderVersions(fIndexAllHeaderVersions);
-				fCodeReaderFactory = ibfcp;
-			} else {
-				fCodeReaderFactory = fileContentProvider;
-			}
-			fCodeReaderFactory.setIncludeResolutionHeuristics(createIncludeHeuristics());
+			fCodeReaderFactory = createFileContentProvider(language.getLinkageID(), ctx2header);
 		} else if (fIsFastIndexer) {
 			final IndexBasedFileContentProvider ibfcp = (IndexBasedFileContentProvider) fCodeReaderFactory;
 			ibfcp.setContextToHeaderGap(ctx2header);
@@ -1249,6 +1538,32 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		return ast;
 	}
 
+	private boolean isTooLarge(FileContent codeReader) {
+		if (fTranslationUnitSizeLimit > 0
+				&& fResolver.getFileSize(codeReader.getFileLocation()) > fTranslationUnitSizeLimit) {
+			if (fShowActivity) {
+				trace("Indexer: Skipping large file " + codeReader.getFileLocation()); //$NON-NLS-1$
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private InternalFileContentProvider createFileContentProvider(int linkageID, IIndexFile[] ctx2header) {
+		InternalFileContentProvider fileContentProvider = createInternalFileContentProvider();
+		if (fIsFastIndexer) {
+			IndexBasedFileContentProvider ibfcp = new IndexBasedFileContentProvider(fIndex, fResolver, linkageID,
+					fileContentProvider, this);
+			ibfcp.setContextToHeaderGap(ctx2header);
+			ibfcp.setFileSizeLimit(fIncludedFileSizeLimit);
+			ibfcp.setHeadersToIndexAllVersions(fHeadersToIndexAllVersions);
+			ibfcp.setIndexAllHeaderVersions(fIndexAllHeaderVersions);
+			fileContentProvider = ibfcp;
+		}
+		fileContentProvider.setIncludeResolutionHeuristics(createIncludeHeuristics());
+		return fileContentProvider;
+	}
+
 	private InternalFileContentProvider createInternalFileContentProvider() {
 		final IncludeFileContentProvider fileContentProvider = createReaderFactory();
 		if (fileContentProvider instanceof InternalFileContentProvider)
@@ -1258,7 +1573,7 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 	}
 
 	private void writeToIndex(final int linkageID, IASTTranslationUnit ast, FileContent codeReader, FileContext ctx,
-			IProgressMonitor monitor) throws CoreException, InterruptedException {
+			boolean namesResolved, IProgressMonitor monitor) throws CoreException, InterruptedException {
 		SubMonitor progress = SubMonitor.convert(monitor, 3);
 		HashSet<FileContentKey> enteredFiles = new HashSet<>();
 		ArrayList<FileInAST> orderedFileKeys = new ArrayList<>();
@@ -1287,6 +1602,7 @@ public abstract class AbstractIndexerTask extends PDOMWriter {
 		try {
 			// The default processing is handled by the indexer task.
 			PDOMWriter.Data data = new PDOMWriter.Data(ast, fileKeys, fIndex);
+			data.fNamesResolved = namesResolved;
 			int storageLinkageID = process(ast, data);
 			if (storageLinkageID != ILinkage.NO_LINKAGE_ID) {
 				IASTComment[] comments = ast.getComments();
@@ -26,4 +26,9 @@ public class IndexerStatistics {
 	public int fPreprocessorProblemCount = 0;
 	public int fSyntaxProblemsCount = 0;
 	public int fTooManyTokensCount = 0;
+	// Parallel parsing, the parser and resolution times above are summed up over all parser threads.
+	public int fParserThreads = 1;
+	public int fParallelParsedCount = 0;
+	public int fWriterWaitTime = 0;
+	public int fWriterBusyTime = 0;
 }
@@ -311,10 +311,13 @@ public class PDOM extends PlatformObject implements IPDOM {
 	 *
 	 *  CDT 10.4 development
 	 *  220.0 - Changed marshalling of CPPBasicType to store new "from literal" flag, bug 573764
+	 *
+	 *  CDT 12.0 development
+	 *  221.0 - B-trees of bindings and macros store a prefix of the name next to each record
 	 */
-	private static final int MIN_SUPPORTED_VERSION = version(220, 0);
-	private static final int MAX_SUPPORTED_VERSION = version(220, Short.MAX_VALUE);
-	private static final int DEFAULT_VERSION = version(220, 0);
+	private static final int MIN_SUPPORTED_VERSION = version(221, 0);
+	private static final int MAX_SUPPORTED_VERSION = version(221, Short.MAX_VALUE);
+	private static final int DEFAULT_VERSION = version(221, 0);
 
 	private static int version(int major, int minor) {
 		return (major << 16) + minor;
@@ -438,6 +441,9 @@ public class PDOM extends PlatformObject implements IPDOM {
 			fLockDebugging = new HashMap<>();
 			System.out.println("Debugging PDOM Locks"); //$NON-NLS-1$
 		}
+		if (PDOMMetrics.sEnabled) {
+			PDOMMetrics.addDatabase(this);
+		}
 	}
 
 	/**
@@ -1011,7 +1017,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 
 	@Override
 	public void acquireReadLock() throws InterruptedException {
-		long t = sDEBUG_LOCKS ? System.nanoTime() : 0;
+		long t = sDEBUG_LOCKS || PDOMMetrics.sEnabled ? System.nanoTime() : 0;
 		synchronized (mutex) {
 			++waitingReaders;
 			try {
@@ -1023,6 +1029,9 @@ public class PDOM extends PlatformObject implements IPDOM {
 			++lockCount;
 			db.setLocked(true);
 
+			if (PDOMMetrics.sEnabled) {
+				PDOMMetrics.READ_LOCK_WAIT.add(System.nanoTime() - t);
+			}
 			if (sDEBUG_LOCKS) {
 				t = (System.nanoTime() - t) / 1000000;
 				if (t >= LONG_READ_LOCK_WAIT_REPORT_THRESHOLD) {
@@ -1073,6 +1082,7 @@ public class PDOM extends PlatformObject implements IPDOM {
 	 */
 	public void acquireWriteLock(int giveupReadLocks, IProgressMonitor monitor) throws InterruptedException {
 		assert !isPermanentlyReadOnly();
+		final long waitStart = PDOMMetrics.sEnabled ? System.nanoTime() : 0;
 		synchronized (mutex) {
 			if (sDEBUG_LOCKS) {
 				incWriteLock(giveupReadLocks);
@@ -1108,6 +1118,8 @@ public class PDOM extends PlatformObject implements IPDOM {
 			if (sDEBUG_LOCKS)
 				timeWriteLockAcquired = System.currentTimeMillis();
 			db.setExclusiveLock();
+			if (PDOMMetrics.sEnabled)
+				PDOMMetrics.WRITE_LOCK_WAIT.add(System.nanoTime() - waitStart);
 		}
 		if (monitor != null)
 			monitor.subTask(""); //$NON-NLS-1$
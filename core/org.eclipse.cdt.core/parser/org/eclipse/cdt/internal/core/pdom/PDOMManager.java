@@ -203,6 +203,8 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		PDOM.sDEBUG_LOCKS = Boolean.parseBoolean(Platform.getDebugOption(CCorePlugin.PLUGIN_ID + "/debug/index/locks")); //$NON-NLS-1$
 		IndexFileSet.sDEBUG = Boolean
 				.parseBoolean(Platform.getDebugOption(CCorePlugin.PLUGIN_ID + "/debug/index/IndexFileSet")); //$NON-NLS-1$
+		PDOMMetrics.sEnabled = Boolean
+				.parseBoolean(Platform.getDebugOption(CCorePlugin.PLUGIN_ID + "/debug/index/metrics")); //$NON-NLS-1$
 		addIndexerSetupParticipant(new WaitForRefreshJobs());
 		fProjectDescriptionListener = new CProjectDescriptionListener(this);
 		fJobChangeListener = new JobChangeListener(this);
@@ -214,6 +216,9 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 
 	public Job startup() {
 		fInShutDown = false;
+		if (PDOMMetrics.sEnabled) {
+			PDOMMetrics.register(this);
+		}
 		// Set path canonicalization strategy early on to avoid a race condition.
 		updatePathCanonicalizationStrategy();
 
@@ -286,6 +291,9 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 			jobToCancel.cancelJobs(null, true);
 		}
 		Job.getJobManager().removeJobChangeListener(fJobChangeListener);
+		if (PDOMMetrics.sEnabled) {
+			PDOMMetrics.unregister();
+		}
 	}
 
 	protected void onPreferenceChange(PreferenceChangeEvent event) {
@@ -754,6 +762,33 @@ public class PDOMManager implements IWritableIndexManager, IListener {
 		}
 	}
 
+	/**
+	 * Returns the number of indexer tasks that are running or waiting to be run.
+	 */
+	int getQueuedTaskCount() {
+		synchronized (fTaskQueue) {
+			return fTaskQueue.size() + (fCurrentTask != null ? 1 : 0);
+		}
+	}
+
+	/**
+	 * Returns the number of requested files that the queued and the running indexer tasks have
+	 * not indexed yet.
+	 */
+	int getRemainingFileCount() {
+		int count = 0;
+		synchronized (fTaskQueue) {
+			for (IPDOMIndexerTask task : fTaskQueue) {
+				count += task.getProgressInformation().fRequestedFilesCount;
+			}
+			if (fCurrentTask != null) {
+				final IndexerProgress info = fCurrentTask.getProgressInformation();
+				count += Math.max(0, info.fRequestedFilesCount - info.fCompletedSources - info.fPrimaryHeaderCount);
+			}
+		}
+		return count;
+	}
+
 	void addProject(final ICProject cproject) {
 		final String name = cproject.getProject().getName();
 		if (fTraceIndexerSetup) {
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.internal.core.pdom.db.Database;
+
+/**
+ * Metrics of the index for monitoring long running processes. The metrics are collected only when
+ * the tracing option <code>org.eclipse.cdt.core/debug/index/metrics</code> is set, otherwise the
+ * instrumented code merely checks {@link #isEnabled()}. While enabled, the metrics are published
+ * as MBean {@value #OBJECT_NAME} in the platform MBean server.
+ */
+public final class PDOMMetrics implements PDOMMetricsMBean {
+	public static final String OBJECT_NAME = "org.eclipse.cdt.core:type=IndexMetrics"; //$NON-NLS-1$
+
+	static volatile boolean sEnabled; // Initialized in the PDOMManager, read by the indexer threads.
+
+	/**
+	 * Accumulates the durations of an operation.
+	 */
+	public static final class Duration {
+		private final LongAdder fCount = new LongAdder();
+		private final LongAdder fTotal = new LongAdder();
+		private final LongAccumulator fMax = new LongAccumulator(Math::max, 0);
+
+		public void add(long nanos) {
+			fCount.increment();
+			fTotal.add(nanos);
+			fMax.accumulate(nanos);
+		}
+
+		public void addMillis(long millis) {
+			add(TimeUnit.MILLISECONDS.toNanos(millis));
+		}
+
+		public long getCount() {
+			return fCount.sum();
+		}
+
+		public double getTotalMillis() {
+			return fTotal.sum() / 1e6;
+		}
+
+		public double getMaxMillis() {
+			return fMax.get() / 1e6;
+		}
+
+		void reset() {
+			fCount.reset();
+			fTotal.reset();
+			fMax.reset();
+		}
+	}
+
+	/** Time spent waiting for a read lock on an index. */
+	public static final Duration READ_LOCK_WAIT = new Duration();
+	/** Time spent waiting for a write lock on an index. */
+	public static final Duration WRITE_LOCK_WAIT = new Duration();
+	/** Time the indexer holds the write lock before releasing or yielding it. */
+	public static final Duration INDEXER_LOCK_HOLD = new Duration();
+	/** Time for parsing a translation unit. */
+	public static final Duration PARSE = new Duration();
+	/** Time for resolving the names of a translation unit. */
+	public static final Duration RESOLVE = new Duration();
+	/** Time for writing a file to the index. */
+	public static final Duration WRITE = new Duration();
+
+	private static final LongAdder sIndexerLockYields = new LongAdder();
+	private static final Map<PDOM, Boolean> sDatabases = new WeakHashMap<>();
+	private static final Duration[] ALL_DURATIONS = { READ_LOCK_WAIT, WRITE_LOCK_WAIT, INDEXER_LOCK_HOLD, PARSE,
+			RESOLVE, WRITE };
+
+	private final PDOMManager fManager;
+
+	private PDOMMetrics(PDOMManager manager) {
+		fManager = manager;
+	}
+
+	/**
+	 * Returns whether metrics are collected.
+	 */
+	public static boolean isEnabled() {
+		return sEnabled;
+	}
+
+	/**
+	 * Turns the collection of metrics on or off, without publishing them. For testing purposes.
+	 */
+	public static void setEnabled(boolean enabled) {
+		sEnabled = enabled;
+	}
+
+	/**
+	 * Records that the indexer released its write lock in favor of waiting readers.
+	 */
+	public static void indexerLockYielded() {
+		sIndexerLockYields.increment();
+	}
+
+	/**
+	 * Includes the cache statistics of the given database, as long as it is in use.
+	 */
+	static void addDatabase(PDOM pdom) {
+		synchronized (sDatabases) {
+			sDatabases.put(pdom, Boolean.TRUE);
+		}
+	}
+
+	private static List<PDOM> getDatabases() {
+		synchronized (sDatabases) {
+			return new ArrayList<>(sDatabases.keySet());
+		}
+	}
+
+	static void register(PDOMManager manager) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new PDOMMetrics(manager), name);
+			}
+		} catch (JMException e) {
+			CCorePlugin.log(e);
+		}
+	}
+
+	static void unregister() {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(OBJECT_NAME);
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			CCorePlugin.log(e);
+		}
+	}
+
+	private static double ratio(long hits, long misses) {
+		final long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@Override
+	public long getReadLockWaitCount() {
+		return READ_LOCK_WAIT.getCount();
+	}
+
+	@Override
+	public double getReadLockWaitTotalMillis() {
+		return READ_LOCK_WAIT.getTotalMillis();
+	}
+
+	@Override
+	public double getReadLockWaitMaxMillis() {
+		return READ_LOCK_WAIT.getMaxMillis();
+	}
+
+	@Override
+	public long getWriteLockWaitCount() {
+		return WRITE_LOCK_WAIT.getCount();
+	}
+
+	@Override
+	public double getWriteLockWaitTotalMillis() {
+		return WRITE_LOCK_WAIT.getTotalMillis();
+	}
+
+	@Override
+	public double getWriteLockWaitMaxMillis() {
+		return WRITE_LOCK_WAIT.getMaxMillis();
+	}
+
+	@Override
+	public long getIndexerLockHoldCount() {
+		return INDEXER_LOCK_HOLD.getCount();
+	}
+
+	@Override
+	public double getIndexerLockHoldTotalMillis() {
+		return INDEXER_LOCK_HOLD.getTotalMillis();
+	}
+
+	@Override
+	public double getIndexerLockHoldMaxMillis() {
+		return INDEXER_LOCK_HOLD.getMaxMillis();
+	}
+
+	@Override
+	public long getIndexerLockYieldCount() {
+		return sIndexerLockYields.sum();
+	}
+
+	@Override
+	public long getParseCount() {
+		return PARSE.getCount();
+	}
+
+	@Override
+	public double getParseTotalMillis() {
+		return PARSE.getTotalMillis();
+	}
+
+	@Override
+	public double getParseMaxMillis() {
+		return PARSE.getMaxMillis();
+	}
+
+	@Override
+	public long getResolveCount() {
+		return RESOLVE.getCount();
+	}
+
+	@Override
+	public double getResolveTotalMillis() {
+		return RESOLVE.getTotalMillis();
+	}
+
+	@Override
+	public double getResolveMaxMillis() {
+		return RESOLVE.getMaxMillis();
+	}
+
+	@Override
+	public long getWriteCount() {
+		return WRITE.getCount();
+	}
+
+	@Override
+	public double getWriteTotalMillis() {
+		return WRITE.getTotalMillis();
+	}
+
+	@Override
+	public double getWriteMaxMillis() {
+		return WRITE.getMaxMillis();
+	}
+
+	@Override
+	public double getChunkCacheHitRatio() {
+		long hits = 0, misses = 0;
+		for (PDOM pdom : getDatabases()) {
+			final Database db = pdom.getDB();
+			hits += db.getCacheHits();
+			misses += db.getCacheMisses();
+		}
+		return ratio(hits, misses);
+	}
+
+	@Override
+	public double getStringCacheHitRatio() {
+		long hits = 0, misses = 0;
+		for (PDOM pdom : getDatabases()) {
+			final Database db = pdom.getDB();
+			hits += db.getStringCacheHits();
+			misses += db.getStringCacheMisses();
+		}
+		return ratio(hits, misses);
+	}
+
+	@Override
+	public String[] getDatabaseStatistics() {
+		List<String> result = new ArrayList<>();
+		for (PDOM pdom : getDatabases()) {
+			final Database db = pdom.getDB();
+			result.add(String.format("%s: chunk cache %d hits, %d misses (%.1f%%), string cache %d hits, %d misses", //$NON-NLS-1$
+					pdom.getPath().getName(), db.getCacheHits(), db.getCacheMisses(),
+					100 * ratio(db.getCacheHits(), db.getCacheMisses()), db.getStringCacheHits(),
+					db.getStringCacheMisses()));
+		}
+		return result.toArray(new String[result.size()]);
+	}
+
+	@Override
+	public int getQueuedTaskCount() {
+		return fManager.getQueuedTaskCount();
+	}
+
+	@Override
+	public int getRemainingFileCount() {
+		return fManager.getRemainingFileCount();
+	}
+
+	@Override
+	public void reset() {
+		for (Duration duration : ALL_DURATIONS) {
+			duration.reset();
+		}
+		sIndexerLockYields.reset();
+	}
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom;
+
+/**
+ * Management interface of the index metrics, see {@link PDOMMetrics}. Durations are reported in
+ * milliseconds.
+ */
+public interface PDOMMetricsMBean {
+	long getReadLockWaitCount();
+
+	double getReadLockWaitTotalMillis();
+
+	double getReadLockWaitMaxMillis();
+
+	long getWriteLockWaitCount();
+
+	double getWriteLockWaitTotalMillis();
+
+	double getWriteLockWaitMaxMillis();
+
+	long getIndexerLockHoldCount();
+
+	double getIndexerLockHoldTotalMillis();
+
+	double getIndexerLockHoldMaxMillis();
+
+	/**
+	 * Returns how often the indexer released its write lock in favor of waiting readers.
+	 */
+	long getIndexerLockYieldCount();
+
+	long getParseCount();
+
+	double getParseTotalMillis();
+
+	double getParseMaxMillis();
+
+	long getResolveCount();
+
+	double getResolveTotalMillis();
+
+	double getResolveMaxMillis();
+
+	long getWriteCount();
+
+	double getWriteTotalMillis();
+
+	double getWriteMaxMillis();
+
+	/**
+	 * Returns the ratio of chunk requests served from the cache over all open databases.
+	 */
+	double getChunkCacheHitRatio();
+
+	/**
+	 * Returns the ratio of string requests served from the string caches over all open databases.
+	 */
+	double getStringCacheHitRatio();
+
+	/**
+	 * Returns a line with the cache statistics for each open database.
+	 */
+	String[] getDatabaseStatistics();
+
+	/**
+	 * Returns the number of indexer tasks that are running or waiting to be run.
+	 */
+	int getQueuedTaskCount();
+
+	/**
+	 * Returns the number of files that the indexer tasks have yet to index.
+	 */
+	int getRemainingFileCount();
+
+	/**
+	 * Resets all durations and counters.
+	 */
+	void reset();
+}
@@ -161,6 +161,7 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 		final Set<IASTPreprocessorIncludeStatement> fContextIncludes = new HashSet<>();
 		final List<IStatus> fStatuses = new ArrayList<>();
 		Map<String, String> fReplacementHeaders; // Replacement headers keyed by file paths.
+		boolean fNamesResolved; // Names resolved in advance by a parser thread, which accounts for the time.
 
 		public Data(IASTTranslationUnit ast, FileInAST[] selectedFiles, IWritableIndex index) {
 			fAST = ast;
@@ -371,6 +372,9 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 							fileInAST.fileContentKey.getLocation().getURI().getPath()), th));
 				}
 				fStatistics.fAddToIndexTime += lock.getCumulativeLockTime();
+				if (PDOMMetrics.sEnabled) {
+					PDOMMetrics.WRITE.addMillis(lock.getCumulativeLockTime());
+				}
 			}
 		}
 	}
@@ -457,7 +461,13 @@ public abstract class PDOMWriter implements IPDOMASTProcessor {
 			}
 		}
 
-		fStatistics.fResolutionTime += System.currentTimeMillis() - start;
+		if (!data.fNamesResolved) {
+			long resolutionTime = System.currentTimeMillis() - start;
+			fStatistics.fResolutionTime += resolutionTime;
+			if (PDOMMetrics.sEnabled) {
+				PDOMMetrics.RESOLVE.addMillis(resolutionTime);
+			}
+		}
 	}
 
 	private boolean isVariableIndexed(ICPPVariable variable) {
@@ -50,8 +50,7 @@ public class YieldableIndexLock {
 	public void release() {
 		if (lastLockTime != 0) {
 			index.releaseWriteLock(flushIndex);
-			cumulativeLockTime += System.currentTimeMillis() - lastLockTime;
-			lastLockTime = 0;
+			addLockTime();
 		}
 	}
 
@@ -62,8 +61,10 @@ public class YieldableIndexLock {
 	public void yield() throws FailedToReAcquireLockException {
 		if (index.hasWaitingReaders()) {
 			index.releaseWriteLock(false);
-			cumulativeLockTime += System.currentTimeMillis() - lastLockTime;
-			lastLockTime = 0;
+			addLockTime();
+			if (PDOMMetrics.sEnabled) {
+				PDOMMetrics.indexerLockYielded();
+			}
 			try {
 				acquire();
 			} catch (Throwable t) {
@@ -72,6 +73,15 @@ public class YieldableIndexLock {
 		}
 	}
 
+	private void addLockTime() {
+		final long lockTime = System.currentTimeMillis() - lastLockTime;
+		cumulativeLockTime += lockTime;
+		lastLockTime = 0;
+		if (PDOMMetrics.sEnabled) {
+			PDOMMetrics.INDEXER_LOCK_HOLD.addMillis(lockTime);
+		}
+	}
+
 	/**
 	 * @return Total time the lock was held in milliseconds.
 	 */
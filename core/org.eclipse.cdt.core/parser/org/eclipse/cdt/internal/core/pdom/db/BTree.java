@@ -90,6 +90,58 @@ public class BTree {
 		return chunk.getRecPtr(node + OFFSET_CHILDREN + index * Database.INT_SIZE);
 	}
 
+	/**
+	 * Returns the number of bytes allocated for a node.
+	 */
+	protected int getNodeSize() {
+		return (2 * MAX_RECORDS + 1) * Database.INT_SIZE;
+	}
+
+	/**
+	 * Returns the key prefix that is stored together with the record, see {@link PrefixBTree}.
+	 * The plain B-tree does not store key prefixes.
+	 */
+	protected long getKeyPrefix(long record) throws CoreException {
+		return 0;
+	}
+
+	/**
+	 * Stores a record together with its key prefix.
+	 */
+	protected void putRecord(Chunk chunk, long node, int index, long record, long keyPrefix) {
+		putRecord(chunk, node, index, record);
+	}
+
+	/**
+	 * Copies the record and its key prefix from one slot to another one.
+	 */
+	protected void moveRecord(Chunk srcChunk, long srcNode, int srcIndex, Chunk dstChunk, long dstNode,
+			int dstIndex) {
+		putRecord(dstChunk, dstNode, dstIndex, getRecord(srcChunk, srcNode, srcIndex));
+	}
+
+	/**
+	 * Compares the record stored in a slot of a node with the given one.
+	 *
+	 * @param storedRecord the record stored at the given index of the node
+	 * @param record the record to compare with
+	 * @param keyPrefix the key prefix of the record to compare with
+	 */
+	protected int compareRecord(Chunk chunk, long node, int index, long storedRecord, long record, long keyPrefix)
+			throws CoreException {
+		return cmp.compare(storedRecord, record);
+	}
+
+	/**
+	 * Compares the record stored in a slot of a node with the key of the visitor.
+	 *
+	 * @param storedRecord the record stored at the given index of the node
+	 */
+	protected int compareRecord(Chunk chunk, long node, int index, long storedRecord, IBTreeVisitor visitor)
+			throws CoreException {
+		return visitor.compare(storedRecord);
+	}
+
 	/**
 	 * Inserts the record into the b-tree. We don't insert if the key was already there,
 	 * in which case we return the record that matched. In other cases, we just return
@@ -106,10 +158,11 @@ public class BTree {
 			return record;
 		}
 
-		return insert(null, 0, 0, root, record);
+		return insert(null, 0, 0, root, record, getKeyPrefix(record));
 	}
 
-	private long insert(Chunk pChunk, long parent, int iParent, long node, long record) throws CoreException {
+	private long insert(Chunk pChunk, long parent, int iParent, long node, long record, long keyPrefix)
+			throws CoreException {
 		Chunk chunk = db.getChunk(node);
 
 		// If this node is full (last record isn't null), split it.
@@ -124,7 +177,7 @@ public class BTree {
 				long newnode = allocateNode();
 				Chunk newchunk = db.getChunk(newnode);
 				for (int i = 0; i < MEDIAN_RECORD; ++i) {
-					putRecord(newchunk, newnode, i, getRecord(chunk, node, MEDIAN_RECORD + 1 + i));
+					moveRecord(chunk, node, MEDIAN_RECORD + 1 + i, newchunk, newnode, i);
 					putRecord(chunk, node, MEDIAN_RECORD + 1 + i, 0);
 					putChild(newchunk, newnode, i, getChild(chunk, node, MEDIAN_RECORD + 1 + i));
 					putChild(chunk, node, MEDIAN_RECORD + 1 + i, 0);
@@ -143,18 +196,18 @@ public class BTree {
 					for (int i = MAX_RECORDS - 2; i >= iParent; --i) {
 						long r = getRecord(pChunk, parent, i);
 						if (r != 0) {
-							putRecord(pChunk, parent, i + 1, r);
+							moveRecord(pChunk, parent, i, pChunk, parent, i + 1);
 							putChild(pChunk, parent, i + 2, getChild(pChunk, parent, i + 1));
 						}
 					}
 				}
-				putRecord(pChunk, parent, iParent, median);
+				moveRecord(chunk, node, MEDIAN_RECORD, pChunk, parent, iParent);
 				putChild(pChunk, parent, iParent + 1, newnode);
 
 				putRecord(chunk, node, MEDIAN_RECORD, 0);
 
 				// Set the node to the correct one to follow.
-				if (cmp.compare(record, median) > 0) {
+				if (compareRecord(pChunk, parent, iParent, median, record, keyPrefix) < 0) {
 					node = newnode;
 					chunk = newchunk;
 				}
@@ -174,7 +227,7 @@ public class BTree {
 			if (checkRec == 0) {
 				upper = middle;
 			} else {
-				int compare = cmp.compare(checkRec, record);
+				int compare = compareRecord(chunk, node, middle, checkRec, record, keyPrefix);
 				if (compare > 0) {
 					upper = middle;
 				} else if (compare < 0) {
@@ -189,16 +242,16 @@ public class BTree {
 		long child = getChild(chunk, node, i);
 		if (child != 0) {
 			// Visit the children.
-			return insert(chunk, node, i, child, record);
+			return insert(chunk, node, i, child, record, keyPrefix);
 		} else {
 			// We are at the leaf, add us in.
 			// First copy everything after over one.
 			for (int j = MAX_RECORDS - 2; j >= i; --j) {
 				long r = getRecord(chunk, node, j);
 				if (r != 0)
-					putRecord(chunk, node, j + 1, r);
+					moveRecord(chunk, node, j, chunk, node, j + 1);
 			}
-			putRecord(chunk, node, i, record);
+			putRecord(chunk, node, i, record, keyPrefix);
 			return record;
 		}
 	}
@@ -208,11 +261,11 @@ public class BTree {
 		long root = allocateNode();
 		db.putRecPtr(rootPointer, root);
 		// Put the record in the first slot of the node.
-		putRecord(db.getChunk(root), root, 0, record);
+		putRecord(db.getChunk(root), root, 0, record, getKeyPrefix(record));
 	}
 
 	private long allocateNode() throws CoreException {
-		return db.malloc((2 * MAX_RECORDS + 1) * Database.INT_SIZE);
+		return db.malloc(getNodeSize());
 	}
 
 	/**
@@ -231,7 +284,7 @@ public class BTree {
 	 */
 	public void delete(long record) throws CoreException {
 		try {
-			deleteImp(record, getRoot(), DELMODE_NORMAL);
+			deleteImp(record, getKeyPrefix(record), getRoot(), DELMODE_NORMAL);
 		} catch (BTreeKeyNotFoundException e) {
 			// Contract of this method is to NO-OP upon this event.
 		}
@@ -280,6 +333,7 @@ public class BTree {
 	 * This implements a single downward pass (with minor exceptions) deletion
 	 * <p>
 	 * @param key the address of the record to delete
+	 * @param keyPrefix the key prefix of the record to delete
 	 * @param nodeRecord a node that (directly or indirectly) contains the specified key/record
 	 * @param mode one of DELMODE_NORMAL, DELMODE_DELETE_MINIMUM, DELMODE_DELETE_MAXIMUM
 	 * 	where DELMODE_NORMAL: locates the specified key/record using the comparator provided
@@ -289,7 +343,8 @@ public class BTree {
 	 * @return the address of the record removed from the B-tree
 	 * @throws CoreException
 	 */
-	private long deleteImp(long key, long nodeRecord, int mode) throws CoreException, BTreeKeyNotFoundException {
+	private long deleteImp(long key, long keyPrefix, long nodeRecord, int mode)
+			throws CoreException, BTreeKeyNotFoundException {
 		BTNode node = new BTNode(nodeRecord);
 
 		// Determine index of key in current node, or -1 if its not in this node.
@@ -327,16 +382,16 @@ public class BTree {
 				BTNode succ = node.getChild(keyIndexInNode + 1);
 				if (succ != null && succ.keyCount > MIN_RECORDS) {
 					/* Case 2a: Delete key by overwriting it with its successor (which occurs in a leaf node) */
-					long subst = deleteImp(-1, succ.node, DELMODE_DELETE_MINIMUM);
-					putRecord(node.chunk, node.node, keyIndexInNode, subst);
+					long subst = deleteImp(-1, 0, succ.node, DELMODE_DELETE_MINIMUM);
+					putRecord(node.chunk, node.node, keyIndexInNode, subst, getKeyPrefix(subst));
 					return key;
 				}
 
 				BTNode pred = node.getChild(keyIndexInNode);
 				if (pred != null && pred.keyCount > MIN_RECORDS) {
 					/* Case 2b: Delete key by overwriting it with its predecessor (which occurs in a leaf node) */
-					long subst = deleteImp(-1, pred.node, DELMODE_DELETE_MAXIMUM);
-					putRecord(node.chunk, node.node, keyIndexInNode, subst);
+					long subst = deleteImp(-1, 0, pred.node, DELMODE_DELETE_MAXIMUM);
+					putRecord(node.chunk, node.node, keyIndexInNode, subst, getKeyPrefix(subst));
 					return key;
 				}
 
@@ -344,7 +399,7 @@ public class BTree {
 				// assert(pred != null && succ != null);
 				if (pred != null) {
 					mergeNodes(succ, node, keyIndexInNode, pred);
-					return deleteImp(key, pred.node, mode);
+					return deleteImp(key, keyPrefix, pred.node, mode);
 				}
 				return key;
 			} else {
@@ -356,7 +411,8 @@ public class BTree {
 				case DELMODE_NORMAL:
 					subtreeIndex = node.keyCount;
 					for (int i = 0; i < node.keyCount; i++)
-						if (cmp.compare(getRecord(node.chunk, node.node, i), key) > 0) {
+						if (compareRecord(node.chunk, node.node, i, getRecord(node.chunk, node.node, i), key,
+								keyPrefix) > 0) {
 							subtreeIndex = i;
 							break;
 						}
@@ -379,41 +435,37 @@ public class BTree {
 				}
 
 				if (child.keyCount > MIN_RECORDS) {
-					return deleteImp(key, child.node, mode);
+					return deleteImp(key, keyPrefix, child.node, mode);
 				} else {
 					BTNode sibR = node.getChild(subtreeIndex + 1);
 					if (sibR != null && sibR.keyCount > MIN_RECORDS) {
 						/* Case 3a (i): child will underflow upon deletion, take a key from rightSibling */
-						long rightKey = getRecord(node.chunk, node.node, subtreeIndex);
-						long leftmostRightSiblingKey = getRecord(sibR.chunk, sibR.node, 0);
-						append(child, rightKey, getChild(sibR.chunk, sibR.node, 0));
+						append(child, node, subtreeIndex, getChild(sibR.chunk, sibR.node, 0));
+						moveRecord(sibR.chunk, sibR.node, 0, node.chunk, node.node, subtreeIndex);
 						nodeContentDelete(sibR, 0, 1);
-						putRecord(node.chunk, node.node, subtreeIndex, leftmostRightSiblingKey);
-						return deleteImp(key, child.node, mode);
+						return deleteImp(key, keyPrefix, child.node, mode);
 					}
 
 					BTNode sibL = node.getChild(subtreeIndex - 1);
 					if (sibL != null && sibL.keyCount > MIN_RECORDS) {
 						/* Case 3a (ii): child will underflow upon deletion, take a key from leftSibling */
-						long leftKey = getRecord(node.chunk, node.node, subtreeIndex - 1);
-						prepend(child, leftKey, getChild(sibL.chunk, sibL.node, sibL.keyCount));
-						long rightmostLeftSiblingKey = getRecord(sibL.chunk, sibL.node, sibL.keyCount - 1);
+						prepend(child, node, subtreeIndex - 1, getChild(sibL.chunk, sibL.node, sibL.keyCount));
+						moveRecord(sibL.chunk, sibL.node, sibL.keyCount - 1, node.chunk, node.node, subtreeIndex - 1);
 						putRecord(sibL.chunk, sibL.node, sibL.keyCount - 1, 0);
 						putChild(sibL.chunk, sibL.node, sibL.keyCount, 0);
-						putRecord(node.chunk, node.node, subtreeIndex - 1, rightmostLeftSiblingKey);
-						return deleteImp(key, child.node, mode);
+						return deleteImp(key, keyPrefix, child.node, mode);
 					}
 
 					/* Case 3b (i,ii): leftSibling, child, rightSibling all have minimum number of keys */
 
 					if (sibL != null) { // merge child into leftSibling
 						mergeNodes(child, node, subtreeIndex - 1, sibL);
-						return deleteImp(key, sibL.node, mode);
+						return deleteImp(key, keyPrefix, sibL.node, mode);
 					}
 
 					if (sibR != null) { // merge rightSibling into child
 						mergeNodes(sibR, node, subtreeIndex, child);
-						return deleteImp(key, child.node, mode);
+						return deleteImp(key, keyPrefix, child.node, mode);
 					}
 
 					throw new BTreeKeyNotFoundException(
@@ -435,12 +487,15 @@ public class BTree {
 	 */
 	public void mergeNodes(BTNode src, BTNode keyProvider, int kIndex, BTNode dst) throws CoreException {
 		nodeContentCopy(src, 0, dst, dst.keyCount + 1, src.keyCount + 1);
-		long midKey = getRecord(keyProvider.chunk, keyProvider.node, kIndex);
-		putRecord(dst.chunk, dst.node, dst.keyCount, midKey);
-		long keySucc = kIndex + 1 == MAX_RECORDS ? 0 : getRecord(keyProvider.chunk, keyProvider.node, kIndex + 1);
+		moveRecord(keyProvider.chunk, keyProvider.node, kIndex, dst.chunk, dst.node, dst.keyCount);
+		if (kIndex + 1 == MAX_RECORDS) {
+			putRecord(keyProvider.chunk, keyProvider.node, kIndex, 0);
+		} else {
+			moveRecord(keyProvider.chunk, keyProvider.node, kIndex + 1, keyProvider.chunk, keyProvider.node, kIndex);
+		}
+		long keySucc = getRecord(keyProvider.chunk, keyProvider.node, kIndex);
 		db.free(getChild(keyProvider.chunk, keyProvider.node, kIndex + 1));
 		nodeContentDelete(keyProvider, kIndex + 1, 1);
-		putRecord(keyProvider.chunk, keyProvider.node, kIndex, keySucc);
 		if (kIndex == 0 && keySucc == 0) {
 			/*
 			 * The root node is excused from the property that a node must have a least MIN keys
@@ -459,24 +514,26 @@ public class BTree {
 	 * Inserts the key and (its predecessor) child at the left side of the specified node. Bounds checking
 	 * is not performed.
 	 * @param node the node to prepend to
-	 * @param key the new leftmost (least) key
+	 * @param keyProvider the node that provides the new leftmost (least) key
+	 * @param kIndex the index of the key in the node <i>keyProvider</i>
 	 * @param child the new leftmost (least) subtree root
 	 */
-	private void prepend(BTNode node, long key, long child) {
+	private void prepend(BTNode node, BTNode keyProvider, int kIndex, long child) {
 		nodeContentCopy(node, 0, node, 1, node.keyCount + 1);
-		putRecord(node.chunk, node.node, 0, key);
+		moveRecord(keyProvider.chunk, keyProvider.node, kIndex, node.chunk, node.node, 0);
 		putChild(node.chunk, node.node, 0, child);
 	}
 
 	/**
 	 * Inserts the key and (its successor) child at the right side of the specified node. Bounds
 	 * checking is not performed.
-	 * @param node
-	 * @param key
-	 * @param child
+	 * @param node the node to append to
+	 * @param keyProvider the node that provides the new rightmost (greatest) key
+	 * @param kIndex the index of the key in the node <i>keyProvider</i>
+	 * @param child the new rightmost (greatest) subtree root
 	 */
-	private void append(BTNode node, long key, long child) {
-		putRecord(node.chunk, node.node, node.keyCount, key);
+	private void append(BTNode node, BTNode keyProvider, int kIndex, long child) {
+		moveRecord(keyProvider.chunk, keyProvider.node, kIndex, node.chunk, node.node, node.keyCount);
 		putChild(node.chunk, node.node, node.keyCount + 1, child);
 	}
 
@@ -502,8 +559,7 @@ public class BTree {
 				putChild(dst.chunk, dst.node, dstIndex, srcChild);
 
 				if (srcIndex < src.keyCount) {
-					long srcKey = getRecord(src.chunk, src.node, srcIndex);
-					putRecord(dst.chunk, dst.node, dstIndex, srcKey);
+					moveRecord(src.chunk, src.node, srcIndex, dst.chunk, dst.node, dstIndex);
 				}
 			}
 		}
@@ -520,10 +576,13 @@ public class BTree {
 	 */
 	private void nodeContentDelete(BTNode node, int i, int length) {
 		for (int index = i; index <= MAX_RECORDS; index++) {
-			long newKey = (index + length) < node.keyCount ? getRecord(node.chunk, node.node, index + length) : 0;
 			long newChild = (index + length) < node.keyCount + 1 ? getChild(node.chunk, node.node, index + length) : 0;
 			if (index < MAX_RECORDS) {
-				putRecord(node.chunk, node.node, index, newKey);
+				if ((index + length) < node.keyCount) {
+					moveRecord(node.chunk, node.node, index + length, node.chunk, node.node, index);
+				} else {
+					putRecord(node.chunk, node.node, index, 0);
+				}
 			}
 			if (index < MAX_CHILDREN) {
 				putChild(node.chunk, node.node, index, newChild);
@@ -566,7 +625,7 @@ public class BTree {
 				if (checkRec == 0) {
 					upper = middle;
 				} else {
-					int compare = visitor.compare(checkRec);
+					int compare = compareRecord(chunk, node, middle, checkRec, visitor);
 					if (compare >= 0) {
 						upper = middle;
 					} else {
@@ -582,7 +641,7 @@ public class BTree {
 				if (record == 0)
 					break;
 
-				int compare = visitor.compare(record);
+				int compare = compareRecord(chunk, node, i, record, visitor);
 				if (compare > 0) {
 					// Start point is to the left.
 					return accept(getChild(chunk, node, i), visitor);
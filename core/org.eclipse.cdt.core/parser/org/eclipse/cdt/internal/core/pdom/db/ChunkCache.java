@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2014 Wind River Systems, Inc. and others.
+ * Copyright (c) 2007, 2026 Wind River Systems, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,21 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.pdom.db;
 
+/**
+ * Cache for the chunks of one or more databases. The cache is divided into segments, each of
+ * which is managed with the CLOCK algorithm and guarded by its own lock. Chunks are assigned to
+ * segments by hashing the database and the chunk number, such that readers of different databases,
+ * or of different parts of one database, do not contend for a single lock.
+ * <p>
+ * Marking a chunk as recently used does not require a lock, see {@link #touch(Chunk)}.
+ */
 public final class ChunkCache {
 	private static ChunkCache sSharedInstance = new ChunkCache();
 
-	private Chunk[] fPageTable;
-	private boolean fTableIsFull;
-	private int fPointer;
+	private static final int MAX_SEGMENTS = 16;
+
+	private final Segment[] fSegments;
+	private final int fSegmentMask;
 
 	public static ChunkCache getSharedInstance() {
 		return sSharedInstance;
@@ -29,114 +38,213 @@ public final class ChunkCache {
 	}
 
 	public ChunkCache(long maxSize) {
-		fPageTable = new Chunk[computeLength(maxSize)];
+		this(maxSize, Runtime.getRuntime().availableProcessors());
 	}
 
-	public synchronized void add(Chunk chunk, boolean locked) {
-		if (locked) {
-			chunk.fLocked = true;
-		}
-		if (chunk.fCacheIndex >= 0) {
-			chunk.fCacheHitFlag = true;
-			return;
+	/**
+	 * Creates a cache with the given total size, divided into a number of segments that is
+	 * derived from the given concurrency. A small cache has fewer segments, such that every
+	 * segment can hold at least one chunk.
+	 * @param maxSize the total size of the chunks in bytes.
+	 * @param concurrency the expected number of threads accessing the cache concurrently.
+	 */
+	public ChunkCache(long maxSize, int concurrency) {
+		final long maxChunks = maxSize / Database.CHUNK_SIZE;
+		int nSegments = 1;
+		while (nSegments < concurrency && nSegments < MAX_SEGMENTS && 2L * nSegments <= maxChunks) {
+			nSegments <<= 1;
 		}
-		if (fTableIsFull) {
-			evictChunk();
-			chunk.fCacheIndex = fPointer;
-			fPageTable[fPointer] = chunk;
-		} else {
-			chunk.fCacheIndex = fPointer;
-			fPageTable[fPointer] = chunk;
-
-			fPointer++;
-			if (fPointer == fPageTable.length) {
-				fPointer = 0;
-				fTableIsFull = true;
-			}
+		fSegments = new Segment[nSegments];
+		fSegmentMask = nSegments - 1;
+		final int length = computeSegmentLength(maxSize);
+		for (int i = 0; i < nSegments; i++) {
+			fSegments[i] = new Segment(length);
 		}
 	}
 
+	private Segment segmentFor(Chunk chunk) {
+		int h = System.identityHashCode(chunk.fDatabase) * 31 + chunk.fSequenceNumber;
+		h ^= (h >>> 16);
+		return fSegments[h & fSegmentMask];
+	}
+
 	/**
-	 * Evicts a chunk from the page table and the chunk table.
-	 * After this method returns, {@link #fPointer}  will contain
-	 * the index of the evicted chunk within the page table.
+	 * Marks a cached chunk as recently used without acquiring a lock.
+	 * @return <code>false</code> if the chunk is not in the cache and needs to be added via
+	 *     {@link #add(Chunk, boolean)}.
 	 */
-	private void evictChunk() {
-		/*
-		 * Use the CLOCK algorithm to determine which chunk to evict.
-		 * i.e., if the chunk in the current slot of the page table has been
-		 * recently referenced (i.e. the reference flag is set), unset the
-		 * reference flag and move to the next slot.  Otherwise, evict the
-		 * chunk in the current slot.
-		 */
-		while (true) {
-			Chunk chunk = fPageTable[fPointer];
-			if (chunk.fCacheHitFlag) {
-				chunk.fCacheHitFlag = false;
-				fPointer = (fPointer + 1) % fPageTable.length;
-			} else {
-				chunk.fDatabase.releaseChunk(chunk);
-				chunk.fCacheIndex = -1;
-				fPageTable[fPointer] = null;
-				return;
-			}
+	boolean touch(Chunk chunk) {
+		// Reading a stale index is harmless: a chunk that was just evicted stays valid for the
+		// caller, a chunk that was just added is added again.
+		if (chunk.fCacheIndex < 0) {
+			return false;
 		}
+		chunk.fCacheHitFlag = true;
+		return true;
 	}
 
-	public synchronized void remove(Chunk chunk) {
-		final int idx = chunk.fCacheIndex;
-		if (idx >= 0) {
-			if (fTableIsFull) {
-				fPointer = fPageTable.length - 1;
-				fTableIsFull = false;
-			} else {
-				fPointer--;
+	public void add(Chunk chunk, boolean locked) {
+		final Segment segment = segmentFor(chunk);
+		synchronized (segment) {
+			segment.add(chunk, locked);
+		}
+	}
+
+	public void remove(Chunk chunk) {
+		final Segment segment = segmentFor(chunk);
+		synchronized (segment) {
+			segment.remove(chunk);
+		}
+	}
+
+	/**
+	 * Unlocks the chunk, it is released from its database in case it has been evicted from
+	 * the cache while it was locked.
+	 */
+	void unlock(Chunk chunk) {
+		final Segment segment = segmentFor(chunk);
+		synchronized (segment) {
+			chunk.fLocked = false;
+			if (chunk.fCacheIndex < 0) {
+				chunk.fDatabase.releaseChunk(chunk);
 			}
-			chunk.fCacheIndex = -1;
-			final Chunk move = fPageTable[fPointer];
-			fPageTable[idx] = move;
-			move.fCacheIndex = idx;
-			fPageTable[fPointer] = null;
 		}
 	}
 
 	/**
 	 * Returns the maximum size of the chunk cache in bytes.
 	 */
-	public synchronized long getMaxSize() {
-		return (long) fPageTable.length * Database.CHUNK_SIZE;
+	public long getMaxSize() {
+		long size = 0;
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				size += (long) segment.fPageTable.length * Database.CHUNK_SIZE;
+			}
+		}
+		return size;
 	}
 
 	/**
 	 * Clears the page table and changes it to hold chunks with
-	 * maximum total memory of <code>maxSize</code>.
+	 * maximum total memory of <code>maxSize</code>. The number of segments is not changed
+	 * and each of them holds at least one chunk, a smaller size is rounded up to the number
+	 * of segments times {@link Database#CHUNK_SIZE}, see {@link #getMaxSize()}.
 	 * @param maxSize the total size of the chunks in bytes.
 	 */
-	public synchronized void setMaxSize(long maxSize) {
-		final int newLength = computeLength(maxSize);
-		final int oldLength = fTableIsFull ? fPageTable.length : fPointer;
-		if (newLength > oldLength) {
-			Chunk[] newTable = new Chunk[newLength];
-			System.arraycopy(fPageTable, 0, newTable, 0, oldLength);
-			fTableIsFull = false;
-			fPointer = oldLength;
-			fPageTable = newTable;
-		} else {
-			for (int i = newLength; i < oldLength; i++) {
-				final Chunk chunk = fPageTable[i];
-				chunk.fDatabase.releaseChunk(chunk);
-				chunk.fCacheIndex = -1;
+	public void setMaxSize(long maxSize) {
+		final int newLength = computeSegmentLength(maxSize);
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				segment.setLength(newLength);
 			}
-			Chunk[] newTable = new Chunk[newLength];
-			System.arraycopy(fPageTable, 0, newTable, 0, newLength);
-			fTableIsFull = true;
-			fPointer = 0;
-			fPageTable = newTable;
 		}
 	}
 
-	private int computeLength(long maxSize) {
-		long maxLength = Math.min(maxSize / Database.CHUNK_SIZE, Integer.MAX_VALUE);
+	private int computeSegmentLength(long maxSize) {
+		long maxLength = Math.min(maxSize / Database.CHUNK_SIZE / fSegments.length, Integer.MAX_VALUE);
 		return Math.max(1, (int) maxLength);
 	}
+
+	/**
+	 * A part of the cache, all methods need to be called while holding the segment's monitor.
+	 */
+	private static final class Segment {
+		private Chunk[] fPageTable;
+		private boolean fTableIsFull;
+		private int fPointer;
+
+		Segment(int length) {
+			fPageTable = new Chunk[length];
+		}
+
+		void add(Chunk chunk, boolean locked) {
+			if (locked) {
+				chunk.fLocked = true;
+			}
+			if (chunk.fCacheIndex >= 0) {
+				chunk.fCacheHitFlag = true;
+				return;
+			}
+			if (fTableIsFull) {
+				evictChunk();
+				chunk.fCacheIndex = fPointer;
+				fPageTable[fPointer] = chunk;
+			} else {
+				chunk.fCacheIndex = fPointer;
+				fPageTable[fPointer] = chunk;
+
+				fPointer++;
+				if (fPointer == fPageTable.length) {
+					fPointer = 0;
+					fTableIsFull = true;
+				}
+			}
+		}
+
+		/**
+		 * Evicts a chunk from the page table and the chunk table.
+		 * After this method returns, {@link #fPointer}  will contain
+		 * the index of the evicted chunk within the page table.
+		 */
+		private void evictChunk() {
+			/*
+			 * Use the CLOCK algorithm to determine which chunk to evict.
+			 * i.e., if the chunk in the current slot of the page table has been
+			 * recently referenced (i.e. the reference flag is set), unset the
+			 * reference flag and move to the next slot.  Otherwise, evict the
+			 * chunk in the current slot.
+			 */
+			while (true) {
+				Chunk chunk = fPageTable[fPointer];
+				if (chunk.fCacheHitFlag) {
+					chunk.fCacheHitFlag = false;
+					fPointer = (fPointer + 1) % fPageTable.length;
+				} else {
+					chunk.fDatabase.releaseChunk(chunk);
+					chunk.fCacheIndex = -1;
+					fPageTable[fPointer] = null;
+					return;
+				}
+			}
+		}
+
+		void remove(Chunk chunk) {
+			final int idx = chunk.fCacheIndex;
+			if (idx >= 0) {
+				if (fTableIsFull) {
+					fPointer = fPageTable.length - 1;
+					fTableIsFull = false;
+				} else {
+					fPointer--;
+				}
+				chunk.fCacheIndex = -1;
+				final Chunk move = fPageTable[fPointer];
+				fPageTable[idx] = move;
+				move.fCacheIndex = idx;
+				fPageTable[fPointer] = null;
+			}
+		}
+
+		void setLength(int newLength) {
+			final int oldLength = fTableIsFull ? fPageTable.length : fPointer;
+			if (newLength > oldLength) {
+				Chunk[] newTable = new Chunk[newLength];
+				System.arraycopy(fPageTable, 0, newTable, 0, oldLength);
+				fTableIsFull = false;
+				fPointer = oldLength;
+				fPageTable = newTable;
+			} else {
+				for (int i = newLength; i < oldLength; i++) {
+					final Chunk chunk = fPageTable[i];
+					chunk.fDatabase.releaseChunk(chunk);
+					chunk.fCacheIndex = -1;
+				}
+				Chunk[] newTable = new Chunk[newLength];
+				System.arraycopy(fPageTable, 0, newTable, 0, newLength);
+				fTableIsFull = true;
+				fPointer = 0;
+				fPageTable = newTable;
+			}
+		}
+	}
 }
@@ -22,6 +22,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
@@ -99,6 +101,15 @@ public class Database {
 	private static final int BLOCK_PREV_OFFSET = BLOCK_HEADER_SIZE;
 	private static final int BLOCK_NEXT_OFFSET = BLOCK_HEADER_SIZE + INT_SIZE;
 
+	/**
+	 * When set, databases are read through a memory mapping of the file rather than through chunks
+	 * copied into the {@link ChunkCache}, see {@link MappedChunkStorage}.
+	 */
+	private static final boolean USE_MAPPED_STORAGE = Boolean.getBoolean("org.eclipse.cdt.core.parser.pdom.mmap"); //$NON-NLS-1$
+
+	/** Access to the elements of {@link #fChunks} with memory ordering. */
+	private static final VarHandle CHUNKS = MethodHandles.arrayElementVarHandle(Chunk[].class);
+
 	private final File fLocation;
 	private final boolean fReadOnly;
 	private RandomAccessFile fFile;
@@ -108,15 +119,25 @@ public class Database {
 
 	private int fVersion;
 	private final Chunk fHeaderChunk;
-	private Chunk[] fChunks;
+	/**
+	 * Chunks that are loaded, indexed by their sequence number. Readers access the elements
+	 * without holding a lock (see {@link #getChunk(long)}), modifications of the array require
+	 * {@link #fChunksLock}, except for the release of chunks evicted from the cache.
+	 */
+	private volatile Chunk[] fChunks;
+	private final Object fChunksLock = new Object();
 	private int fChunksUsed;
 	private int fChunksAllocated;
 	private ChunkCache fCache;
+	private final MappedChunkStorage fMappedStorage;
 
 	private long malloced;
 	private long freed;
+	// Not synchronized, counts are approximate when there are concurrent readers.
 	private long cacheHits;
 	private long cacheMisses;
+	private long stringCacheHits;
+	private long stringCacheMisses;
 
 	/** Soft reference wrapper to keep track of the record for disposed strings. */
 	private static class SoftStringRef extends SoftReference<IString> {
@@ -145,10 +166,26 @@ public class Database {
 	 * @throws CoreException
 	 */
 	public Database(File location, ChunkCache cache, int version, boolean openReadOnly) throws CoreException {
+		this(location, cache, version, openReadOnly, USE_MAPPED_STORAGE);
+	}
+
+	/**
+	 * Construct a new Database object, creating a backing file if necessary.
+	 * @param location the local file path for the database
+	 * @param cache the cache to be used optimization
+	 * @param version the version number to store in the database (only applicable for new databases)
+	 * @param openReadOnly whether this Database object will ever need writing to
+	 * @param mapped whether readers access the file through a memory mapping, in which case the
+	 *     cache is used for chunks being modified, only.
+	 * @throws CoreException
+	 */
+	public Database(File location, ChunkCache cache, int version, boolean openReadOnly, boolean mapped)
+			throws CoreException {
 		try {
 			fLocation = location;
 			fReadOnly = openReadOnly;
 			fCache = cache;
+			fMappedStorage = mapped ? new MappedChunkStorage() : null;
 			openFile();
 
 			int nChunksOnDisk = (int) (fFile.length() / CHUNK_SIZE);
@@ -174,6 +211,9 @@ public class Database {
 	}
 
 	void read(ByteBuffer buf, long position) throws IOException {
+		if (fMappedStorage != null && fMappedStorage.read(buf, position)) {
+			return;
+		}
 		int retries = 0;
 		do {
 			try {
@@ -212,9 +252,10 @@ public class Database {
 		final FileChannel from = fFile.getChannel();
 		long nRead = 0;
 		long position = 0;
-		long size = from.size();
+		// A mapped file may end with chunks that are no longer used.
+		long size = fMappedStorage != null ? Math.min(from.size(), getUsedSize()) : from.size();
 		while (position < size) {
-			nRead = from.transferTo(position, 4096 * 16, target);
+			nRead = from.transferTo(position, Math.min(4096 * 16, size - position), target);
 			if (nRead == 0) {
 				break; // Should not happen.
 			} else {
@@ -249,7 +290,12 @@ public class Database {
 		fChunksUsed = fChunksAllocated = fChunks.length;
 		try {
 			fHeaderChunk.flush(); // Zero out header chunk.
-			fFile.getChannel().truncate(CHUNK_SIZE); // Truncate database.
+			// A mapping cannot be released explicitly and would become invalid if the file was truncated
+			// under it. A mapped file keeps its length instead, its chunks are overwritten as the
+			// database grows again and the remainder is truncated when the database is closed.
+			if (fMappedStorage == null) {
+				fFile.getChannel().truncate(CHUNK_SIZE); // Truncate database.
+			}
 		} catch (IOException e) {
 			CCorePlugin.log(e);
 		}
@@ -274,7 +320,7 @@ public class Database {
 	}
 
 	private void removeChunksFromCache() {
-		synchronized (fCache) {
+		synchronized (fChunksLock) {
 			for (int i = 1; i < fChunks.length; i++) {
 				Chunk chunk = fChunks[i];
 				if (chunk != null) {
@@ -295,26 +341,85 @@ public class Database {
 		}
 		long long_index = offset / CHUNK_SIZE;
 		assert long_index < Integer.MAX_VALUE;
+		assert fLocked;
 
-		synchronized (fCache) {
-			assert fLocked;
-			final int index = (int) long_index;
-			if (index < 0 || index >= fChunks.length) {
-				databaseCorruptionDetected();
-			}
-			Chunk chunk = fChunks[index];
+		final int index = (int) long_index;
+		final Chunk[] chunks = fChunks;
+		if (index < 0 || index >= chunks.length) {
+			databaseCorruptionDetected();
+		}
+		// Lock-free path for readers hitting a cached chunk. Writers need to lock the chunk,
+		// which is done by the cache.
+		final Chunk chunk = (Chunk) CHUNKS.getAcquire(chunks, index);
+		if (chunk != null && !fExclusiveLock && fCache.touch(chunk)) {
+			cacheHits++;
+			return chunk;
+		}
+		return getChunkSlow(index);
+	}
+
+	private Chunk getChunkSlow(final int index) throws CoreException {
+		final boolean exclusive = fExclusiveLock;
+		while (true) {
+			Chunk chunk = (Chunk) CHUNKS.getAcquire(fChunks, index);
 			if (chunk == null) {
+				if (fMappedStorage != null && !exclusive) {
+					chunk = getMappedChunk(index);
+					if (chunk != null) {
+						cacheHits++;
+						return chunk;
+					}
+				}
 				cacheMisses++;
-				chunk = new Chunk(this, index);
-				chunk.read();
-				// Put the chunk in fChunks after it was read successfully.
-				fChunks[index] = chunk;
+				final Chunk newChunk = new Chunk(this, index);
+				newChunk.read();
+				// Put the chunk in fChunks after it was read successfully, unless another
+				// reader was faster.
+				synchronized (fChunksLock) {
+					chunk = fChunks[index];
+					if (chunk == null) {
+						chunk = newChunk;
+						CHUNKS.setRelease(fChunks, index, chunk);
+					}
+				}
 			} else {
 				cacheHits++;
 			}
-			fCache.add(chunk, fExclusiveLock);
-			return chunk;
+			fCache.add(chunk, exclusive);
+			if (!exclusive) {
+				return chunk;
+			}
+			// The chunk may have been evicted before the cache locked it, in which case it needs to
+			// be put back. Otherwise modifications would not be flushed.
+			synchronized (fChunksLock) {
+				final Chunk current = fChunks[index];
+				if (current == chunk) {
+					return chunk;
+				}
+				if (current == null) {
+					CHUNKS.setRelease(fChunks, index, chunk);
+					return chunk;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a chunk reading directly from the memory mapped file, or <code>null</code> if
+	 * the chunk has not been written to the file, yet.
+	 */
+	private Chunk getMappedChunk(int index) throws CoreException {
+		Chunk chunk = fMappedStorage.getChunk(this, index);
+		if (chunk == null && index < fChunksUsed) {
+			// The file may have grown since it was mapped.
+			try {
+				fMappedStorage.remap(fFile.getChannel());
+			} catch (IOException e) {
+				throw new CoreException(new DBStatus(e));
+			}
+			chunk = fMappedStorage.getChunk(this, index);
 		}
+		return chunk;
 	}
 
 	private void databaseCorruptionDetected() throws CoreException {
@@ -376,7 +481,7 @@ public class Database {
 
 	private long createNewChunk() throws CoreException {
 		assert fExclusiveLock;
-		synchronized (fCache) {
+		synchronized (fChunksLock) {
 			final int newChunkIndex = fChunksUsed; // fChunks.length;
 
 			final Chunk chunk = new Chunk(this, newChunkIndex);
@@ -391,7 +496,7 @@ public class Database {
 				fChunksAllocated += increment;
 			}
 			fChunksUsed += 1;
-			fChunks[newChunkIndex] = chunk;
+			CHUNKS.setRelease(fChunks, newChunkIndex, chunk);
 
 			fCache.add(chunk, true);
 			long address = (long) newChunkIndex * CHUNK_SIZE;
@@ -417,7 +522,7 @@ public class Database {
 	 */
 	private long createNewChunks(int numChunks) throws CoreException {
 		assert fExclusiveLock;
-		synchronized (fCache) {
+		synchronized (fChunksLock) {
 			final int oldLen = fChunks.length;
 			Chunk[] newchunks = new Chunk[oldLen + numChunks];
 			System.arraycopy(fChunks, 0, newchunks, 0, oldLen);
@@ -612,9 +717,11 @@ public class Database {
 		if (cachedStringReference != null) {
 			final IString cachedString = cachedStringReference.get();
 			if (cachedString != null) {
+				stringCacheHits++;
 				return cachedString; // string already cached, no need to re-retrieve it :-)
 			}
 		}
+		stringCacheMisses++;
 		final int l = getInt(offset);
 		int bytelen = l < 0 ? -l : 2 * l;
 		if (bytelen > ShortString.MAX_BYTE_LENGTH) {
@@ -672,8 +779,13 @@ public class Database {
 		// Chunks have been removed from the cache, so we are fine.
 		fHeaderChunk.clear(0, CHUNK_SIZE);
 		fHeaderChunk.fDirty = false;
+		final long usedSize = getUsedSize();
 		fChunks = new Chunk[] { null };
 		fChunksUsed = fChunksAllocated = fChunks.length;
+		if (fMappedStorage != null) {
+			fMappedStorage.unmap();
+			truncateUnusedChunks(usedSize);
+		}
 		try {
 			fFile.close();
 		} catch (IOException e) {
@@ -682,6 +794,33 @@ public class Database {
 		clearStringCache();
 	}
 
+	/**
+	 * Removes the chunks left behind by {@link #clear(int)} at the end of a mapped file. Otherwise
+	 * they would be counted as used when the file is opened again. The mapping has been dropped,
+	 * nothing reads from it any more.
+	 */
+	private void truncateUnusedChunks(long usedSize) {
+		if (fReadOnly) {
+			return;
+		}
+		try {
+			final FileChannel channel = fFile.getChannel();
+			if (channel.size() > usedSize) {
+				channel.truncate(usedSize);
+			}
+		} catch (IOException e) {
+			// Some platforms refuse to truncate a file until the mapped memory is garbage collected.
+			CCorePlugin.log(e);
+		}
+	}
+
+	/**
+	 * Returns the size of the chunks in use, a mapped file may be larger.
+	 */
+	private long getUsedSize() {
+		return (long) fChunksUsed * CHUNK_SIZE;
+	}
+
 	/**
 	 * This method is public for testing purposes only.
 	 */
@@ -690,11 +829,19 @@ public class Database {
 	}
 
 	/**
-	 * Called from any thread via the cache, protected by {@link #fCache}.
+	 * Called from any thread via the cache, while holding the lock of the cache segment that
+	 * contains the chunk.
 	 */
 	void releaseChunk(final Chunk chunk) {
 		if (!chunk.fLocked) {
-			fChunks[chunk.fSequenceNumber] = null;
+			final Chunk[] chunks = fChunks;
+			final int index = chunk.fSequenceNumber;
+			if (index < chunks.length) {
+				// Does not take fChunksLock, which is acquired before the cache's locks. Should the
+				// array be replaced concurrently, the chunk is simply added to the cache again on
+				// its next use.
+				CHUNKS.compareAndSet(chunks, index, chunk, null);
+			}
 		}
 	}
 
@@ -723,26 +870,20 @@ public class Database {
 		if (fExclusiveLock) {
 			try {
 				ArrayList<Chunk> dirtyChunks = new ArrayList<>();
-				synchronized (fCache) {
+				synchronized (fChunksLock) {
 					for (int i = 1; i < fChunksUsed; i++) {
 						Chunk chunk = fChunks[i];
 						if (chunk != null) {
-							if (chunk.fCacheIndex < 0) {
-								// Locked chunk that has been removed from cache.
-								if (chunk.fDirty) {
-									dirtyChunks.add(chunk); // Keep in fChunks until it is flushed.
-								} else {
-									chunk.fLocked = false;
-									fChunks[i] = null;
-								}
-							} else if (chunk.fLocked) {
-								// Locked chunk, still in cache.
+							if (chunk.fLocked) {
 								if (chunk.fDirty) {
-									if (flush) {
+									// Chunks that have been removed from cache are kept in fChunks until
+									// they are flushed.
+									if (flush || chunk.fCacheIndex < 0) {
 										dirtyChunks.add(chunk);
 									}
 								} else {
-									chunk.fLocked = false;
+									// Releases the chunk if it has been removed from the cache.
+									fCache.unlock(chunk);
 								}
 							} else {
 								assert !chunk.fDirty; // Dirty chunks must be locked.
@@ -771,7 +912,7 @@ public class Database {
 
 		// Be careful as other readers may access chunks concurrently.
 		ArrayList<Chunk> dirtyChunks = new ArrayList<>();
-		synchronized (fCache) {
+		synchronized (fChunksLock) {
 			for (int i = 1; i < fChunksUsed; i++) {
 				Chunk chunk = fChunks[i];
 				if (chunk != null && chunk.fDirty) {
@@ -794,7 +935,7 @@ public class Database {
 	}
 
 	private void flushAndUnlockChunks(final ArrayList<Chunk> dirtyChunks, boolean isComplete) throws CoreException {
-		assert !Thread.holdsLock(fCache);
+		assert !Thread.holdsLock(fChunksLock);
 		synchronized (fHeaderChunk) {
 			final boolean haveDirtyChunks = !dirtyChunks.isEmpty();
 			if (haveDirtyChunks || fHeaderChunk.fDirty) {
@@ -808,12 +949,9 @@ public class Database {
 				}
 
 				// Only after the chunks are flushed we may unlock and release them.
-				synchronized (fCache) {
+				synchronized (fChunksLock) {
 					for (Chunk chunk : dirtyChunks) {
-						chunk.fLocked = false;
-						if (chunk.fCacheIndex < 0) {
-							fChunks[chunk.fSequenceNumber] = null;
-						}
+						fCache.unlock(chunk);
 					}
 				}
 			}
@@ -842,6 +980,7 @@ public class Database {
 
 	public void resetCacheCounters() {
 		cacheHits = cacheMisses = 0;
+		stringCacheHits = stringCacheMisses = 0;
 	}
 
 	public long getCacheHits() {
@@ -852,9 +991,25 @@ public class Database {
 		return cacheMisses;
 	}
 
+	public long getStringCacheHits() {
+		return stringCacheHits;
+	}
+
+	public long getStringCacheMisses() {
+		return stringCacheMisses;
+	}
+
+	/**
+	 * Returns whether the database is read through a memory mapping of its file.
+	 */
+	public boolean isMapped() {
+		return fMappedStorage != null;
+	}
+
 	public long getSizeBytes() {
 		try {
-			return fFile.length();
+			final long length = fFile.length();
+			return fMappedStorage != null ? Math.min(length, getUsedSize()) : length;
 		} catch (IOException e) {
 		}
 		return 0;
@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Comparator for a {@link PrefixBTree}, additionally computes the normalized key prefix of a record.
+ */
+public interface IBTreePrefixComparator extends IBTreeComparator {
+	/**
+	 * Returns the normalized prefix of the key of the given record. Prefixes are compared as
+	 * unsigned numbers and the order must be compatible with {@link #compare(long, long)}: whenever
+	 * the prefix of record1 is less than the one of record2, record1 must be less than record2.
+	 */
+	public long getKeyPrefix(long record) throws CoreException;
+}
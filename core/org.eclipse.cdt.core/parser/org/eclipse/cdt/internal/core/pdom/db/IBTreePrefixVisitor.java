@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+/**
+ * A visitor that can compare the key prefixes stored in a {@link PrefixBTree} with its key.
+ * When visiting other B-trees the method is not called.
+ */
+public interface IBTreePrefixVisitor extends IBTreeVisitor {
+	/**
+	 * Compares the key prefix of a record against the internally held key. The comparison must
+	 * be compatible with {@link #compare(long)}.
+	 *
+	 * @param keyPrefix the key prefix of the record
+	 * @return -1 if record < key, 1 if record > key, 0 if the record itself has to be compared
+	 */
+	public int compareKeyPrefix(long keyPrefix);
+}
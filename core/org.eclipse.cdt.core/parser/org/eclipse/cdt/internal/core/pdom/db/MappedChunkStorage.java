@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+/**
+ * Read-only, memory-mapped view of the chunks of a database file. The file is mapped in
+ * segments of {@link #SEGMENT_SIZE} bytes, such that databases larger than the 2GB limit of
+ * a single mapping can be accessed. Only the part of the file that exists on disk is mapped,
+ * the mapping is extended on demand after the file has grown.
+ * <p>
+ * Chunks served from the mapping are never modified, writers continue to work on private copies
+ * managed by the {@link ChunkCache}. Changes become visible through the mapping once the copies
+ * have been flushed to the file.
+ */
+final class MappedChunkStorage {
+	/** Size of a mapped segment, must be a multiple of {@link Database#CHUNK_SIZE}. */
+	static final int SEGMENT_SIZE = 1 << 30;
+	private static final int CHUNKS_PER_SEGMENT = SEGMENT_SIZE / Database.CHUNK_SIZE;
+
+	private static final MappedByteBuffer[] NO_SEGMENTS = {};
+	private static final Chunk[] NO_CHUNKS = {};
+
+	private volatile MappedByteBuffer[] fSegments = NO_SEGMENTS;
+	/**
+	 * Chunks reading from the mapping, indexed by their sequence number and created on first use.
+	 * The length of the array is the number of mapped chunks. It is replaced after the segments,
+	 * such that the segment of every chunk it covers can be found.
+	 */
+	private volatile Chunk[] fChunks = NO_CHUNKS;
+
+	/**
+	 * Returns the number of chunks that can currently be accessed through the mapping.
+	 */
+	int getMappedChunkCount() {
+		return fChunks.length;
+	}
+
+	/**
+	 * Returns a chunk that reads the given chunk directly from the mapping, or <code>null</code>
+	 * if the chunk lies beyond the mapped part of the file.
+	 */
+	Chunk getChunk(Database db, int index) {
+		final Chunk[] chunks = fChunks;
+		if (index >= chunks.length) {
+			return null;
+		}
+		Chunk chunk = chunks[index];
+		if (chunk == null) {
+			final MappedByteBuffer segment = fSegments[index / CHUNKS_PER_SEGMENT];
+			chunk = new Chunk(db, index, segment, (index % CHUNKS_PER_SEGMENT) * Database.CHUNK_SIZE);
+			// The fields of the chunk are final, a reader racing with this one at worst creates
+			// a second view of the same memory.
+			chunks[index] = chunk;
+		}
+		return chunk;
+	}
+
+	/**
+	 * Copies the content of the mapping at the given position into the buffer.
+	 * @return whether the requested range was mapped and has been copied.
+	 */
+	boolean read(ByteBuffer buf, long position) {
+		final int len = buf.remaining();
+		if (position + len > (long) fChunks.length * Database.CHUNK_SIZE) {
+			return false;
+		}
+		final int segmentIndex = (int) (position / SEGMENT_SIZE);
+		final int offset = (int) (position % SEGMENT_SIZE);
+		if (offset + len > SEGMENT_SIZE) {
+			return false;
+		}
+		buf.put(fSegments[segmentIndex].slice(offset, len));
+		return true;
+	}
+
+	/**
+	 * Extends the mapping to cover all complete chunks of the file.
+	 */
+	synchronized void remap(FileChannel channel) throws IOException {
+		final long size = channel.size();
+		final int nChunks = (int) Math.min(size / Database.CHUNK_SIZE, Integer.MAX_VALUE);
+		final Chunk[] oldChunks = fChunks;
+		if (nChunks <= oldChunks.length) {
+			return;
+		}
+		final int nSegments = (nChunks + CHUNKS_PER_SEGMENT - 1) / CHUNKS_PER_SEGMENT;
+		final MappedByteBuffer[] oldSegments = fSegments;
+		final MappedByteBuffer[] segments = new MappedByteBuffer[nSegments];
+		System.arraycopy(oldSegments, 0, segments, 0, oldSegments.length);
+		// The last segment may have been mapped only partially, it is replaced.
+		final int start = oldSegments.length > 0 ? oldSegments.length - 1 : 0;
+		for (int i = start; i < nSegments; i++) {
+			final long position = (long) i * SEGMENT_SIZE;
+			final long length = Math.min(SEGMENT_SIZE, (long) nChunks * Database.CHUNK_SIZE - position);
+			if (segments[i] == null || segments[i].capacity() < length) {
+				segments[i] = channel.map(MapMode.READ_ONLY, position, length);
+			}
+		}
+		fSegments = segments;
+		// The chunks of a replaced segment remain valid, the old buffer maps the same part of the file.
+		fChunks = Arrays.copyOf(oldChunks, nChunks);
+	}
+
+	/**
+	 * Drops the mapping before the file is closed. The memory is only unmapped once the buffers
+	 * are garbage collected, so the file must not be truncated while it has been mapped.
+	 */
+	synchronized void unmap() {
+		fChunks = NO_CHUNKS;
+		fSegments = NO_SEGMENTS;
+	}
+}
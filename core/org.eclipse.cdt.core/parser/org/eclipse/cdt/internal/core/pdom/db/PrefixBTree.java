@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.internal.core.pdom.db;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * A B-tree that stores a normalized prefix of the key next to every record in its nodes. Whenever
+ * the prefixes differ, a comparison is decided within the node and the record, which is typically
+ * stored in a different chunk, is not accessed. For trees of names this avoids most of the random
+ * reads during a lookup.
+ * <p>
+ * The nodes are larger than the ones of {@link BTree}, a tree stored by one of the classes cannot be
+ * read by the other one. Switching an existing tree to this class requires a new database version.
+ */
+public class PrefixBTree extends BTree {
+	/** Number of bytes used for the key prefix of a record. */
+	public static final int PREFIX_SIZE = 8;
+
+	protected final int OFFSET_PREFIXES;
+
+	private final IBTreePrefixComparator fPrefixComparator;
+
+	public PrefixBTree(Database db, long rootPointer, IBTreePrefixComparator cmp) {
+		this(db, rootPointer, 8, cmp);
+	}
+
+	public PrefixBTree(Database db, long rootPointer, int degree, IBTreePrefixComparator cmp) {
+		super(db, rootPointer, degree, cmp);
+		this.fPrefixComparator = cmp;
+		this.OFFSET_PREFIXES = OFFSET_CHILDREN + MAX_CHILDREN * Database.INT_SIZE;
+	}
+
+	private long getPrefix(Chunk chunk, long node, int index) {
+		return chunk.getLong(node + OFFSET_PREFIXES + index * PREFIX_SIZE);
+	}
+
+	@Override
+	protected int getNodeSize() {
+		return OFFSET_PREFIXES + MAX_RECORDS * PREFIX_SIZE;
+	}
+
+	@Override
+	protected long getKeyPrefix(long record) throws CoreException {
+		return fPrefixComparator.getKeyPrefix(record);
+	}
+
+	@Override
+	protected void putRecord(Chunk chunk, long node, int index, long record, long keyPrefix) {
+		putRecord(chunk, node, index, record);
+		chunk.putLong(node + OFFSET_PREFIXES + index * PREFIX_SIZE, keyPrefix);
+	}
+
+	@Override
+	protected void moveRecord(Chunk srcChunk, long srcNode, int srcIndex, Chunk dstChunk, long dstNode,
+			int dstIndex) {
+		putRecord(dstChunk, dstNode, dstIndex, getRecord(srcChunk, srcNode, srcIndex),
+				getPrefix(srcChunk, srcNode, srcIndex));
+	}
+
+	@Override
+	protected int compareRecord(Chunk chunk, long node, int index, long storedRecord, long record, long keyPrefix)
+			throws CoreException {
+		int cmp = Long.compareUnsigned(getPrefix(chunk, node, index), keyPrefix);
+		if (cmp != 0)
+			return cmp;
+		return super.compareRecord(chunk, node, index, storedRecord, record, keyPrefix);
+	}
+
+	@Override
+	protected int compareRecord(Chunk chunk, long node, int index, long storedRecord, IBTreeVisitor visitor)
+			throws CoreException {
+		if (visitor instanceof IBTreePrefixVisitor) {
+			int cmp = ((IBTreePrefixVisitor) visitor).compareKeyPrefix(getPrefix(chunk, node, index));
+			if (cmp != 0)
+				return cmp;
+		}
+		return super.compareRecord(chunk, node, index, storedRecord, visitor);
+	}
+
+	/**
+	 * Computes the key prefix of a name for trees that are ordered by
+	 * {@link IString#compareCompatibleWithIgnoreCase(IString)}. The first characters are folded to
+	 * upper case like in {@link ShortString#compareChars(char, char, boolean)} and stored in one
+	 * byte each, shorter names are padded with zeros. A character that does not fit into a byte
+	 * saturates the remainder of the prefix, which keeps the order of the prefixes compatible with
+	 * the one of the names.
+	 */
+	public static long getNamePrefix(char[] name) {
+		long prefix = 0;
+		for (int i = 0; i < PREFIX_SIZE; i++) {
+			int c = i < name.length ? name[i] : 0;
+			if (c >= 'a' && c <= 'z') {
+				c -= 32;
+			} else if (c >= 0xff) {
+				return (prefix << 8 * (PREFIX_SIZE - i)) | (-1L >>> 8 * i);
+			}
+			prefix = (prefix << 8) | c;
+		}
+		return prefix;
+	}
+
+	/**
+	 * Returns the largest key prefix of a name that starts with the given characters, ignoring case.
+	 * Together with {@link #getNamePrefix(char[])} this bounds the key prefixes of all names
+	 * matching a prefix lookup.
+	 */
+	public static long getNamePrefixUpperBound(char[] prefix) {
+		final long lower = getNamePrefix(prefix);
+		if (prefix.length >= PREFIX_SIZE)
+			return lower;
+		return lower | (-1L >>> 8 * prefix.length);
+	}
+
+	/**
+	 * Compares a key prefix with the range of key prefixes that all records matching a key share.
+	 *
+	 * @return -1 if the prefix is less than the lower bound, 1 if it is greater than the upper
+	 *     bound and 0 otherwise
+	 */
+	public static int compareKeyPrefix(long keyPrefix, long lower, long upper) {
+		if (Long.compareUnsigned(keyPrefix, lower) < 0)
+			return -1;
+		if (Long.compareUnsigned(keyPrefix, upper) > 0)
+			return 1;
+		return 0;
+	}
+}
@@ -19,9 +19,10 @@ import org.eclipse.cdt.core.dom.IPDOMVisitor;
 import org.eclipse.cdt.internal.core.index.IIndexBindingConstants;
 import org.eclipse.cdt.internal.core.pdom.db.BTree;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreePrefixComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreePrefixVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
+import org.eclipse.cdt.internal.core.pdom.db.PrefixBTree;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.OperationCanceledException;
 
@@ -29,7 +30,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
  * Look up bindings in BTree objects and IPDOMNode objects
  */
 public class FindBinding {
-	public static class DefaultBindingBTreeComparator implements IBTreeComparator {
+	public static class DefaultBindingBTreeComparator implements IBTreePrefixComparator {
 		protected final PDOMLinkage linkage;
 		protected final Database database;
 
@@ -59,11 +60,17 @@ public class FindBinding {
 			}
 			return cmp;
 		}
+
+		@Override
+		public long getKeyPrefix(long record) throws CoreException {
+			return PrefixBTree.getNamePrefix(PDOMNamedNode.getDBName(database, record).getChars());
+		}
 	}
 
-	public static class DefaultFindBindingVisitor implements IBTreeVisitor, IPDOMVisitor {
+	public static class DefaultFindBindingVisitor implements IBTreePrefixVisitor, IPDOMVisitor {
 		protected final PDOMLinkage fLinkage;
 		private final char[] fName;
+		private final long fNamePrefix;
 		private final int[] fConstants;
 		private final long fLocalToFile;
 		protected PDOMBinding fResult;
@@ -71,10 +78,17 @@ public class FindBinding {
 		protected DefaultFindBindingVisitor(PDOMLinkage linkage, char[] name, int[] constants, long localToFile) {
 			fLinkage = linkage;
 			fName = name;
+			fNamePrefix = PrefixBTree.getNamePrefix(name);
 			fConstants = constants;
 			fLocalToFile = localToFile;
 		}
 
+		// IBTreePrefixVisitor
+		@Override
+		public int compareKeyPrefix(long keyPrefix) {
+			return PrefixBTree.compareKeyPrefix(keyPrefix, fNamePrefix, fNamePrefix);
+		}
+
 		// IBTreeVisitor
 		@Override
 		public int compare(long record) throws CoreException {
@@ -155,7 +169,7 @@ public class FindBinding {
 		}
 	}
 
-	public static class MacroBTreeComparator implements IBTreeComparator {
+	public static class MacroBTreeComparator implements IBTreePrefixComparator {
 		final private Database db;
 
 		public MacroBTreeComparator(Database database) {
@@ -170,6 +184,11 @@ public class FindBinding {
 		private int compare(IString nameInDB, IString nameInDB2) throws CoreException {
 			return nameInDB.compareCompatibleWithIgnoreCase(nameInDB2);
 		}
+
+		@Override
+		public long getKeyPrefix(long record) throws CoreException {
+			return PrefixBTree.getNamePrefix(PDOMNamedNode.getDBName(db, record).getChars());
+		}
 	}
 
 	public static PDOMBinding findBinding(BTree btree, final PDOMLinkage linkage, final char[] name,
@@ -19,8 +19,9 @@ import java.util.List;
 
 import org.eclipse.cdt.core.parser.util.IContentAssistMatcher;
 import org.eclipse.cdt.internal.core.parser.util.ContentAssistMatcherFactory;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreePrefixVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
+import org.eclipse.cdt.internal.core.pdom.db.PrefixBTree;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -29,12 +30,14 @@ import org.eclipse.core.runtime.OperationCanceledException;
  * Visitor to find macros in a BTree.
  * @since 4.0.2
  */
-public final class MacroContainerCollector implements IBTreeVisitor {
+public final class MacroContainerCollector implements IBTreePrefixVisitor {
 	private final PDOMLinkage linkage;
 	private final char[] matchChars;
 	private final boolean prefixLookup;
 	private final IContentAssistMatcher contentAssistMatcher;
 	private final boolean caseSensitive;
+	private final long keyPrefixLower;
+	private final long keyPrefixUpper;
 	private IProgressMonitor monitor = null;
 	private int monitorCheckCounter = 0;
 
@@ -70,6 +73,8 @@ public final class MacroContainerCollector implements IBTreeVisitor {
 			this.prefixLookup = prefixLookup;
 			this.caseSensitive = caseSensitive;
 		}
+		this.keyPrefixLower = PrefixBTree.getNamePrefix(matchChars);
+		this.keyPrefixUpper = this.prefixLookup ? PrefixBTree.getNamePrefixUpperBound(matchChars) : keyPrefixLower;
 		this.linkage = linkage;
 	}
 
@@ -81,6 +86,11 @@ public final class MacroContainerCollector implements IBTreeVisitor {
 		monitor = pm;
 	}
 
+	@Override
+	final public int compareKeyPrefix(long keyPrefix) {
+		return PrefixBTree.compareKeyPrefix(keyPrefix, keyPrefixLower, keyPrefixUpper);
+	}
+
 	@Override
 	final public int compare(long record) throws CoreException {
 		if (monitor != null)
@@ -13,16 +13,18 @@
  *******************************************************************************/
 package org.eclipse.cdt.internal.core.pdom.dom;
 
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreePrefixVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
+import org.eclipse.cdt.internal.core.pdom.db.PrefixBTree;
 import org.eclipse.core.runtime.CoreException;
 
 /**
  * Visitor to find a macro container in a BTree.
  */
-public final class MacroContainerFinder implements IBTreeVisitor {
+public final class MacroContainerFinder implements IBTreePrefixVisitor {
 	private final PDOMLinkage fLinkage;
 	private final char[] fName;
+	private final long fNamePrefix;
 	private PDOMMacroContainer fMacroContainer;
 
 	/**
@@ -31,9 +33,15 @@ public final class MacroContainerFinder implements IBTreeVisitor {
 	 */
 	public MacroContainerFinder(PDOMLinkage linkage, char[] name) {
 		fName = name;
+		fNamePrefix = PrefixBTree.getNamePrefix(name);
 		fLinkage = linkage;
 	}
 
+	@Override
+	final public int compareKeyPrefix(long keyPrefix) {
+		return PrefixBTree.compareKeyPrefix(keyPrefix, fNamePrefix, fNamePrefix);
+	}
+
 	@Override
 	final public int compare(long record) throws CoreException {
 		IString name = PDOMNamedNode.getDBName(fLinkage.getDB(), record);
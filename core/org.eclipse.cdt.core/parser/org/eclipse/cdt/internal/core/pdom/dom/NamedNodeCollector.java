@@ -21,8 +21,9 @@ import org.eclipse.cdt.core.dom.IPDOMNode;
 import org.eclipse.cdt.core.dom.IPDOMVisitor;
 import org.eclipse.cdt.core.parser.util.IContentAssistMatcher;
 import org.eclipse.cdt.internal.core.parser.util.ContentAssistMatcherFactory;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreePrefixVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
+import org.eclipse.cdt.internal.core.pdom.db.PrefixBTree;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
@@ -31,12 +32,14 @@ import org.eclipse.core.runtime.OperationCanceledException;
  * Visitor to find named nodes in a BTree or below a PDOMNode. Nested nodes are not visited.
  * @since 4.0
  */
-public class NamedNodeCollector implements IBTreeVisitor, IPDOMVisitor {
+public class NamedNodeCollector implements IBTreePrefixVisitor, IPDOMVisitor {
 	private final PDOMLinkage linkage;
 	private final char[] matchChars;
 	private final boolean prefixLookup;
 	private final IContentAssistMatcher contentAssistMatcher;
 	private final boolean caseSensitive;
+	private final long keyPrefixLower;
+	private final long keyPrefixUpper;
 	private IProgressMonitor monitor;
 	private int monitorCheckCounter;
 
@@ -79,6 +82,8 @@ public class NamedNodeCollector implements IBTreeVisitor, IPDOMVisitor {
 			this.prefixLookup = prefixLookup;
 			this.caseSensitive = caseSensitive;
 		}
+		this.keyPrefixLower = PrefixBTree.getNamePrefix(matchChars);
+		this.keyPrefixUpper = this.prefixLookup ? PrefixBTree.getNamePrefixUpperBound(matchChars) : keyPrefixLower;
 	}
 
 	/**
@@ -89,6 +94,11 @@ public class NamedNodeCollector implements IBTreeVisitor, IPDOMVisitor {
 		monitor = pm;
 	}
 
+	@Override
+	final public int compareKeyPrefix(long keyPrefix) {
+		return PrefixBTree.compareKeyPrefix(keyPrefix, keyPrefixLower, keyPrefixUpper);
+	}
+
 	@Override
 	final public int compare(long record) throws CoreException {
 		if (monitor != null)
@@ -55,9 +55,10 @@ import org.eclipse.cdt.internal.core.pdom.PDOM;
 import org.eclipse.cdt.internal.core.pdom.WritablePDOM;
 import org.eclipse.cdt.internal.core.pdom.db.BTree;
 import org.eclipse.cdt.internal.core.pdom.db.Database;
-import org.eclipse.cdt.internal.core.pdom.db.IBTreeComparator;
+import org.eclipse.cdt.internal.core.pdom.db.IBTreePrefixComparator;
 import org.eclipse.cdt.internal.core.pdom.db.IBTreeVisitor;
 import org.eclipse.cdt.internal.core.pdom.db.IString;
+import org.eclipse.cdt.internal.core.pdom.db.PrefixBTree;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -150,7 +151,7 @@ public abstract class PDOMLinkage extends PDOMNamedNode implements IIndexLinkage
 	}
 
 	public BTree getIndex() throws CoreException {
-		return new BTree(getDB(), record + INDEX_OFFSET, getIndexComparator());
+		return new PrefixBTree(getDB(), record + INDEX_OFFSET, getIndexComparator());
 	}
 
 	/**
@@ -158,7 +159,7 @@ public abstract class PDOMLinkage extends PDOMNamedNode implements IIndexLinkage
 	 * @throws CoreException
 	 */
 	public BTree getNestedBindingsIndex() throws CoreException {
-		return new BTree(fDatabase, record + NESTED_BINDINGS_INDEX, getNestedBindingsComparator());
+		return new PrefixBTree(fDatabase, record + NESTED_BINDINGS_INDEX, getNestedBindingsComparator());
 	}
 
 	@Override
@@ -200,11 +201,11 @@ public abstract class PDOMLinkage extends PDOMNamedNode implements IIndexLinkage
 
 	public abstract PDOMNode getNode(long record, int nodeType) throws CoreException;
 
-	public abstract IBTreeComparator getIndexComparator();
+	public abstract IBTreePrefixComparator getIndexComparator();
 
 	public abstract PDOMGlobalScope getGlobalScope();
 
-	public IBTreeComparator getNestedBindingsComparator() {
+	public IBTreePrefixComparator getNestedBindingsComparator() {
 		return new FindBinding.NestedBindingsBTreeComparator(this);
 	}
 
@@ -360,7 +361,8 @@ public abstract class PDOMLinkage extends PDOMNamedNode implements IIndexLinkage
 
 	public BTree getMacroIndex() {
 		if (fMacroIndex == null) {
-			fMacroIndex = new BTree(getDB(), record + MACRO_BTREE, new FindBinding.MacroBTreeComparator(fDatabase));
+			fMacroIndex = new PrefixBTree(getDB(), record + MACRO_BTREE,
+					new FindBinding.MacroBTreeComparator(fDatabase));
 		}
 		return fMacroIndex;
 	}
@@ -50,6 +50,10 @@ public class GeneratePDOM {
 	protected String indexerID;
 	protected boolean deleteOnExit;
 	protected boolean checkIndexStatus;
+	protected int parserThreads = IndexerPreferences.DEFAULT_PARSER_THREADS;
+	private long setupTime;
+	private long indexingTime;
+	private long exportTime;
 
 	/**
 	 * Runnable to export a PDOM.
@@ -80,6 +84,36 @@ public class GeneratePDOM {
 		this.deleteOnExit = deleteOnExit;
 	}
 
+	/**
+	 * Sets the number of threads the indexer uses for parsing the source files of the project.
+	 * The parsed files are written to the PDOM one at a time.
+	 * @param parserThreads number of parser threads, by default 1.
+	 */
+	public void setParserThreads(int parserThreads) {
+		this.parserThreads = parserThreads;
+	}
+
+	/**
+	 * Returns the time in milliseconds spent for creating the project during the last {@link #run()}.
+	 */
+	public long getSetupTime() {
+		return setupTime;
+	}
+
+	/**
+	 * Returns the time in milliseconds spent for indexing the project during the last {@link #run()}.
+	 */
+	public long getIndexingTime() {
+		return indexingTime;
+	}
+
+	/**
+	 * Returns the time in milliseconds spent for exporting the PDOM during the last {@link #run()}.
+	 */
+	public long getExportTime() {
+		return exportTime;
+	}
+
 	/**
 	 * Executes the PDOM generation
 	 * @return {@link IStatus#OK} if the generated content is complete, {@link IStatus#ERROR} otherwise.
@@ -87,6 +121,8 @@ public class GeneratePDOM {
 	 */
 	public final IStatus run() throws CoreException {
 		// Create the project
+		long start = System.currentTimeMillis();
+		setupTime = indexingTime = exportTime = 0;
 		pm.setApplicationArguments(applicationArguments);
 		final ICProject cproject = pm.createProject();
 		if (cproject == null) {
@@ -102,7 +138,11 @@ public class GeneratePDOM {
 		}
 
 		// Index the project
+		IndexerPreferences.set(cproject.getProject(), IndexerPreferences.KEY_PARSER_THREADS,
+				String.valueOf(parserThreads));
 		IndexerPreferences.set(cproject.getProject(), IndexerPreferences.KEY_INDEXER_ID, indexerID);
+		setupTime = System.currentTimeMillis() - start;
+		start = System.currentTimeMillis();
 
 		try {
 			final IIndexManager manager = CCorePlugin.getIndexManager();
@@ -115,6 +155,7 @@ public class GeneratePDOM {
 				}
 				Thread.sleep(200);
 			}
+			indexingTime = System.currentTimeMillis() - start;
 
 			if (checkIndexStatus) {
 				// Check status
@@ -131,6 +172,7 @@ public class GeneratePDOM {
 				}
 			}
 			// Export a .pdom file
+			start = System.currentTimeMillis();
 			CCoreInternals.getPDOMManager().exportProjectPDOM(cproject, targetLocation, converter, null);
 
 			// Write properties to exported PDOM
@@ -148,6 +190,7 @@ public class GeneratePDOM {
 			} finally {
 				exportedPDOM.releaseWriteLock();
 			}
+			exportTime = System.currentTimeMillis() - start;
 		} catch (InterruptedException ie) {
 			String msg = MessageFormat.format(Messages.GeneratePDOM_GenericGenerationFailed,
 					new Object[] { ie.getMessage() });
@@ -52,6 +52,7 @@ public class GeneratePDOMApplication implements IApplication {
 	public static final String OPT_TARGET = "-target"; //$NON-NLS-1$
 	public static final String OPT_QUIET = "-quiet"; //$NON-NLS-1$
 	public static final String OPT_INDEXER_ID = "-indexer"; //$NON-NLS-1$
+	public static final String OPT_THREADS = "-threads"; //$NON-NLS-1$
 
 	/**
 	 * Applications needing to fail in an expected way (without stack dump), should throw
@@ -110,6 +111,19 @@ public class GeneratePDOMApplication implements IApplication {
 			}
 		}
 
+		int parserThreads = 1;
+		if (arguments.containsKey(OPT_THREADS)) {
+			try {
+				parserThreads = Integer.parseInt(CLIUtil.getArg(arguments, OPT_THREADS, 1).get(0));
+			} catch (NumberFormatException e) {
+				parserThreads = 0;
+			}
+			if (parserThreads < 1) {
+				fail(MessageFormat.format(Messages.GeneratePDOMApplication_InvalidThreadCount,
+						new Object[] { OPT_THREADS }));
+			}
+		}
+
 		String[] oldvals = null;
 		if (!quiet) {
 			oldvals = new String[] { System.getProperty(IPDOMIndexerTask.TRACE_ACTIVITY),
@@ -128,11 +142,16 @@ public class GeneratePDOMApplication implements IApplication {
 			File targetLocation = new File(target);
 
 			GeneratePDOM generate = new GeneratePDOM(pprovider, appArgs, targetLocation, indexerID);
+			generate.setParserThreads(parserThreads);
 			output(Messages.GeneratePDOMApplication_GenerationStarts);
+			long start = System.currentTimeMillis();
 			IStatus status = generate.run(); // CoreException handled in start method
 			if (!status.isOK()) {
 				output(status.getMessage());
 			}
+			output(MessageFormat.format(Messages.GeneratePDOMApplication_Timings,
+					new Object[] { generate.getSetupTime(), generate.getIndexingTime(), generate.getExportTime(),
+							System.currentTimeMillis() - start }));
 			output(Messages.GeneratePDOMApplication_GenerationEnds);
 		} finally {
 			if (oldvals != null) {
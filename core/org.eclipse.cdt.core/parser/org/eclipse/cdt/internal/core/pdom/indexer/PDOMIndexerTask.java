@@ -292,6 +292,12 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 					+ fStatistics.fParsingTime + " parser, " //$NON-NLS-1$
 					+ fStatistics.fResolutionTime + " resolution, " //$NON-NLS-1$
 					+ fStatistics.fAddToIndexTime + " index update."); //$NON-NLS-1$
+			if (fStatistics.fParserThreads > 1)
+				System.out.println(indent + " Parallel parsing: " //$NON-NLS-1$
+						+ fStatistics.fParserThreads + " threads, " //$NON-NLS-1$
+						+ fStatistics.fParallelParsedCount + " sources, " //$NON-NLS-1$
+						+ fStatistics.fWriterWaitTime + " writer waiting, " //$NON-NLS-1$
+						+ fStatistics.fWriterBusyTime + " writer busy."); //$NON-NLS-1$
 			System.out.println(indent + " Errors: " //$NON-NLS-1$
 					+ fStatistics.fErrorCount + " internal, " //$NON-NLS-1$
 					+ fStatistics.fUnresolvedIncludesCount + " include, " //$NON-NLS-1$
@@ -378,6 +384,16 @@ public abstract class PDOMIndexerTask extends AbstractIndexerTask implements IPD
 		fWriteInfoToLog = true;
 	}
 
+	/**
+	 * Parses the sources with the number of threads set in the indexer preferences. Only for
+	 * a task that fills a cleared index: files are added to it but never updated, so no binding
+	 * held by a parsed AST waiting to be written is deleted by the writes of other files.
+	 */
+	public void setParallelParsing() {
+		setParserThreads(getIntProperty(IndexerPreferences.KEY_PARSER_THREADS,
+				IndexerPreferences.DEFAULT_PARSER_THREADS));
+	}
+
 	@Override
 	public synchronized boolean acceptUrgentTask(IPDOMIndexerTask urgentTask) {
 		final IPDOMIndexer ti = urgentTask.getIndexer();
@@ -126,6 +126,7 @@ public class PDOMRebuildTask implements IPDOMIndexerTask {
 			final PDOMIndexerTask pdomIndexerTask = (PDOMIndexerTask) delegate;
 			pdomIndexerTask.setUpdateFlags(IIndexManager.UPDATE_ALL);
 			pdomIndexerTask.setWriteInfoToLog();
+			pdomIndexerTask.setParallelParsing();
 		}
 		synchronized (this) {
 			fDelegate = delegate;
@@ -67,6 +67,7 @@ import org.eclipse.cdt.internal.core.envvar.EnvironmentVariableManager;
 import org.eclipse.cdt.internal.core.language.settings.providers.LanguageSettingsScannerInfoProvider;
 import org.eclipse.cdt.internal.core.model.CModelManager;
 import org.eclipse.cdt.internal.core.model.Util;
+import org.eclipse.cdt.internal.core.parser.scanner.IncludeGuardCache;
 import org.eclipse.cdt.internal.core.pdom.PDOMManager;
 import org.eclipse.cdt.internal.core.resources.ResourceLookup;
 import org.eclipse.cdt.internal.core.settings.model.CProjectDescriptionManager;
@@ -185,6 +186,8 @@ public class CCorePlugin extends Plugin {
 	private static final String SCANNER_INFO_PROVIDER2_NAME = "ScannerInfoProvider2"; //$NON-NLS-1$
 	private static final String SCANNER_INFO_PROVIDER2 = PLUGIN_ID + "." + SCANNER_INFO_PROVIDER2_NAME; //$NON-NLS-1$
 
+	private static final String INCLUDE_GUARD_CACHE_FILE = "includeGuards.dat"; //$NON-NLS-1$
+
 	/**
 	 * Name of the extension point for contributing a source code formatter
 	 */
@@ -389,6 +392,12 @@ public class CCorePlugin extends Plugin {
 			buildConfigManager.dispose();
 			buildConfigManager = null;
 
+			try {
+				IncludeGuardCache.getDefault().save(getStateLocation().append(INCLUDE_GUARD_CACHE_FILE).toFile());
+			} catch (IOException e) {
+				log(e);
+			}
+
 			savePluginPreferences();
 		} finally {
 			super.stop(context);
@@ -407,6 +416,11 @@ public class CCorePlugin extends Plugin {
 		configurePluginDebugOptions();
 		PositionTrackerManager.getInstance().install();
 		ResourceLookup.startup();
+		try {
+			IncludeGuardCache.getDefault().load(getStateLocation().append(INCLUDE_GUARD_CACHE_FILE).toFile());
+		} catch (IOException e) {
+			log(e);
+		}
 
 		ToolChainManager toolChainManager = new ToolChainManager();
 		context.registerService(IToolChainManager.class, toolChainManager, null);
@@ -70,10 +70,18 @@ public class DwarfConstants {
 	public final static int DW_TAG_variant_part = 0x33;
 	public final static int DW_TAG_variable = 0x34;
 	public final static int DW_TAG_volatile_type = 0x35;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_TAG_namespace = 0x39;
 	/**
 	 * @since 5.7
 	 */
 	public final static int DW_TAG_partial_unit = 0x3c;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_TAG_skeleton_unit = 0x4a;
 	public final static int DW_TAG_lo_user = 0x4080;
 	public final static int DW_TAG_MIPS_loop = 0x4081;
 	public final static int DW_TAG_format_label = 0x4101;
@@ -148,6 +156,26 @@ public class DwarfConstants {
 	public final static int DW_AT_variable_parameter = 0x4b;
 	public final static int DW_AT_virtuality = 0x4c;
 	public final static int DW_AT_vtable_elem_location = 0x4d;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_AT_ranges = 0x55;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_AT_linkage_name = 0x6e;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_AT_str_offsets_base = 0x72;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_AT_addr_base = 0x73;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_AT_rnglists_base = 0x74;
 	public final static int DW_AT_lo_user = 0x2000;
 	public final static int DW_AT_MIPS_fde = 0x2001;
 	public final static int DW_AT_MIPS_loop_begin = 0x2002;
@@ -209,6 +237,26 @@ public class DwarfConstants {
 	 * @since 5.7
 	 */
 	public final static int DW_FORM_flag_present = 0x19;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_strx = 0x1a;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_addrx = 0x1b;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_ref_sup4 = 0x1c;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_strp_sup = 0x1d;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_data16 = 0x1e;
 	/**
 	 * @since 8.1
 	 */
@@ -221,6 +269,50 @@ public class DwarfConstants {
 	 * @since 8.3
 	 */
 	public final static int DW_FORM_implicit_const = 0x21;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_loclistx = 0x22;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_rnglistx = 0x23;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_ref_sup8 = 0x24;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_strx1 = 0x25;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_strx2 = 0x26;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_strx3 = 0x27;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_strx4 = 0x28;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_addrx1 = 0x29;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_addrx2 = 0x2a;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_addrx3 = 0x2b;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_FORM_addrx4 = 0x2c;
 	/* Extensions for Fission. See http://gcc.gnu.org/wiki/DebugFission. */
 	/**
 	 * @since 5.7
@@ -251,6 +343,66 @@ public class DwarfConstants {
 	 */
 	public final static int DW_LNCT_directory_index = 0x02; /* Index to directories entry */
 
+	/* DWARF v5 unit types */
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_UT_compile = 0x01;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_UT_type = 0x02;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_UT_partial = 0x03;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_UT_skeleton = 0x04;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_UT_split_compile = 0x05;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_UT_split_type = 0x06;
+
+	/* DWARF v5 range list entry encodings */
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_RLE_end_of_list = 0x00;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_RLE_base_addressx = 0x01;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_RLE_startx_endx = 0x02;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_RLE_startx_length = 0x03;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_RLE_offset_pair = 0x04;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_RLE_base_address = 0x05;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_RLE_start_end = 0x06;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_RLE_start_length = 0x07;
+
 	/* DWARF location operation encodings. */
 	public final static int DW_OP_addr = 0x03; /* Constant address. */
 	public final static int DW_OP_deref = 0x06;
@@ -493,11 +645,19 @@ public class DwarfConstants {
 	public final static int DW_LNS_fixed_advance_pc = 9;
 	public final static int DW_LNS_set_prologue_end = 10;
 	public final static int DW_LNS_set_epilog_begin = 11;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_LNS_set_isa = 12;
 
 	/* DWARF extended opcide encodings. */
 	public final static int DW_LNE_end_sequence = 1;
 	public final static int DW_LNE_set_address = 2;
 	public final static int DW_LNE_define_file = 3;
+	/**
+	 * @since 8.5
+	 */
+	public final static int DW_LNE_set_discriminator = 4;
 
 	/* DWARF macinfo type encodings. */
 	public final static int DW_MACINFO_define = 1;
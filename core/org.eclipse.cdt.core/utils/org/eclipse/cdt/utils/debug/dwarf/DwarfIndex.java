@@ -0,0 +1,1884 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.utils.debug.dwarf;
+
+import static org.eclipse.cdt.utils.debug.dwarf.DwarfConstants.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.utils.elf.Elf;
+import org.eclipse.cdt.utils.elf.Elf.ELFhdr;
+import org.eclipse.cdt.utils.elf.Elf.Section;
+
+/**
+ * Reader of the DWARF debug information of an ELF file, to look up the compilation unit of an
+ * address, the functions and variables of a name and the line table of a compilation unit.
+ * <p>
+ * Unlike {@link Dwarf}, which parses all the debug information up front, this reader maps the
+ * debug sections without reading them in and only decodes what a lookup needs. Opening the
+ * reader parses the compilation unit headers. The address and name lookup tables are built on
+ * first use, from the <code>.gdb_index</code> section when the file has one, otherwise from
+ * <code>.debug_aranges</code> and a single pass over the debug information, and are kept as
+ * sorted arrays searched by bisection.
+ * <p>
+ * The reader does not follow <code>.gnu_debuglink</code>, it must be given the file that
+ * contains the debug sections. Type units and split DWARF objects are not read.
+ *
+ * @since 8.5
+ */
+public class DwarfIndex implements AutoCloseable {
+
+	final static String DWARF_DEBUG_STR_OFFSETS = ".debug_str_offsets"; //$NON-NLS-1$
+	final static String DWARF_DEBUG_ADDR = ".debug_addr"; //$NON-NLS-1$
+	final static String DWARF_DEBUG_RANGES = ".debug_ranges"; //$NON-NLS-1$
+	final static String DWARF_DEBUG_RNGLISTS = ".debug_rnglists"; //$NON-NLS-1$
+	final static String GDB_INDEX = ".gdb_index"; //$NON-NLS-1$
+
+	/* Attributes recorded when decoding an entry, the others are skipped. */
+	private static final int SLOT_NAME = 0;
+	private static final int SLOT_LINKAGE_NAME = 1;
+	private static final int SLOT_LOW_PC = 2;
+	private static final int SLOT_HIGH_PC = 3;
+	private static final int SLOT_RANGES = 4;
+	private static final int SLOT_SPECIFICATION = 5;
+	private static final int SLOT_ABSTRACT_ORIGIN = 6;
+	private static final int SLOT_DECLARATION = 7;
+	private static final int SLOT_STMT_LIST = 8;
+	private static final int SLOT_COMP_DIR = 9;
+	private static final int SLOT_STR_OFFSETS_BASE = 10;
+	private static final int SLOT_ADDR_BASE = 11;
+	private static final int SLOT_RNGLISTS_BASE = 12;
+	private static final int SLOT_COUNT = 13;
+
+	/** Maximum number of specification or abstract origin references followed for a name. */
+	private static final int MAX_REFERENCES = 8;
+
+	/**
+	 * A compilation unit, with the attributes of its root entry.
+	 */
+	public static final class CompileUnit {
+		final int offset;
+		final int end;
+		final int version;
+		final int addressSize;
+		final int offsetSize;
+		final int abbrevOffset;
+		final int dieOffset;
+
+		boolean decoded;
+		String name;
+		String compDir;
+		long lowPC;
+		long stmtList = -1;
+		long strOffsetsBase = -1;
+		long addrBase = -1;
+		long rnglistsBase = -1;
+		LineTable lineTable;
+
+		CompileUnit(int offset, int end, int version, int addressSize, int offsetSize, int abbrevOffset,
+				int dieOffset) {
+			this.offset = offset;
+			this.end = end;
+			this.version = version;
+			this.addressSize = addressSize;
+			this.offsetSize = offsetSize;
+			this.abbrevOffset = abbrevOffset;
+			this.dieOffset = dieOffset;
+		}
+
+		/**
+		 * @return the offset of the unit in <code>.debug_info</code>
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		/**
+		 * @return the DWARF version of the unit
+		 */
+		public int getVersion() {
+			return version;
+		}
+
+		/**
+		 * @return the name of the primary source file, or <code>null</code>
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the compilation directory, or <code>null</code>
+		 */
+		public String getCompDir() {
+			return compDir;
+		}
+
+		/**
+		 * @return the base address of the unit
+		 */
+		public long getLowPC() {
+			return lowPC;
+		}
+
+		@Override
+		public String toString() {
+			return name != null ? name : "<unit@0x" + Integer.toHexString(offset) + '>'; //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * A function or variable found by name.
+	 */
+	public static final class DebugEntry {
+		private final CompileUnit fUnit;
+		private final int fOffset;
+		private final int fTag;
+		private final String fName;
+		private final String fLinkageName;
+		private final long fLowPC;
+		private final long fHighPC;
+
+		DebugEntry(CompileUnit unit, int offset, int tag, String name, String linkageName, long lowPC, long highPC) {
+			fUnit = unit;
+			fOffset = offset;
+			fTag = tag;
+			fName = name;
+			fLinkageName = linkageName;
+			fLowPC = lowPC;
+			fHighPC = highPC;
+		}
+
+		public CompileUnit getCompileUnit() {
+			return fUnit;
+		}
+
+		/**
+		 * @return the offset of the entry in <code>.debug_info</code>
+		 */
+		public long getOffset() {
+			return fOffset;
+		}
+
+		/**
+		 * @return the tag of the entry, e.g. {@link DwarfConstants#DW_TAG_subprogram}
+		 */
+		public int getTag() {
+			return fTag;
+		}
+
+		public String getName() {
+			return fName;
+		}
+
+		/**
+		 * @return the linkage (mangled) name, or <code>null</code>
+		 */
+		public String getLinkageName() {
+			return fLinkageName;
+		}
+
+		/**
+		 * @return the lowest address of the entry, or 0 if it has no code
+		 */
+		public long getLowPC() {
+			return fLowPC;
+		}
+
+		/**
+		 * @return the address past the end of the entry, or 0 if it has no code
+		 */
+		public long getHighPC() {
+			return fHighPC;
+		}
+
+		@Override
+		public String toString() {
+			return fName + "@0x" + Long.toHexString(fLowPC); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * The rows of the line number program of a compilation unit, sorted by address.
+	 */
+	public static final class LineTable {
+		private final long[] fAddresses;
+		private final int[] fFiles;
+		private final int[] fLines;
+		private final boolean[] fEnds;
+		private final String[] fFileNames;
+
+		LineTable(long[] addresses, int[] files, int[] lines, boolean[] ends, String[] fileNames) {
+			fAddresses = addresses;
+			fFiles = files;
+			fLines = lines;
+			fEnds = ends;
+			fFileNames = fileNames;
+		}
+
+		public int size() {
+			return fAddresses.length;
+		}
+
+		public long getAddress(int row) {
+			return fAddresses[row];
+		}
+
+		public int getLine(int row) {
+			return fLines[row];
+		}
+
+		/**
+		 * @return the source file of the row, or <code>null</code> if the file number is not valid.
+		 * Files in the compilation directory are returned without it.
+		 */
+		public String getFileName(int row) {
+			int file = fFiles[row];
+			return file >= 0 && file < fFileNames.length ? fFileNames[file] : null;
+		}
+
+		/**
+		 * @return whether the row marks the address past the end of a sequence
+		 */
+		public boolean isEndSequence(int row) {
+			return fEnds[row];
+		}
+
+		/**
+		 * @return the row covering the address, or -1 if no row does
+		 */
+		public int findRow(long address) {
+			int low = 0;
+			int high = fAddresses.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (fAddresses[mid] <= address) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			int row = low - 1;
+			return row >= 0 && !fEnds[row] ? row : -1;
+		}
+
+		/**
+		 * @return the file names, indexed by file number
+		 */
+		public String[] getFileNames() {
+			return fFileNames.clone();
+		}
+	}
+
+	/**
+	 * Abbreviation declarations of a table, in parallel arrays.
+	 */
+	private static final class AbbrevTable {
+		int[] codes;
+		int[] tags;
+		boolean[] children;
+		/** Index of the first attribute of each declaration, with an extra entry for the end. */
+		int[] attrStarts;
+		int[] slots;
+		int[] forms;
+		long[] consts;
+		/** Whether the codes are 1 to n in order, such that the code gives the declaration. */
+		boolean dense;
+		/** Codes with the declaration index in the low bits, sorted, for tables that are not dense. */
+		long[] sorted;
+
+		int find(long code) {
+			if (dense) {
+				return code >= 1 && code <= codes.length ? (int) code - 1 : -1;
+			}
+			int index = Arrays.binarySearch(sorted, code << 32);
+			if (index < 0) {
+				index = -index - 1;
+			}
+			return index < sorted.length && sorted[index] >>> 32 == code ? (int) sorted[index] : -1;
+		}
+	}
+
+	/**
+	 * A decoded entry: its tag and the form and position of the recorded attributes.
+	 */
+	private static final class Die {
+		int offset;
+		int tag;
+		boolean children;
+		int next;
+		final int[] forms = new int[SLOT_COUNT];
+		final int[] positions = new int[SLOT_COUNT];
+		final long[] consts = new long[SLOT_COUNT];
+
+		boolean has(int slot) {
+			return forms[slot] != 0;
+		}
+	}
+
+	/**
+	 * Reads from a section at a position.
+	 */
+	private static final class Cursor {
+		final ByteBuffer buf;
+		int pos;
+
+		Cursor(ByteBuffer buf, int pos) {
+			this.buf = buf;
+			this.pos = pos;
+		}
+
+		int u8() {
+			return buf.get(pos++) & 0xff;
+		}
+
+		int s8() {
+			return buf.get(pos++);
+		}
+
+		int u16() {
+			int value = buf.getShort(pos) & 0xffff;
+			pos += 2;
+			return value;
+		}
+
+		int u24() {
+			int b0 = u8();
+			int b1 = u8();
+			int b2 = u8();
+			return buf.order() == ByteOrder.LITTLE_ENDIAN ? b0 | b1 << 8 | b2 << 16 : b0 << 16 | b1 << 8 | b2;
+		}
+
+		long u32() {
+			long value = buf.getInt(pos) & 0xffffffffL;
+			pos += 4;
+			return value;
+		}
+
+		long u64() {
+			long value = buf.getLong(pos);
+			pos += 8;
+			return value;
+		}
+
+		long unsigned(int size) {
+			switch (size) {
+			case 1:
+				return u8();
+			case 2:
+				return u16();
+			case 3:
+				return u24();
+			case 4:
+				return u32();
+			case 8:
+				return u64();
+			default:
+				throw new IllegalArgumentException("Unsupported value size " + size); //$NON-NLS-1$
+			}
+		}
+
+		long offset(int offsetSize) {
+			return offsetSize == 8 ? u64() : u32();
+		}
+
+		long uleb() {
+			long result = 0;
+			int shift = 0;
+			int b;
+			do {
+				b = u8();
+				if (shift < 64) {
+					result |= (long) (b & 0x7f) << shift;
+				}
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return result;
+		}
+
+		long sleb() {
+			long result = 0;
+			int shift = 0;
+			int b;
+			do {
+				b = u8();
+				if (shift < 64) {
+					result |= (long) (b & 0x7f) << shift;
+				}
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			if (shift < 64 && (b & 0x40) != 0) {
+				result |= -1L << shift;
+			}
+			return result;
+		}
+
+		String cstring() {
+			int start = pos;
+			while (buf.get(pos) != 0) {
+				pos++;
+			}
+			byte[] bytes = new byte[pos - start];
+			ByteBuffer data = buf.duplicate();
+			data.position(start);
+			data.get(bytes);
+			pos++;
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Receives the functions and variables of a unit, see {@link DwarfIndex#scanUnit}.
+	 */
+	private interface EntryVisitor {
+		void visit(Die die, String name, String linkageName, String qualifiedName);
+	}
+
+	/**
+	 * Growable array of longs.
+	 */
+	private static final class LongList {
+		long[] values = new long[16];
+		int size;
+
+		void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+
+		int[] toIntArray() {
+			int[] result = new int[size];
+			for (int i = 0; i < size; i++) {
+				result[i] = (int) values[i];
+			}
+			return result;
+		}
+	}
+
+	private final Elf fElf;
+	private final boolean fOwnsElf;
+	private final ByteOrder fOrder;
+
+	private ByteBuffer fInfo;
+	private ByteBuffer fAbbrev;
+	private ByteBuffer fStr;
+	private ByteBuffer fLineStr;
+	private ByteBuffer fLine;
+	private ByteBuffer fAranges;
+	private ByteBuffer fStrOffsets;
+	private ByteBuffer fAddr;
+	private ByteBuffer fRanges;
+	private ByteBuffer fRngLists;
+	private ByteBuffer fGdbIndex;
+
+	/** Compilation units, in the order of <code>.debug_info</code>. */
+	private CompileUnit[] fUnits;
+	private final Map<Integer, AbbrevTable> fAbbrevTables = new HashMap<>();
+
+	/* Address ranges sorted by start, with the index of their unit. */
+	private long[] fRangeStarts;
+	private long[] fRangeEnds;
+	private int[] fRangeUnits;
+
+	/* Name hashes in the high bits, entry offsets in the low bits, sorted. */
+	private long[] fNameIndex;
+
+	/* Contents of .gdb_index, when it has a supported version. */
+	private boolean fGdbIndexRead;
+	private int[] fGdbUnits;
+	private int fGdbAddressArea;
+	private int fGdbSymbolTable;
+	private int fGdbSymbolCount;
+	private int fGdbConstantPool;
+
+	/**
+	 * Opens the file and reads its debug information. The file is closed with the reader.
+	 */
+	public DwarfIndex(String file) throws IOException {
+		this(new Elf(file), true);
+	}
+
+	/**
+	 * Reads the debug information of the file, which the caller must keep open while the reader is
+	 * in use.
+	 */
+	public DwarfIndex(Elf exe) throws IOException {
+		this(exe, false);
+	}
+
+	private DwarfIndex(Elf exe, boolean ownsElf) throws IOException {
+		fElf = exe;
+		fOwnsElf = ownsElf;
+		try {
+			fOrder = exe.getELFhdr().e_ident[ELFhdr.EI_DATA] == ELFhdr.ELFDATA2LSB ? ByteOrder.LITTLE_ENDIAN
+					: ByteOrder.BIG_ENDIAN;
+			fInfo = map(Dwarf.DWARF_DEBUG_INFO, fOrder);
+			fAbbrev = map(Dwarf.DWARF_DEBUG_ABBREV, fOrder);
+			fStr = map(Dwarf.DWARF_DEBUG_STR, fOrder);
+			fLineStr = map(Dwarf.DWARF_DEBUG_LINE_STR, fOrder);
+			fLine = map(Dwarf.DWARF_DEBUG_LINE, fOrder);
+			fAranges = map(Dwarf.DWARF_DEBUG_ARANGES, fOrder);
+			fStrOffsets = map(DWARF_DEBUG_STR_OFFSETS, fOrder);
+			fAddr = map(DWARF_DEBUG_ADDR, fOrder);
+			fRanges = map(DWARF_DEBUG_RANGES, fOrder);
+			fRngLists = map(DWARF_DEBUG_RNGLISTS, fOrder);
+			// The index is always little endian
+			fGdbIndex = map(GDB_INDEX, ByteOrder.LITTLE_ENDIAN);
+			fUnits = readUnits();
+		} catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			close();
+			throw malformed(e);
+		} catch (IOException e) {
+			close();
+			throw e;
+		}
+	}
+
+	private ByteBuffer map(String name, ByteOrder order) throws IOException {
+		Section section = fElf.getSectionByName(name);
+		if (section == null || section.sh_type == Section.SHT_NOBITS) {
+			return null;
+		}
+		return section.mapSectionData(false).order(order);
+	}
+
+	private static IOException malformed(RuntimeException e) {
+		return new IOException("Malformed DWARF debug information: " + e.getMessage(), e); //$NON-NLS-1$
+	}
+
+	@Override
+	public synchronized void close() {
+		if (fOwnsElf) {
+			fElf.dispose();
+		}
+	}
+
+	/**
+	 * @return the compilation units, in the order of the debug information
+	 */
+	public synchronized CompileUnit[] getCompileUnits() throws IOException {
+		try {
+			for (CompileUnit unit : fUnits) {
+				decodeRoot(unit);
+			}
+		} catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw malformed(e);
+		}
+		return fUnits.clone();
+	}
+
+	/**
+	 * @return the compilation unit with code at the address, or <code>null</code>
+	 */
+	public synchronized CompileUnit getCompileUnit(long address) throws IOException {
+		try {
+			if (fRangeStarts == null) {
+				buildAddressTable();
+			}
+			int index = Arrays.binarySearch(fRangeStarts, address);
+			if (index < 0) {
+				index = -index - 2;
+			}
+			if (index < 0 || address >= fRangeEnds[index]) {
+				return null;
+			}
+			CompileUnit unit = fUnits[fRangeUnits[index]];
+			decodeRoot(unit);
+			return unit;
+		} catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw malformed(e);
+		}
+	}
+
+	/**
+	 * Finds the functions and variables with code or storage of a name. The name can be the
+	 * plain name, the linkage name, or the name qualified by its namespaces and classes,
+	 * e.g. <code>ns::Class::method</code>.
+	 * <p>
+	 * <code>.gdb_index</code> only holds the qualified names, the other names are looked up
+	 * in the index built from the debug information. When the qualified name of an entity is
+	 * also the plain name of another one, e.g. <code>foo</code> and <code>ns::foo</code>, only
+	 * the entries of the units listed by <code>.gdb_index</code> for the name are found.
+	 *
+	 * @return the entries found, possibly empty
+	 */
+	public synchronized List<DebugEntry> findEntries(String name) throws IOException {
+		try {
+			List<DebugEntry> entries = new ArrayList<>();
+			if (readGdbIndex()) {
+				for (int index : lookupGdbIndex(name)) {
+					CompileUnit unit = fUnits[index];
+					scanUnit(unit, (die, plain, linkage, qualified) -> {
+						if (name.equals(plain) || name.equals(linkage) || name.equals(qualified)) {
+							entries.add(createEntry(unit, die, plain, linkage));
+						}
+					});
+				}
+				if (!entries.isEmpty()) {
+					return entries;
+				}
+			}
+
+			if (fNameIndex == null) {
+				buildNameIndex();
+			}
+			int hash = name.hashCode();
+			int index = Arrays.binarySearch(fNameIndex, (long) hash << 32);
+			if (index < 0) {
+				index = -index - 1;
+			}
+			long previous = -1;
+			for (; index < fNameIndex.length && (int) (fNameIndex[index] >> 32) == hash; index++) {
+				long key = fNameIndex[index];
+				if (key == previous) {
+					continue;
+				}
+				previous = key;
+				DebugEntry entry = createEntry((int) key);
+				// The qualified names are not kept, the hash tells them apart from other names
+				String entryName = entry.getName();
+				if (name.equals(entryName) || name.equals(entry.getLinkageName())
+						|| (entryName != null && name.endsWith("::" + entryName))) { //$NON-NLS-1$
+					entries.add(entry);
+				}
+			}
+			return entries;
+		} catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw malformed(e);
+		}
+	}
+
+	/**
+	 * @return the line table of the unit, or <code>null</code> if it has none
+	 */
+	public synchronized LineTable getLineTable(CompileUnit unit) throws IOException {
+		try {
+			decodeRoot(unit);
+			if (unit.lineTable == null && unit.stmtList >= 0 && fLine != null) {
+				unit.lineTable = readLineTable(unit);
+			}
+			return unit.lineTable;
+		} catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+			throw malformed(e);
+		}
+	}
+
+	private CompileUnit[] readUnits() {
+		List<CompileUnit> units = new ArrayList<>();
+		if (fInfo == null || fAbbrev == null) {
+			return new CompileUnit[0];
+		}
+		Cursor in = new Cursor(fInfo, 0);
+		int limit = fInfo.limit();
+		while (in.pos + 11 <= limit) {
+			int offset = in.pos;
+			long length = in.u32();
+			int offsetSize = 4;
+			if (length == 0xffffffffL) {
+				length = in.u64();
+				offsetSize = 8;
+			}
+			long end = in.pos + length;
+			if (length <= 0 || end > limit) {
+				break;
+			}
+			int version = in.u16();
+			int unitType = DW_UT_compile;
+			int addressSize;
+			long abbrevOffset;
+			if (version >= 5) {
+				unitType = in.u8();
+				addressSize = in.u8();
+				abbrevOffset = in.offset(offsetSize);
+				if (unitType == DW_UT_skeleton || unitType == DW_UT_split_compile) {
+					in.pos += 8;
+				} else if (unitType == DW_UT_type || unitType == DW_UT_split_type) {
+					in.pos += 8 + offsetSize;
+				}
+			} else {
+				abbrevOffset = in.offset(offsetSize);
+				addressSize = in.u8();
+			}
+			if (version >= 2 && version <= 5
+					&& (unitType == DW_UT_compile || unitType == DW_UT_partial || unitType == DW_UT_skeleton)) {
+				units.add(new CompileUnit(offset, (int) end, version, addressSize, offsetSize, (int) abbrevOffset,
+						in.pos));
+			}
+			in.pos = (int) end;
+		}
+		return units.toArray(new CompileUnit[units.size()]);
+	}
+
+	/**
+	 * @return the index of the unit containing the offset of <code>.debug_info</code>, or -1
+	 */
+	private int findUnit(long offset) {
+		int low = 0;
+		int high = fUnits.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (fUnits[mid].offset <= offset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		int index = low - 1;
+		return index >= 0 && offset < fUnits[index].end ? index : -1;
+	}
+
+	private AbbrevTable getAbbrevTable(CompileUnit unit) {
+		return fAbbrevTables.computeIfAbsent(unit.abbrevOffset, this::readAbbrevTable);
+	}
+
+	private AbbrevTable readAbbrevTable(int offset) {
+		LongList codes = new LongList();
+		LongList tags = new LongList();
+		LongList children = new LongList();
+		LongList attrStarts = new LongList();
+		LongList slots = new LongList();
+		LongList forms = new LongList();
+		LongList consts = new LongList();
+		Cursor in = new Cursor(fAbbrev, offset);
+		while (true) {
+			long code = in.uleb();
+			if (code == 0) {
+				break;
+			}
+			codes.add(code);
+			tags.add(in.uleb());
+			children.add(in.u8());
+			attrStarts.add(slots.size);
+			while (true) {
+				int name = (int) in.uleb();
+				int form = (int) in.uleb();
+				if (name == 0 && form == 0) {
+					break;
+				}
+				slots.add(getSlot(name));
+				forms.add(form);
+				consts.add(form == DW_FORM_implicit_const ? in.sleb() : 0);
+			}
+		}
+		attrStarts.add(slots.size);
+
+		AbbrevTable table = new AbbrevTable();
+		table.codes = codes.toIntArray();
+		table.tags = tags.toIntArray();
+		table.children = new boolean[children.size];
+		for (int i = 0; i < children.size; i++) {
+			table.children[i] = children.values[i] != 0;
+		}
+		table.attrStarts = attrStarts.toIntArray();
+		table.slots = slots.toIntArray();
+		table.forms = forms.toIntArray();
+		table.consts = consts.toArray();
+		table.dense = true;
+		for (int i = 0; i < codes.size; i++) {
+			if (codes.values[i] != i + 1) {
+				table.dense = false;
+				break;
+			}
+		}
+		if (!table.dense) {
+			table.sorted = new long[codes.size];
+			for (int i = 0; i < codes.size; i++) {
+				table.sorted[i] = codes.values[i] << 32 | i;
+			}
+			Arrays.sort(table.sorted);
+		}
+		return table;
+	}
+
+	private static int getSlot(int attribute) {
+		switch (attribute) {
+		case DW_AT_name:
+			return SLOT_NAME;
+		case DW_AT_linkage_name:
+		case DW_AT_MIPS_linkage_name:
+			return SLOT_LINKAGE_NAME;
+		case DW_AT_low_pc:
+			return SLOT_LOW_PC;
+		case DW_AT_high_pc:
+			return SLOT_HIGH_PC;
+		case DW_AT_ranges:
+			return SLOT_RANGES;
+		case DW_AT_specification:
+			return SLOT_SPECIFICATION;
+		case DW_AT_abstract_origin:
+			return SLOT_ABSTRACT_ORIGIN;
+		case DW_AT_declaration:
+			return SLOT_DECLARATION;
+		case DW_AT_stmt_list:
+			return SLOT_STMT_LIST;
+		case DW_AT_comp_dir:
+			return SLOT_COMP_DIR;
+		case DW_AT_str_offsets_base:
+			return SLOT_STR_OFFSETS_BASE;
+		case DW_AT_addr_base:
+			return SLOT_ADDR_BASE;
+		case DW_AT_rnglists_base:
+			return SLOT_RNGLISTS_BASE;
+		default:
+			return -1;
+		}
+	}
+
+	/**
+	 * Decodes the entry at the offset.
+	 *
+	 * @return false for the null entry ending a list of children
+	 */
+	private boolean readDie(CompileUnit unit, AbbrevTable table, int offset, Die die) {
+		Cursor in = new Cursor(fInfo, offset);
+		long code = in.uleb();
+		if (code == 0) {
+			die.next = in.pos;
+			return false;
+		}
+		int entry = table.find(code);
+		if (entry < 0) {
+			throw new IllegalArgumentException("Unknown abbreviation code " + code + " at 0x" //$NON-NLS-1$ //$NON-NLS-2$
+					+ Integer.toHexString(offset));
+		}
+		die.offset = offset;
+		die.tag = table.tags[entry];
+		die.children = table.children[entry];
+		Arrays.fill(die.forms, 0);
+		for (int i = table.attrStarts[entry]; i < table.attrStarts[entry + 1]; i++) {
+			int form = table.forms[i];
+			while (form == DW_FORM_indirect) {
+				form = (int) in.uleb();
+			}
+			int slot = table.slots[i];
+			if (slot >= 0) {
+				die.forms[slot] = form;
+				die.positions[slot] = in.pos;
+				die.consts[slot] = table.consts[i];
+			}
+			skip(unit, in, form);
+		}
+		die.next = in.pos;
+		return true;
+	}
+
+	private static void skip(CompileUnit unit, Cursor in, int form) {
+		switch (form) {
+		case DW_FORM_flag_present:
+		case DW_FORM_implicit_const:
+			break;
+		case DW_FORM_addr:
+			in.pos += unit.addressSize;
+			break;
+		case DW_FORM_data1:
+		case DW_FORM_ref1:
+		case DW_FORM_flag:
+		case DW_FORM_strx1:
+		case DW_FORM_addrx1:
+			in.pos += 1;
+			break;
+		case DW_FORM_data2:
+		case DW_FORM_ref2:
+		case DW_FORM_strx2:
+		case DW_FORM_addrx2:
+			in.pos += 2;
+			break;
+		case DW_FORM_strx3:
+		case DW_FORM_addrx3:
+			in.pos += 3;
+			break;
+		case DW_FORM_data4:
+		case DW_FORM_ref4:
+		case DW_FORM_ref_sup4:
+		case DW_FORM_strx4:
+		case DW_FORM_addrx4:
+			in.pos += 4;
+			break;
+		case DW_FORM_data8:
+		case DW_FORM_ref8:
+		case DW_FORM_ref_sig8:
+		case DW_FORM_ref_sup8:
+			in.pos += 8;
+			break;
+		case DW_FORM_data16:
+			in.pos += 16;
+			break;
+		case DW_FORM_sdata:
+		case DW_FORM_udata:
+		case DW_FORM_ref_udata:
+		case DW_FORM_strx:
+		case DW_FORM_addrx:
+		case DW_FORM_loclistx:
+		case DW_FORM_rnglistx:
+		case DW_FORM_GNU_addr_index:
+		case DW_FORM_GNU_str_index:
+			in.uleb();
+			break;
+		case DW_FORM_string:
+			while (in.u8() != 0) {
+			}
+			break;
+		case DW_FORM_strp:
+		case DW_FORM_line_strp:
+		case DW_FORM_sec_offset:
+		case DW_FORM_strp_sup:
+		case DW_FORM_GNU_ref_alt:
+		case DW_FORM_GNU_strp_alt:
+			in.pos += unit.offsetSize;
+			break;
+		case DW_FORM_ref_addr:
+			in.pos += unit.version <= 2 ? unit.addressSize : unit.offsetSize;
+			break;
+		case DW_FORM_block1: {
+			int size = in.u8();
+			in.pos += size;
+			break;
+		}
+		case DW_FORM_block2: {
+			int size = in.u16();
+			in.pos += size;
+			break;
+		}
+		case DW_FORM_block4: {
+			int size = (int) in.u32();
+			in.pos += size;
+			break;
+		}
+		case DW_FORM_block:
+		case DW_FORM_exprloc: {
+			int size = (int) in.uleb();
+			in.pos += size;
+			break;
+		}
+		case DW_FORM_indirect:
+			skip(unit, in, (int) in.uleb());
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown form 0x" + Integer.toHexString(form)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Reads a value of a constant, reference, offset or index form.
+	 */
+	private static long readConstant(CompileUnit unit, Cursor in, int form) {
+		switch (form) {
+		case DW_FORM_flag_present:
+			return 1;
+		case DW_FORM_addr:
+			return in.unsigned(unit.addressSize);
+		case DW_FORM_data1:
+		case DW_FORM_ref1:
+		case DW_FORM_flag:
+		case DW_FORM_strx1:
+		case DW_FORM_addrx1:
+			return in.u8();
+		case DW_FORM_data2:
+		case DW_FORM_ref2:
+		case DW_FORM_strx2:
+		case DW_FORM_addrx2:
+			return in.u16();
+		case DW_FORM_strx3:
+		case DW_FORM_addrx3:
+			return in.u24();
+		case DW_FORM_data4:
+		case DW_FORM_ref4:
+		case DW_FORM_ref_sup4:
+		case DW_FORM_strx4:
+		case DW_FORM_addrx4:
+			return in.u32();
+		case DW_FORM_data8:
+		case DW_FORM_ref8:
+		case DW_FORM_ref_sup8:
+			return in.u64();
+		case DW_FORM_sdata:
+			return in.sleb();
+		case DW_FORM_udata:
+		case DW_FORM_ref_udata:
+		case DW_FORM_strx:
+		case DW_FORM_addrx:
+		case DW_FORM_loclistx:
+		case DW_FORM_rnglistx:
+		case DW_FORM_GNU_addr_index:
+		case DW_FORM_GNU_str_index:
+			return in.uleb();
+		case DW_FORM_strp:
+		case DW_FORM_line_strp:
+		case DW_FORM_sec_offset:
+		case DW_FORM_strp_sup:
+		case DW_FORM_GNU_ref_alt:
+		case DW_FORM_GNU_strp_alt:
+			return in.offset(unit.offsetSize);
+		case DW_FORM_ref_addr:
+			return unit.version <= 2 ? in.unsigned(unit.addressSize) : in.offset(unit.offsetSize);
+		default:
+			throw new IllegalArgumentException("Unexpected form 0x" + Integer.toHexString(form)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Reads a value of a string form.
+	 *
+	 * @return the string, or <code>null</code> if it is not in this file
+	 */
+	private String readString(CompileUnit unit, Cursor in, int form) {
+		switch (form) {
+		case DW_FORM_string:
+			return in.cstring();
+		case DW_FORM_strp:
+			return getString(fStr, readConstant(unit, in, form));
+		case DW_FORM_line_strp:
+			return getString(fLineStr, readConstant(unit, in, form));
+		case DW_FORM_strx:
+		case DW_FORM_strx1:
+		case DW_FORM_strx2:
+		case DW_FORM_strx3:
+		case DW_FORM_strx4:
+		case DW_FORM_GNU_str_index:
+			return getIndexedString(unit, readConstant(unit, in, form));
+		default:
+			// The supplementary object file is not read
+			skip(unit, in, form);
+			return null;
+		}
+	}
+
+	/**
+	 * Reads a value of an address form.
+	 */
+	private long readAddress(CompileUnit unit, Cursor in, int form) {
+		switch (form) {
+		case DW_FORM_addrx:
+		case DW_FORM_addrx1:
+		case DW_FORM_addrx2:
+		case DW_FORM_addrx3:
+		case DW_FORM_addrx4:
+		case DW_FORM_GNU_addr_index:
+			return getIndexedAddress(unit, readConstant(unit, in, form));
+		default:
+			return readConstant(unit, in, form);
+		}
+	}
+
+	private static boolean isAddressForm(int form) {
+		switch (form) {
+		case DW_FORM_addr:
+		case DW_FORM_addrx:
+		case DW_FORM_addrx1:
+		case DW_FORM_addrx2:
+		case DW_FORM_addrx3:
+		case DW_FORM_addrx4:
+		case DW_FORM_GNU_addr_index:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private static String getString(ByteBuffer section, long offset) {
+		if (section == null || offset < 0 || offset >= section.limit()) {
+			return null;
+		}
+		return new Cursor(section, (int) offset).cstring();
+	}
+
+	private String getIndexedString(CompileUnit unit, long index) {
+		if (fStrOffsets == null) {
+			return null;
+		}
+		// Without the attribute, the offsets follow the header of the first table
+		long base = unit.strOffsetsBase >= 0 ? unit.strOffsetsBase : unit.offsetSize == 8 ? 16 : 8;
+		Cursor in = new Cursor(fStrOffsets, (int) (base + index * unit.offsetSize));
+		return getString(fStr, in.offset(unit.offsetSize));
+	}
+
+	private long getIndexedAddress(CompileUnit unit, long index) {
+		if (fAddr == null) {
+			throw new IllegalArgumentException("Missing " + DWARF_DEBUG_ADDR); //$NON-NLS-1$
+		}
+		long base = unit.addrBase >= 0 ? unit.addrBase : unit.offsetSize == 8 ? 16 : 8;
+		return new Cursor(fAddr, (int) (base + index * unit.addressSize)).unsigned(unit.addressSize);
+	}
+
+	private long getConstant(CompileUnit unit, Die die, int slot) {
+		if (die.forms[slot] == DW_FORM_implicit_const) {
+			return die.consts[slot];
+		}
+		return readConstant(unit, new Cursor(fInfo, die.positions[slot]), die.forms[slot]);
+	}
+
+	private String getString(CompileUnit unit, Die die, int slot) {
+		return die.has(slot) ? readString(unit, new Cursor(fInfo, die.positions[slot]), die.forms[slot]) : null;
+	}
+
+	private long getAddress(CompileUnit unit, Die die, int slot) {
+		return readAddress(unit, new Cursor(fInfo, die.positions[slot]), die.forms[slot]);
+	}
+
+	/**
+	 * @return the offset in <code>.debug_info</code> of the referenced entry, or -1
+	 */
+	private long getReference(CompileUnit unit, Die die, int slot) {
+		switch (die.forms[slot]) {
+		case DW_FORM_ref1:
+		case DW_FORM_ref2:
+		case DW_FORM_ref4:
+		case DW_FORM_ref8:
+		case DW_FORM_ref_udata:
+			return unit.offset + getConstant(unit, die, slot);
+		case DW_FORM_ref_addr:
+			return getConstant(unit, die, slot);
+		default:
+			return -1;
+		}
+	}
+
+	private void decodeRoot(CompileUnit unit) {
+		if (unit.decoded) {
+			return;
+		}
+		Die die = new Die();
+		if (readDie(unit, getAbbrevTable(unit), unit.dieOffset, die)) {
+			// The bases are needed to read the other attributes
+			if (die.has(SLOT_STR_OFFSETS_BASE)) {
+				unit.strOffsetsBase = getConstant(unit, die, SLOT_STR_OFFSETS_BASE);
+			}
+			if (die.has(SLOT_ADDR_BASE)) {
+				unit.addrBase = getConstant(unit, die, SLOT_ADDR_BASE);
+			}
+			if (die.has(SLOT_RNGLISTS_BASE)) {
+				unit.rnglistsBase = getConstant(unit, die, SLOT_RNGLISTS_BASE);
+			}
+			unit.name = getString(unit, die, SLOT_NAME);
+			unit.compDir = getString(unit, die, SLOT_COMP_DIR);
+			if (die.has(SLOT_LOW_PC)) {
+				unit.lowPC = getAddress(unit, die, SLOT_LOW_PC);
+			}
+			if (die.has(SLOT_STMT_LIST)) {
+				unit.stmtList = getConstant(unit, die, SLOT_STMT_LIST);
+			}
+		}
+		unit.decoded = true;
+	}
+
+	/**
+	 * Adds the address ranges of the entry, as pairs of start and end, to the list.
+	 */
+	private void readRanges(CompileUnit unit, Die die, LongList ranges) {
+		// A unit with ranges may also have a low PC, as the base of its range lists
+		if (die.has(SLOT_LOW_PC) && die.has(SLOT_HIGH_PC)) {
+			long low = getAddress(unit, die, SLOT_LOW_PC);
+			long high = isAddressForm(die.forms[SLOT_HIGH_PC]) ? getAddress(unit, die, SLOT_HIGH_PC)
+					: low + getConstant(unit, die, SLOT_HIGH_PC);
+			addRange(ranges, low, high);
+			return;
+		}
+		if (!die.has(SLOT_RANGES)) {
+			return;
+		}
+		if (unit.version < 5) {
+			readDebugRanges(unit, getConstant(unit, die, SLOT_RANGES), ranges);
+		} else if (die.forms[SLOT_RANGES] == DW_FORM_rnglistx) {
+			if (fRngLists == null) {
+				return;
+			}
+			// Without the attribute, the offsets follow the header of the first table
+			long base = unit.rnglistsBase >= 0 ? unit.rnglistsBase : unit.offsetSize == 8 ? 20 : 12;
+			long index = getConstant(unit, die, SLOT_RANGES);
+			Cursor in = new Cursor(fRngLists, (int) (base + index * unit.offsetSize));
+			readRangeList(unit, base + in.offset(unit.offsetSize), ranges);
+		} else {
+			readRangeList(unit, getConstant(unit, die, SLOT_RANGES), ranges);
+		}
+	}
+
+	private static void addRange(LongList ranges, long start, long end) {
+		if (end > start) {
+			ranges.add(start);
+			ranges.add(end);
+		}
+	}
+
+	private void readDebugRanges(CompileUnit unit, long offset, LongList ranges) {
+		if (fRanges == null) {
+			return;
+		}
+		Cursor in = new Cursor(fRanges, (int) offset);
+		int size = unit.addressSize;
+		long baseSelection = size == 8 ? -1L : (1L << size * 8) - 1;
+		long base = unit.lowPC;
+		while (true) {
+			long start = in.unsigned(size);
+			long end = in.unsigned(size);
+			if (start == 0 && end == 0) {
+				break;
+			}
+			if (start == baseSelection) {
+				base = end;
+			} else {
+				addRange(ranges, base + start, base + end);
+			}
+		}
+	}
+
+	private void readRangeList(CompileUnit unit, long offset, LongList ranges) {
+		if (fRngLists == null) {
+			return;
+		}
+		Cursor in = new Cursor(fRngLists, (int) offset);
+		int size = unit.addressSize;
+		long base = unit.lowPC;
+		while (true) {
+			int kind = in.u8();
+			switch (kind) {
+			case DW_RLE_end_of_list:
+				return;
+			case DW_RLE_base_addressx:
+				base = getIndexedAddress(unit, in.uleb());
+				break;
+			case DW_RLE_startx_endx: {
+				long start = getIndexedAddress(unit, in.uleb());
+				addRange(ranges, start, getIndexedAddress(unit, in.uleb()));
+				break;
+			}
+			case DW_RLE_startx_length: {
+				long start = getIndexedAddress(unit, in.uleb());
+				addRange(ranges, start, start + in.uleb());
+				break;
+			}
+			case DW_RLE_offset_pair: {
+				long start = in.uleb();
+				addRange(ranges, base + start, base + in.uleb());
+				break;
+			}
+			case DW_RLE_base_address:
+				base = in.unsigned(size);
+				break;
+			case DW_RLE_start_end: {
+				long start = in.unsigned(size);
+				addRange(ranges, start, in.unsigned(size));
+				break;
+			}
+			case DW_RLE_start_length: {
+				long start = in.unsigned(size);
+				addRange(ranges, start, start + in.uleb());
+				break;
+			}
+			default:
+				throw new IllegalArgumentException("Unknown range list entry " + kind); //$NON-NLS-1$
+			}
+		}
+	}
+
+	private void buildAddressTable() {
+		LongList ranges = new LongList();
+		LongList rangeUnits = new LongList();
+		boolean[] covered = new boolean[fUnits.length];
+
+		if (readGdbIndex()) {
+			Cursor in = new Cursor(fGdbIndex, fGdbAddressArea);
+			while (in.pos + 20 <= fGdbSymbolTable) {
+				long start = in.u64();
+				long end = in.u64();
+				int index = (int) in.u32();
+				if (index < fGdbUnits.length && fGdbUnits[index] >= 0 && end > start) {
+					ranges.add(start);
+					ranges.add(end);
+					rangeUnits.add(fGdbUnits[index]);
+					covered[fGdbUnits[index]] = true;
+				}
+			}
+		} else if (fAranges != null) {
+			readAranges(ranges, rangeUnits, covered);
+		}
+
+		// Units missing from the lookup tables give their ranges themselves
+		Die die = new Die();
+		LongList unitRanges = new LongList();
+		for (int i = 0; i < fUnits.length; i++) {
+			if (covered[i]) {
+				continue;
+			}
+			CompileUnit unit = fUnits[i];
+			decodeRoot(unit);
+			if (readDie(unit, getAbbrevTable(unit), unit.dieOffset, die)) {
+				unitRanges.size = 0;
+				readRanges(unit, die, unitRanges);
+				for (int j = 0; j < unitRanges.size; j += 2) {
+					ranges.add(unitRanges.values[j]);
+					ranges.add(unitRanges.values[j + 1]);
+					rangeUnits.add(i);
+				}
+			}
+		}
+
+		int count = rangeUnits.size;
+		Integer[] order = new Integer[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> Long.compare(ranges.values[2 * a], ranges.values[2 * b]));
+		long[] starts = new long[count];
+		long[] ends = new long[count];
+		int[] units = new int[count];
+		for (int i = 0; i < count; i++) {
+			int range = order[i];
+			starts[i] = ranges.values[2 * range];
+			ends[i] = ranges.values[2 * range + 1];
+			units[i] = (int) rangeUnits.values[range];
+		}
+		fRangeStarts = starts;
+		fRangeEnds = ends;
+		fRangeUnits = units;
+	}
+
+	private void readAranges(LongList ranges, LongList rangeUnits, boolean[] covered) {
+		Cursor in = new Cursor(fAranges, 0);
+		int limit = fAranges.limit();
+		while (in.pos + 16 <= limit) {
+			int start = in.pos;
+			long length = in.u32();
+			int offsetSize = 4;
+			if (length == 0xffffffffL) {
+				length = in.u64();
+				offsetSize = 8;
+			}
+			long end = in.pos + length;
+			if (length <= 0 || end > limit) {
+				break;
+			}
+			in.u16(); // version
+			long infoOffset = in.offset(offsetSize);
+			int addressSize = in.u8();
+			int segmentSize = in.u8();
+			int tupleSize = segmentSize + 2 * addressSize;
+			if (tupleSize == 0) {
+				break;
+			}
+			// The tuples are aligned on their size from the start of the set
+			int header = in.pos - start;
+			in.pos = start + (header + tupleSize - 1) / tupleSize * tupleSize;
+			int unit = findUnit(infoOffset);
+			while (in.pos + tupleSize <= end) {
+				in.pos += segmentSize;
+				long address = in.unsigned(addressSize);
+				long size = in.unsigned(addressSize);
+				if (address == 0 && size == 0) {
+					break;
+				}
+				if (unit >= 0 && size != 0) {
+					ranges.add(address);
+					ranges.add(address + size);
+					rangeUnits.add(unit);
+					covered[unit] = true;
+				}
+			}
+			in.pos = (int) end;
+		}
+	}
+
+	/**
+	 * Reads the header of <code>.gdb_index</code>, when the file has one of version 7 or 8.
+	 *
+	 * @return whether the index can be used
+	 */
+	private boolean readGdbIndex() {
+		if (fGdbIndexRead) {
+			return fGdbUnits != null;
+		}
+		fGdbIndexRead = true;
+		if (fGdbIndex == null || fGdbIndex.limit() < 24) {
+			return false;
+		}
+		int version = fGdbIndex.getInt(0);
+		if (version != 7 && version != 8) {
+			return false;
+		}
+		int cuList = fGdbIndex.getInt(4);
+		int typesCuList = fGdbIndex.getInt(8);
+		fGdbAddressArea = fGdbIndex.getInt(12);
+		fGdbSymbolTable = fGdbIndex.getInt(16);
+		fGdbConstantPool = fGdbIndex.getInt(20);
+		fGdbSymbolCount = (fGdbConstantPool - fGdbSymbolTable) / 8;
+		if (Integer.bitCount(fGdbSymbolCount) > 1) {
+			return false;
+		}
+		int[] units = new int[(typesCuList - cuList) / 16];
+		for (int i = 0; i < units.length; i++) {
+			long offset = fGdbIndex.getLong(cuList + 16 * i);
+			int unit = findUnit(offset);
+			units[i] = unit >= 0 && fUnits[unit].offset == offset ? unit : -1;
+		}
+		fGdbUnits = units;
+		return true;
+	}
+
+	/**
+	 * @return the indexes of the units having the name in <code>.gdb_index</code>
+	 */
+	private int[] lookupGdbIndex(String name) {
+		if (fGdbSymbolCount == 0) {
+			return new int[0];
+		}
+		byte[] wanted = name.getBytes(StandardCharsets.UTF_8);
+		int hash = 0;
+		for (byte b : wanted) {
+			int c = b & 0xff;
+			if (c >= 'A' && c <= 'Z') {
+				c += 'a' - 'A';
+			}
+			hash = hash * 67 + c - 113;
+		}
+		int mask = fGdbSymbolCount - 1;
+		int index = hash & mask;
+		int step = ((hash * 17) & mask) | 1;
+		for (int probe = 0; probe < fGdbSymbolCount; probe++) {
+			int slot = fGdbSymbolTable + index * 8;
+			int nameOffset = fGdbIndex.getInt(slot);
+			int vectorOffset = fGdbIndex.getInt(slot + 4);
+			if (nameOffset == 0 && vectorOffset == 0) {
+				break;
+			}
+			if (matches(fGdbIndex, fGdbConstantPool + nameOffset, wanted)) {
+				int vector = fGdbConstantPool + vectorOffset;
+				int count = fGdbIndex.getInt(vector);
+				LongList units = new LongList();
+				for (int i = 0; i < count; i++) {
+					// The low bits give the unit, the others the kind of symbol
+					int cu = fGdbIndex.getInt(vector + 4 + 4 * i) & 0xffffff;
+					if (cu < fGdbUnits.length && fGdbUnits[cu] >= 0) {
+						units.add(fGdbUnits[cu]);
+					}
+				}
+				long[] sorted = units.toArray();
+				Arrays.sort(sorted);
+				return Arrays.stream(sorted).distinct().mapToInt(unit -> (int) unit).toArray();
+			}
+			index = (index + step) & mask;
+		}
+		return new int[0];
+	}
+
+	private static boolean matches(ByteBuffer section, int offset, byte[] wanted) {
+		if (offset + wanted.length >= section.limit()) {
+			return false;
+		}
+		for (int i = 0; i < wanted.length; i++) {
+			if (section.get(offset + i) != wanted[i]) {
+				return false;
+			}
+		}
+		return section.get(offset + wanted.length) == 0;
+	}
+
+	private void buildNameIndex() {
+		LongList keys = new LongList();
+		for (CompileUnit unit : fUnits) {
+			scanUnit(unit, (die, name, linkageName, qualifiedName) -> {
+				long offset = die.offset & 0xffffffffL;
+				if (name != null) {
+					keys.add((long) name.hashCode() << 32 | offset);
+				}
+				if (linkageName != null) {
+					keys.add((long) linkageName.hashCode() << 32 | offset);
+				}
+				if (qualifiedName != null && !qualifiedName.equals(name)) {
+					keys.add((long) qualifiedName.hashCode() << 32 | offset);
+				}
+			});
+		}
+		long[] index = keys.toArray();
+		Arrays.sort(index);
+		fNameIndex = index;
+	}
+
+	/**
+	 * Passes the functions with code and the variable definitions of the unit to the visitor,
+	 * leaving out the ones local to functions.
+	 */
+	private void scanUnit(CompileUnit unit, EntryVisitor visitor) {
+		decodeRoot(unit);
+		AbbrevTable table = getAbbrevTable(unit);
+		Die die = new Die();
+		if (!readDie(unit, table, unit.dieOffset, die) || !die.children) {
+			return;
+		}
+		// Qualified name of the enclosing scopes, null within functions
+		List<String> scopes = new ArrayList<>();
+		scopes.add(""); //$NON-NLS-1$
+		// Qualified names of the entries in namespaces and classes, for the definitions and
+		// concrete instances referring to them
+		Map<Integer, String> qualifiedNames = new HashMap<>();
+		String[] names = new String[2];
+		int offset = die.next;
+		while (!scopes.isEmpty() && offset < unit.end) {
+			if (!readDie(unit, table, offset, die)) {
+				offset = die.next;
+				scopes.remove(scopes.size() - 1);
+				continue;
+			}
+			offset = die.next;
+			String scope = scopes.get(scopes.size() - 1);
+			String childScope = scope;
+			if (scope == null) {
+				// Local to a function
+			} else if (die.tag == DW_TAG_subprogram || die.tag == DW_TAG_variable) {
+				childScope = null;
+				resolveNames(unit, die, names);
+				String qualifiedName = null;
+				String plainName = getString(unit, die, SLOT_NAME);
+				if (plainName != null) {
+					qualifiedName = scope.isEmpty() ? plainName : scope + "::" + plainName; //$NON-NLS-1$
+				} else {
+					int slot = die.has(SLOT_SPECIFICATION) ? SLOT_SPECIFICATION : SLOT_ABSTRACT_ORIGIN;
+					qualifiedName = die.has(slot) ? qualifiedNames.get((int) getReference(unit, die, slot)) : null;
+					if (qualifiedName == null) {
+						qualifiedName = names[0];
+					}
+				}
+				if (qualifiedName != null && !qualifiedName.equals(names[0])) {
+					qualifiedNames.put(die.offset, qualifiedName);
+				}
+				if (!die.has(SLOT_DECLARATION)
+						&& (die.tag == DW_TAG_variable || die.has(SLOT_LOW_PC) || die.has(SLOT_RANGES))) {
+					visitor.visit(die, names[0], names[1], qualifiedName);
+				}
+			} else if (die.tag == DW_TAG_member && die.has(SLOT_DECLARATION)) {
+				// Static data member before DWARF 5
+				String name = getString(unit, die, SLOT_NAME);
+				if (name != null && !scope.isEmpty()) {
+					qualifiedNames.put(die.offset, scope + "::" + name); //$NON-NLS-1$
+				}
+			} else if (die.tag == DW_TAG_namespace || die.tag == DW_TAG_class_type
+					|| die.tag == DW_TAG_structure_type || die.tag == DW_TAG_union_type) {
+				String name = getString(unit, die, SLOT_NAME);
+				if (name != null) {
+					childScope = scope.isEmpty() ? name : scope + "::" + name; //$NON-NLS-1$
+				}
+			} else if (die.tag == DW_TAG_lexical_block || die.tag == DW_TAG_inlined_subroutine) {
+				childScope = null;
+			}
+			if (die.children) {
+				scopes.add(childScope);
+			}
+		}
+	}
+
+	/**
+	 * Gets the name and linkage name of the entry, following its specification or abstract
+	 * origin for the ones it does not have.
+	 */
+	private void resolveNames(CompileUnit unit, Die die, String[] names) {
+		names[0] = getString(unit, die, SLOT_NAME);
+		names[1] = getString(unit, die, SLOT_LINKAGE_NAME);
+		Die target = null;
+		for (int i = 0; i < MAX_REFERENCES && (names[0] == null || names[1] == null); i++) {
+			int slot = die.has(SLOT_SPECIFICATION) ? SLOT_SPECIFICATION
+					: die.has(SLOT_ABSTRACT_ORIGIN) ? SLOT_ABSTRACT_ORIGIN : -1;
+			if (slot < 0) {
+				break;
+			}
+			long reference = getReference(unit, die, slot);
+			int index = findUnit(reference);
+			if (index < 0) {
+				break;
+			}
+			unit = fUnits[index];
+			decodeRoot(unit);
+			if (target == null) {
+				target = new Die();
+			}
+			if (!readDie(unit, getAbbrevTable(unit), (int) reference, target)) {
+				break;
+			}
+			die = target;
+			if (names[0] == null) {
+				names[0] = getString(unit, die, SLOT_NAME);
+			}
+			if (names[1] == null) {
+				names[1] = getString(unit, die, SLOT_LINKAGE_NAME);
+			}
+		}
+	}
+
+	private DebugEntry createEntry(int offset) {
+		int index = findUnit(offset);
+		if (index < 0) {
+			throw new IllegalArgumentException("No unit at 0x" + Integer.toHexString(offset)); //$NON-NLS-1$
+		}
+		CompileUnit unit = fUnits[index];
+		decodeRoot(unit);
+		Die die = new Die();
+		if (!readDie(unit, getAbbrevTable(unit), offset, die)) {
+			throw new IllegalArgumentException("No entry at 0x" + Integer.toHexString(offset)); //$NON-NLS-1$
+		}
+		String[] names = new String[2];
+		resolveNames(unit, die, names);
+		return createEntry(unit, die, names[0], names[1]);
+	}
+
+	private DebugEntry createEntry(CompileUnit unit, Die die, String name, String linkageName) {
+		LongList ranges = new LongList();
+		readRanges(unit, die, ranges);
+		long low = 0;
+		long high = 0;
+		for (int i = 0; i < ranges.size; i += 2) {
+			if (i == 0 || ranges.values[i] < low) {
+				low = ranges.values[i];
+			}
+			if (i == 0 || ranges.values[i + 1] > high) {
+				high = ranges.values[i + 1];
+			}
+		}
+		return new DebugEntry(unit, die.offset, die.tag, name, linkageName, low, high);
+	}
+
+	private LineTable readLineTable(CompileUnit unit) {
+		Cursor in = new Cursor(fLine, (int) unit.stmtList);
+		long length = in.u32();
+		int offsetSize = 4;
+		if (length == 0xffffffffL) {
+			length = in.u64();
+			offsetSize = 8;
+		}
+		int end = (int) (in.pos + length);
+		int version = in.u16();
+		if (version < 2 || version > 5) {
+			throw new IllegalArgumentException("Unsupported line table version " + version); //$NON-NLS-1$
+		}
+		if (version >= 5) {
+			in.u8(); // address size
+			in.u8(); // segment selector size
+		}
+		long headerLength = in.offset(offsetSize);
+		int program = (int) (in.pos + headerLength);
+		int minInstructionLength = in.u8();
+		if (version >= 4) {
+			in.u8(); // maximum operations per instruction
+		}
+		in.u8(); // default is_stmt
+		int lineBase = in.s8();
+		int lineRange = in.u8();
+		int opcodeBase = in.u8();
+		if (lineRange == 0 || opcodeBase == 0) {
+			throw new IllegalArgumentException("Invalid line table header"); //$NON-NLS-1$
+		}
+		int[] opcodeLengths = new int[opcodeBase];
+		for (int i = 1; i < opcodeBase; i++) {
+			opcodeLengths[i] = in.u8();
+		}
+
+		// Directory and file 0 are the compilation directory and unit in version 5, the
+		// file numbers start at 1 before
+		List<String> directories;
+		List<String> files;
+		if (version >= 5) {
+			directories = readEntryFormat(unit, in, null);
+			files = readEntryFormat(unit, in, directories);
+		} else {
+			directories = new ArrayList<>();
+			directories.add(null);
+			while (true) {
+				String directory = in.cstring();
+				if (directory.isEmpty()) {
+					break;
+				}
+				directories.add(directory);
+			}
+			files = new ArrayList<>();
+			files.add(null);
+			while (true) {
+				String file = in.cstring();
+				if (file.isEmpty()) {
+					break;
+				}
+				int directory = (int) in.uleb();
+				in.uleb(); // modification time
+				in.uleb(); // length
+				files.add(getPath(directories, directory, file));
+			}
+		}
+
+		LongList addresses = new LongList();
+		LongList fileRows = new LongList();
+		LongList lineRows = new LongList();
+		LongList endRows = new LongList();
+		long address = 0;
+		long file = 1;
+		long line = 1;
+		in.pos = program;
+		while (in.pos < end) {
+			int opcode = in.u8();
+			boolean emit = false;
+			boolean endSequence = false;
+			if (opcode >= opcodeBase) {
+				int adjusted = opcode - opcodeBase;
+				address += (adjusted / lineRange) * minInstructionLength;
+				line += lineBase + adjusted % lineRange;
+				emit = true;
+			} else if (opcode == 0) {
+				long size = in.uleb();
+				int next = (int) (in.pos + size);
+				if (size == 0) {
+					continue;
+				}
+				switch (in.u8()) {
+				case DW_LNE_end_sequence:
+					emit = true;
+					endSequence = true;
+					break;
+				case DW_LNE_set_address:
+					address = in.unsigned((int) size - 1);
+					break;
+				case DW_LNE_define_file:
+					if (version < 5) {
+						String name = in.cstring();
+						files.add(getPath(directories, (int) in.uleb(), name));
+					}
+					break;
+				default:
+					break;
+				}
+				in.pos = next;
+			} else {
+				switch (opcode) {
+				case DW_LNS_copy:
+					emit = true;
+					break;
+				case DW_LNS_advance_pc:
+					address += in.uleb() * minInstructionLength;
+					break;
+				case DW_LNS_advance_line:
+					line += in.sleb();
+					break;
+				case DW_LNS_set_file:
+					file = in.uleb();
+					break;
+				case DW_LNS_const_add_pc:
+					address += ((255 - opcodeBase) / lineRange) * minInstructionLength;
+					break;
+				case DW_LNS_fixed_advance_pc:
+					address += in.u16();
+					break;
+				default:
+					for (int i = 0; i < opcodeLengths[opcode]; i++) {
+						in.uleb();
+					}
+					break;
+				}
+			}
+			if (emit) {
+				addresses.add(address);
+				fileRows.add(file);
+				lineRows.add(line);
+				endRows.add(endSequence ? 1 : 0);
+			}
+			if (endSequence) {
+				address = 0;
+				file = 1;
+				line = 1;
+			}
+		}
+		return createLineTable(addresses, fileRows, lineRows, endRows, files);
+	}
+
+	/**
+	 * Reads the directories or file names of a version 5 line table header.
+	 *
+	 * @param directories the directories when reading the file names, or <code>null</code>
+	 */
+	private List<String> readEntryFormat(CompileUnit unit, Cursor in, List<String> directories) {
+		int formatCount = in.u8();
+		int[] contentTypes = new int[formatCount];
+		int[] forms = new int[formatCount];
+		for (int i = 0; i < formatCount; i++) {
+			contentTypes[i] = (int) in.uleb();
+			forms[i] = (int) in.uleb();
+		}
+		long count = in.uleb();
+		List<String> names = new ArrayList<>();
+		for (long n = 0; n < count; n++) {
+			String path = null;
+			int directory = 0;
+			for (int i = 0; i < formatCount; i++) {
+				if (contentTypes[i] == DW_LNCT_path) {
+					path = readString(unit, in, forms[i]);
+				} else if (contentTypes[i] == DW_LNCT_directory_index) {
+					directory = (int) readConstant(unit, in, forms[i]);
+				} else {
+					skip(unit, in, forms[i]);
+				}
+			}
+			names.add(directories == null ? path : getPath(directories, directory, path));
+		}
+		return names;
+	}
+
+	private static String getPath(List<String> directories, int directory, String file) {
+		if (file == null || directory <= 0 || directory >= directories.size() || file.startsWith("/")) { //$NON-NLS-1$
+			return file;
+		}
+		String path = directories.get(directory);
+		return path == null ? file : path.endsWith("/") ? path + file : path + '/' + file; //$NON-NLS-1$
+	}
+
+	private static LineTable createLineTable(LongList addresses, LongList files, LongList lines, LongList ends,
+			List<String> fileNames) {
+		int count = addresses.size;
+		boolean sorted = true;
+		for (int i = 1; i < count && sorted; i++) {
+			long previous = addresses.values[i - 1];
+			long current = addresses.values[i];
+			sorted = previous < current || (previous == current && (ends.values[i] == 0 || ends.values[i - 1] != 0));
+		}
+		Integer[] order = new Integer[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = i;
+		}
+		if (!sorted) {
+			// At the same address, the end of a sequence comes before the start of the next one
+			Arrays.sort(order, (a, b) -> {
+				int result = Long.compare(addresses.values[a], addresses.values[b]);
+				return result != 0 ? result : Long.compare(ends.values[b], ends.values[a]);
+			});
+		}
+		long[] rowAddresses = new long[count];
+		int[] rowFiles = new int[count];
+		int[] rowLines = new int[count];
+		boolean[] rowEnds = new boolean[count];
+		for (int i = 0; i < count; i++) {
+			int row = order[i];
+			rowAddresses[i] = addresses.values[row];
+			rowFiles[i] = (int) files.values[row];
+			rowLines[i] = (int) lines.values[row];
+			rowEnds[i] = ends.values[row] != 0;
+		}
+		return new LineTable(rowAddresses, rowFiles, rowLines, rowEnds,
+				fileNames.toArray(new String[fileNames.size()]));
+	}
+}
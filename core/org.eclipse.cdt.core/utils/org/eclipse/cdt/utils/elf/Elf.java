@@ -24,6 +24,7 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel.MapMode;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -355,8 +356,22 @@ public class Elf implements AutoCloseable {
 		 * @since 5.1
 		 */
 		public ByteBuffer mapSectionData() throws IOException {
+			return mapSectionData(true);
+		}
+
+		/**
+		 * Maps the section data. When <code>load</code> is false, the data is not read in
+		 * up front, and only the pages that are accessed are read from the file. This
+		 * suits large sections that are read in part.
+		 *
+		 * @since 8.5
+		 */
+		public ByteBuffer mapSectionData(boolean load) throws IOException {
 			makeSureNotCompressed();
-			return efile.getChannel().map(MapMode.READ_ONLY, sh_offset + objOffset, sh_size).load().asReadOnlyBuffer();
+			MappedByteBuffer data = efile.getChannel().map(MapMode.READ_ONLY, sh_offset + objOffset, sh_size);
+			if (load)
+				data.load();
+			return data.asReadOnlyBuffer();
 		}
 
 		public byte[] loadSectionData() throws IOException {
@@ -1269,6 +1284,39 @@ public class Elf implements AutoCloseable {
 		return symbolsTable;
 	}
 
+	/**
+	 * Maps the symbol table of the file for lookups by address and name, without creating the
+	 * symbols. As for {@link #getSymbols()}, this is <code>.symtab</code>, or <code>.dynsym</code>
+	 * when the file has no <code>.symtab</code>.
+	 *
+	 * @return the symbol table, or <code>null</code> if the file has none
+	 * @since 8.5
+	 */
+	public ElfSymbolTable mapSymbolTable() throws IOException {
+		Section[] section = getSections(Section.SHT_SYMTAB);
+		if (section.length == 0) {
+			section = getSections(Section.SHT_DYNSYM);
+		}
+		return section.length > 0 ? mapSymbolTable(section[0]) : null;
+	}
+
+	/**
+	 * Maps a symbol table section for lookups by address and name, without creating the symbols.
+	 *
+	 * @param section a section of type {@link Section#SHT_SYMTAB} or {@link Section#SHT_DYNSYM}
+	 * @since 8.5
+	 */
+	public ElfSymbolTable mapSymbolTable(Section section) throws IOException {
+		Section[] all = getSections();
+		if (section.sh_link <= 0 || section.sh_link >= all.length) {
+			throw new IOException("Invalid string table index " + section.sh_link + ": " + section); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		ByteBuffer symbols = section.mapSectionData(false).order(efile.order());
+		ByteBuffer strings = all[(int) section.sh_link].mapSectionData(false);
+		return new ElfSymbolTable(symbols, strings, ehdr.e_ident[ELFhdr.EI_CLASS] == ELFhdr.ELFCLASS64,
+				(int) section.sh_entsize);
+	}
+
 	/* return the address of the function that address is in */
 	public Symbol getSymbol(IAddress vma) {
 		if (symbols == null) {
@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.utils.elf;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.utils.Addr32;
+import org.eclipse.cdt.utils.Addr64;
+
+/**
+ * Symbol table of an ELF file, read in place from the mapped symbol and string table
+ * sections.
+ * <p>
+ * Unlike {@link Elf#loadSymbols()}, no object is created per symbol. The table keeps the
+ * symbol values sorted in a <code>long</code> array, next to the index of each symbol in
+ * the section, and returns a {@link SymbolView} for the symbols a lookup finds. Names are
+ * read from the string table when asked for. The name index, a sorted array of name hashes
+ * and symbol indexes, is built on the first lookup by name.
+ * <p>
+ * As in {@link Elf#loadSymbols()}, the symbols with no type and binding information are
+ * left out. Values are compared as unsigned addresses.
+ *
+ * @see Elf#mapSymbolTable()
+ * @since 8.5
+ */
+public class ElfSymbolTable {
+
+	/**
+	 * A symbol of the table, decoded from the section when its fields are asked for.
+	 */
+	public class SymbolView {
+		private final int fIndex;
+
+		SymbolView(int index) {
+			fIndex = index;
+		}
+
+		/**
+		 * @return the index of the symbol in the section
+		 */
+		public int getIndex() {
+			return fIndex;
+		}
+
+		public String getName() {
+			return readString(fSymbols.getInt(offset(fIndex)) & 0xffffffffL);
+		}
+
+		public long getValue() {
+			return readValue(fIndex);
+		}
+
+		public IAddress getAddress() {
+			return fIs64 ? new Addr64(getValue()) : new Addr32(getValue());
+		}
+
+		public long getSize() {
+			int offset = offset(fIndex);
+			return fIs64 ? fSymbols.getLong(offset + 16) : fSymbols.getInt(offset + 8) & 0xffffffffL;
+		}
+
+		public int getInfo() {
+			return readInfo(fIndex);
+		}
+
+		/**
+		 * @return the type, e.g. {@link Elf.Symbol#STT_FUNC}
+		 */
+		public int getType() {
+			return getInfo() & 0xf;
+		}
+
+		/**
+		 * @return the binding, e.g. {@link Elf.Symbol#STB_GLOBAL}
+		 */
+		public int getBind() {
+			return (getInfo() >> 4) & 0xf;
+		}
+
+		/**
+		 * @return the index of the section the symbol is defined in
+		 */
+		public int getSectionIndex() {
+			int offset = offset(fIndex);
+			return fSymbols.getShort(offset + (fIs64 ? 6 : 14)) & 0xffff;
+		}
+
+		@Override
+		public String toString() {
+			return getName();
+		}
+	}
+
+	private final ByteBuffer fSymbols;
+	private final ByteBuffer fStrings;
+	private final boolean fIs64;
+	private final int fEntrySize;
+
+	/* Values of the symbols, sorted, and the index of each symbol. */
+	private final long[] fValues;
+	private final int[] fIndexes;
+
+	/* Name hashes in the high bits, symbol indexes in the low bits, sorted. */
+	private long[] fNameIndex;
+
+	/**
+	 * @param symbols the symbol table section data, in the byte order of the file
+	 * @param strings the string table section data
+	 * @param is64 whether the file is of class {@link Elf.ELFhdr#ELFCLASS64}
+	 * @param entrySize the size of a symbol, 0 for the size of the class
+	 */
+	ElfSymbolTable(ByteBuffer symbols, ByteBuffer strings, boolean is64, int entrySize) {
+		fSymbols = symbols;
+		fStrings = strings;
+		fIs64 = is64;
+		fEntrySize = entrySize != 0 ? entrySize : is64 ? 24 : 16;
+
+		int count = symbols.limit() / fEntrySize;
+		int size = 0;
+		for (int i = 0; i < count; i++) {
+			if (readInfo(i) != 0) {
+				size++;
+			}
+		}
+		fValues = new long[size];
+		fIndexes = new int[size];
+		boolean sorted = true;
+		for (int i = 0, j = 0; i < count; i++) {
+			if (readInfo(i) != 0) {
+				fValues[j] = readValue(i);
+				fIndexes[j] = i;
+				sorted &= j == 0 || Long.compareUnsigned(fValues[j - 1], fValues[j]) <= 0;
+				j++;
+			}
+		}
+		if (!sorted) {
+			sort(fValues, fIndexes);
+		}
+	}
+
+	/**
+	 * @return the number of symbols
+	 */
+	public int size() {
+		return fValues.length;
+	}
+
+	/**
+	 * @param position the position of the symbol in the order of the addresses
+	 */
+	public SymbolView get(int position) {
+		return new SymbolView(fIndexes[position]);
+	}
+
+	/**
+	 * @return the symbol with the highest value not above the address, which is the
+	 * function or object containing the address, or <code>null</code> if all the
+	 * symbols are above
+	 */
+	public SymbolView getSymbol(long address) {
+		int low = 0;
+		int high = fValues.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (Long.compareUnsigned(fValues[mid], address) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low > 0 ? new SymbolView(fIndexes[low - 1]) : null;
+	}
+
+	/**
+	 * @return the symbols of the name, in the order of the section
+	 */
+	public List<SymbolView> findSymbols(String name) {
+		if (fNameIndex == null) {
+			fNameIndex = buildNameIndex();
+		}
+		byte[] wanted = name.getBytes(StandardCharsets.UTF_8);
+		int hash = 0;
+		for (byte b : wanted) {
+			hash = 31 * hash + (b & 0xff);
+		}
+		int index = Arrays.binarySearch(fNameIndex, (long) hash << 32);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		List<SymbolView> symbols = new ArrayList<>();
+		for (; index < fNameIndex.length && (int) (fNameIndex[index] >> 32) == hash; index++) {
+			int symbol = (int) fNameIndex[index];
+			if (matches(fSymbols.getInt(offset(symbol)) & 0xffffffffL, wanted)) {
+				symbols.add(new SymbolView(symbol));
+			}
+		}
+		return symbols;
+	}
+
+	private long[] buildNameIndex() {
+		long[] keys = new long[fIndexes.length];
+		int size = 0;
+		for (int i = 0; i < fIndexes.length; i++) {
+			int symbol = fIndexes[i];
+			long name = fSymbols.getInt(offset(symbol)) & 0xffffffffL;
+			if (name == 0 || name >= fStrings.limit()) {
+				continue;
+			}
+			int hash = 0;
+			for (int pos = (int) name; pos < fStrings.limit() && fStrings.get(pos) != 0; pos++) {
+				hash = 31 * hash + (fStrings.get(pos) & 0xff);
+			}
+			keys[size++] = (long) hash << 32 | symbol;
+		}
+		keys = Arrays.copyOf(keys, size);
+		Arrays.sort(keys);
+		return keys;
+	}
+
+	private int offset(int index) {
+		return index * fEntrySize;
+	}
+
+	private int readInfo(int index) {
+		return fSymbols.get(offset(index) + (fIs64 ? 4 : 12)) & 0xff;
+	}
+
+	private long readValue(int index) {
+		int offset = offset(index);
+		return fIs64 ? fSymbols.getLong(offset + 8) : fSymbols.getInt(offset + 4) & 0xffffffffL;
+	}
+
+	private String readString(long offset) {
+		if (offset >= fStrings.limit()) {
+			return ""; //$NON-NLS-1$
+		}
+		int end = (int) offset;
+		while (end < fStrings.limit() && fStrings.get(end) != 0) {
+			end++;
+		}
+		byte[] bytes = new byte[end - (int) offset];
+		ByteBuffer data = fStrings.duplicate();
+		data.position((int) offset);
+		data.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private boolean matches(long offset, byte[] wanted) {
+		if (offset + wanted.length >= fStrings.limit()) {
+			return false;
+		}
+		for (int i = 0; i < wanted.length; i++) {
+			if (fStrings.get((int) offset + i) != wanted[i]) {
+				return false;
+			}
+		}
+		return fStrings.get((int) offset + wanted.length) == 0;
+	}
+
+	/**
+	 * Sorts the values as unsigned, keeping the indexes in step and the order of equal values.
+	 */
+	private static void sort(long[] values, int[] indexes) {
+		int n = values.length;
+		long[] fromValues = values;
+		int[] fromIndexes = indexes;
+		long[] toValues = new long[n];
+		int[] toIndexes = new int[n];
+		for (int width = 1; width < n; width *= 2) {
+			for (int low = 0; low < n; low += 2 * width) {
+				int mid = Math.min(low + width, n);
+				int high = Math.min(low + 2 * width, n);
+				int a = low;
+				int b = mid;
+				for (int k = low; k < high; k++) {
+					if (b >= high || (a < mid && Long.compareUnsigned(fromValues[a], fromValues[b]) <= 0)) {
+						toValues[k] = fromValues[a];
+						toIndexes[k] = fromIndexes[a++];
+					} else {
+						toValues[k] = fromValues[b];
+						toIndexes[k] = fromIndexes[b++];
+					}
+				}
+			}
+			long[] swapValues = fromValues;
+			fromValues = toValues;
+			toValues = swapValues;
+			int[] swapIndexes = fromIndexes;
+			fromIndexes = toIndexes;
+			toIndexes = swapIndexes;
+		}
+		if (fromValues != values) {
+			System.arraycopy(fromValues, 0, values, 0, n);
+			System.arraycopy(fromIndexes, 0, indexes, 0, n);
+		}
+	}
+}
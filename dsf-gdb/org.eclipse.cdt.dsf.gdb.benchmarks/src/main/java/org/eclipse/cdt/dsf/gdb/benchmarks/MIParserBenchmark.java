@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.mi.service.command.output.MIConst;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIList;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParser;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResult;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIResultRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MITuple;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link MIParser} with the {@link LegacyMIParser} on large result records.
+ * Since the values are decoded lazily, the <code>*AndDecode</code> variants also access
+ * every value of the parsed record, as it is done when a response is processed completely.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MIParserBenchmark {
+	@Param({ "STACK_FRAMES", "MEMORY_BYTES", "VAR_CHILDREN" })
+	public MIResponse response;
+
+	private final MIParser fParser = new MIParser();
+	private final LegacyMIParser fLegacyParser = new LegacyMIParser();
+
+	@Benchmark
+	public MIResultRecord parse() {
+		return fParser.parseMIResultRecord(response.getLine());
+	}
+
+	@Benchmark
+	public int parseAndDecode() {
+		return decode(fParser.parseMIResultRecord(response.getLine()).getMIResults());
+	}
+
+	@Benchmark
+	public MIResultRecord legacyParse() {
+		return fLegacyParser.parseMIResultRecord(response.getLine());
+	}
+
+	@Benchmark
+	public int legacyParseAndDecode() {
+		return decode(fLegacyParser.parseMIResultRecord(response.getLine()).getMIResults());
+	}
+
+	private static int decode(MIResult[] results) {
+		int length = 0;
+		for (MIResult result : results) {
+			length += decode(result.getMIValue());
+		}
+		return length;
+	}
+
+	private static int decode(MIValue value) {
+		if (value instanceof MIConst) {
+			return ((MIConst) value).getCString().length();
+		}
+		int length = 0;
+		MIValue[] values = null;
+		if (value instanceof MITuple) {
+			length = decode(((MITuple) value).getMIResults());
+			values = ((MITuple) value).getMIValues();
+		} else if (value instanceof MIList) {
+			length = decode(((MIList) value).getMIResults());
+			values = ((MIList) value).getMIValues();
+		}
+		if (values != null) {
+			for (MIValue v : values) {
+				length += decode(v);
+			}
+		}
+		return length;
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.gdb.benchmarks;
+
+/**
+ * Large GDB/MI result records, as sent for a deep recursion, a large memory block and a
+ * large array. The records are generated, such that no GDB is needed to run the benchmarks.
+ */
+public enum MIResponse {
+	/** <code>-stack-list-frames</code> of a recursion 2000 frames deep. */
+	STACK_FRAMES {
+		@Override
+		String create() {
+			StringBuilder buf = new StringBuilder("12^done,stack=["); //$NON-NLS-1$
+			for (int i = 0; i < 2000; i++) {
+				if (i > 0) {
+					buf.append(',');
+				}
+				buf.append("frame={level=\"").append(i) //$NON-NLS-1$
+						.append("\",addr=\"0x0000555555555149\",func=\"recurse\",file=\"recurse.c\"," //$NON-NLS-1$
+								+ "fullname=\"/home/user/src/recurse.c\",line=\"") //$NON-NLS-1$
+						.append(10 + i % 3).append("\",arch=\"i386:x86-64\"}"); //$NON-NLS-1$
+			}
+			return buf.append(']').toString();
+		}
+	},
+	/** <code>-data-read-memory-bytes</code> of 64 KB. */
+	MEMORY_BYTES {
+		@Override
+		String create() {
+			StringBuilder buf = new StringBuilder("13^done,memory=[{begin=\"0x00007ffff7dd0000\"," //$NON-NLS-1$
+					+ "offset=\"0x0000000000000000\",end=\"0x00007ffff7de0000\",contents=\""); //$NON-NLS-1$
+			for (int i = 0; i < 0x10000; i++) {
+				buf.append(Character.forDigit((i >> 4) & 0xf, 16)).append(Character.forDigit(i & 0xf, 16));
+			}
+			return buf.append("\"}]").toString(); //$NON-NLS-1$
+		}
+	},
+	/** <code>-var-list-children</code> of an array of 1000 structs. */
+	VAR_CHILDREN {
+		@Override
+		String create() {
+			StringBuilder buf = new StringBuilder("14^done,numchild=\"1000\",children=["); //$NON-NLS-1$
+			for (int i = 0; i < 1000; i++) {
+				if (i > 0) {
+					buf.append(',');
+				}
+				buf.append("child={name=\"var1.[").append(i).append("]\",exp=\"[").append(i) //$NON-NLS-1$ //$NON-NLS-2$
+						.append("]\",numchild=\"2\",value=\"{...}\",type=\"struct point\",thread-id=\"1\"}"); //$NON-NLS-1$
+			}
+			return buf.append("],has_more=\"0\"").toString(); //$NON-NLS-1$
+		}
+	};
+
+	private String fLine;
+
+	abstract String create();
+
+	public synchronized String getLine() {
+		if (fLine == null) {
+			fLine = create();
+		}
+		return fLine;
+	}
+}
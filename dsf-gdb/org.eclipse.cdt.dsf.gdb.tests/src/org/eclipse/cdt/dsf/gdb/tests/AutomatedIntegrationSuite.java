@@ -17,9 +17,18 @@ import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_NoContainerTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_WithAlternativeProcessIdTest;
 import org.eclipse.cdt.dsf.gdb.service.GDBRegisterTest_WithContainerDMContextTest;
+import org.eclipse.cdt.dsf.mi.service.MIDisassemblyCacheTest;
+import org.eclipse.cdt.dsf.mi.service.MIMemoryCacheTest;
+import org.eclipse.cdt.dsf.mi.service.MIMemoryPageCacheTest;
+import org.eclipse.cdt.dsf.mi.service.MIRegisterSnapshotsTest;
+import org.eclipse.cdt.dsf.mi.service.MIStackTopFramesTest;
+import org.eclipse.cdt.dsf.mi.service.command.AbstractMIControlTest;
+import org.eclipse.cdt.dsf.mi.service.command.MIReplayerTest;
+import org.eclipse.cdt.dsf.mi.service.command.MITraceBufferTest;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIBreakInsertCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMICommandConstructCommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.TestMIGDBSetSysroot;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIParserTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStringHandlerTests;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIThreadTests;
 import org.junit.runner.RunWith;
@@ -30,9 +39,12 @@ import org.junit.runners.Suite.SuiteClasses;
 
 // Add additional test case classes below
 @SuiteClasses({ MIThreadTests.class, TestMIBreakInsertCommand.class, TestMICommandConstructCommand.class,
-		TestMIGDBSetSysroot.class, LaunchUtilsTest.class, MIStringHandlerTests.class, ProcStatParserTest.class,
-		FilePartsTest.class, GDBRegisterTest.class, GDBRegisterTest_NoContainerTest.class,
-		GDBRegisterTest_WithAlternativeProcessIdTest.class, GDBRegisterTest_WithContainerDMContextTest.class, })
+		TestMIGDBSetSysroot.class, LaunchUtilsTest.class, MIStringHandlerTests.class, MIParserTests.class,
+		ProcStatParserTest.class, FilePartsTest.class, GDBRegisterTest.class, GDBRegisterTest_NoContainerTest.class,
+		GDBRegisterTest_WithAlternativeProcessIdTest.class, GDBRegisterTest_WithContainerDMContextTest.class,
+		MIMemoryPageCacheTest.class, MIDisassemblyCacheTest.class, MIReplayerTest.class, MITraceBufferTest.class,
+		MIRegisterSnapshotsTest.class, AbstractMIControlTest.class, MIStackTopFramesTest.class,
+		MIMemoryCacheTest.class, })
 public class AutomatedIntegrationSuite {
 	// Often overriding BeforeClass method here
 }
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.cdt.dsf.debug.service.AbstractInstruction;
+import org.eclipse.cdt.dsf.debug.service.IInstruction;
+import org.eclipse.cdt.dsf.debug.service.IMixedInstruction;
+import org.junit.Test;
+
+/**
+ * Tests the address index of the MIDisassembly cache, without a target.
+ */
+public class MIDisassemblyCacheTest {
+
+	private static class Instruction extends AbstractInstruction {
+		private final BigInteger fAddress;
+		private final Integer fSize;
+
+		Instruction(long address, Integer size) {
+			fAddress = BigInteger.valueOf(address);
+			fSize = size;
+		}
+
+		@Override
+		public BigInteger getAdress() {
+			return fAddress;
+		}
+
+		@Override
+		public String getFuntionName() {
+			return "main";
+		}
+
+		@Override
+		public long getOffset() {
+			return 0;
+		}
+
+		@Override
+		public String getInstruction() {
+			return "nop";
+		}
+
+		@Override
+		public String getOpcode() {
+			return "nop";
+		}
+
+		@Override
+		public String getArgs() {
+			return "";
+		}
+
+		@Override
+		public Integer getSize() {
+			return fSize;
+		}
+	}
+
+	/** Simulates a disassembly of a target whose instructions are all four bytes long */
+	private static IMixedInstruction[] target(long start, long end) {
+		List<IInstruction> instructions = new ArrayList<>();
+		for (long address = start; address < end; address += 4) {
+			instructions.add(new Instruction(address, 4));
+		}
+		return MIDisassemblyCache.toLines(instructions.toArray(new IInstruction[instructions.size()]));
+	}
+
+	private static IMixedInstruction line(int lineNumber, long... addresses) {
+		IInstruction[] instructions = new IInstruction[addresses.length];
+		for (int i = 0; i < addresses.length; i++) {
+			instructions[i] = new Instruction(addresses[i], 4);
+		}
+		return new MIDisassemblyCache.Line("main.c", lineNumber, instructions);
+	}
+
+	private static BigInteger big(long value) {
+		return BigInteger.valueOf(value);
+	}
+
+	private static void fetch(MIDisassemblyCache cache, List<BigInteger[]> ranges) {
+		for (BigInteger[] range : ranges) {
+			cache.put(range[0], range[1], target(range[0].longValue(), range[1].longValue()));
+		}
+	}
+
+	private static void assertAddresses(IInstruction[] instructions, long start, long end) {
+		assertEquals((end - start) / 4, instructions.length);
+		for (int i = 0; i < instructions.length; i++) {
+			assertEquals(big(start + 4 * i), instructions[i].getAdress());
+		}
+	}
+
+	@Test
+	public void missingRangeIsReadAhead() {
+		MIDisassemblyCache cache = new MIDisassemblyCache(1000);
+		List<BigInteger[]> ranges = cache.getMissingRanges(big(0x1000), big(0x1040), 0x40);
+		assertEquals(1, ranges.size());
+		assertEquals(big(0x1000), ranges.get(0)[0]);
+		assertEquals(big(0x1080), ranges.get(0)[1]);
+		fetch(cache, ranges);
+
+		// Scrolling within the read-ahead needs no disassembly
+		assertTrue(cache.getMissingRanges(big(0x1040), big(0x1080), 0x40).isEmpty());
+		assertAddresses(MIDisassemblyCache.toInstructions(cache.get(big(0x1040), big(0x1080))), 0x1040, 0x1080);
+		assertNull(cache.get(big(0x1040), big(0x1084)));
+	}
+
+	@Test
+	public void onlyGapsAreDisassembled() {
+		MIDisassemblyCache cache = new MIDisassemblyCache(1000);
+		fetch(cache, cache.getMissingRanges(big(0x1000), big(0x1040), 0));
+		fetch(cache, cache.getMissingRanges(big(0x1080), big(0x10c0), 0));
+
+		List<BigInteger[]> ranges = cache.getMissingRanges(big(0x1020), big(0x1100), 0x10);
+		assertEquals(2, ranges.size());
+		assertEquals(big(0x1040), ranges.get(0)[0]);
+		assertEquals(big(0x1080), ranges.get(0)[1]);
+		assertEquals(big(0x10c0), ranges.get(1)[0]);
+		assertEquals(big(0x1110), ranges.get(1)[1]);
+		fetch(cache, ranges);
+
+		assertEquals(4, cache.getBlockCount());
+		IMixedInstruction[] lines = cache.get(big(0x1020), big(0x1100));
+		// Instructions without source lines are stitched into a single group
+		assertEquals(1, lines.length);
+		assertAddresses(lines[0].getInstructions(), 0x1020, 0x1100);
+	}
+
+	@Test
+	public void splitLinesAreJoined() {
+		MIDisassemblyCache cache = new MIDisassemblyCache(1000);
+		cache.put(big(0x100), big(0x10c), new IMixedInstruction[] { line(10, 0x100), line(11, 0x104, 0x108) });
+		cache.put(big(0x10c), big(0x118), new IMixedInstruction[] { line(11, 0x10c), line(12, 0x110, 0x114) });
+
+		IMixedInstruction[] lines = cache.get(big(0x100), big(0x118));
+		assertEquals(3, lines.length);
+		assertEquals(10, lines[0].getLineNumber());
+		assertEquals(11, lines[1].getLineNumber());
+		assertEquals("main.c", lines[1].getFileName());
+		assertEquals(3, lines[1].getInstructions().length);
+		assertEquals(big(0x10c), lines[1].getInstructions()[2].getAdress());
+		assertEquals(12, lines[2].getLineNumber());
+
+		// Lines that are entirely in the request are returned as is
+		IMixedInstruction[] tail = cache.get(big(0x10c), big(0x118));
+		assertEquals(2, tail.length);
+		assertEquals(1, tail[0].getInstructions().length);
+		assertEquals(2, tail[1].getInstructions().length);
+	}
+
+	@Test
+	public void blockCoversLastInstruction() {
+		MIDisassemblyCache cache = new MIDisassemblyCache(1000);
+		IInstruction[] instructions = { new Instruction(0x200, 2), new Instruction(0x202, 6) };
+		cache.put(big(0x200), big(0x204), MIDisassemblyCache.toLines(instructions));
+
+		// The next disassembly must start after the last instruction, not in its middle
+		List<BigInteger[]> ranges = cache.getMissingRanges(big(0x200), big(0x210), 0);
+		assertEquals(1, ranges.size());
+		assertEquals(big(0x208), ranges.get(0)[0]);
+	}
+
+	@Test
+	public void overlappingBlocksAreReplaced() {
+		MIDisassemblyCache cache = new MIDisassemblyCache(1000);
+		fetch(cache, cache.getMissingRanges(big(0x1000), big(0x1040), 0));
+		fetch(cache, cache.getMissingRanges(big(0x1080), big(0x10c0), 0));
+		cache.put(big(0x1020), big(0x10a0), target(0x1020, 0x10a0));
+
+		assertEquals(1, cache.getBlockCount());
+		assertEquals(0x20, cache.getInstructionCount());
+		assertNull(cache.get(big(0x1000), big(0x1040)));
+	}
+
+	@Test
+	public void writtenCodeIsInvalidated() {
+		MIDisassemblyCache cache = new MIDisassemblyCache(1000);
+		fetch(cache, cache.getMissingRanges(big(0x1000), big(0x1040), 0));
+		fetch(cache, cache.getMissingRanges(big(0x1040), big(0x1080), 0));
+
+		assertFalse(cache.invalidate(big(0x2000)));
+		assertTrue(cache.invalidate(big(0x1042)));
+		assertEquals(1, cache.getBlockCount());
+		List<BigInteger[]> ranges = cache.getMissingRanges(big(0x1000), big(0x1080), 0);
+		assertEquals(1, ranges.size());
+		assertEquals(big(0x1040), ranges.get(0)[0]);
+	}
+
+	@Test
+	public void leastRecentlyUsedBlocksAreEvicted() {
+		MIDisassemblyCache cache = new MIDisassemblyCache(0x20);
+		fetch(cache, cache.getMissingRanges(big(0x1000), big(0x1040), 0));
+		fetch(cache, cache.getMissingRanges(big(0x2000), big(0x2040), 0));
+		IMixedInstruction[] first = cache.get(big(0x1000), big(0x1040));
+		fetch(cache, cache.getMissingRanges(big(0x3000), big(0x3040), 0));
+
+		assertEquals(0x20, cache.getInstructionCount());
+		assertSame(first[0], cache.get(big(0x1000), big(0x1040))[0]);
+		assertNull(cache.get(big(0x2000), big(0x2040)));
+	}
+}
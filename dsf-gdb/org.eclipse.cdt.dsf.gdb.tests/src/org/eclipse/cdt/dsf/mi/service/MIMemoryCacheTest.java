@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryDMContext;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.MIMemory.MIMemoryCache;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.utils.Addr64;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests how the MIMemory cache handles reads failing on memory around a request,
+ * against a target simulated by {@link MIMemory#readMemoryBlock}.
+ */
+public class MIMemoryCacheTest {
+
+	private static final int TIMEOUT = 10;
+	private static final int PAGE_SIZE = 256;
+	/** Reads of the target fail if they reach this address */
+	private static final long READABLE_END = 0x1180;
+
+	private static class TestMemory extends MIMemory {
+		final List<long[]> fReads = new ArrayList<>();
+		int fPrefetchPages = IGdbDebugPreferenceConstants.MEMORY_CACHE_PREFETCH_PAGES_DEFAULT;
+
+		TestMemory(DsfSession session) {
+			super(session);
+		}
+
+		@Override
+		protected int getMemoryCachePageSize(IMemoryDMContext context) {
+			return PAGE_SIZE;
+		}
+
+		@Override
+		protected long getMemoryCacheSizeLimit(IMemoryDMContext context) {
+			return 1 << 20;
+		}
+
+		@Override
+		protected int getMemoryCachePrefetchPages(IMemoryDMContext context) {
+			return fPrefetchPages;
+		}
+
+		@Override
+		protected void readMemoryBlock(IDMContext dmc, IAddress address, long offset, int wordSize, int wordCount,
+				DataRequestMonitor<MemoryByte[]> drm) {
+			long start = address.getValue().longValue() + offset;
+			fReads.add(new long[] { start, wordCount });
+			boolean fails = start + wordCount > READABLE_END;
+			MemoryByte[] block = new MemoryByte[wordCount * wordSize];
+			for (int i = 0; i < block.length; i++) {
+				// Same as the block returned by a failed -data-read-memory
+				block[i] = fails ? new MemoryByte((byte) 0, (byte) 0) : new MemoryByte((byte) (start + i));
+			}
+			drm.setData(block);
+			drm.done();
+		}
+	}
+
+	private DsfSession fSession;
+	private TestMemory fMemory;
+
+	@Before
+	public void setUp() {
+		fSession = DsfSession.startSession(new DefaultDsfExecutor(GdbPlugin.PLUGIN_ID), GdbPlugin.PLUGIN_ID);
+		fMemory = new TestMemory(fSession);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fSession.getExecutor().submit(() -> DsfSession.endSession(fSession)).get();
+		fSession.getExecutor().shutdown();
+	}
+
+	private MemoryByte[] read(MIMemoryCache cache, String address, int count) throws Exception {
+		Query<MemoryByte[]> query = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<MemoryByte[]> rm) {
+				cache.getMemory(null, new Addr64(address), 1, count, rm);
+			}
+		};
+		fSession.getExecutor().execute(query);
+		return query.get(TIMEOUT, TimeUnit.SECONDS);
+	}
+
+	private MIMemoryCache createCache() throws Exception {
+		return fSession.getExecutor().submit(() -> fMemory.new MIMemoryCache(null)).get();
+	}
+
+	@Test
+	public void requestedMemoryIsReadWhenPageIsNot() throws Exception {
+		MIMemoryCache cache = createCache();
+		// The page 0x1100 cannot be read as a whole
+		MemoryByte[] bytes = read(cache, "0x1140", 0x20);
+		for (int i = 0; i < bytes.length; i++) {
+			assertTrue(bytes[i].isReadable());
+			assertEquals((byte) (0x40 + i), bytes[i].getValue());
+		}
+		assertEquals(2, fMemory.fReads.size());
+		assertArrayEquals(new long[] { 0x1100, PAGE_SIZE }, fMemory.fReads.get(0));
+		assertArrayEquals(new long[] { 0x1140, 0x20 }, fMemory.fReads.get(1));
+
+		// Neither the failed page nor the part of it which was read is cached
+		fMemory.fReads.clear();
+		bytes = read(cache, "0x1100", 0x10);
+		assertTrue(bytes[0].isReadable());
+		assertEquals(2, fMemory.fReads.size());
+	}
+
+	@Test
+	public void unreadableRequestIsNotCached() throws Exception {
+		MIMemoryCache cache = createCache();
+		MemoryByte[] bytes = read(cache, "0x1000", 0x200);
+		for (MemoryByte b : bytes) {
+			assertFalse(b.isReadable());
+		}
+		// Only the requested memory was read
+		assertEquals(1, fMemory.fReads.size());
+
+		fMemory.fReads.clear();
+		bytes = read(cache, "0x1000", 0x10);
+		assertTrue(bytes[0].isReadable());
+		assertEquals(1, fMemory.fReads.size());
+	}
+
+	@Test
+	public void noReadAheadByDefault() throws Exception {
+		MIMemoryCache cache = createCache();
+		read(cache, "0x800", 0x10);
+		read(cache, "0x900", 0x10);
+		for (long[] read : fMemory.fReads) {
+			assertEquals(PAGE_SIZE, read[1]);
+		}
+	}
+
+	@Test
+	public void failedReadAheadIsNotCached() throws Exception {
+		fMemory.fPrefetchPages = 2;
+		MIMemoryCache cache = createCache();
+		read(cache, "0xf00", 0x10);
+		// Moving up, the read of 0x1000 goes ahead into the memory which cannot be read
+		MemoryByte[] bytes = read(cache, "0x1000", 0x10);
+		assertTrue(bytes[0].isReadable());
+		assertEquals((byte) 0, bytes[0].getValue());
+
+		// The page is read again
+		fMemory.fReads.clear();
+		bytes = read(cache, "0x1000", 0x10);
+		assertTrue(bytes[0].isReadable());
+		assertFalse(fMemory.fReads.isEmpty());
+	}
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.utils.Addr32;
+import org.eclipse.cdt.utils.Addr64;
+import org.eclipse.debug.core.model.MemoryByte;
+import org.junit.Test;
+
+/**
+ * Tests the page bookkeeping of the MIMemory cache, without a target.
+ */
+public class MIMemoryPageCacheTest {
+
+	/** Simulates a read from a target whose memory holds the low byte of each address */
+	private static MemoryByte[] target(long start, int length) {
+		MemoryByte[] block = new MemoryByte[length];
+		for (int i = 0; i < length; i++) {
+			block[i] = new MemoryByte((byte) (start + i));
+		}
+		return block;
+	}
+
+	private static void fetch(MIMemoryPageCache cache, List<long[]> runs) {
+		for (long[] run : runs) {
+			long start = cache.getPageStart(run[0]).longValue();
+			cache.putAll(cache.split(run[0], target(start, (int) run[1] * cache.getPageSize())));
+		}
+	}
+
+	private static void assertRuns(List<long[]> runs, long... expected) {
+		assertEquals(expected.length / 2, runs.size());
+		for (int i = 0; i < runs.size(); i++) {
+			assertArrayEquals(new long[] { expected[2 * i], expected[2 * i + 1] }, runs.get(i));
+		}
+	}
+
+	@Test
+	public void pageSizeIsPowerOfTwo() {
+		assertEquals(256, new MIMemoryPageCache(500, 1, 4096).getPageSize());
+		assertEquals(MIMemoryPageCache.MIN_PAGE_SIZE, new MIMemoryPageCache(0, 1, 4096).getPageSize());
+	}
+
+	@Test
+	public void missingPagesAreReadTogether() {
+		MIMemoryPageCache cache = new MIMemoryPageCache(256, 1, 1 << 20);
+		IAddress address = new Addr64("0x1010");
+		List<long[]> runs = cache.getMissingRuns(address, 0x300, 2, 64);
+		// No direction yet, so nothing is read ahead
+		assertRuns(runs, 0x10, 4);
+		fetch(cache, runs);
+
+		assertTrue(cache.getMissingRuns(address, 0x300, 2, 64).isEmpty());
+		MemoryByte[] bytes = cache.read(address, 0x300, null);
+		assertEquals(0x300, bytes.length);
+		for (int i = 0; i < bytes.length; i++) {
+			assertEquals((byte) (0x1010 + i), bytes[i].getValue());
+		}
+	}
+
+	@Test
+	public void readAheadFollowsDirection() {
+		MIMemoryPageCache cache = new MIMemoryPageCache(256, 1, 1 << 20);
+		fetch(cache, cache.getMissingRuns(new Addr64("0x5000"), 0x100, 2, 64));
+		cache.putAll(cache.split(0x52, target(0x5200, 0x100)));
+
+		// Moving up reads ahead after the request, cached pages split the reads
+		assertRuns(cache.getMissingRuns(new Addr64("0x5080"), 0x100, 2, 64), 0x51, 1, 0x53, 1);
+		// Moving down reads ahead before the request
+		assertRuns(cache.getMissingRuns(new Addr64("0x4f80"), 0x100, 2, 64), 0x4d, 3);
+		// Nothing is read while the request is cached
+		assertTrue(cache.getMissingRuns(new Addr64("0x5000"), 0x100, 2, 64).isEmpty());
+	}
+
+	@Test
+	public void readsAreLimitedInSize() {
+		MIMemoryPageCache cache = new MIMemoryPageCache(16, 1, 1 << 20);
+		assertRuns(cache.getMissingRuns(new Addr64("0x0"), 16 * 5, 0, 2), 0, 2, 2, 2, 4, 1);
+	}
+
+	@Test
+	public void readAheadStopsAtEndOfAddressSpace() {
+		MIMemoryPageCache cache = new MIMemoryPageCache(256, 1, 1 << 20);
+		cache.getMissingRuns(new Addr32(0xfffffd00L), 0x100, 8, 64);
+		List<long[]> runs = cache.getMissingRuns(new Addr32(0xfffffe00L), 0x100, 8, 64);
+		assertRuns(runs, 0xfffffeL, 2);
+	}
+
+	@Test
+	public void leastRecentlyUsedPagesAreEvicted() {
+		MIMemoryPageCache cache = new MIMemoryPageCache(16, 2, 2 * 16 * 2);
+		cache.putAll(cache.split(0, target(0, 3 * 16 * 2)));
+		assertEquals(3, cache.getPageCount());
+		// Pages are only dropped when trimming, such that a request can use all of its pages
+		cache.read(new Addr64(BigInteger.ZERO), 16, null);
+		cache.trim();
+		assertEquals(2, cache.getPageCount());
+		assertEquals(2 * 16 * 2, cache.getSize());
+		assertTrue(cache.contains(0));
+		assertFalse(cache.contains(1));
+		assertTrue(cache.contains(2));
+	}
+
+	@Test
+	public void pinnedPagesOutliveEviction() {
+		MIMemoryPageCache cache = new MIMemoryPageCache(16, 1, 16);
+		Map<Long, MemoryByte[]> pages = cache.split(0, target(0, 32));
+		cache.putAll(pages);
+		cache.trim();
+		assertEquals(1, cache.getPageCount());
+		MemoryByte[] bytes = cache.read(new Addr64("0x8"), 16, pages);
+		for (int i = 0; i < bytes.length; i++) {
+			assertTrue(bytes[i].isReadable());
+			assertEquals((byte) (8 + i), bytes[i].getValue());
+		}
+	}
+
+	@Test
+	public void updateOnlyTouchesCachedMemory() {
+		MIMemoryPageCache cache = new MIMemoryPageCache(16, 1, 1 << 20);
+		cache.putAll(cache.split(1, target(16, 16)));
+		IAddress address = new Addr64("0x8");
+		assertTrue(cache.containsAny(address, 16));
+		assertFalse(cache.containsAny(address, 8));
+
+		// Same content
+		assertFalse(cache.update(address, target(8, 16)));
+		// New content, partly cached
+		MemoryByte[] changed = target(0x48, 16);
+		assertTrue(cache.update(address, changed));
+		assertEquals(changed[8].getValue(), cache.read(new Addr64("0x10"), 1, null)[0].getValue());
+		assertFalse(cache.contains(0));
+	}
+
+	@Test
+	public void unalignedRangeIsSplitIntoPages() {
+		MIMemoryPageCache cache = new MIMemoryPageCache(16, 1, 1 << 20);
+		IAddress start = new Addr64("0x18");
+		Map<Long, MemoryByte[]> pages = cache.splitRange(start, target(0x18, 0x20));
+		assertEquals(3, pages.size());
+		// Only the bytes of the range are readable
+		MemoryByte[] first = pages.get(1L);
+		assertFalse(first[7].isReadable());
+		assertTrue(first[8].isReadable());
+		assertEquals((byte) 0x18, first[8].getValue());
+		assertEquals((byte) 0x27, pages.get(2L)[7].getValue());
+		MemoryByte[] last = pages.get(3L);
+		assertTrue(last[7].isReadable());
+		assertFalse(last[8].isReadable());
+
+		assertFalse(cache.isWithin(1, start, 0x20));
+		assertTrue(cache.isWithin(2, start, 0x20));
+		assertFalse(cache.isWithin(3, start, 0x20));
+		assertTrue(cache.isWithin(3, start, 0x28));
+	}
+}
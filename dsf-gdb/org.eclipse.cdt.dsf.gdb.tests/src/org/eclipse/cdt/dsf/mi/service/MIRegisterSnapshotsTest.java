@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the snapshots of register values kept by {@link MIRegisters}.
+ */
+public class MIRegisterSnapshotsTest {
+
+	private static final int HEX = MIFormat.HEXADECIMAL;
+	private static final int DEC = MIFormat.DECIMAL;
+
+	private MIRegisterSnapshots<String> fSnapshots;
+
+	@Before
+	public void setUp() {
+		fSnapshots = new MIRegisterSnapshots<>();
+	}
+
+	/**
+	 * Reads registers 0 to 2 of the top frame of a thread, as the first read of a
+	 * stop, and lists the changed registers as requested by the snapshots.
+	 */
+	private void viewTopFrame(String thread) {
+		assertTrue(fSnapshots.put(thread, 0, HEX, 0, "0x0"));
+		fSnapshots.setBaselineThread(thread);
+		assertFalse(fSnapshots.put(thread, 0, HEX, 1, "0x1"));
+		assertFalse(fSnapshots.put(thread, 0, DEC, 2, "2"));
+	}
+
+	@Test
+	public void valuesAreKeptByFrameAndFormat() {
+		viewTopFrame("t1");
+		assertFalse(fSnapshots.put("t1", 1, HEX, 0, "0x10"));
+		assertEquals("0x0", fSnapshots.get("t1", 0, HEX, 0));
+		assertEquals("0x10", fSnapshots.get("t1", 1, HEX, 0));
+		assertEquals("2", fSnapshots.get("t1", 0, DEC, 2));
+		assertNull(fSnapshots.get("t1", 0, DEC, 0));
+		assertNull(fSnapshots.get("t2", 0, HEX, 0));
+		assertEquals(2, fSnapshots.getSnapshotCount());
+	}
+
+	@Test
+	public void onlyChangedRegistersAreDroppedAfterAStep() {
+		viewTopFrame("t1");
+		fSnapshots.put("t1", 1, HEX, 0, "0x10");
+
+		fSnapshots.resumed(thread -> thread.equals("t1"));
+		assertNull(fSnapshots.get("t1", 0, HEX, 0));
+		assertTrue(fSnapshots.needsChangedRegisters("t1"));
+
+		fSnapshots.setBaselineThread("t1");
+		fSnapshots.suspended("t1", new int[] { 1 });
+		assertEquals("0x0", fSnapshots.get("t1", 0, HEX, 0));
+		assertNull(fSnapshots.get("t1", 0, HEX, 1));
+		assertEquals("2", fSnapshots.get("t1", 0, DEC, 2));
+		assertNull(fSnapshots.get("t1", 1, HEX, 0));
+
+		// The changed registers were listed at this stop already
+		assertFalse(fSnapshots.put("t1", 0, HEX, 1, "0x11"));
+	}
+
+	@Test
+	public void snapshotIsDroppedWhenChangedRegistersAreUnknown() {
+		viewTopFrame("t1");
+		fSnapshots.resumed(thread -> true);
+		fSnapshots.setBaselineThread("t1");
+		fSnapshots.suspended("t1", null);
+		assertNull(fSnapshots.get("t1", 0, HEX, 0));
+		assertEquals(0, fSnapshots.getSnapshotCount());
+	}
+
+	@Test
+	public void snapshotIsDroppedWhenAnotherThreadSetsTheBaseline() {
+		viewTopFrame("t1");
+		fSnapshots.resumed(thread -> thread.equals("t1"));
+
+		// Non-stop: another thread is viewed while t1 runs
+		viewTopFrame("t2");
+		assertFalse(fSnapshots.needsChangedRegisters("t1"));
+		assertEquals("0x1", fSnapshots.get("t2", 0, HEX, 1));
+	}
+
+	@Test
+	public void snapshotIsDroppedWhenAnotherThreadTriggersTheStop() {
+		viewTopFrame("t1");
+		fSnapshots.resumed(thread -> true);
+		fSnapshots.dropResumedSnapshot(thread -> true);
+		assertFalse(fSnapshots.needsChangedRegisters("t1"));
+
+		// The baseline is from the previous stop, it must be listed again
+		assertTrue(fSnapshots.put("t1", 0, HEX, 0, "0x0"));
+	}
+
+	@Test
+	public void snapshotsOfOtherThreadsSurviveAResume() {
+		viewTopFrame("t1");
+		fSnapshots.put("t2", 1, HEX, 0, "0x20");
+		fSnapshots.resumed(thread -> thread.equals("t1"));
+		assertEquals("0x20", fSnapshots.get("t2", 1, HEX, 0));
+	}
+
+	@Test
+	public void clearDropsEverything() {
+		viewTopFrame("t1");
+		fSnapshots.resumed(thread -> true);
+		fSnapshots.clear();
+		assertFalse(fSnapshots.needsChangedRegisters("t1"));
+		assertTrue(fSnapshots.put("t1", 0, HEX, 0, "0x0"));
+	}
+}
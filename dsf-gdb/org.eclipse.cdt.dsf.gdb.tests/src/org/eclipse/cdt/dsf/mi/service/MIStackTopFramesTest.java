@@ -0,0 +1,394 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.datamodel.AbstractDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IProcesses.IProcessDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMData;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.IMIRunControl.IRunMode;
+import org.eclipse.cdt.dsf.mi.service.IMIRunControl.MIRunMode;
+import org.eclipse.cdt.dsf.mi.service.command.AbstractMIControl;
+import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.MIControlDMContext;
+import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests that {@link MIStack} in non-stop mode fetches the top frames of the stopped
+ * threads with a single -thread-info, against streams standing for GDB.
+ */
+public class MIStackTopFramesTest {
+
+	private static final int TIMEOUT = 10;
+
+	private static class TestControl extends AbstractMIControl {
+		private final MIControlDMContext fContext;
+
+		TestControl(DsfSession session) {
+			super(session, true, new CommandFactory());
+			fContext = new MIControlDMContext(session.getId(), "TestControl");
+		}
+
+		void start(InputStream gdbOutput, OutputStream gdbInput) {
+			startCommandProcessing(gdbOutput, gdbInput);
+		}
+
+		void stop() {
+			stopCommandProcessing();
+		}
+
+		@Override
+		public void initialize(RequestMonitor rm) {
+			super.initialize(new ImmediateRequestMonitor(rm) {
+				@Override
+				protected void handleSuccess() {
+					register(new String[] { ICommandControlService.class.getName(),
+							IMICommandControl.class.getName() }, new Hashtable<String, String>());
+					rm.done();
+				}
+			});
+		}
+
+		@Override
+		public void shutdown(RequestMonitor rm) {
+			unregister();
+			super.shutdown(rm);
+		}
+
+		@Override
+		protected BundleContext getBundleContext() {
+			return GdbPlugin.getBundleContext();
+		}
+
+		@Override
+		public MIControlDMContext getControlDMContext() {
+			return fContext;
+		}
+
+		@Override
+		public MIControlDMContext getContext() {
+			return fContext;
+		}
+
+		@Override
+		public String getId() {
+			return "TestControl";
+		}
+
+		@Override
+		public boolean isActive() {
+			return true;
+		}
+	}
+
+	/**
+	 * Run control of a non-stop session whose threads are all suspended.
+	 */
+	private static class TestRunControl extends MIRunControl {
+		TestRunControl(DsfSession session) {
+			super(session);
+		}
+
+		@Override
+		public void initialize(RequestMonitor rm) {
+			super.initialize(new ImmediateRequestMonitor(rm) {
+				@Override
+				protected void handleSuccess() {
+					register(new String[] { IRunControl.class.getName(), IMIRunControl.class.getName() },
+							new Hashtable<String, String>());
+					rm.done();
+				}
+			});
+		}
+
+		@Override
+		public void shutdown(RequestMonitor rm) {
+			unregister();
+			super.shutdown(rm);
+		}
+
+		@Override
+		public IRunMode getRunMode() {
+			return MIRunMode.NON_STOP;
+		}
+
+		@Override
+		public boolean isSuspended(IExecutionDMContext context) {
+			return true;
+		}
+	}
+
+	private static class ThreadSuspendedEvent extends AbstractDMEvent<IExecutionDMContext>
+			implements ISuspendedDMEvent {
+		ThreadSuspendedEvent(IExecutionDMContext context) {
+			super(context);
+		}
+
+		@Override
+		public StateChangeReason getReason() {
+			return StateChangeReason.BREAKPOINT;
+		}
+	}
+
+	/**
+	 * Takes each write of the control as one entry.
+	 */
+	private static class GdbInput extends OutputStream {
+		final BlockingQueue<String> fWrites = new LinkedBlockingQueue<>();
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			fWrites.add(new String(b, off, len, StandardCharsets.UTF_8));
+		}
+	}
+
+	private class FrameRequest extends DataRequestMonitor<IFrameDMData> {
+		final CountDownLatch fDone = new CountDownLatch(1);
+
+		FrameRequest() {
+			super(fSession.getExecutor(), null);
+		}
+
+		@Override
+		protected void handleCompleted() {
+			fDone.countDown();
+		}
+
+		String getFunction() throws InterruptedException {
+			assertTrue(fDone.await(TIMEOUT, TimeUnit.SECONDS));
+			assertTrue(getStatus().toString(), isSuccess());
+			return getData().getFunction();
+		}
+	}
+
+	private DsfSession fSession;
+	private TestControl fControl;
+	private TestRunControl fRunControl;
+	private MIStack fStack;
+	private MIProcesses fProcesses;
+	private GdbInput fGdbInput;
+	private PipedOutputStream fGdbOutput;
+
+	@Before
+	public void setUp() throws Exception {
+		fSession = DsfSession.startSession(new DefaultDsfExecutor(GdbPlugin.PLUGIN_ID), GdbPlugin.PLUGIN_ID);
+		fControl = new TestControl(fSession);
+		fRunControl = new TestRunControl(fSession);
+		fStack = new MIStack(fSession);
+		// Only used to create the contexts of the threads
+		fProcesses = new MIProcesses(fSession);
+		fGdbInput = new GdbInput();
+		fGdbOutput = new PipedOutputStream();
+		PipedInputStream controlInput = new PipedInputStream(fGdbOutput);
+		fSession.getExecutor().submit(() -> fControl.start(controlInput, fGdbInput)).get();
+		for (AbstractDsfService service : List.of(fControl, fRunControl, fStack)) {
+			run(service::initialize);
+		}
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		for (AbstractDsfService service : List.of(fStack, fRunControl, fControl)) {
+			run(service::shutdown);
+		}
+		fSession.getExecutor().submit(() -> fControl.stop()).get();
+		fGdbOutput.close();
+		fSession.getExecutor().submit(() -> DsfSession.endSession(fSession)).get();
+		fSession.getExecutor().shutdown();
+	}
+
+	private void run(Consumer<RequestMonitor> operation) throws Exception {
+		Query<Object> query = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<Object> rm) {
+				operation.accept(rm);
+			}
+		};
+		fSession.getExecutor().execute(query);
+		query.get(TIMEOUT, TimeUnit.SECONDS);
+	}
+
+	private IMIExecutionDMContext thread(String threadId) {
+		IProcessDMContext process = fProcesses.createProcessContext(fControl.getContext(), "1000");
+		return fProcesses.createExecutionContext(fProcesses.createContainerContext(process, "i1"),
+				fProcesses.createThreadContext(process, threadId), threadId);
+	}
+
+	/**
+	 * Requests the data of the top frames of the threads in one dispatch cycle.
+	 */
+	private List<FrameRequest> getTopFrames(String... threadIds) throws Exception {
+		return fSession.getExecutor().submit(() -> {
+			List<FrameRequest> requests = new ArrayList<>();
+			for (String threadId : threadIds) {
+				FrameRequest request = new FrameRequest();
+				fStack.getFrameData(fStack.createFrameDMContext(thread(threadId), 0), request);
+				requests.add(request);
+			}
+			return requests;
+		}).get();
+	}
+
+	private IFrameDMContext[] getTopFrameContexts(String threadId) throws Exception {
+		Query<IFrameDMContext[]> query = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<IFrameDMContext[]> rm) {
+				fStack.getFrames(thread(threadId), 0, 0, rm);
+			}
+		};
+		fSession.getExecutor().execute(query);
+		return query.get(TIMEOUT, TimeUnit.SECONDS);
+	}
+
+	private void suspended(String threadId) throws Exception {
+		fSession.getExecutor()
+				.submit(() -> fSession.dispatchEvent(new ThreadSuspendedEvent(thread(threadId)),
+						new Hashtable<String, String>()))
+				.get();
+		// The event is dispatched in the next cycle
+		fSession.getExecutor().submit(() -> {
+		}).get();
+	}
+
+	/**
+	 * Returns the next write of the control, split in commands.
+	 */
+	private List<String> nextWrite() throws InterruptedException {
+		String write = fGdbInput.fWrites.poll(TIMEOUT, TimeUnit.SECONDS);
+		assertTrue("Nothing written", write != null);
+		return Arrays.asList(write.split("\n"));
+	}
+
+	private void assertNothingWritten() throws InterruptedException {
+		assertNull(fGdbInput.fWrites.poll(200, TimeUnit.MILLISECONDS));
+	}
+
+	private void answer(String command, String results) throws IOException {
+		String token = command.substring(0, command.indexOf('-'));
+		fGdbOutput.write((token + "^done," + results + "\n").getBytes(StandardCharsets.UTF_8));
+		fGdbOutput.flush();
+	}
+
+	private static String frame(int level, String function) {
+		return "frame={level=\"" + level + "\",addr=\"0x40100" + level + "\",func=\"" + function
+				+ "\",args=[],file=\"a.c\",fullname=\"/tmp/a.c\",line=\"" + (10 + level) + "\"}";
+	}
+
+	private static String stoppedThread(String threadId, String function) {
+		return "{id=\"" + threadId + "\",target-id=\"Thread " + threadId + "\"," + frame(0, function)
+				+ ",state=\"stopped\"}";
+	}
+
+	private static String threadInfo(String... threads) {
+		return "threads=[" + String.join(",", threads) + "],current-thread-id=\"1\"";
+	}
+
+	@Test
+	public void oneThreadInfoFillsTheTopFramesOfAllStoppedThreads() throws Exception {
+		List<FrameRequest> requests = getTopFrames("1", "2", "3");
+		List<String> commands = nextWrite();
+		assertEquals(1, commands.size());
+		assertTrue(commands.get(0), commands.get(0).endsWith("-thread-info"));
+		answer(commands.get(0), threadInfo(stoppedThread("1", "main"), stoppedThread("2", "worker"),
+				stoppedThread("3", "idle"), "{id=\"4\",target-id=\"Thread 4\",state=\"running\"}"));
+
+		assertEquals("main", requests.get(0).getFunction());
+		assertEquals("worker", requests.get(1).getFunction());
+		assertEquals("idle", requests.get(2).getFunction());
+
+		// The top frame of a thread is also known without asking for the stack depth
+		assertEquals(1, getTopFrameContexts("2").length);
+		assertEquals("idle", getTopFrames("3").get(0).getFunction());
+		assertNothingWritten();
+	}
+
+	@Test
+	public void threadWithoutTopFrameFallsBackToStackListFrames() throws Exception {
+		List<FrameRequest> requests = getTopFrames("1", "2");
+		answer(nextWrite().get(0),
+				threadInfo(stoppedThread("1", "main"), "{id=\"2\",target-id=\"Thread 2\",state=\"stopped\"}"));
+
+		List<String> commands = nextWrite();
+		assertEquals(1, commands.size());
+		assertTrue(commands.get(0), commands.get(0).endsWith("-stack-list-frames --thread 2"));
+		answer(commands.get(0), "stack=[" + frame(0, "worker") + "," + frame(1, "start") + "]");
+
+		assertEquals("main", requests.get(0).getFunction());
+		assertEquals("worker", requests.get(1).getFunction());
+		assertNothingWritten();
+	}
+
+	@Test
+	public void threadSuspendedEventOnlyClearsTheFramesOfThatThread() throws Exception {
+		List<FrameRequest> requests = getTopFrames("1", "2");
+		answer(nextWrite().get(0), threadInfo(stoppedThread("1", "main"), stoppedThread("2", "worker")));
+		assertEquals("main", requests.get(0).getFunction());
+		assertEquals("worker", requests.get(1).getFunction());
+
+		suspended("2");
+
+		requests = getTopFrames("1", "2");
+		// The frame of thread 1 is still cached, only thread 2 needs a new snapshot
+		assertEquals("main", requests.get(0).getFunction());
+		List<String> commands = nextWrite();
+		assertEquals(1, commands.size());
+		assertTrue(commands.get(0), commands.get(0).endsWith("-thread-info"));
+		answer(commands.get(0), threadInfo(stoppedThread("1", "other"), stoppedThread("2", "done")));
+
+		assertEquals("done", requests.get(1).getFunction());
+		assertEquals("main", getTopFrames("1").get(0).getFunction());
+		assertNothingWritten();
+	}
+}
@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DefaultDsfExecutor;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandListener;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataEvaluateExpression;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataEvaluateExpressionInfo;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Tests the coalescing and the batching of the commands of the MI control, against
+ * streams standing for GDB.
+ */
+public class AbstractMIControlTest {
+
+	private static final int TIMEOUT = 10;
+
+	private static class TestControl extends AbstractMIControl {
+		private final MIControlDMContext fContext;
+
+		TestControl(DsfSession session) {
+			super(session, true, new CommandFactory());
+			fContext = new MIControlDMContext(session.getId(), "TestControl");
+		}
+
+		@Override
+		protected boolean isConcurrentCommandsSupported() {
+			return true;
+		}
+
+		@Override
+		protected BundleContext getBundleContext() {
+			return GdbPlugin.getBundleContext();
+		}
+
+		@Override
+		public MIControlDMContext getControlDMContext() {
+			return fContext;
+		}
+
+		@Override
+		public MIControlDMContext getContext() {
+			return fContext;
+		}
+
+		@Override
+		public String getId() {
+			return "TestControl";
+		}
+
+		@Override
+		public boolean isActive() {
+			return true;
+		}
+	}
+
+	/**
+	 * Takes each write of the control as one entry, the first one waits for the gate.
+	 */
+	private static class GdbInput extends OutputStream {
+		final BlockingQueue<String> fWrites = new LinkedBlockingQueue<>();
+		final CountDownLatch fWriting = new CountDownLatch(1);
+		volatile CountDownLatch fGate;
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			fWriting.countDown();
+			CountDownLatch gate = fGate;
+			if (gate != null) {
+				try {
+					gate.await(TIMEOUT, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					throw new IOException(e);
+				}
+				fGate = null;
+			}
+			fWrites.add(new String(b, off, len, StandardCharsets.UTF_8));
+		}
+	}
+
+	private static class EventRecorder implements ICommandListener {
+		final Map<ICommandToken, List<String>> fEvents = new HashMap<>();
+
+		private void record(ICommandToken token, String event) {
+			fEvents.computeIfAbsent(token, t -> new ArrayList<>()).add(event);
+		}
+
+		@Override
+		public void commandQueued(ICommandToken token) {
+			record(token, "queued");
+		}
+
+		@Override
+		public void commandSent(ICommandToken token) {
+			record(token, "sent");
+		}
+
+		@Override
+		public void commandRemoved(ICommandToken token) {
+			record(token, "removed");
+		}
+
+		@Override
+		public void commandDone(ICommandToken token, ICommandResult result) {
+			record(token, "done");
+		}
+	}
+
+	private class Evaluation extends DataRequestMonitor<MIDataEvaluateExpressionInfo> {
+		final CountDownLatch fDone = new CountDownLatch(1);
+		ICommandToken fToken;
+
+		Evaluation() {
+			super(fSession.getExecutor(), null);
+		}
+
+		@Override
+		protected void handleCompleted() {
+			fDone.countDown();
+		}
+
+		String getValue() throws InterruptedException {
+			assertTrue(fDone.await(TIMEOUT, TimeUnit.SECONDS));
+			assertTrue(isSuccess());
+			return getData().getValue();
+		}
+	}
+
+	private DsfSession fSession;
+	private TestControl fControl;
+	private EventRecorder fEvents;
+	private GdbInput fGdbInput;
+	private PipedOutputStream fGdbOutput;
+
+	@Before
+	public void setUp() throws Exception {
+		fSession = DsfSession.startSession(new DefaultDsfExecutor(GdbPlugin.PLUGIN_ID), GdbPlugin.PLUGIN_ID);
+		fControl = new TestControl(fSession);
+		fEvents = new EventRecorder();
+		fGdbInput = new GdbInput();
+		fGdbOutput = new PipedOutputStream();
+		PipedInputStream controlInput = new PipedInputStream(fGdbOutput);
+		fSession.getExecutor().submit(() -> {
+			fControl.addCommandListener(fEvents);
+			fControl.startCommandProcessing(controlInput, fGdbInput);
+		}).get();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fSession.getExecutor().submit(() -> fControl.stopCommandProcessing()).get();
+		fGdbOutput.close();
+		fSession.getExecutor().submit(() -> DsfSession.endSession(fSession)).get();
+		fSession.getExecutor().shutdown();
+	}
+
+	/**
+	 * Queues the evaluations in one dispatch cycle, with their commands pending together.
+	 *
+	 * @param removed the indexes of the evaluations to remove once all are queued
+	 */
+	private List<Evaluation> evaluate(List<String> expressions, int... removed) throws Exception {
+		return fSession.getExecutor().submit(() -> {
+			List<Evaluation> evaluations = new ArrayList<>();
+			for (String expression : expressions) {
+				Evaluation evaluation = new Evaluation();
+				ICommand<MIDataEvaluateExpressionInfo> command = new MIDataEvaluateExpression<>(
+						fControl.getContext(), expression);
+				evaluation.fToken = fControl.queueCommand(command, evaluation);
+				evaluations.add(evaluation);
+			}
+			for (int index : removed) {
+				fControl.removeCommand(evaluations.get(index).fToken);
+			}
+			return evaluations;
+		}).get();
+	}
+
+	/**
+	 * Returns the next write of the control, split in commands.
+	 */
+	private List<String> nextWrite() throws InterruptedException {
+		String write = fGdbInput.fWrites.poll(TIMEOUT, TimeUnit.SECONDS);
+		assertTrue("Nothing written", write != null);
+		return Arrays.asList(write.split("\n"));
+	}
+
+	private void assertNothingWritten() throws InterruptedException {
+		assertNull(fGdbInput.fWrites.poll(200, TimeUnit.MILLISECONDS));
+	}
+
+	private void answer(String command, String value) throws IOException {
+		String token = command.substring(0, command.indexOf('-'));
+		fGdbOutput.write((token + "^done,value=\"" + value + "\"\n").getBytes(StandardCharsets.UTF_8));
+		fGdbOutput.flush();
+	}
+
+	private List<String> events(Evaluation evaluation) throws Exception {
+		return fSession.getExecutor().submit(() -> fEvents.fEvents.get(evaluation.fToken)).get();
+	}
+
+	@Test
+	public void identicalEvaluationsShareOneCommand() throws Exception {
+		List<Evaluation> evaluations = evaluate(List.of("x", "x", "y"));
+		List<String> commands = new ArrayList<>(nextWrite());
+		if (commands.size() < 2) {
+			commands.addAll(nextWrite());
+		}
+		assertEquals(2, commands.size());
+		assertTrue(commands.get(0).endsWith("-data-evaluate-expression x"));
+		assertTrue(commands.get(1).endsWith("-data-evaluate-expression y"));
+		answer(commands.get(0), "1");
+		answer(commands.get(1), "2");
+		assertEquals("1", evaluations.get(0).getValue());
+		assertEquals("1", evaluations.get(1).getValue());
+		assertEquals("2", evaluations.get(2).getValue());
+		assertNothingWritten();
+	}
+
+	@Test
+	public void coalescedEvaluationsAreNotifiedToTheListeners() throws Exception {
+		List<Evaluation> evaluations = evaluate(List.of("x", "x"));
+		answer(nextWrite().get(0), "1");
+		for (Evaluation evaluation : evaluations) {
+			evaluation.getValue();
+			assertEquals(List.of("queued", "sent", "done"), events(evaluation));
+		}
+	}
+
+	@Test
+	public void evaluationsWithSideEffectsAreNotCoalesced() throws Exception {
+		List<Evaluation> evaluations = evaluate(List.of("i++", "i++"));
+		List<String> commands = new ArrayList<>(nextWrite());
+		if (commands.size() < 2) {
+			commands.addAll(nextWrite());
+		}
+		assertEquals(2, commands.size());
+		answer(commands.get(0), "1");
+		answer(commands.get(1), "2");
+		assertEquals("1", evaluations.get(0).getValue());
+		assertEquals("2", evaluations.get(1).getValue());
+	}
+
+	@Test
+	public void onlyExpressionsWithoutSideEffectsAreCoalescable() {
+		MIControlDMContext context = fControl.getContext();
+		for (String expression : List.of("x", "a[i] == b", "a != b", "a <= b", "(int) x", "p->f")) {
+			assertTrue(expression, new MIDataEvaluateExpression<>(context, expression).isCoalescable());
+		}
+		for (String expression : List.of("i++", "--i", "x = 1", "x += 1", "x <<= 1", "f()", "p->g (1)",
+				"a[0](2)")) {
+			assertFalse(expression, new MIDataEvaluateExpression<>(context, expression).isCoalescable());
+		}
+	}
+
+	@Test
+	public void removingTheFirstEvaluationSendsTheCoalescedOne() throws Exception {
+		List<Evaluation> evaluations = evaluate(List.of("x", "x"), 0);
+		List<String> commands = nextWrite();
+		assertEquals(1, commands.size());
+		answer(commands.get(0), "1");
+		assertEquals("1", evaluations.get(1).getValue());
+		assertEquals(List.of("queued", "removed"), events(evaluations.get(0)));
+		assertEquals(List.of("queued", "sent", "done"), events(evaluations.get(1)));
+		assertEquals(1, evaluations.get(0).fDone.getCount());
+		assertNothingWritten();
+	}
+
+	@Test
+	public void removingACoalescedEvaluationKeepsTheFirstOne() throws Exception {
+		List<Evaluation> evaluations = evaluate(List.of("x", "x"), 1);
+		answer(nextWrite().get(0), "1");
+		assertEquals("1", evaluations.get(0).getValue());
+		assertEquals(List.of("queued", "sent", "done"), events(evaluations.get(0)));
+		assertEquals(List.of("queued", "removed"), events(evaluations.get(1)));
+		assertEquals(1, evaluations.get(1).fDone.getCount());
+	}
+
+	@Test
+	public void commandsReadyTogetherAreWrittenTogether() throws Exception {
+		CountDownLatch gate = new CountDownLatch(1);
+		fGdbInput.fGate = gate;
+		List<Evaluation> evaluations = new ArrayList<>(evaluate(List.of("a")));
+		assertTrue(fGdbInput.fWriting.await(TIMEOUT, TimeUnit.SECONDS));
+
+		// The second and third commands wait for the first write to complete.
+		evaluations.addAll(evaluate(List.of("b", "c")));
+		fSession.getExecutor().submit(() -> {
+		}).get();
+		gate.countDown();
+
+		List<String> first = nextWrite();
+		List<String> second = nextWrite();
+		assertEquals(1, first.size());
+		assertEquals(2, second.size());
+		answer(first.get(0), "1");
+		answer(second.get(0), "2");
+		answer(second.get(1), "3");
+		assertEquals("1", evaluations.get(0).getValue());
+		assertEquals("2", evaluations.get(1).getValue());
+		assertEquals("3", evaluations.get(2).getValue());
+	}
+}
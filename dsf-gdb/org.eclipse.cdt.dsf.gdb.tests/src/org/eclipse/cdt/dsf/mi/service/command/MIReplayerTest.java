@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.cdt.dsf.mi.service.command.MIConversationReader.Record;
+import org.junit.Test;
+
+/**
+ * Tests recording an MI conversation and replaying it without GDB.
+ */
+public class MIReplayerTest {
+
+	private static List<Record> record(String... conversation) throws IOException {
+		ByteArrayOutputStream log = new ByteArrayOutputStream();
+		try (MIConversationRecorder recorder = new MIConversationRecorder(log)) {
+			for (String line : conversation) {
+				if (line.startsWith("> ")) {
+					recorder.recordCommands(line.substring(2) + '\n');
+				} else {
+					recorder.recordOutput(line);
+				}
+			}
+		}
+		try (MIConversationReader reader = new MIConversationReader(new ByteArrayInputStream(log.toByteArray()))) {
+			return reader.readAll();
+		}
+	}
+
+	private static void send(MIReplayer replayer, String command) throws IOException {
+		OutputStream out = replayer.getOutputStream();
+		out.write((command + '\n').getBytes(StandardCharsets.UTF_8));
+		out.flush();
+	}
+
+	@Test
+	public void recordingIsReadBack() throws IOException {
+		List<Record> records = record("=thread-group-added,id=\"i1\"", "> 1-gdb-version", "1^done", "(gdb) ");
+		assertEquals(4, records.size());
+		assertEquals(MIConversationRecorder.OUTPUT, records.get(0).getKind());
+		assertEquals(MIConversationRecorder.COMMANDS, records.get(1).getKind());
+		assertEquals("1-gdb-version\n", records.get(1).getText());
+		assertEquals("(gdb) ", records.get(3).getText());
+		for (int i = 1; i < records.size(); i++) {
+			assertTrue(records.get(i).getTime() >= records.get(i - 1).getTime());
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void otherStreamsAreRejected() throws IOException {
+		new MIConversationReader(new ByteArrayInputStream("1^done\n".getBytes(StandardCharsets.UTF_8))).close();
+	}
+
+	@Test
+	public void tokensAreReplacedByTheLiveOnes() throws IOException {
+		MIReplayer replayer = new MIReplayer(record("=thread-group-added,id=\"i1\"",
+				"> 5-thread-info\n6-stack-info-depth --thread 1", "5^done,threads=[]", "(gdb) ", "6^done,depth=\"3\"",
+				"(gdb) "));
+		replayer.start();
+		BufferedReader in = new BufferedReader(
+				new InputStreamReader(replayer.getInputStream(), StandardCharsets.UTF_8));
+		assertEquals("=thread-group-added,id=\"i1\"", in.readLine());
+
+		// The live session sends the same commands in another order
+		send(replayer, "21-stack-info-depth --thread 1");
+		send(replayer, "22-thread-info");
+		assertEquals("22^done,threads=[]", in.readLine());
+		assertEquals("(gdb) ", in.readLine());
+		assertEquals("21^done,depth=\"3\"", in.readLine());
+		assertEquals("(gdb) ", in.readLine());
+		assertNull(in.readLine());
+		assertEquals(0, replayer.getUnmatchedCommandCount());
+		assertEquals(0, replayer.getSkippedCommandCount());
+	}
+
+	@Test
+	public void resultRecordedRightAfterItsCommandIsReplayed() throws IOException {
+		MIReplayer replayer = new MIReplayer(record("> 3-exec-continue", "3^running", "*running,thread-id=\"all\"",
+				"(gdb) ", "> 4-data-evaluate-expression x", "4^done,value=\"1\"", "(gdb) "));
+		// The live commands are sent before the replay reaches them
+		send(replayer, "11-exec-continue");
+		send(replayer, "12-data-evaluate-expression x");
+		replayer.start();
+		BufferedReader in = new BufferedReader(
+				new InputStreamReader(replayer.getInputStream(), StandardCharsets.UTF_8));
+
+		assertEquals("11^running", in.readLine());
+		assertEquals("*running,thread-id=\"all\"", in.readLine());
+		assertEquals("(gdb) ", in.readLine());
+		assertEquals("12^done,value=\"1\"", in.readLine());
+		assertEquals("(gdb) ", in.readLine());
+		assertNull(in.readLine());
+		assertEquals(0, replayer.getUnmatchedCommandCount());
+		assertEquals(0, replayer.getSkippedCommandCount());
+	}
+
+	@Test
+	public void unknownCommandsAreAnsweredWithAnError() throws IOException {
+		MIReplayer replayer = new MIReplayer(record("> 1-gdb-version", "1^done", "(gdb) "));
+		replayer.start();
+		BufferedReader in = new BufferedReader(
+				new InputStreamReader(replayer.getInputStream(), StandardCharsets.UTF_8));
+
+		send(replayer, "7-list-features");
+		assertEquals("7^error,msg=\"No recorded response\"", in.readLine());
+		assertEquals("(gdb) ", in.readLine());
+		send(replayer, "8-gdb-version");
+		assertEquals("8^done", in.readLine());
+		assertEquals(1, replayer.getUnmatchedCommandCount());
+	}
+
+	@Test
+	public void commandsNotSentAreSkipped() throws IOException {
+		MIReplayer replayer = new MIReplayer(
+				record("> 1-gdb-version", "1^done", "(gdb) ", "*stopped,reason=\"exited-normally\""));
+		replayer.setCommandTimeout(10);
+		replayer.start();
+		BufferedReader in = new BufferedReader(
+				new InputStreamReader(replayer.getInputStream(), StandardCharsets.UTF_8));
+
+		// The result of the skipped command is dropped, the rest is still replayed
+		assertEquals("(gdb) ", in.readLine());
+		assertEquals("*stopped,reason=\"exited-normally\"", in.readLine());
+		assertNull(in.readLine());
+		assertEquals(1, replayer.getSkippedCommandCount());
+	}
+}
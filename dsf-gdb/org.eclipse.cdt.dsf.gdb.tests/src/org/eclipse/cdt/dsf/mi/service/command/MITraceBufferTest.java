@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests the bounded buffer of the MI traces.
+ */
+public class MITraceBufferTest {
+
+	private static class TestBuffer extends MITraceBuffer {
+		TestBuffer(OutputStream stream, int budget, String... filter) {
+			super(stream, budget, Arrays.asList(filter));
+		}
+
+		@Override
+		protected void format(StringBuilder out, long time, boolean toGdb, String text) {
+			out.append(toGdb ? "> " : "< ").append(text).append('\n');
+		}
+
+		@Override
+		protected void formatDropped(StringBuilder out, int count) {
+			out.append("dropped ").append(count).append('\n');
+		}
+	}
+
+	private static String drain(MITraceBuffer buffer, ByteArrayOutputStream out) throws InterruptedException {
+		buffer.close();
+		buffer.start("test").join(10000);
+		return new String(out.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void tracesAreWrittenInOrder() throws InterruptedException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TestBuffer buffer = new TestBuffer(out, 1000);
+		buffer.add(true, "1-exec-run");
+		buffer.add(false, "1^running");
+		buffer.add(false, "*running,thread-id=\"all\"");
+		assertEquals("> 1-exec-run\n< 1^running\n< *running,thread-id=\"all\"\n", drain(buffer, out));
+	}
+
+	@Test
+	public void oldestTracesAreDroppedOverBudget() throws InterruptedException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TestBuffer buffer = new TestBuffer(out, 21);
+		buffer.add(true, "1-gdb-version");
+		buffer.add(false, "1^done");
+		buffer.add(true, "2-list-features");
+		buffer.add(false, "2^done");
+		assertEquals("dropped 2\n> 2-list-features\n< 2^done\n", drain(buffer, out));
+	}
+
+	@Test
+	public void traceLargerThanBudgetIsKept() throws InterruptedException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TestBuffer buffer = new TestBuffer(out, 5);
+		buffer.add(true, "1-gdb-version");
+		assertEquals("> 1-gdb-version\n", drain(buffer, out));
+	}
+
+	@Test
+	public void filteredCommandsAndTheirResultsAreLeftOut() throws InterruptedException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TestBuffer buffer = new TestBuffer(out, 1000, "-var-update");
+		buffer.add(true, "3-var-update 1 var1");
+		buffer.add(true, "4-stack-info-depth --thread 1");
+		buffer.add(false, "3^done,changelist=[]");
+		buffer.add(false, "4^done,depth=\"1\"");
+		assertEquals("> 4-stack-info-depth --thread 1\n< 4^done,depth=\"1\"\n", drain(buffer, out));
+	}
+
+	@Test
+	public void filteredOutOfBandRecordsAreLeftOut() throws InterruptedException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TestBuffer buffer = new TestBuffer(out, 1000, "=library-loaded", "~");
+		buffer.add(false, "=library-loaded,id=\"/lib/libc.so.6\"");
+		buffer.add(false, "~\"Reading symbols\\n\"");
+		buffer.add(false, "=thread-created,id=\"1\"");
+		assertEquals("< =thread-created,id=\"1\"\n", drain(buffer, out));
+	}
+
+	@Test
+	public void tracesAfterCloseAreIgnored() throws InterruptedException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TestBuffer buffer = new TestBuffer(out, 1000);
+		buffer.add(true, "1-exec-continue");
+		buffer.close();
+		buffer.add(false, "1^running");
+		assertEquals("> 1-exec-continue\n", drain(buffer, out));
+	}
+
+	@Test
+	public void writerEndsWhenTheStreamFails() throws InterruptedException {
+		OutputStream failing = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("closed");
+			}
+		};
+		TestBuffer buffer = new TestBuffer(failing, 1000);
+		Thread writer = buffer.start("test");
+		buffer.add(true, "1-exec-continue");
+		writer.join(10000);
+		assertFalse(writer.isAlive());
+	}
+}
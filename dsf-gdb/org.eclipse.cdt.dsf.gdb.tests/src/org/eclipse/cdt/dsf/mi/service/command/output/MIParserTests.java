@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+public class MIParserTests {
+	private final MIParser fParser = new MIParser();
+
+	@Test
+	public void testRecordType() {
+		assertEquals(MIParser.RecordType.ResultRecord, fParser.getRecordType("12^done"));
+		assertEquals(MIParser.RecordType.PrimaryPrompt, fParser.getRecordType("(gdb) "));
+		assertEquals(MIParser.RecordType.OOBRecord, fParser.getRecordType("*stopped"));
+	}
+
+	@Test
+	public void testResultRecord() {
+		MIResultRecord rr = fParser.parseMIResultRecord(
+				"42^done,stack=[frame={level=\"0\",func=\"main\"},frame={level=\"1\",func=\"start\"}]");
+		assertEquals(42, rr.getToken());
+		assertEquals(MIResultRecord.DONE, rr.getResultClass());
+		MIResult[] results = rr.getMIResults();
+		assertEquals(1, results.length);
+		assertEquals("stack", results[0].getVariable());
+		MIList stack = (MIList) results[0].getMIValue();
+		assertEquals(2, stack.getMIResults().length);
+		MITuple frame = (MITuple) stack.getMIResults()[1].getMIValue();
+		assertEquals("start", ((MIConst) frame.getField("func")).getCString());
+		assertEquals("stack=[frame={level=\"0\",func=\"main\"},frame={level=\"1\",func=\"start\"}]",
+				results[0].toString());
+	}
+
+	@Test
+	public void testResultClasses() {
+		assertEquals(MIResultRecord.ERROR, fParser.parseMIResultRecord("^error,msg=\"No symbol\"").getResultClass());
+		assertEquals(MIResultRecord.RUNNING, fParser.parseMIResultRecord("^running").getResultClass());
+		assertEquals(MIResultRecord.EXIT, fParser.parseMIResultRecord("^exit").getResultClass());
+		assertEquals(MIResultRecord.CONNECTED, fParser.parseMIResultRecord("^connected").getResultClass());
+		assertEquals(-1, fParser.parseMIResultRecord("^done").getToken());
+	}
+
+	@Test
+	public void testListOfValues() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,thread-ids={},ids=[\"1\",\"2\",\"3\"]");
+		MIResult[] results = rr.getMIResults();
+		assertEquals(0, ((MITuple) results[0].getMIValue()).getMIResults().length);
+		MIValue[] ids = ((MIList) results[1].getMIValue()).getMIValues();
+		assertEquals(3, ids.length);
+		assertEquals("3", ((MIConst) ids[2]).getCString());
+	}
+
+	@Test
+	public void testEscapesInResultRecord() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,value=\"a\\\"b\\\\c\\n\",next=\"\"");
+		MIResult[] results = rr.getMIResults();
+		assertEquals(2, results.length);
+		// Escaped quotes and backslashes are decoded, other escape sequences are kept.
+		assertEquals("a\"b\\c\\n", ((MIConst) results[0].getMIValue()).getCString());
+		assertEquals("", ((MIConst) results[1].getMIValue()).getCString());
+	}
+
+	@Test
+	public void testGetStringOfErrorRecord() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^error,msg=\"No symbol \\\"x\\\" in current context.\"");
+		assertEquals(MIResultRecord.ERROR, rr.getResultClass());
+		MIConst msg = (MIConst) rr.getMIResults()[0].getMIValue();
+		assertEquals("No symbol \"x\" in current context.", msg.getString());
+	}
+
+	@Test
+	public void testGetStringOfEscapedValue() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,value=\"caf\\303\\251\\t\"");
+		MIConst value = (MIConst) rr.getMIResults()[0].getMIValue();
+		// Octal escapes are transcoded, special characters are kept escaped.
+		assertEquals("caf\u00e9\\t", value.getString());
+	}
+
+	@Test
+	public void testDecodedValueReleasesLine() throws Exception {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,value=\"decoded\"");
+		MIConst value = (MIConst) rr.getMIResults()[0].getMIValue();
+		Field source = MIConst.class.getDeclaredField("source");
+		source.setAccessible(true);
+		assertNotNull(source.get(value));
+		assertEquals("decoded", value.getCString());
+		assertNull(source.get(value));
+		assertEquals("decoded", value.getCString());
+	}
+
+	@Test
+	public void testSetCStringReplacesParsedValue() {
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,value=\"parsed\"");
+		MIConst value = (MIConst) rr.getMIResults()[0].getMIValue();
+		value.setCString("replaced");
+		assertEquals("replaced", value.getCString());
+	}
+
+	@Test
+	public void testAsyncRecord() {
+		MIOOBRecord oob = fParser.parseMIOOBRecord("7*stopped,reason=\"breakpoint-hit\",thread-id=\"1\"");
+		assertTrue(oob instanceof MIExecAsyncOutput);
+		MIAsyncRecord async = (MIAsyncRecord) oob;
+		assertEquals(7, async.getToken());
+		assertEquals("stopped", async.getAsyncClass());
+		assertEquals(2, async.getMIResults().length);
+		assertEquals("thread-id", async.getMIResults()[1].getVariable());
+
+		async = (MIAsyncRecord) fParser.parseMIOOBRecord("=library-unloaded");
+		assertTrue(async instanceof MINotifyAsyncOutput);
+		assertEquals("library-unloaded", async.getAsyncClass());
+	}
+
+	@Test
+	public void testAsyncRecordWithoutVariable() {
+		// Bug 527419
+		MIAsyncRecord async = (MIAsyncRecord) fParser.parseMIOOBRecord("+download,{section=\".text\"}");
+		assertTrue(async instanceof MIStatusAsyncOutput);
+		MIResult result = async.getMIResults()[0];
+		assertEquals("", result.getVariable());
+		assertTrue(result.getMIValue() instanceof MITuple);
+	}
+
+	@Test
+	public void testStreamRecords() {
+		MIStreamRecord stream = (MIStreamRecord) fParser.parseMIOOBRecord("~\"hello \\\"world\\\"\\n\"");
+		assertTrue(stream instanceof MIConsoleStreamOutput);
+		// Backslashes are not escaped in stream records.
+		assertEquals("hello \"world\"\\n", stream.getCString());
+		assertEquals("hello \"world\"\n", stream.getString());
+
+		stream = (MIStreamRecord) fParser.parseMIOOBRecord("&\"C:\\\\dir\"");
+		assertTrue(stream instanceof MILogStreamOutput);
+		assertEquals("C:\\\\dir", stream.getCString());
+
+		assertTrue(fParser.parseMIOOBRecord("@\"out\"") instanceof MITargetStreamOutput);
+	}
+
+	@Test
+	public void testMalformedLine() {
+		MIStreamRecord stream = (MIStreamRecord) fParser.parseMIOOBRecord("not an MI record");
+		assertSame(MITargetStreamOutput.class, stream.getClass());
+		assertEquals("not an MI record\n", stream.getCString());
+
+		// Unterminated strings and lists end with the line.
+		MIResultRecord rr = fParser.parseMIResultRecord("^done,a=[\"x\",\"y");
+		MIValue[] values = ((MIList) rr.getMIResults()[0].getMIValue()).getMIValues();
+		assertEquals(2, values.length);
+		assertEquals("y", ((MIConst) values[1]).getCString());
+	}
+}
@@ -261,4 +261,113 @@ public interface IGdbDebugPreferenceConstants {
 	 * @since 6.5
 	 */
 	public static final int SUSPEND_TIMEOUT_VALUE_DEFAULT = 10;
+
+	/**
+	 * Preference key for the size of the pages of the memory cache, in addressable units
+	 *
+	 * @since 7.2
+	 */
+	public static final String PREF_MEMORY_CACHE_PAGE_SIZE = PREFIX + "memoryCachePageSize"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MEMORY_CACHE_PAGE_SIZE}
+	 *
+	 * @since 7.2
+	 */
+	public static final int MEMORY_CACHE_PAGE_SIZE_DEFAULT = 512;
+
+	/**
+	 * Preference key for the amount of memory, in KiB, the memory cache keeps for
+	 * each memory context before dropping the least recently used pages
+	 *
+	 * @since 7.2
+	 */
+	public static final String PREF_MEMORY_CACHE_SIZE_LIMIT = PREFIX + "memoryCacheSizeLimit"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MEMORY_CACHE_SIZE_LIMIT}
+	 *
+	 * @since 7.2
+	 */
+	public static final int MEMORY_CACHE_SIZE_LIMIT_DEFAULT = 1024;
+
+	/**
+	 * Preference key for the number of pages the memory cache reads ahead of a
+	 * request, in the direction the memory is being scrolled. Reading ahead
+	 * accesses memory no client asked for, which may have side effects on
+	 * memory-mapped devices, it is therefore disabled by default.
+	 *
+	 * @since 7.2
+	 */
+	public static final String PREF_MEMORY_CACHE_PREFETCH_PAGES = PREFIX + "memoryCachePrefetchPages"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MEMORY_CACHE_PREFETCH_PAGES}
+	 *
+	 * @since 7.2
+	 */
+	public static final int MEMORY_CACHE_PREFETCH_PAGES_DEFAULT = 0;
+
+	/**
+	 * Preference key for the maximum number of variable objects kept in GDB for
+	 * a session. Beyond it, the least recently used variable objects are deleted.
+	 *
+	 * @since 7.2
+	 */
+	public static final String PREF_MAX_VARIABLE_OBJECTS = PREFIX + "maxVariableObjects"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_MAX_VARIABLE_OBJECTS}
+	 *
+	 * @since 7.2
+	 */
+	public static final int MAX_VARIABLE_OBJECTS_DEFAULT = 1000;
+
+	/**
+	 * Preference key for the size, in KiB, of the buffer of MI traces waiting to be
+	 * written to the tracing console. When the console cannot keep up, the oldest
+	 * traces are dropped.
+	 *
+	 * @since 7.2
+	 */
+	public static final String PREF_TRACES_BUFFER_SIZE = PREFIX + "tracesBufferSize"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_TRACES_BUFFER_SIZE}
+	 *
+	 * @since 7.2
+	 */
+	public static final int TRACES_BUFFER_SIZE_DEFAULT = 1024;
+
+	/**
+	 * Preference key for the comma separated list of MI operations, e.g.
+	 * <code>-var-update</code>, and out of band record classes, e.g.
+	 * <code>=library-loaded</code>, left out of the MI traces.
+	 *
+	 * @since 7.2
+	 */
+	public static final String PREF_TRACES_FILTER = PREFIX + "tracesFilter"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_TRACES_FILTER}
+	 *
+	 * @since 7.2
+	 */
+	public static final String TRACES_FILTER_DEFAULT = ""; //$NON-NLS-1$
+
+	/**
+	 * Preference key for reading again, when a thread suspends, only the registers
+	 * of its top frame that GDB reports as changed, using
+	 * <code>-data-list-changed-registers</code>.
+	 *
+	 * @since 7.2
+	 */
+	public static final String PREF_REGISTERS_DELTA_REFRESH = PREFIX + "registersDeltaRefresh"; //$NON-NLS-1$
+
+	/**
+	 * Default value of {@link #PREF_REGISTERS_DELTA_REFRESH}
+	 *
+	 * @since 7.2
+	 */
+	public static final boolean REGISTERS_DELTA_REFRESH_DEFAULT = true;
 }
@@ -38,9 +38,12 @@ public class GdbDebugOptions implements DebugOptionsListener {
 
 	private static final String DEBUG_FLAG = "org.eclipse.cdt.dsf.gdb/debug"; //$NON-NLS-1$
 	private static final String DEBUG_TIMEOUTS_FLAG = "org.eclipse.cdt.dsf.gdb/debug/timeouts"; //$NON-NLS-1$
+	private static final String DEBUG_RECORDING_FLAG = "org.eclipse.cdt.dsf.gdb/debug/recording"; //$NON-NLS-1$
 
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_COMMAND_TIMEOUTS = false;
+	/** Record the MI conversation of each session into the state location of the plug-in */
+	public static boolean DEBUG_MI_RECORDING = false;
 
 	/**
 	 * The {@link DebugTrace} object to print to OSGi tracing
@@ -61,6 +64,7 @@ public class GdbDebugOptions implements DebugOptionsListener {
 		fgDebugTrace = options.newDebugTrace(GdbPlugin.getUniqueIdentifier());
 		DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_COMMAND_TIMEOUTS = options.getBooleanOption(DEBUG_TIMEOUTS_FLAG, false);
+		DEBUG_MI_RECORDING = options.getBooleanOption(DEBUG_RECORDING_FLAG, false);
 	}
 
 	/**
@@ -148,10 +148,15 @@ public class GdbPlugin extends Plugin {
 	}
 
 	public static String getDebugTime() {
+		return getDebugTime(System.currentTimeMillis());
+	}
+
+	/**
+	 * Formats the given time like {@link #getDebugTime()}.
+	 */
+	public static String getDebugTime(long time) {
 		StringBuilder traceBuilder = new StringBuilder();
 
-		// Record the time
-		long time = System.currentTimeMillis();
 		long seconds = (time / 1000) % 1000;
 		if (seconds < 100)
 			traceBuilder.append('0');
@@ -73,5 +73,18 @@ public class GdbPreferenceInitializer extends AbstractPreferenceInitializer {
 				IGDBLaunchConfigurationConstants.DEBUGGER_REMOTE_TIMEOUT_VALUE_DEFAULT);
 		node.putInt(IGdbDebugPreferenceConstants.PREF_SUSPEND_TIMEOUT_VALUE,
 				IGdbDebugPreferenceConstants.SUSPEND_TIMEOUT_VALUE_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_PAGE_SIZE,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_PAGE_SIZE_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_SIZE_LIMIT,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_SIZE_LIMIT_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_PREFETCH_PAGES,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_PREFETCH_PAGES_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MAX_VARIABLE_OBJECTS,
+				IGdbDebugPreferenceConstants.MAX_VARIABLE_OBJECTS_DEFAULT);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_TRACES_BUFFER_SIZE,
+				IGdbDebugPreferenceConstants.TRACES_BUFFER_SIZE_DEFAULT);
+		node.put(IGdbDebugPreferenceConstants.PREF_TRACES_FILTER, IGdbDebugPreferenceConstants.TRACES_FILTER_DEFAULT);
+		node.putBoolean(IGdbDebugPreferenceConstants.PREF_REGISTERS_DELTA_REFRESH,
+				IGdbDebugPreferenceConstants.REGISTERS_DELTA_REFRESH_DEFAULT);
 	}
 }
@@ -24,6 +24,8 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.gdb.service.command;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -55,6 +57,7 @@ import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
 import org.eclipse.cdt.dsf.gdb.IGDBLaunchConfigurationConstants;
 import org.eclipse.cdt.dsf.gdb.IGdbDebugConstants;
+import org.eclipse.cdt.dsf.gdb.internal.GdbDebugOptions;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.internal.Messages;
 import org.eclipse.cdt.dsf.gdb.launching.FinalLaunchSequence;
@@ -576,10 +579,35 @@ public class GDBControl extends AbstractMIControl implements IGDBControl {
 		if (fMIBackend instanceof IMIBackend2) {
 			errorStream = ((IMIBackend2) fMIBackend).getMIErrorStream();
 		}
+		if (GdbDebugOptions.DEBUG_MI_RECORDING) {
+			startRecording();
+		}
 		startCommandProcessing(fMIBackend.getMIInputStream(), fMIBackend.getMIOutputStream(), errorStream);
 		requestMonitor.done();
 	}
 
+	/**
+	 * Records the MI conversation of this session into the state location of the plug-in,
+	 * e.g. to replay it later with an {@link org.eclipse.cdt.dsf.mi.service.MIReplayBackend}.
+	 */
+	private void startRecording() {
+		File directory = GdbPlugin.getDefault().getStateLocation().append("recordings").toFile(); //$NON-NLS-1$
+		String name = "session-" + getSession().getId() + '-' + System.currentTimeMillis() + ".mirec"; //$NON-NLS-1$ //$NON-NLS-2$
+		File file = new File(directory, name);
+		try {
+			directory.mkdirs();
+			FileOutputStream stream = new FileOutputStream(file);
+			try {
+				setMIRecordingStream(stream);
+			} catch (IOException e) {
+				stream.close();
+				throw e;
+			}
+		} catch (IOException e) {
+			GdbPlugin.log(e);
+		}
+	}
+
 	/** @since 5.1 */
 	protected void undoCommandMonitoringStep(RequestMonitor requestMonitor) {
 		stopCommandProcessing();
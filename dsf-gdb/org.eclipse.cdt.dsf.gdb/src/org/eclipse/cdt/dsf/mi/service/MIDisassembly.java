@@ -15,31 +15,63 @@
 package org.eclipse.cdt.dsf.mi.service;
 
 import java.math.BigInteger;
+import java.util.HashMap;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
 
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutorLane;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.datamodel.IDMContext;
+import org.eclipse.cdt.dsf.debug.service.ICachingService;
 import org.eclipse.cdt.dsf.debug.service.IDisassembly;
 import org.eclipse.cdt.dsf.debug.service.IInstruction;
+import org.eclipse.cdt.dsf.debug.service.IMemory.IMemoryChangedEvent;
 import org.eclipse.cdt.dsf.debug.service.IMixedInstruction;
+import org.eclipse.cdt.dsf.debug.service.IModules2.ISymbolsLoadedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExitedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControl;
+import org.eclipse.cdt.dsf.debug.service.command.IEventListener;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MIDataDisassemble;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataDisassembleInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MINotifyAsyncOutput;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.osgi.framework.BundleContext;
 
-public class MIDisassembly extends AbstractDsfService implements IDisassembly {
+public class MIDisassembly extends AbstractDsfService implements IDisassembly, ICachingService, IEventListener {
+
+	/** Number of bytes disassembled beyond a request that is not cached, for the next scroll or step */
+	private static final int READ_AHEAD = 256;
+	/** Number of instructions cached per context and mode */
+	private static final int MAX_CACHED_INSTRUCTIONS = 20000;
 
 	// Services
 	ICommandControl fConnection;
 	private CommandFactory fCommandFactory;
 
+	/**
+	 * Lane on which the caches are looked up, filled and converted, such that large
+	 * disassembly results do not hold up the session executor.
+	 */
+	private DsfExecutorLane fLane;
+
+	/** Disassembly of address ranges, by context and mode, confined to {@link #fLane} */
+	private final Map<IDisassemblyDMContext, Map<Integer, MIDisassemblyCache>> fCaches = new HashMap<>();
+
 	///////////////////////////////////////////////////////////////////////////
 	// AbstractDsfService
 	///////////////////////////////////////////////////////////////////////////
@@ -69,6 +101,10 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 	private void doInitialize(final RequestMonitor rm) {
 		fConnection = getServicesTracker().getService(ICommandControl.class);
 		fCommandFactory = getServicesTracker().getService(IMICommandControl.class).getCommandFactory();
+		fLane = getSession().getExecutorLane("Disassembly"); //$NON-NLS-1$
+
+		getSession().addServiceEventListener(this, null);
+		fConnection.addEventListener(this);
 
 		register(new String[] { IDisassembly.class.getName(), MIDisassembly.class.getName() },
 				new Hashtable<String, String>());
@@ -80,6 +116,13 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 	 */
 	@Override
 	public void shutdown(RequestMonitor rm) {
+		if (fConnection != null) {
+			fConnection.removeEventListener(this);
+		}
+		getSession().removeServiceEventListener(this);
+		if (fLane != null) {
+			clearCaches();
+		}
 		unregister();
 		super.shutdown(rm);
 	}
@@ -122,6 +165,17 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 			return;
 		}
 
+		if (startAddress != null && endAddress != null) {
+			fLane.execute(() -> getCachedLines(context, startAddress, endAddress, mode, false,
+					new DataRequestMonitor<IMixedInstruction[]>(fLane, drm) {
+						@Override
+						protected void handleSuccess() {
+							drm.done(MIDisassemblyCache.toInstructions(getData()));
+						}
+					}));
+			return;
+		}
+
 		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
 		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
 		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, start, end, mode),
@@ -198,6 +252,11 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 			return;
 		}
 
+		if (startAddress != null && endAddress != null) {
+			fLane.execute(() -> getCachedLines(context, startAddress, endAddress, mode, true, drm));
+			return;
+		}
+
 		String start = (startAddress != null) ? startAddress.toString() : "$pc"; //$NON-NLS-1$
 		String end = (endAddress != null) ? endAddress.toString() : start + " + 100"; //$NON-NLS-1$
 		fConnection.queueCommand(fCommandFactory.createMIDataDisassemble(context, start, end, mode),
@@ -247,4 +306,158 @@ public class MIDisassembly extends AbstractDsfService implements IDisassembly {
 					}
 				});
 	}
+
+	/**
+	 * Returns the disassembly of an address range, grouped by source line in the mixed modes.
+	 * Only the parts of the range that are not cached are disassembled, together with some
+	 * read-ahead, such that scrolling and stepping through the same code needs no commands.
+	 * Runs on {@link #fLane}, as do the monitors of the commands.
+	 */
+	private void getCachedLines(final IDisassemblyDMContext context, final BigInteger startAddress,
+			final BigInteger endAddress, final int mode, final boolean mixed,
+			final DataRequestMonitor<IMixedInstruction[]> drm) {
+		final MIDisassemblyCache cache = getCache(context, mode);
+		List<BigInteger[]> ranges = cache.getMissingRanges(startAddress, endAddress, READ_AHEAD);
+		if (ranges.isEmpty()) {
+			drm.done(cache.get(startAddress, endAddress));
+			return;
+		}
+
+		CountingRequestMonitor crm = new CountingRequestMonitor(fLane, drm) {
+			@Override
+			protected void handleCompleted() {
+				IMixedInstruction[] lines = isSuccess() ? cache.get(startAddress, endAddress) : null;
+				if (lines != null) {
+					drm.done(lines);
+				} else {
+					// The read-ahead may have run into memory that cannot be disassembled,
+					// fall back to the range as requested.
+					getUncachedLines(context, startAddress, endAddress, mode, mixed, drm);
+				}
+			}
+		};
+		crm.setDoneCount(ranges.size());
+		for (final BigInteger[] range : ranges) {
+			queueCommand(fCommandFactory.createMIDataDisassemble(context, range[0].toString(), range[1].toString(),
+					mode), new DataRequestMonitor<MIDataDisassembleInfo>(fLane, crm) {
+						@Override
+						protected void handleSuccess() {
+							cache.put(range[0], range[1], mixed ? getData().getMIMixedCode()
+									: MIDisassemblyCache.toLines(getData().getMIAssemblyCode()));
+							crm.done();
+						}
+					});
+		}
+	}
+
+	private void getUncachedLines(IDisassemblyDMContext context, BigInteger startAddress, BigInteger endAddress,
+			int mode, final boolean mixed, final DataRequestMonitor<IMixedInstruction[]> drm) {
+		queueCommand(fCommandFactory.createMIDataDisassemble(context, startAddress.toString(), endAddress.toString(),
+				mode), new DataRequestMonitor<MIDataDisassembleInfo>(fLane, drm) {
+					@Override
+					protected void handleSuccess() {
+						drm.done(mixed ? getData().getMIMixedCode()
+								: MIDisassemblyCache.toLines(getData().getMIAssemblyCode()));
+					}
+				});
+	}
+
+	/**
+	 * Queues a command from the lane, the command control is confined to the session executor.
+	 */
+	private void queueCommand(ICommand<MIDataDisassembleInfo> command, DataRequestMonitor<MIDataDisassembleInfo> rm) {
+		getExecutor().execute(() -> fConnection.queueCommand(command, rm));
+	}
+
+	private MIDisassemblyCache getCache(IDisassemblyDMContext context, int mode) {
+		Map<Integer, MIDisassemblyCache> caches = fCaches.get(context);
+		if (caches == null) {
+			caches = new HashMap<>();
+			fCaches.put(context, caches);
+		}
+		MIDisassemblyCache cache = caches.get(mode);
+		if (cache == null) {
+			cache = new MIDisassemblyCache(MAX_CACHED_INSTRUCTIONS);
+			caches.put(mode, cache);
+		}
+		return cache;
+	}
+
+	/**
+	 * Code written by the user or by the program must be disassembled again.
+	 *
+	 * @nooverride This method is not intended to be re-implemented or extended by clients.
+	 * @noreference This method is not intended to be referenced by clients.
+	 * @since 7.2
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IMemoryChangedEvent e) {
+		fLane.execute(() -> {
+			for (Map<Integer, MIDisassemblyCache> caches : fCaches.values()) {
+				for (MIDisassemblyCache cache : caches.values()) {
+					for (IAddress address : e.getAddresses()) {
+						cache.invalidate(address.getValue());
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * @nooverride This method is not intended to be re-implemented or extended by clients.
+	 * @noreference This method is not intended to be referenced by clients.
+	 * @since 7.2
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(ISymbolsLoadedDMEvent e) {
+		clearCaches();
+	}
+
+	/**
+	 * @nooverride This method is not intended to be re-implemented or extended by clients.
+	 * @noreference This method is not intended to be referenced by clients.
+	 * @since 7.2
+	 */
+	@DsfServiceEventHandler
+	public void eventDispatched(IExitedDMEvent e) {
+		if (e.getDMContext() instanceof IContainerDMContext) {
+			clearCaches();
+		}
+	}
+
+	/**
+	 * Loading or unloading a shared library changes the code found at its addresses.
+	 *
+	 * @since 7.2
+	 */
+	@Override
+	public void eventReceived(Object output) {
+		if (output instanceof MIOutput) {
+			for (MIOOBRecord r : ((MIOutput) output).getMIOOBRecords()) {
+				if (r instanceof MINotifyAsyncOutput) {
+					String asyncClass = ((MINotifyAsyncOutput) r).getAsyncClass();
+					if ("library-loaded".equals(asyncClass) //$NON-NLS-1$
+							|| "library-unloaded".equals(asyncClass)) { //$NON-NLS-1$
+						clearCaches();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @since 7.2
+	 */
+	@Override
+	public void flushCache(IDMContext context) {
+		clearCaches();
+	}
+
+	/**
+	 * Clears the caches once the lookups queued before have completed. Results of
+	 * commands sent before are still put in the caches, as for the session executor.
+	 */
+	private void clearCaches() {
+		fLane.execute(fCaches::clear);
+	}
 }
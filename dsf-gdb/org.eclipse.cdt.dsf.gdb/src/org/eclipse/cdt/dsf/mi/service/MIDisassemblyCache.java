@@ -0,0 +1,305 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.eclipse.cdt.dsf.debug.service.IInstruction;
+import org.eclipse.cdt.dsf.debug.service.IInstructionWithSize;
+import org.eclipse.cdt.dsf.debug.service.IMixedInstruction;
+
+/**
+ * Address-indexed store for the disassembly of one context in one disassembly mode.
+ * <p>
+ * Each block holds the result of a single <code>-data-disassemble</code> of an address
+ * range. Blocks do not overlap and are kept sorted by start address, such that a
+ * request spanning several adjacent blocks is served by stitching them together, and
+ * only the ranges not covered by any block need to be disassembled. Instructions that
+ * are not grouped by source line are stored as a single group without a file. Once the
+ * cached instructions exceed the limit, the least recently used blocks are dropped.
+ * </p>
+ * Not thread-safe, the cache is meant to be used on the DSF executor.
+ */
+class MIDisassemblyCache {
+
+	/** A group of instructions of the same source line */
+	static class Line implements IMixedInstruction {
+		private final String fFileName;
+		private final int fLineNumber;
+		private final IInstruction[] fInstructions;
+
+		Line(String fileName, int lineNumber, IInstruction[] instructions) {
+			fFileName = fileName;
+			fLineNumber = lineNumber;
+			fInstructions = instructions;
+		}
+
+		@Override
+		public String getFileName() {
+			return fFileName;
+		}
+
+		@Override
+		public int getLineNumber() {
+			return fLineNumber;
+		}
+
+		@Override
+		public IInstruction[] getInstructions() {
+			return fInstructions;
+		}
+	}
+
+	private static class Block {
+		final BigInteger fStart;
+		/** First address after the block */
+		final BigInteger fEnd;
+		final IMixedInstruction[] fLines;
+		final int fInstructionCount;
+
+		Block(BigInteger start, BigInteger end, IMixedInstruction[] lines) {
+			fStart = start;
+			fLines = lines;
+			int count = 0;
+			BigInteger blockEnd = end;
+			for (IMixedInstruction line : lines) {
+				for (IInstruction instruction : line.getInstructions()) {
+					count++;
+					// The last instruction may extend beyond the requested range
+					BigInteger instructionEnd = getEnd(instruction);
+					if (instructionEnd != null && instructionEnd.compareTo(blockEnd) > 0) {
+						blockEnd = instructionEnd;
+					}
+				}
+			}
+			fEnd = blockEnd;
+			fInstructionCount = count;
+		}
+	}
+
+	/** Number of instructions above which blocks are evicted */
+	private final int fInstructionLimit;
+
+	/** Cached blocks, by start address */
+	private final TreeMap<BigInteger, Block> fBlocks = new TreeMap<>();
+	/** The same blocks, in access order */
+	private final LinkedHashMap<BigInteger, Block> fRecentBlocks = new LinkedHashMap<>(16, 0.75f, true);
+	/** Number of instructions in the cached blocks */
+	private int fInstructionCount;
+
+	/**
+	 * @param instructionLimit number of instructions the cache may hold before blocks are evicted
+	 */
+	MIDisassemblyCache(int instructionLimit) {
+		fInstructionLimit = instructionLimit;
+	}
+
+	int getInstructionCount() {
+		return fInstructionCount;
+	}
+
+	int getBlockCount() {
+		return fBlocks.size();
+	}
+
+	/**
+	 * Wraps instructions that are not grouped by source line, to be stored with {@link #put}.
+	 */
+	static IMixedInstruction[] toLines(IInstruction[] instructions) {
+		return new IMixedInstruction[] { new Line(null, 0, instructions) };
+	}
+
+	/**
+	 * Returns all instructions of the given lines, in order.
+	 */
+	static IInstruction[] toInstructions(IMixedInstruction[] lines) {
+		if (lines.length == 1) {
+			return lines[0].getInstructions();
+		}
+		List<IInstruction> instructions = new ArrayList<>();
+		for (IMixedInstruction line : lines) {
+			instructions.addAll(Arrays.asList(line.getInstructions()));
+		}
+		return instructions.toArray(new IInstruction[instructions.size()]);
+	}
+
+	/**
+	 * Computes the disassembles needed to service a request. The ranges that are not
+	 * cached are returned in address order, each to be disassembled with a single command.
+	 * The range reaching the end of the request extends <code>readAhead</code> bytes
+	 * beyond it, unless cached instructions follow.
+	 *
+	 * @param start start address of the request
+	 * @param end first address after the request
+	 * @param readAhead number of bytes to disassemble beyond the request
+	 * @return list of <code>{ start, end }</code> pairs, empty if the request is entirely cached
+	 */
+	List<BigInteger[]> getMissingRanges(BigInteger start, BigInteger end, int readAhead) {
+		List<BigInteger[]> ranges = new ArrayList<>();
+		BigInteger position = start;
+		while (position.compareTo(end) < 0) {
+			Block block = getBlock(position);
+			if (block != null) {
+				position = block.fEnd;
+				continue;
+			}
+			BigInteger rangeEnd = end.add(BigInteger.valueOf(readAhead));
+			Map.Entry<BigInteger, Block> next = fBlocks.higherEntry(position);
+			if (next != null && next.getKey().compareTo(rangeEnd) < 0) {
+				rangeEnd = next.getKey();
+			}
+			ranges.add(new BigInteger[] { position, rangeEnd });
+			position = rangeEnd;
+		}
+		return ranges;
+	}
+
+	/**
+	 * Caches the disassembly of a range. Blocks overlapping the range are replaced.
+	 *
+	 * @param start start address of the disassembled range
+	 * @param end first address after the disassembled range
+	 * @param lines the disassembly of the range
+	 */
+	void put(BigInteger start, BigInteger end, IMixedInstruction[] lines) {
+		Block block = new Block(start, end, lines);
+		Map.Entry<BigInteger, Block> previous = fBlocks.lowerEntry(start);
+		if (previous != null && previous.getValue().fEnd.compareTo(start) > 0) {
+			remove(previous.getValue());
+		}
+		for (Block overlapped : new ArrayList<>(fBlocks.subMap(start, block.fEnd).values())) {
+			remove(overlapped);
+		}
+		fBlocks.put(start, block);
+		fRecentBlocks.put(start, block);
+		fInstructionCount += block.fInstructionCount;
+
+		Iterator<Block> eldest = fRecentBlocks.values().iterator();
+		while (fInstructionCount > fInstructionLimit && fRecentBlocks.size() > 1) {
+			Block evicted = eldest.next();
+			eldest.remove();
+			fBlocks.remove(evicted.fStart);
+			fInstructionCount -= evicted.fInstructionCount;
+		}
+	}
+
+	/**
+	 * Returns the cached disassembly of a range, or <code>null</code> if any part of it is missing.
+	 * Lines that were split between two blocks are joined again.
+	 *
+	 * @param start start address of the request
+	 * @param end first address after the request
+	 */
+	IMixedInstruction[] get(BigInteger start, BigInteger end) {
+		List<Block> blocks = new ArrayList<>();
+		BigInteger position = start;
+		while (position.compareTo(end) < 0) {
+			Block block = getBlock(position);
+			if (block == null) {
+				return null;
+			}
+			blocks.add(block);
+			position = block.fEnd;
+		}
+
+		List<IMixedInstruction> result = new ArrayList<>();
+		position = start;
+		for (Block block : blocks) {
+			fRecentBlocks.get(block.fStart);
+			BigInteger limit = block.fEnd.min(end);
+			for (IMixedInstruction line : block.fLines) {
+				List<IInstruction> instructions = new ArrayList<>();
+				for (IInstruction instruction : line.getInstructions()) {
+					BigInteger address = instruction.getAdress();
+					if (address != null && address.compareTo(position) >= 0 && address.compareTo(limit) < 0) {
+						instructions.add(instruction);
+					}
+				}
+				if (instructions.isEmpty()) {
+					continue;
+				}
+				IMixedInstruction last = result.isEmpty() ? null : result.get(result.size() - 1);
+				if (last != null && line == block.fLines[0] && isSameLine(last, line)) {
+					// The line was split by the end of the previous block
+					instructions.addAll(0, Arrays.asList(last.getInstructions()));
+					result.set(result.size() - 1, new Line(line.getFileName(), line.getLineNumber(),
+							instructions.toArray(new IInstruction[instructions.size()])));
+				} else if (instructions.size() == line.getInstructions().length) {
+					result.add(line);
+				} else {
+					result.add(new Line(line.getFileName(), line.getLineNumber(),
+							instructions.toArray(new IInstruction[instructions.size()])));
+				}
+			}
+			position = block.fEnd;
+		}
+		return result.toArray(new IMixedInstruction[result.size()]);
+	}
+
+	/**
+	 * Drops the block holding the given address, if any.
+	 *
+	 * @return whether a block was dropped
+	 */
+	boolean invalidate(BigInteger address) {
+		Block block = getBlock(address);
+		if (block == null) {
+			return false;
+		}
+		remove(block);
+		return true;
+	}
+
+	void clear() {
+		fBlocks.clear();
+		fRecentBlocks.clear();
+		fInstructionCount = 0;
+	}
+
+	private Block getBlock(BigInteger address) {
+		Map.Entry<BigInteger, Block> entry = fBlocks.floorEntry(address);
+		if (entry != null && entry.getValue().fEnd.compareTo(address) > 0) {
+			return entry.getValue();
+		}
+		return null;
+	}
+
+	private void remove(Block block) {
+		fBlocks.remove(block.fStart);
+		fRecentBlocks.remove(block.fStart);
+		fInstructionCount -= block.fInstructionCount;
+	}
+
+	private static boolean isSameLine(IMixedInstruction line, IMixedInstruction other) {
+		return line.getLineNumber() == other.getLineNumber() && Objects.equals(line.getFileName(), other.getFileName());
+	}
+
+	private static BigInteger getEnd(IInstruction instruction) {
+		if (instruction instanceof IInstructionWithSize) {
+			Integer size = ((IInstructionWithSize) instruction).getSize();
+			if (size != null && instruction.getAdress() != null) {
+				return instruction.getAdress().add(BigInteger.valueOf(size));
+			}
+		}
+		return null;
+	}
+}
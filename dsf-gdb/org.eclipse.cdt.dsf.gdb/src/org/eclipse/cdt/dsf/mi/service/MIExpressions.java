@@ -1903,16 +1903,19 @@ public class MIExpressions extends AbstractDsfService implements IMIExpressions,
 	void getRealSubExpressions(final IExpressionDMContext exprCtx, int startIndex, int length,
 			final DataRequestMonitor<IExpressionDMContext[]> rm) {
 
-		ExprMetaGetChildren getChildren = (startIndex < 0 || length < 0) ? new ExprMetaGetChildren(exprCtx)
-				: new ExprMetaGetChildren(exprCtx, startIndex + length);
-		final int startIndex1 = (startIndex < 0) ? 0 : startIndex;
+		// When a range is given, only that range is returned, so that large arrays
+		// do not get all their elements created to show a few of them.
+		final boolean windowed = startIndex >= 0 && length >= 0;
+		ExprMetaGetChildren getChildren = windowed ? new ExprMetaGetChildren(exprCtx, startIndex, length)
+				: new ExprMetaGetChildren(exprCtx);
+		final int startIndex1 = (windowed || startIndex < 0) ? 0 : startIndex;
 		final int length1 = (length < 0) ? Integer.MAX_VALUE : length;
 		fExpressionCache.execute(getChildren, new DataRequestMonitor<ExprMetaGetChildrenInfo>(getExecutor(), rm) {
 			@Override
 			protected void handleSuccess() {
 				ExpressionInfo[] childrenExpr = getData().getChildrenExpressions();
 
-				if (startIndex1 >= childrenExpr.length) {
+				if (windowed ? (childrenExpr.length == 0 && length1 > 0) : startIndex1 >= childrenExpr.length) {
 					rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, REQUEST_FAILED,
 							"Invalid range for evaluating sub expressions.", null)); //$NON-NLS-1$
 					rm.done();
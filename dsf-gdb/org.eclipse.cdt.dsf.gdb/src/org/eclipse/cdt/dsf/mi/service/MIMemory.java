@@ -21,12 +21,11 @@
  *******************************************************************************/
 package org.eclipse.cdt.dsf.mi.service;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Hashtable;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 
 import org.eclipse.cdt.core.IAddress;
@@ -51,6 +50,7 @@ import org.eclipse.cdt.dsf.debug.service.IRunControl.ISuspendedDMEvent;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
 import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.command.IGDBControl;
 import org.eclipse.cdt.dsf.mi.service.MIExpressions.ExpressionChangedEvent;
@@ -64,6 +64,7 @@ import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.cdt.utils.Addr64;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.model.MemoryByte;
 import org.osgi.framework.BundleContext;
@@ -77,6 +78,9 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	//data-read-memory write is deprecated, its description could be ambiguous for e.g. 16 bit addressable systems
 	private static final String DATA_WRITE_MEMORY_16_NOT_SUPPORTED = "data-write-memory with word-size != 1 not supported"; //$NON-NLS-1$
 
+	/** Maximum number of octets fetched by a single read of the memory cache */
+	private static final int MAX_CACHE_READ_SIZE = 64 * 1024;
+
 	public class MemoryChangedEvent extends AbstractDMEvent<IMemoryDMContext> implements IMemoryChangedEvent {
 		private IAddress[] fAddresses;
 
@@ -102,7 +106,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 	protected MIMemoryCache getMemoryCache(IMemoryDMContext memoryDMC) {
 		MIMemoryCache cache = fMemoryCaches.get(memoryDMC);
 		if (cache == null) {
-			cache = new MIMemoryCache();
+			cache = new MIMemoryCache(memoryDMC);
 			fMemoryCaches.put(memoryDMC, cache);
 		}
 		return cache;
@@ -377,6 +381,19 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		}
 	}
 
+	/**
+	 * Returns whether none of the given memory could be read, as is the case for
+	 * the block returned when a read fails.
+	 */
+	private static boolean isUnreadable(MemoryByte[] block) {
+		for (MemoryByte b : block) {
+			if (b.isReadable()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private MemoryByte[] createInvalidBlock(int size) {
 		// Bug234289: If memory read fails, return a block marked as invalid
 		MemoryByte[] block = new MemoryByte[size];
@@ -531,116 +548,40 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		return 1;
 	}
 
-	///////////////////////////////////////////////////////////////////////////
-	// SortedLinkedlist
-	///////////////////////////////////////////////////////////////////////////
-
-	// This class is really the equivalent of a C struct (old habits die hard...)
-	// For simplicity, everything is public.
-	private static class MemoryBlock {
-		public IAddress fAddress;
-		public long fLengthInAddressableUnits;
-		public long fLengthInOctets;
-		public MemoryByte[] fBlock;
-
-		public MemoryBlock(IAddress address, long lengthInOctets, long lengthInAddressableUnits, MemoryByte[] block) {
-			// A memory block is expected to be populated with the contents of a defined range of addresses
-			// therefore the number of octets shall be divisible by the number of addresses
-			assert (lengthInOctets % lengthInAddressableUnits == 0);
-			fAddress = address;
-			fLengthInAddressableUnits = lengthInAddressableUnits;
-			fLengthInOctets = lengthInOctets;
-			fBlock = block;
-		}
+	/**
+	 * Returns the size of the pages of the memory cache, in addressable units. The
+	 * cache reads and keeps memory in pages aligned on this size.
+	 * @param context the memory context of the cache, may be <code>null</code>
+	 * @since 7.2
+	 */
+	protected int getMemoryCachePageSize(IMemoryDMContext context) {
+		return Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_PAGE_SIZE,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_PAGE_SIZE_DEFAULT, null);
 	}
 
-	// Address-ordered data structure to cache the memory blocks.
-	// Contiguous blocks are merged if possible.
-	@SuppressWarnings("serial")
-	private static class SortedMemoryBlockList extends LinkedList<MemoryBlock> {
-
-		public SortedMemoryBlockList() {
-			super();
-		}
-
-		// Insert the block in the sorted linked list and merge contiguous
-		// blocks if necessary
-		@Override
-		public boolean add(MemoryBlock block) {
-
-			// If the list is empty, just store the block
-			if (isEmpty()) {
-				addFirst(block);
-				return true;
-			}
-
-			// Insert the block at the correct location and then
-			// merge the blocks if possible
-			ListIterator<MemoryBlock> it = listIterator();
-			while (it.hasNext()) {
-				int index = it.nextIndex();
-				MemoryBlock item = it.next();
-				if (block.fAddress.compareTo(item.fAddress) < 0) {
-					add(index, block);
-					compact(index);
-					return true;
-				}
-			}
-
-			// Put at the end of the list and merge if necessary
-			addLast(block);
-			compact(size() - 1);
-			return true;
-		}
-
-		// Merge this block with its contiguous neighbors (if any)
-		// Note: Merge is not performed if resulting block size would exceed MAXINT
-		private void compact(int index) {
-
-			MemoryBlock newBlock = get(index);
-
-			// Case where the block is to be merged with the previous block
-			if (index > 0) {
-				MemoryBlock prevBlock = get(index - 1);
-				IAddress endOfPreviousBlock = prevBlock.fAddress.add(prevBlock.fLengthInAddressableUnits);
-				if (endOfPreviousBlock.distanceTo(newBlock.fAddress).longValue() == 0) {
-					long newLengthInOctets = prevBlock.fLengthInOctets + newBlock.fLengthInOctets;
-					long newLengthInAddressableUnits = prevBlock.fLengthInAddressableUnits
-							+ newBlock.fLengthInAddressableUnits;
-					if (newLengthInOctets <= Integer.MAX_VALUE) {
-						MemoryByte[] block = new MemoryByte[(int) newLengthInOctets];
-						System.arraycopy(prevBlock.fBlock, 0, block, 0, (int) prevBlock.fLengthInOctets);
-						System.arraycopy(newBlock.fBlock, 0, block, (int) prevBlock.fLengthInOctets,
-								(int) newBlock.fLengthInOctets);
-						newBlock = new MemoryBlock(prevBlock.fAddress, newLengthInOctets, newLengthInAddressableUnits,
-								block);
-						remove(index);
-						index -= 1;
-						set(index, newBlock);
-					}
-				}
-			}
+	/**
+	 * Returns the number of octets the memory cache of a context may hold before
+	 * the least recently used pages are dropped.
+	 * @param context the memory context of the cache, may be <code>null</code>
+	 * @since 7.2
+	 */
+	protected long getMemoryCacheSizeLimit(IMemoryDMContext context) {
+		return 1024L * Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_SIZE_LIMIT,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_SIZE_LIMIT_DEFAULT, null);
+	}
 
-			// Case where the block is to be merged with the following block
-			int lastIndex = size() - 1;
-			if (index < lastIndex) {
-				MemoryBlock nextBlock = get(index + 1);
-				IAddress endOfNewBlock = newBlock.fAddress.add(newBlock.fLengthInAddressableUnits);
-				if (endOfNewBlock.distanceTo(nextBlock.fAddress).longValue() == 0) {
-					long newLength = newBlock.fLengthInOctets + nextBlock.fLengthInOctets;
-					long newAddressesLength = newBlock.fLengthInAddressableUnits + nextBlock.fLengthInAddressableUnits;
-					if (newLength <= Integer.MAX_VALUE) {
-						MemoryByte[] block = new MemoryByte[(int) newLength];
-						System.arraycopy(newBlock.fBlock, 0, block, 0, (int) newBlock.fLengthInOctets);
-						System.arraycopy(nextBlock.fBlock, 0, block, (int) newBlock.fLengthInOctets,
-								(int) nextBlock.fLengthInOctets);
-						newBlock = new MemoryBlock(newBlock.fAddress, newLength, newAddressesLength, block);
-						set(index, newBlock);
-						remove(index + 1);
-					}
-				}
-			}
-		}
+	/**
+	 * Returns the number of pages the memory cache reads ahead of a request that
+	 * misses the cache, in the direction the client is moving through memory.
+	 * @param context the memory context of the cache, may be <code>null</code>
+	 * @since 7.2
+	 */
+	protected int getMemoryCachePrefetchPages(IMemoryDMContext context) {
+		return Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_MEMORY_CACHE_PREFETCH_PAGES,
+				IGdbDebugPreferenceConstants.MEMORY_CACHE_PREFETCH_PAGES_DEFAULT, null);
 	}
 
 	///////////////////////////////////////////////////////////////////////////
@@ -649,247 +590,61 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 
 	/** @since 4.2 */
 	protected class MIMemoryCache {
-		// The memory cache data structure
-		private SortedMemoryBlockList fMemoryBlockList;
+		// The memory cache data structure, created for the word size of the requests
+		private MIMemoryPageCache fPageCache;
+		// Incremented on reset, so that reads issued before are not cached
+		private int fGeneration;
 
-		public MIMemoryCache() {
-			// Create the memory block cache
-			fMemoryBlockList = new SortedMemoryBlockList();
-		}
+		private final int fPageSize;
+		private final long fSizeLimit;
+		private final int fPrefetchPages;
 
-		public void reset() {
-			// Clear the memory cache
-			fMemoryBlockList.clear();
+		public MIMemoryCache() {
+			this(null);
 		}
 
 		/**
-		 *  This function walks the address-sorted memory block list to identify
-		 *  the 'missing' blocks (i.e. the holes) that need to be fetched on the target.
-		 *
-		 *  The idea is fairly simple but an illustration could perhaps help.
-		 *  Assume the cache holds a number of cached memory blocks with gaps i.e.
-		 *  there is un-cached memory areas between blocks A, B and C:
-		 *
-		 *        +---------+      +---------+      +---------+
-		 *        +    A    +      +    B    +      +    C    +
-		 *        +---------+      +---------+      +---------+
-		 *        :         :      :         :      :         :
-		 *   [a]  :         :  [b] :         :  [c] :         :  [d]
-		 *        :         :      :         :      :         :
-		 *   [e---+--]      :  [f--+---------+--]   :         :
-		 *   [g---+---------+------+---------+------+---------+----]
-		 *        :         :      :         :      :         :
-		 *        :   [h]   :      :   [i----+--]   :         :
-		 *
-		 *
-		 *  We have the following cases to consider.The requested block [a-i] either:
-		 *
-		 *  [1] Fits entirely before A, in one of the gaps, or after C
-		 *      with no overlap and no contiguousness (e.g. [a], [b], [c] and [d])
-		 *      -> Add the requested block to the list of blocks to fetch
-		 *
-		 *  [2] Starts before an existing block but overlaps part of it, possibly
-		 *      spilling in the gap following the cached block (e.g. [e], [f] and [g])
-		 *      -> Determine the length of the missing part (< count)
-		 *      -> Add a request to fill the gap before the existing block
-		 *      -> Update the requested block for the next iteration:
-		 *         - Start address to point just after the end of the cached block
-		 *         - Count reduced by cached block length (possibly becoming negative, e.g. [e])
-		 *      At this point, the updated requested block starts just beyond the cached block
-		 *      for the next iteration.
-		 *
-		 *  [3] Starts at or into an existing block and overlaps part of it ([h] and [i])
-		 *      -> Update the requested block for the next iteration:
-		 *         - Start address to point just after the end of the cached block
-		 *         - Count reduced by length to end of cached block (possibly becoming negative, e.g. [h])
-		 *      At this point, the updated requested block starts just beyond the cached block
-		 *      for the next iteration.
-		 *
-		 *  We iterate over the cached blocks list until there is no entry left or until
-		 *  the remaining requested block count is <= 0, meaning the result list contains
-		 *  only the sub-blocks needed to fill the gap(s), if any.
-		 *
-		 *  (As is often the case, it takes much more typing to explain it than to just do it :-)
-		 *
-		 *  What is missing is a parameter that indicates the minimal block size that is worth fetching.
-		 *  This is target-specific and straight in the realm of the coalescing function...
-		 *
-		 * @param reqBlockStart The address of the requested block
-		 * @param count Its length
-		 * @return A list of the sub-blocks to fetch in order to fill enough gaps in the memory cache
-		 * to service the request
+		 * @param memoryDMC the memory context of the cache, used to look up its settings
+		 * @since 7.2
 		 */
-		private List<MemoryBlock> getListOfMissingBlocks(IAddress reqBlockStart, int wordCount, int wordSize) {
-			int octetCount = wordCount * wordSize;
-
-			LinkedList<MemoryBlock> list = new LinkedList<>();
-			ListIterator<MemoryBlock> it = fMemoryBlockList.listIterator();
-
-			// Look for holes in the list of memory blocks
-			while (it.hasNext() && octetCount > 0) {
-				MemoryBlock cachedBlock = it.next();
-				IAddress cachedBlockStart = cachedBlock.fAddress;
-				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
-
-				// Case where we miss a block before the cached block
-				if (reqBlockStart.distanceTo(cachedBlockStart).longValue() >= 0) {
-					int lengthInOctets = (int) Math
-							.min(reqBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize, octetCount);
-					// If both blocks start at the same location, no need to create a new cached block
-					if (lengthInOctets > 0) {
-						int lengthInAddressableUnits = lengthInOctets / wordSize;
-						MemoryBlock newBlock = new MemoryBlock(reqBlockStart, lengthInOctets, lengthInAddressableUnits,
-								new MemoryByte[0]);
-						list.add(newBlock);
-					}
-					// Adjust request block start and length for the next iteration
-					reqBlockStart = cachedBlockEnd;
-					octetCount -= lengthInOctets + cachedBlock.fLengthInOctets;
-				}
-
-				// Case where the requested block starts somewhere in the cached block
-				else if (cachedBlockStart.distanceTo(reqBlockStart).longValue() > 0
-						&& reqBlockStart.distanceTo(cachedBlockEnd).longValue() >= 0) {
-					// Start of the requested block already in cache
-					// Adjust request block start and length for the next iteration
-					octetCount -= reqBlockStart.distanceTo(cachedBlockEnd).longValue() * wordSize;
-					reqBlockStart = cachedBlockEnd;
-				}
-			}
+		public MIMemoryCache(IMemoryDMContext memoryDMC) {
+			fPageSize = getMemoryCachePageSize(memoryDMC);
+			fSizeLimit = getMemoryCacheSizeLimit(memoryDMC);
+			fPrefetchPages = getMemoryCachePrefetchPages(memoryDMC);
+		}
 
-			// Case where we miss a block at the end of the cache
-			if (octetCount > 0) {
-				int addressesLength = octetCount / wordSize;
-				MemoryBlock newBlock = new MemoryBlock(reqBlockStart, octetCount, addressesLength, new MemoryByte[0]);
-				list.add(newBlock);
+		public void reset() {
+			// Clear the memory cache
+			if (fPageCache != null) {
+				fPageCache.clear();
 			}
-
-			return list;
+			fGeneration++;
 		}
 
-		/**
-		 *  This function walks the address-sorted memory block list to get the
-		 *  cached memory bytes (possibly from multiple contiguous blocks).
-		 *  This function is called *after* the missing blocks have been read from
-		 *  the back end i.e. the requested memory is all cached.
-		 *
-		 *  Again, this is fairly simple. As we loop over the address-ordered list,
-		 *  There are really only 2 cases:
-		 *
-		 *  [1] The requested block fits entirely in the cached block ([a] or [b])
-		 *  [2] The requested block starts in a cached block and ends in the
-		 *      following (contiguous) one ([c]) in which case it is treated
-		 *      as 2 contiguous requests ([c'] and [c"])
-		 *
-		 *       +--------------+--------------+
-		 *       +       A      +      B       +
-		 *       +--------------+--------------+
-		 *       :  [a----]     :   [b-----]   :
-		 *       :              :              :
-		 *       :       [c-----+------]       :
-		 *       :       [c'---]+[c"---]       :
-		 *
-		 * @param reqBlockStart The address of the requested block
-		 * @param count Its length
-		 * @return The cached memory content
-		 */
-		private MemoryByte[] getMemoryBlockFromCache(IAddress reqBlockStart, int wordCount, int wordSize) {
-			int count = wordCount * wordSize;
-
-			IAddress reqBlockEnd = reqBlockStart.add(wordCount);
-			MemoryByte[] resultBlock = new MemoryByte[count];
-			ListIterator<MemoryBlock> iter = fMemoryBlockList.listIterator();
-
-			while (iter.hasNext()) {
-				MemoryBlock cachedBlock = iter.next();
-				IAddress cachedBlockStart = cachedBlock.fAddress;
-				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
-
-				// Case where the cached block overlaps completely the requested memory block
-				if (cachedBlockStart.distanceTo(reqBlockStart).longValue() >= 0
-						&& reqBlockEnd.distanceTo(cachedBlockEnd).longValue() >= 0) {
-					int pos = (int) cachedBlockStart.distanceTo(reqBlockStart).longValue() * wordSize;
-					System.arraycopy(cachedBlock.fBlock, pos, resultBlock, 0, count);
-				}
-
-				// Case where the beginning of the cached block is within the requested memory block
-				else if (reqBlockStart.distanceTo(cachedBlockStart).longValue() >= 0
-						&& cachedBlockStart.distanceTo(reqBlockEnd).longValue() > 0) {
-					int pos = (int) reqBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize;
-					int length = (int) Math.min(cachedBlock.fLengthInOctets, count - pos);
-					System.arraycopy(cachedBlock.fBlock, 0, resultBlock, pos, length);
-				}
-
-				// Case where the end of the cached block is within the requested memory block
-				else if (cachedBlockStart.distanceTo(reqBlockStart).longValue() >= 0
-						&& reqBlockStart.distanceTo(cachedBlockEnd).longValue() > 0) {
-					int pos = (int) cachedBlockStart.distanceTo(reqBlockStart).longValue() * wordSize;
-					int length = (int) Math.min(cachedBlock.fLengthInOctets - pos, count);
-					System.arraycopy(cachedBlock.fBlock, pos, resultBlock, 0, length);
-				}
+		private MIMemoryPageCache getPageCache(int wordSize) {
+			if (fPageCache == null || fPageCache.getWordSize() != wordSize) {
+				fPageCache = new MIMemoryPageCache(fPageSize, wordSize, fSizeLimit);
 			}
-			return resultBlock;
+			return fPageCache;
 		}
 
 		/**
-		 *  This function walks the address-sorted memory block list and updates
-		 *  the content with the actual memory just read from the target.
+		 * Updates the cached memory with memory just read from the target.
 		 *
-		 * @param modBlockStart
-		 * @param wordCount - Number of addressable units
-		 * @param modBlock
-		 * @param wordSize - Number of octets per addressable unit
+		 * @return whether any of the cached memory changed
 		 */
-		private void updateMemoryCache(IAddress modBlockStart, int wordCount, MemoryByte[] modBlock, int wordSize) {
-			IAddress modBlockEnd = modBlockStart.add(wordCount);
-			ListIterator<MemoryBlock> iter = fMemoryBlockList.listIterator();
-			int count = wordCount * wordSize;
-
-			while (iter.hasNext()) {
-				MemoryBlock cachedBlock = iter.next();
-				IAddress cachedBlockStart = cachedBlock.fAddress;
-				IAddress cachedBlockEnd = cachedBlock.fAddress.add(cachedBlock.fLengthInAddressableUnits);
-
-				// For now, we only bother to update bytes already cached.
-				// Note: In a better implementation (v1.1), we would augment
-				// the cache with the missing memory blocks since we went
-				// through the pains of reading them in the first place.
-				// (this is left as an exercise to the reader :-)
-
-				// Case where the modified block is completely included in the cached block
-				if (cachedBlockStart.distanceTo(modBlockStart).longValue() >= 0
-						&& modBlockEnd.distanceTo(cachedBlockEnd).longValue() >= 0) {
-					int pos = (int) cachedBlockStart.distanceTo(modBlockStart).longValue() * wordSize;
-					System.arraycopy(modBlock, 0, cachedBlock.fBlock, pos, count);
-				}
-
-				// Case where the cached block is completely included in the modified block
-				else if (modBlockStart.distanceTo(cachedBlockStart).longValue() >= 0
-						&& cachedBlockEnd.distanceTo(modBlockEnd).longValue() >= 0) {
-					int pos = (int) modBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize;
-					System.arraycopy(modBlock, pos, cachedBlock.fBlock, 0, (int) cachedBlock.fLengthInOctets);
-				}
-
-				// Case where the beginning of the modified block is within the cached block
-				else if (cachedBlockStart.distanceTo(modBlockStart).longValue() >= 0
-						&& modBlockStart.distanceTo(cachedBlockEnd).longValue() > 0) {
-					int pos = (int) cachedBlockStart.distanceTo(modBlockStart).longValue() * wordSize;
-					int length = (int) modBlockStart.distanceTo(cachedBlockEnd).longValue() * wordSize;
-					System.arraycopy(modBlock, 0, cachedBlock.fBlock, pos, length);
-				}
-
-				// Case where the end of the modified block is within the cached block
-				else if (cachedBlockStart.distanceTo(modBlockEnd).longValue() > 0
-						&& modBlockEnd.distanceTo(cachedBlockEnd).longValue() >= 0) {
-					int pos = (int) modBlockStart.distanceTo(cachedBlockStart).longValue() * wordSize;
-					int length = (int) cachedBlockStart.distanceTo(modBlockEnd).longValue() * wordSize;
-					System.arraycopy(modBlock, pos, cachedBlock.fBlock, 0, length);
-				}
+		private boolean updateMemoryCache(IAddress modBlockStart, MemoryByte[] modBlock, int wordSize) {
+			if (fPageCache == null || fPageCache.getWordSize() != wordSize) {
+				return false;
 			}
-			return;
+			return fPageCache.update(modBlockStart, modBlock);
 		}
 
 		/**
+		 * Reads the requested memory from the cache. The pages missing from the
+		 * cache are fetched first, adjacent pages with a single read and together
+		 * with the pages read ahead in the direction the client is moving.
+		 *
 		 * @param memoryDMC
 		 * @param address	the memory block address (on the target)
 		 * @param wordSize	the size, in bytes, of an addressable item
@@ -898,42 +653,102 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 		 */
 		public void getMemory(IMemoryDMContext memoryDMC, final IAddress address, final int wordSize,
 				final int wordCount, final DataRequestMonitor<MemoryByte[]> drm) {
-			// Determine the number of read requests to issue
-			List<MemoryBlock> missingBlocks = getListOfMissingBlocks(address, wordCount, wordSize);
-			int numberOfRequests = missingBlocks.size();
+			final MIMemoryPageCache pageCache = getPageCache(wordSize);
+			int maxPagesPerRead = Math.max(1, MAX_CACHE_READ_SIZE / (pageCache.getPageSize() * wordSize));
+			List<long[]> missingRuns = pageCache.getMissingRuns(address, wordCount, fPrefetchPages,
+					maxPagesPerRead);
+			if (missingRuns.isEmpty()) {
+				drm.setData(pageCache.read(address, wordCount, null));
+				drm.done();
+				return;
+			}
 
-			// A read request will be issued for each block needed
+			// The pages of this request, kept until the result is built even if they are evicted meanwhile
+			final Map<Long, MemoryByte[]> pages = new HashMap<>();
+			pageCache.collect(address, wordCount, pages);
+			final int generation = fGeneration;
+
+			// A read request will be issued for each run of missing pages
 			// so we need to keep track of the count
 			final CountingRequestMonitor countingRM = new CountingRequestMonitor(getExecutor(), drm) {
 				@Override
 				protected void handleSuccess() {
-					// We received everything so read the result from the memory cache
-					drm.setData(getMemoryBlockFromCache(address, wordCount, wordSize));
+					// We received everything so build the result from the pages
+					drm.setData(pageCache.read(address, wordCount, pages));
+					pageCache.trim();
 					drm.done();
 				}
 			};
-			countingRM.setDoneCount(numberOfRequests);
+			countingRM.setDoneCount(missingRuns.size());
 
 			// Issue the read requests
-			for (int i = 0; i < numberOfRequests; i++) {
-				MemoryBlock block = missingBlocks.get(i);
-				final IAddress startAddress = block.fAddress;
-				final int length = (int) block.fLengthInAddressableUnits;
+			for (long[] run : missingRuns) {
+				final long firstPage = run[0];
+				final IAddress startAddress = address
+						.add(pageCache.getPageStart(firstPage).subtract(address.getValue()));
+				final int length = (int) run[1] * pageCache.getPageSize();
 				readMemoryBlock(memoryDMC, startAddress, 0, wordSize, length,
-						new DataRequestMonitor<MemoryByte[]>(getSession().getExecutor(), drm) {
+						new DataRequestMonitor<MemoryByte[]>(getExecutor(), countingRM) {
 							@Override
 							protected void handleSuccess() {
-								MemoryByte[] block = getData();
-								int lenghtInaddressableUnits = block.length / wordSize;
-								MemoryBlock memoryBlock = new MemoryBlock(startAddress, block.length,
-										lenghtInaddressableUnits, block);
-								fMemoryBlockList.add(memoryBlock);
+								if (isUnreadable(getData())) {
+									// The read may have failed because of the memory around the request,
+									// nothing of the run is cached.
+									readRequestedPart(memoryDMC, startAddress, length, address, wordCount,
+											wordSize, generation, pageCache, pages, countingRM);
+									return;
+								}
+								Map<Long, MemoryByte[]> runPages = pageCache.split(firstPage, getData());
+								pages.putAll(runPages);
+								// Memory read before a reset may be stale, only use it for this request
+								if (generation == fGeneration && pageCache == fPageCache) {
+									pageCache.putAll(runPages);
+								}
 								countingRM.done();
 							}
 						});
 			}
 		}
 
+		/**
+		 * Reads the part of a request that lies in a run of pages which could not be
+		 * read. The pages entirely covered by the part are cached if it can be read,
+		 * the memory around the request is not read again.
+		 */
+		private void readRequestedPart(IMemoryDMContext memoryDMC, IAddress runStart, int runCount,
+				IAddress address, int wordCount, int wordSize, final int generation,
+				final MIMemoryPageCache pageCache, final Map<Long, MemoryByte[]> pages, final RequestMonitor rm) {
+			BigInteger start = runStart.getValue().max(address.getValue());
+			BigInteger end = runStart.getValue().add(BigInteger.valueOf(runCount))
+					.min(address.getValue().add(BigInteger.valueOf(wordCount)));
+			if (start.compareTo(end) >= 0 || (start.equals(runStart.getValue()) && end.subtract(start)
+					.equals(BigInteger.valueOf(runCount)))) {
+				// The run was read ahead, or it is the requested memory itself that cannot be read
+				rm.done();
+				return;
+			}
+			final IAddress partStart = address.add(start.subtract(address.getValue()));
+			final int partCount = end.subtract(start).intValue();
+			readMemoryBlock(memoryDMC, partStart, 0, wordSize, partCount,
+					new DataRequestMonitor<MemoryByte[]>(getExecutor(), rm) {
+						@Override
+						protected void handleSuccess() {
+							Map<Long, MemoryByte[]> partPages = pageCache.splitRange(partStart, getData());
+							pages.putAll(partPages);
+							if (!isUnreadable(getData()) && generation == fGeneration && pageCache == fPageCache) {
+								Map<Long, MemoryByte[]> completePages = new HashMap<>();
+								for (Map.Entry<Long, MemoryByte[]> entry : partPages.entrySet()) {
+									if (pageCache.isWithin(entry.getKey(), partStart, partCount)) {
+										completePages.put(entry.getKey(), entry.getValue());
+									}
+								}
+								pageCache.putAll(completePages);
+							}
+							rm.done();
+						}
+					});
+		}
+
 		/**
 		 * @param memoryDMC
 		 * @param address	the memory block address (on the target)
@@ -958,7 +773,7 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 									new DataRequestMonitor<MemoryByte[]>(getExecutor(), rm) {
 										@Override
 										protected void handleSuccess() {
-											updateMemoryCache(address.add(offset), wordCount, getData(), wordSize);
+											updateMemoryCache(address.add(offset), getData(), wordSize);
 											// Send the MemoryChangedEvent
 											IAddress[] addresses = new IAddress[wordCount];
 											for (int i = 0; i < wordCount; i++) {
@@ -986,14 +801,8 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 				final int wordSize, final int wordCount, final boolean sendMemoryEvent, final RequestMonitor rm) {
 			// Check if we already cache part of this memory area (which means it
 			// is used by a memory service client that will have to be updated)
-			List<MemoryBlock> list = getListOfMissingBlocks(address, wordCount, wordSize);
-			int sizeToRead = 0;
-			for (MemoryBlock block : list) {
-				sizeToRead += block.fLengthInAddressableUnits;
-			}
-
-			// If none of the requested memory is in cache, just get out
-			if (sizeToRead == wordCount) {
+			if (fPageCache == null || fPageCache.getWordSize() != wordSize
+					|| !fPageCache.containsAny(address.add(offset), wordCount)) {
 				rm.done();
 				return;
 			}
@@ -1004,26 +813,15 @@ public class MIMemory extends AbstractDsfService implements IMemory, ICachingSer
 					new DataRequestMonitor<MemoryByte[]>(getExecutor(), rm) {
 						@Override
 						protected void handleSuccess() {
-							MemoryByte[] oldBlock = getMemoryBlockFromCache(address, wordCount, wordSize);
-							MemoryByte[] newBlock = getData();
-							boolean blocksDiffer = false;
-							for (int i = 0; i < oldBlock.length; i++) {
-								if (oldBlock[i].getValue() != newBlock[i].getValue()) {
-									blocksDiffer = true;
-									break;
-								}
-							}
-							if (blocksDiffer) {
-								updateMemoryCache(address.add(offset), wordCount, newBlock, wordSize);
-								if (sendMemoryEvent) {
-									// Send the MemoryChangedEvent
-									final IAddress[] addresses = new IAddress[wordCount];
-									for (int i = 0; i < wordCount; i++) {
-										addresses[i] = address.add(offset + i);
-									}
-									getSession().dispatchEvent(new MemoryChangedEvent(memoryDMC, addresses),
-											getProperties());
+							boolean blocksDiffer = updateMemoryCache(address.add(offset), getData(), wordSize);
+							if (blocksDiffer && sendMemoryEvent) {
+								// Send the MemoryChangedEvent
+								final IAddress[] addresses = new IAddress[wordCount];
+								for (int i = 0; i < wordCount; i++) {
+									addresses[i] = address.add(offset + i);
 								}
+								getSession().dispatchEvent(new MemoryChangedEvent(memoryDMC, addresses),
+										getProperties());
 							}
 							rm.done();
 						}
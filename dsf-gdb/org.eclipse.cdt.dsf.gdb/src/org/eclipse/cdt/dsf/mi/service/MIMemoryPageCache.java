@@ -0,0 +1,350 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.IAddress;
+import org.eclipse.debug.core.model.MemoryByte;
+
+/**
+ * Page-aligned store for the memory read from the target in one memory context.
+ * <p>
+ * Memory is cached in pages of a fixed number of addressable units, aligned on
+ * the page size. Once the cached pages exceed the size limit, the least recently
+ * used pages are dropped. The store also remembers where the previous request
+ * started, so that the pages read ahead follow the direction in which a client
+ * scrolls through memory.
+ * </p>
+ * Not thread-safe, the cache is meant to be used on the DSF executor.
+ */
+class MIMemoryPageCache {
+	/** Smallest page size, in addressable units */
+	static final int MIN_PAGE_SIZE = 16;
+
+	/** Number of addressable units in a page, a power of two */
+	private final int fPageSize;
+	private final BigInteger fBigPageSize;
+	/** Number of octets per addressable unit */
+	private final int fWordSize;
+	/** Number of octets above which pages are evicted */
+	private final long fSizeLimit;
+
+	/** Cached pages, by page index, in access order */
+	private final LinkedHashMap<Long, MemoryByte[]> fPages = new LinkedHashMap<>(16, 0.75f, true);
+	/** Number of octets in the cached pages */
+	private long fSize;
+	/** Start of the previous request, used to guess the scrolling direction */
+	private BigInteger fLastRequestStart;
+
+	/**
+	 * @param pageSize number of addressable units per page, rounded down to a power of two
+	 * @param wordSize number of octets per addressable unit
+	 * @param sizeLimit number of octets the cache may hold before pages are evicted
+	 */
+	MIMemoryPageCache(int pageSize, int wordSize, long sizeLimit) {
+		fPageSize = Integer.highestOneBit(Math.max(pageSize, MIN_PAGE_SIZE));
+		fBigPageSize = BigInteger.valueOf(fPageSize);
+		fWordSize = wordSize;
+		fSizeLimit = sizeLimit;
+	}
+
+	int getPageSize() {
+		return fPageSize;
+	}
+
+	int getWordSize() {
+		return fWordSize;
+	}
+
+	/** Returns the number of octets currently cached */
+	long getSize() {
+		return fSize;
+	}
+
+	int getPageCount() {
+		return fPages.size();
+	}
+
+	long getPage(BigInteger address) {
+		return address.divide(fBigPageSize).longValue();
+	}
+
+	BigInteger getPageStart(long page) {
+		return BigInteger.valueOf(page).multiply(fBigPageSize);
+	}
+
+	boolean contains(long page) {
+		return fPages.containsKey(page);
+	}
+
+	/**
+	 * Returns whether any of the given range of memory is cached.
+	 */
+	boolean containsAny(IAddress start, int wordCount) {
+		if (wordCount <= 0) {
+			return false;
+		}
+		long first = getPage(start.getValue());
+		long last = getPage(start.getValue().add(BigInteger.valueOf(wordCount - 1)));
+		for (long page = first; page <= last; page++) {
+			if (fPages.containsKey(page)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the reads needed to service a request. If any page of the request
+	 * is missing, the missing pages are returned as runs of adjacent pages, each
+	 * run to be fetched with a single read. The runs include up to
+	 * <code>prefetchPages</code> pages beyond the request, after it when the
+	 * client moves up in memory and before it when it moves down.
+	 *
+	 * @param start start of the requested memory
+	 * @param wordCount number of addressable units requested
+	 * @param prefetchPages number of pages to read ahead
+	 * @param maxPagesPerRun maximum number of pages fetched by a single read
+	 * @return list of <code>{ firstPage, pageCount }</code> pairs in address
+	 * order, empty if the request is entirely cached
+	 */
+	List<long[]> getMissingRuns(IAddress start, int wordCount, int prefetchPages, int maxPagesPerRun) {
+		List<long[]> runs = new ArrayList<>();
+		if (wordCount <= 0) {
+			return runs;
+		}
+		BigInteger startValue = start.getValue();
+		long first = getPage(startValue);
+		long last = getPage(startValue.add(BigInteger.valueOf(wordCount - 1)));
+
+		int direction = fLastRequestStart == null ? 0 : startValue.compareTo(fLastRequestStart);
+		fLastRequestStart = startValue;
+
+		boolean missing = false;
+		for (long page = first; page <= last && !missing; page++) {
+			missing = !fPages.containsKey(page);
+		}
+		if (!missing) {
+			return runs;
+		}
+
+		if (direction > 0) {
+			last = Math.min(last + prefetchPages, getPage(start.getMaxOffset()));
+		} else if (direction < 0) {
+			first = Math.max(first - prefetchPages, 0);
+		}
+
+		long[] run = null;
+		for (long page = first; page <= last; page++) {
+			if (fPages.containsKey(page)) {
+				run = null;
+			} else if (run == null || run[1] == maxPagesPerRun) {
+				run = new long[] { page, 1 };
+				runs.add(run);
+			} else {
+				run[1]++;
+			}
+		}
+		return runs;
+	}
+
+	/**
+	 * Splits memory read for a run of pages into pages.
+	 *
+	 * @param firstPage index of the first page of the run
+	 * @param block memory read for the run
+	 * @return the pages of the run, by page index
+	 */
+	Map<Long, MemoryByte[]> split(long firstPage, MemoryByte[] block) {
+		int pageOctets = fPageSize * fWordSize;
+		int pageCount = (block.length + pageOctets - 1) / pageOctets;
+		Map<Long, MemoryByte[]> pages = new LinkedHashMap<>();
+		for (int i = 0; i < pageCount; i++) {
+			MemoryByte[] page = new MemoryByte[pageOctets];
+			int length = Math.min(pageOctets, block.length - i * pageOctets);
+			System.arraycopy(block, i * pageOctets, page, 0, length);
+			// A short read leaves the end of the last page undefined
+			for (int j = length; j < pageOctets; j++) {
+				page[j] = new MemoryByte((byte) 0, (byte) 0);
+			}
+			pages.put(firstPage + i, page);
+		}
+		return pages;
+	}
+
+	/**
+	 * Splits memory read for a range that is not aligned on pages, such as the
+	 * requested part of a run of pages that could not be read. The bytes of the
+	 * pages outside of the range are marked unreadable.
+	 *
+	 * @param start start of the memory read
+	 * @param block memory read for the range
+	 * @return the pages overlapping the range, by page index
+	 */
+	Map<Long, MemoryByte[]> splitRange(IAddress start, MemoryByte[] block) {
+		Map<Long, MemoryByte[]> pages = new LinkedHashMap<>();
+		int wordCount = block.length / fWordSize;
+		if (wordCount <= 0) {
+			return pages;
+		}
+		BigInteger startValue = start.getValue();
+		long first = getPage(startValue);
+		long last = getPage(startValue.add(BigInteger.valueOf(wordCount - 1)));
+		for (long page = first; page <= last; page++) {
+			MemoryByte[] bytes = new MemoryByte[fPageSize * fWordSize];
+			int pageOffset = (int) getPageStart(page).subtract(startValue).longValue();
+			for (int i = 0; i < bytes.length; i++) {
+				int j = i + pageOffset * fWordSize;
+				bytes[i] = j >= 0 && j < block.length ? block[j] : new MemoryByte((byte) 0, (byte) 0);
+			}
+			pages.put(page, bytes);
+		}
+		return pages;
+	}
+
+	/**
+	 * Returns whether a page lies entirely within the given range of memory.
+	 */
+	boolean isWithin(long page, IAddress start, int wordCount) {
+		BigInteger pageStart = getPageStart(page);
+		BigInteger startValue = start.getValue();
+		return pageStart.compareTo(startValue) >= 0
+				&& pageStart.add(fBigPageSize).compareTo(startValue.add(BigInteger.valueOf(wordCount))) <= 0;
+	}
+
+	/**
+	 * Caches the given pages. Pages are not evicted until the next call to {@link #trim()}.
+	 */
+	void putAll(Map<Long, MemoryByte[]> pages) {
+		for (Map.Entry<Long, MemoryByte[]> entry : pages.entrySet()) {
+			MemoryByte[] previous = fPages.put(entry.getKey(), entry.getValue());
+			if (previous != null) {
+				fSize -= previous.length;
+			}
+			fSize += entry.getValue().length;
+		}
+	}
+
+	/**
+	 * Adds the cached pages covering the given range of memory to a map, such
+	 * that they remain available even if they are evicted from the cache.
+	 */
+	void collect(IAddress start, int wordCount, Map<Long, MemoryByte[]> pages) {
+		if (wordCount <= 0) {
+			return;
+		}
+		long first = getPage(start.getValue());
+		long last = getPage(start.getValue().add(BigInteger.valueOf(wordCount - 1)));
+		for (long page = first; page <= last; page++) {
+			MemoryByte[] bytes = fPages.get(page);
+			if (bytes != null) {
+				pages.put(page, bytes);
+			}
+		}
+	}
+
+	/**
+	 * Returns the given range of memory.
+	 *
+	 * @param start start of the memory to return
+	 * @param wordCount number of addressable units to return
+	 * @param pinned pages to use in preference to the cached ones, may be <code>null</code>
+	 * @return the memory, with bytes of pages that are not available marked as unreadable
+	 */
+	MemoryByte[] read(IAddress start, int wordCount, Map<Long, MemoryByte[]> pinned) {
+		MemoryByte[] result = new MemoryByte[wordCount * fWordSize];
+		if (wordCount <= 0) {
+			return result;
+		}
+		BigInteger startValue = start.getValue();
+		long first = getPage(startValue);
+		long last = getPage(startValue.add(BigInteger.valueOf(wordCount - 1)));
+		for (long page = first; page <= last; page++) {
+			MemoryByte[] bytes = pinned != null ? pinned.get(page) : null;
+			if (bytes == null) {
+				bytes = fPages.get(page);
+			}
+			int pageOffset = (int) getPageStart(page).subtract(startValue).longValue();
+			int from = Math.max(pageOffset, 0);
+			int to = Math.min(pageOffset + fPageSize, wordCount);
+			if (bytes != null) {
+				System.arraycopy(bytes, (from - pageOffset) * fWordSize, result, from * fWordSize,
+						(to - from) * fWordSize);
+			} else {
+				for (int i = from * fWordSize; i < to * fWordSize; i++) {
+					result[i] = new MemoryByte((byte) 0, (byte) 0);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Updates the cached pages with memory freshly read from the target. Memory
+	 * which is not cached is ignored.
+	 *
+	 * @param start start of the memory read
+	 * @param block the memory read
+	 * @return whether the value of any cached byte changed
+	 */
+	boolean update(IAddress start, MemoryByte[] block) {
+		int wordCount = block.length / fWordSize;
+		if (wordCount <= 0) {
+			return false;
+		}
+		BigInteger startValue = start.getValue();
+		long first = getPage(startValue);
+		long last = getPage(startValue.add(BigInteger.valueOf(wordCount - 1)));
+		boolean changed = false;
+		for (long page = first; page <= last; page++) {
+			MemoryByte[] bytes = fPages.get(page);
+			if (bytes == null) {
+				continue;
+			}
+			int pageOffset = (int) getPageStart(page).subtract(startValue).longValue();
+			int from = Math.max(pageOffset, 0) * fWordSize;
+			int to = Math.min(pageOffset + fPageSize, wordCount) * fWordSize;
+			for (int i = from; i < to; i++) {
+				int j = i - pageOffset * fWordSize;
+				if (bytes[j].getValue() != block[i].getValue()) {
+					changed = true;
+				}
+				bytes[j] = block[i];
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Drops the least recently used pages until the cache fits in its size limit.
+	 */
+	void trim() {
+		Iterator<MemoryByte[]> it = fPages.values().iterator();
+		while (fSize > fSizeLimit && it.hasNext()) {
+			fSize -= it.next().length;
+			it.remove();
+		}
+	}
+
+	void clear() {
+		fPages.clear();
+		fSize = 0;
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Snapshots of the register values of the frames of suspended threads, kept until
+ * the threads resume, such that switching back to a frame does not read its
+ * registers again.
+ * <p>
+ * <code>-data-list-changed-registers</code> lists the registers of the selected
+ * frame that changed since the previous time it was executed, for any thread. The
+ * snapshot of the top frame of a thread therefore survives its resumption if that
+ * command was last executed for the thread while it was suspended. When the thread
+ * suspends again and the command is executed for it right away, only the registers
+ * it lists are dropped from the snapshot.
+ *
+ * @param <T> the type of the thread contexts
+ */
+class MIRegisterSnapshots<T> {
+
+	/** Values of the viewed frames by thread, by frame level, by format and register number. */
+	private final Map<T, Map<Integer, Map<Long, String>>> fSnapshots = new HashMap<>();
+
+	/** Thread for which <code>-data-list-changed-registers</code> was last executed. */
+	private T fBaselineThread;
+
+	/** Whether the baseline thread has not resumed since the command was executed for it. */
+	private boolean fBaselineCurrent;
+
+	/** Snapshot of the top frame of the baseline thread, kept while the thread runs. */
+	private Map<Long, String> fResumedSnapshot;
+
+	private static long key(int format, int regno) {
+		return ((long) format << 32) | (regno & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Returns the value of a register in a frame, <code>null</code> if it is not known.
+	 */
+	String get(T thread, int level, int format, int regno) {
+		Map<Integer, Map<Long, String>> frames = fSnapshots.get(thread);
+		if (frames == null) {
+			return null;
+		}
+		Map<Long, String> values = frames.get(level);
+		return values == null ? null : values.get(key(format, regno));
+	}
+
+	/**
+	 * Stores the value of a register in a frame of a suspended thread.
+	 *
+	 * @return whether <code>-data-list-changed-registers</code> should be executed for
+	 *         the thread, for the snapshot of its top frame to outlive its resumption
+	 */
+	boolean put(T thread, int level, int format, int regno, String value) {
+		fSnapshots.computeIfAbsent(thread, t -> new HashMap<>()).computeIfAbsent(level, l -> new HashMap<>())
+				.put(key(format, regno), value);
+		return level == 0 && !(fBaselineCurrent && thread.equals(fBaselineThread));
+	}
+
+	/**
+	 * To be called when <code>-data-list-changed-registers</code> is executed for a
+	 * thread.
+	 */
+	void setBaselineThread(T thread) {
+		if (!thread.equals(fBaselineThread)) {
+			fResumedSnapshot = null;
+		}
+		fBaselineThread = thread;
+		fBaselineCurrent = true;
+	}
+
+	/**
+	 * Drops the snapshots of the resumed threads, but the top frame of the baseline
+	 * thread.
+	 */
+	void resumed(Predicate<T> isResumed) {
+		for (Iterator<Map.Entry<T, Map<Integer, Map<Long, String>>>> it = fSnapshots.entrySet().iterator(); it
+				.hasNext();) {
+			Map.Entry<T, Map<Integer, Map<Long, String>>> entry = it.next();
+			if (isResumed.test(entry.getKey())) {
+				if (entry.getKey().equals(fBaselineThread)) {
+					fResumedSnapshot = entry.getValue().get(0);
+				}
+				it.remove();
+			}
+		}
+		if (fBaselineThread != null && isResumed.test(fBaselineThread)) {
+			fBaselineCurrent = false;
+		}
+	}
+
+	/**
+	 * Whether the changed registers of a thread that just suspended are needed to
+	 * restore the snapshot of its top frame.
+	 */
+	boolean needsChangedRegisters(T thread) {
+		return fResumedSnapshot != null && !fBaselineCurrent && thread.equals(fBaselineThread);
+	}
+
+	/**
+	 * Restores the snapshot of the top frame of a thread that just suspended, without
+	 * the registers that changed.
+	 *
+	 * @param changed the numbers of the registers that changed, <code>null</code> if
+	 *                they are not known, in which case the snapshot is dropped
+	 */
+	void suspended(T thread, int[] changed) {
+		if (!fBaselineCurrent || !thread.equals(fBaselineThread)) {
+			return;
+		}
+		Map<Long, String> values = fResumedSnapshot;
+		fResumedSnapshot = null;
+		if (values == null || changed == null) {
+			return;
+		}
+		for (int regno : changed) {
+			values.keySet().removeIf(key -> (int) key.longValue() == regno);
+		}
+		if (!values.isEmpty()) {
+			Map<Integer, Map<Long, String>> frames = fSnapshots.computeIfAbsent(thread, t -> new HashMap<>());
+			values.putAll(frames.getOrDefault(0, values));
+			frames.put(0, values);
+		}
+	}
+
+	/**
+	 * Drops the snapshot of the top frame of the baseline thread, if it suspended
+	 * without the changed registers being listed.
+	 */
+	void dropResumedSnapshot(Predicate<T> isSuspended) {
+		if (fBaselineThread != null && isSuspended.test(fBaselineThread)) {
+			fResumedSnapshot = null;
+		}
+	}
+
+	/**
+	 * Drops all snapshots, e.g. when a register was written.
+	 */
+	void clear() {
+		fSnapshots.clear();
+		fResumedSnapshot = null;
+		fBaselineThread = null;
+		fBaselineCurrent = false;
+	}
+
+	int getSnapshotCount() {
+		int count = 0;
+		for (Map<Integer, Map<Long, String>> frames : fSnapshots.values()) {
+			count += frames.size();
+		}
+		return count;
+	}
+}
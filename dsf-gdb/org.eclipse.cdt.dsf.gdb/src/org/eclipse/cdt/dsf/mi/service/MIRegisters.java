@@ -38,14 +38,18 @@ import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRegisters;
 import org.eclipse.cdt.dsf.debug.service.IRunControl;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerDMContext;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IContainerSuspendedDMEvent;
+import org.eclipse.cdt.dsf.debug.service.IRunControl.IExecutionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IRunControl.StateChangeReason;
 import org.eclipse.cdt.dsf.debug.service.IStack;
 import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
 import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListChangedRegistersInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterNamesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIDataListRegisterValuesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
@@ -54,6 +58,7 @@ import org.eclipse.cdt.dsf.service.AbstractDsfService;
 import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.osgi.framework.BundleContext;
 
@@ -256,6 +261,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	private CommandCache fRegisterNameCache; // Cache for holding the Register Names in the single Group
 	private CommandCache fRegisterValueCache; // Cache for holding the Register Values
 
+	// Register values of the frames viewed since the threads suspended
+	private final MIRegisterSnapshots<IMIExecutionDMContext> fRegisterSnapshots = new MIRegisterSnapshots<>();
+
+	// Requests waiting for the changed registers of a thread that just suspended
+	private final Map<IMIExecutionDMContext, List<Runnable>> fChangedRegistersWaiters = new HashMap<>();
+
 	public MIRegisters(DsfSession session) {
 		super(session);
 	}
@@ -382,14 +393,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				return;
 			}
 
-			int[] regnos = { miRegDmc.getRegNo() };
-			fRegisterValueCache.execute(
-					fCommandFactory.createMIDataListRegisterValues(frameDmc, MIFormat.HEXADECIMAL, regnos),
-					new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+			getRegisterValues(frameDmc, MIFormat.HEXADECIMAL, miRegDmc.getRegNo(),
+					new DataRequestMonitor<MIRegisterValue[]>(getExecutor(), rm) {
 						@Override
 						protected void handleSuccess() {
 							// Retrieve the register value.
-							MIRegisterValue[] regValue = getData().getMIRegisterValues();
+							MIRegisterValue[] regValue = getData();
 
 							// If the list is empty just return empty handed.
 							// The only known case this happens is caused by a bug in GDB's Python
@@ -455,13 +464,12 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 			NumberFormat = MIFormat.DECIMAL;
 		}
 
-		int[] regnos = { regDmc.getRegNo() };
-		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, NumberFormat, regnos),
-				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+		getRegisterValues(frameDmc, NumberFormat, regDmc.getRegNo(),
+				new DataRequestMonitor<MIRegisterValue[]>(getExecutor(), rm) {
 					@Override
 					protected void handleSuccess() {
 						// Retrieve the register value.
-						MIRegisterValue[] regValue = getData().getMIRegisterValues();
+						MIRegisterValue[] regValue = getData();
 
 						// If the list is empty just return empty handed.
 						// The only known case this happens is caused by a bug in GDB's Python
@@ -485,6 +493,63 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 				});
 	}
 
+	/**
+	 * Reads the value of a register in a frame, from the snapshot of the frame when
+	 * the register was already read since the thread suspended.
+	 */
+	private void getRegisterValues(final IFrameDMContext frameDmc, final int format, final int regno,
+			final DataRequestMonitor<MIRegisterValue[]> rm) {
+		final IMIExecutionDMContext threadDmc = DMContexts.getAncestorOfType(frameDmc, IMIExecutionDMContext.class);
+		if (threadDmc != null) {
+			List<Runnable> waiters = fChangedRegistersWaiters.get(threadDmc);
+			if (waiters != null) {
+				waiters.add(() -> getRegisterValues(frameDmc, format, regno, rm));
+				return;
+			}
+			String value = fRegisterSnapshots.get(threadDmc, frameDmc.getLevel(), format, regno);
+			if (value != null) {
+				rm.done(new MIRegisterValue[] { new MIRegisterValue(regno, value) });
+				return;
+			}
+		}
+
+		int[] regnos = { regno };
+		fRegisterValueCache.execute(fCommandFactory.createMIDataListRegisterValues(frameDmc, format, regnos),
+				new DataRequestMonitor<MIDataListRegisterValuesInfo>(getExecutor(), rm) {
+					@Override
+					protected void handleSuccess() {
+						MIRegisterValue[] regValue = getData().getMIRegisterValues();
+						if (threadDmc != null && regValue.length == 1 && isSuspended(threadDmc)) {
+							if (fRegisterSnapshots.put(threadDmc, frameDmc.getLevel(), format, regno,
+									regValue[0].getValue()) && isDeltaRefreshEnabled()) {
+								// Let GDB know the registers of this stop, such that only the
+								// ones that change are read again at the next one.
+								fRegisterSnapshots.setBaselineThread(threadDmc);
+								fRegisterValueCache.execute(fCommandFactory.createMIDataListChangedRegisters(threadDmc),
+										new DataRequestMonitor<MIDataListChangedRegistersInfo>(getExecutor(), null));
+							}
+						}
+						rm.done(regValue);
+					}
+				});
+	}
+
+	private boolean isSuspended(IMIExecutionDMContext threadDmc) {
+		IRunControl runControl = getServicesTracker().getService(IRunControl.class);
+		return runControl != null && runControl.isSuspended(threadDmc);
+	}
+
+	/**
+	 * Returns whether, when a thread suspends, only the registers GDB reports as
+	 * changed are read again for its top frame.
+	 * @since 7.2
+	 */
+	protected boolean isDeltaRefreshEnabled() {
+		return Platform.getPreferencesService().getBoolean(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_REGISTERS_DELTA_REFRESH,
+				IGdbDebugPreferenceConstants.REGISTERS_DELTA_REFRESH_DEFAULT, null);
+	}
+
 	/**
 	 * @since 4.6
 	 */
@@ -589,6 +654,8 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 		if (e.getReason() != StateChangeReason.STEP) {
 			fRegisterValueCache.reset();
 		}
+		final IDMContext resumedDmc = e.getDMContext();
+		fRegisterSnapshots.resumed(threadDmc -> DMContexts.isAncestorOf(threadDmc, resumedDmc));
 	}
 
 	/**
@@ -599,6 +666,42 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	public void eventDispatched(IRunControl.ISuspendedDMEvent e) {
 		fRegisterValueCache.setContextAvailable(e.getDMContext(), true);
 		fRegisterValueCache.reset();
+
+		IMIExecutionDMContext triggeringThread = null;
+		if (e instanceof IContainerSuspendedDMEvent) {
+			// All-stop mode
+			IExecutionDMContext[] triggerContexts = ((IContainerSuspendedDMEvent) e).getTriggeringContexts();
+			if (triggerContexts.length != 0 && triggerContexts[0] instanceof IMIExecutionDMContext) {
+				triggeringThread = (IMIExecutionDMContext) triggerContexts[0];
+			}
+		} else if (e.getDMContext() instanceof IMIExecutionDMContext) {
+			// Non-stop mode
+			triggeringThread = (IMIExecutionDMContext) e.getDMContext();
+		}
+
+		if (triggeringThread != null && fRegisterSnapshots.needsChangedRegisters(triggeringThread)
+				&& isDeltaRefreshEnabled()) {
+			// Only read again the registers of the top frame that GDB reports as changed
+			final IMIExecutionDMContext threadDmc = triggeringThread;
+			fChangedRegistersWaiters.put(threadDmc, new ArrayList<Runnable>());
+			fRegisterSnapshots.setBaselineThread(threadDmc);
+			fRegisterValueCache.execute(fCommandFactory.createMIDataListChangedRegisters(threadDmc),
+					new DataRequestMonitor<MIDataListChangedRegistersInfo>(getExecutor(), null) {
+						@Override
+						protected void handleCompleted() {
+							fRegisterSnapshots.suspended(threadDmc, isSuccess() ? getData().getRegisterNumbers() : null);
+							List<Runnable> waiters = fChangedRegistersWaiters.remove(threadDmc);
+							if (waiters != null) {
+								for (Runnable waiter : waiters) {
+									waiter.run();
+								}
+							}
+						}
+					});
+		} else {
+			final IDMContext suspendedDmc = e.getDMContext();
+			fRegisterSnapshots.dropResumedSnapshot(threadDmc -> DMContexts.isAncestorOf(threadDmc, suspendedDmc));
+		}
 	}
 
 	/**
@@ -608,6 +711,7 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	@DsfServiceEventHandler
 	public void eventDispatched(final IRegisters.IRegisterChangedDMEvent e) {
 		fRegisterValueCache.reset();
+		fRegisterSnapshots.clear();
 	}
 
 	/**
@@ -870,5 +974,6 @@ public class MIRegisters extends AbstractDsfService implements IRegisters, ICach
 	public void flushCache(IDMContext context) {
 		fRegisterNameCache.reset(context);
 		fRegisterValueCache.reset(context);
+		fRegisterSnapshots.clear();
 	}
 }
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Hashtable;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
+import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.command.MIConversationReader;
+import org.eclipse.cdt.dsf.mi.service.command.MIReplayer;
+import org.eclipse.cdt.dsf.service.AbstractDsfService;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.osgi.framework.BundleContext;
+
+/**
+ * A back end that replays an MI conversation recorded by the command control, instead of
+ * talking to GDB. It lets the services be exercised against a large session, e.g. to
+ * measure their latency, without GDB or the target being present.
+ *
+ * @see MIReplayer
+ * @since 7.2
+ */
+public class MIReplayBackend extends AbstractDsfService implements IMIBackend {
+
+	private static int fgInstanceCounter = 0;
+
+	private final String fBackendId;
+	private final MIReplayer fReplayer;
+	private State fState = State.NOT_INITIALIZED;
+
+	/**
+	 * @param recording stream of the recorded conversation, read entirely and closed by the constructor
+	 * @throws IOException if the recording cannot be read
+	 */
+	public MIReplayBackend(DsfSession session, InputStream recording) throws IOException {
+		super(session);
+		try (MIConversationReader reader = new MIConversationReader(recording)) {
+			fReplayer = new MIReplayer(reader.readAll());
+		}
+		fBackendId = "replay[" + Integer.toString(fgInstanceCounter++) + "]"; //$NON-NLS-1$//$NON-NLS-2$
+	}
+
+	@Override
+	protected BundleContext getBundleContext() {
+		return GdbPlugin.getBundleContext();
+	}
+
+	@Override
+	public void initialize(final RequestMonitor requestMonitor) {
+		super.initialize(new ImmediateRequestMonitor(requestMonitor) {
+			@Override
+			protected void handleSuccess() {
+				doInitialize(requestMonitor);
+			}
+		});
+	}
+
+	private void doInitialize(RequestMonitor requestMonitor) {
+		register(new String[] { IMIBackend.class.getName(), MIReplayBackend.class.getName() },
+				new Hashtable<String, String>());
+		fReplayer.start();
+		fState = State.STARTED;
+		getSession().dispatchEvent(new BackendStateChangedEvent(getSession().getId(), getId(), State.STARTED),
+				getProperties());
+		requestMonitor.done();
+	}
+
+	@Override
+	public void shutdown(RequestMonitor requestMonitor) {
+		fReplayer.stop();
+		unregister();
+		super.shutdown(requestMonitor);
+	}
+
+	/**
+	 * Returns the replayer, to configure it before the services start or to find out
+	 * how well the live commands matched the recording.
+	 */
+	public MIReplayer getReplayer() {
+		return fReplayer;
+	}
+
+	@Override
+	public String getId() {
+		return fBackendId;
+	}
+
+	@Override
+	public void destroy() {
+		fReplayer.stop();
+		try {
+			getExecutor().execute(new DsfRunnable() {
+				@Override
+				public void run() {
+					if (fState == State.STARTED) {
+						fState = State.TERMINATED;
+						getSession().dispatchEvent(
+								new BackendStateChangedEvent(getSession().getId(), getId(), State.TERMINATED),
+								getProperties());
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// Session is shut down
+		}
+	}
+
+	@Override
+	public State getState() {
+		return fState;
+	}
+
+	@Override
+	public int getExitCode() {
+		return 0;
+	}
+
+	@Override
+	public InputStream getMIInputStream() {
+		return fReplayer.getInputStream();
+	}
+
+	@Override
+	public OutputStream getMIOutputStream() {
+		return fReplayer.getOutputStream();
+	}
+}
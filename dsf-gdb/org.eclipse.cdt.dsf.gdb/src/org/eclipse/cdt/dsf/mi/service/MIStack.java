@@ -27,6 +27,7 @@ import java.util.Map;
 import org.eclipse.cdt.core.IAddress;
 import org.eclipse.cdt.dsf.concurrent.CountingRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.ImmediateDataRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.ImmediateRequestMonitor;
 import org.eclipse.cdt.dsf.concurrent.RequestMonitor;
 import org.eclipse.cdt.dsf.datamodel.AbstractDMContext;
@@ -46,8 +47,11 @@ import org.eclipse.cdt.dsf.debug.service.command.BufferedCommandControl;
 import org.eclipse.cdt.dsf.debug.service.command.CommandCache;
 import org.eclipse.cdt.dsf.debug.service.command.ICommand;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
+import org.eclipse.cdt.dsf.gdb.internal.GdbDebugOptions;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordSelectedChangedDMEvent;
+import org.eclipse.cdt.dsf.mi.service.IMIRunControl.MIRunMode;
 import org.eclipse.cdt.dsf.mi.service.command.CommandFactory;
 import org.eclipse.cdt.dsf.mi.service.command.events.IMIDMEvent;
 import org.eclipse.cdt.dsf.mi.service.command.events.MIFunctionFinishedEvent;
@@ -58,6 +62,8 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MIStackInfoDepthInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStackListArgumentsInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStackListFramesInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIStackListLocalsInfo;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIThread;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIThreadInfoInfo;
 import org.eclipse.cdt.dsf.service.AbstractDsfService;
 import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfSession;
@@ -350,6 +356,18 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	 */
 	private Map<IMIExecutionDMContext, VariableData> fThreadToReturnVariable = new HashMap<>();
 
+	/**
+	 * The -thread-info result whose top frames were last stored in the frames cache, so that
+	 * the requests sharing that result only store them once.
+	 */
+	private MIThreadInfoInfo fTopFramesSnapshot;
+
+	/**
+	 * Time of the last suspended event, used to trace how long it takes until the top frames
+	 * of all threads are available.
+	 */
+	private long fLastSuspendedTime;
+
 	public MIStack(DsfSession session) {
 		super(session);
 	}
@@ -436,6 +454,19 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		}
 	}
 
+	private class FrameDataFromThreadInfo extends FrameData {
+		private final MIFrame fFrame;
+
+		FrameDataFromThreadInfo(MIFrame frame) {
+			fFrame = frame;
+		}
+
+		@Override
+		protected MIFrame getMIFrame() {
+			return fFrame;
+		}
+	}
+
 	@Override
 	protected BundleContext getBundleContext() {
 		return GdbPlugin.getBundleContext();
@@ -549,6 +580,28 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 			rm.done();
 			return;
 		}
+		if (startIndex == 0 && endIndex == 0 && isNonStopMode()) {
+			// Only the top frame is needed, which the -thread-info snapshot provides for all threads.
+			getTopFramesSnapshot(execDmc, new RequestMonitor(getExecutor(), rm) {
+				@Override
+				protected void handleCompleted() {
+					// A top frame in the cache means the stack is at least one frame deep
+					if (fFramesCache.getThreadFramesCache(threadId).getFrameData(0) != null) {
+						rm.done(getDMFrames(execDmc, startIndex, endIndex, 1));
+					} else {
+						getFramesFromStackDepth(execDmc, startIndex, endIndex, rm);
+					}
+				}
+			});
+			return;
+		}
+		getFramesFromStackDepth(execDmc, startIndex, endIndex, rm);
+	}
+
+	private void getFramesFromStackDepth(final IMIExecutionDMContext execDmc, final int startIndex,
+			final int endIndex, final DataRequestMonitor<IFrameDMContext[]> rm) {
+		String threadId = execDmc.getThreadId();
+		final int maxDepth = endIndex > 0 ? endIndex + 1 : -1;
 		getStackDepth(execDmc, maxDepth, new DataRequestMonitor<Integer>(getExecutor(), rm) {
 			@Override
 			protected void handleCompleted() {
@@ -665,9 +718,34 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 					rm.done();
 				}
 			}
+
+			if (isNonStopMode()) {
+				// In non-stop mode, many threads typically need their top frame at once; fetch the
+				// top frames of all of them with a single command.
+				getTopFramesSnapshot(execDmc, new RequestMonitor(getExecutor(), rm) {
+					@Override
+					protected void handleCompleted() {
+						FrameData topFrame = fFramesCache.getThreadFramesCache(threadId).getFrameData(frameLevel);
+						if (topFrame != null) {
+							rm.done(topFrame);
+						} else {
+							getFrameDataFromStackList(execDmc, miFrameDmc, rm);
+						}
+					}
+				});
+				return;
+			}
 		}
 
-		// If not, retrieve the full list of frame data.
+		getFrameDataFromStackList(execDmc, miFrameDmc, rm);
+	}
+
+	private void getFrameDataFromStackList(final IMIExecutionDMContext execDmc, final MIFrameDMC frameDmc,
+			final DataRequestMonitor<IFrameDMData> rm) {
+		String threadId = execDmc.getThreadId();
+		final int frameLevel = frameDmc.fLevel;
+
+		// Retrieve the full list of frame data.
 		fMICommandCache.execute(createMIStackListFrames(execDmc),
 				new DataRequestMonitor<MIStackListFramesInfo>(getExecutor(), rm) {
 					@Override
@@ -706,6 +784,58 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 				});
 	}
 
+	private boolean isNonStopMode() {
+		return fRunControl instanceof IMIRunControl
+				&& ((IMIRunControl) fRunControl).getRunMode() == MIRunMode.NON_STOP;
+	}
+
+	/**
+	 * Fetches the top frames of all stopped threads with a single -thread-info and stores them
+	 * in the frames cache. The command goes through the command cache, such that the requests
+	 * for different threads share one command, and its result stays valid until the next run
+	 * control event. Errors are not reported, callers fall back to -stack-list-frames for threads
+	 * that have no top frame in the cache afterwards.
+	 */
+	private void getTopFramesSnapshot(IMIExecutionDMContext execDmc, final RequestMonitor rm) {
+		ICommandControlDMContext controlDmc = DMContexts.getAncestorOfType(execDmc, ICommandControlDMContext.class);
+		if (controlDmc == null) {
+			rm.done();
+			return;
+		}
+
+		fMICommandCache.execute(fCommandFactory.createMIThreadInfo(controlDmc),
+				new ImmediateDataRequestMonitor<MIThreadInfoInfo>(rm) {
+					@Override
+					protected void handleCompleted() {
+						if (isSuccess() && getData() != fTopFramesSnapshot) {
+							fTopFramesSnapshot = getData();
+							updateTopFrames(getData());
+						}
+						rm.done();
+					}
+				});
+	}
+
+	private void updateTopFrames(MIThreadInfoInfo info) {
+		int count = 0;
+		for (MIThread thread : info.getThreadList()) {
+			MIFrame topFrame = thread.getTopFrame();
+			if (topFrame == null || topFrame.getLevel() != 0 || !"stopped".equals(thread.getState())) { //$NON-NLS-1$
+				continue;
+			}
+			FramesCacheInfo cacheInfo = fFramesCache.getThreadFramesCache(thread.getThreadId());
+			if (cacheInfo.getFrameData(0) == null) {
+				cacheInfo.updateFrameData(new FrameDataFromThreadInfo(topFrame));
+				count++;
+			}
+		}
+
+		if (GdbDebugOptions.DEBUG) {
+			GdbDebugOptions.trace(String.format("%s Cached top frames of %d threads %d ms after stop\n", //$NON-NLS-1$
+					GdbPlugin.getDebugTime(), count, System.currentTimeMillis() - fLastSuspendedTime));
+		}
+	}
+
 	@Override
 	public void getArguments(final IFrameDMContext frameDmc, final DataRequestMonitor<IVariableDMContext[]> rm) {
 		final IMIExecutionDMContext execDmc = DMContexts.getAncestorOfType(frameDmc, IMIExecutionDMContext.class);
@@ -1140,7 +1270,8 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 		if (e.getReason() != StateChangeReason.STEP) {
 			fCachedStoppedEvent = null;
 			fMICommandCache.reset();
-			fFramesCache.clear();
+			// In non-stop mode, the frames of the other threads remain valid
+			fFramesCache.clear(e.getDMContext());
 		}
 
 		handleReturnValues(e);
@@ -1176,7 +1307,9 @@ public class MIStack extends AbstractDsfService implements IStack, ICachingServi
 	public void eventDispatched(ISuspendedDMEvent e) {
 		fMICommandCache.setContextAvailable(e.getDMContext(), true);
 		fMICommandCache.reset();
-		fFramesCache.clear();
+		// In non-stop mode, the frames of the other threads remain valid
+		fFramesCache.clear(e.getDMContext());
+		fLastSuspendedTime = System.currentTimeMillis();
 
 		handleReturnValues(e);
 	}
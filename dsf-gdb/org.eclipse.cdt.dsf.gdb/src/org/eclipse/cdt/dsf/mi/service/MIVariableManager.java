@@ -26,6 +26,7 @@ package org.eclipse.cdt.dsf.mi.service;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -59,6 +60,7 @@ import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
 import org.eclipse.cdt.dsf.debug.service.command.IEventListener;
 import org.eclipse.cdt.dsf.gdb.GDBTypeParser;
 import org.eclipse.cdt.dsf.gdb.GDBTypeParser.GDBType;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
 import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
 import org.eclipse.cdt.dsf.gdb.service.IGDBTraceControl.ITraceRecordSelectedChangedDMEvent;
 import org.eclipse.cdt.dsf.mi.service.MIExpressions.ExpressionInfo;
@@ -95,6 +97,7 @@ import org.eclipse.cdt.dsf.service.DsfServiceEventHandler;
 import org.eclipse.cdt.dsf.service.DsfServicesTracker;
 import org.eclipse.cdt.dsf.service.DsfSession;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 
 /**
@@ -1347,6 +1350,79 @@ public class MIVariableManager implements ICommandControl {
 			}
 		}
 
+		/**
+		 * Returns a range of the children of this variable object.
+		 * <p>
+		 * The elements of an array are created for the range only, so that
+		 * showing a few elements of a very large array does not cost more than
+		 * showing a small one. For other variable objects, the children up to
+		 * the end of the range are fetched, as GDB creates the children of
+		 * dynamic variable objects in order anyway.
+		 *
+		 * @param startIndex
+		 *            Index of the first child to return
+		 * @param length
+		 *            Number of children to return
+		 * @param rm
+		 *            The data request monitor that will hold the children
+		 *            returned, which may be fewer than requested
+		 */
+		private void getChildren(final IExpressionDMContext exprDmc, final int startIndex, final int length,
+				final DataRequestMonitor<ChildrenInfo> rm) {
+			if (isArray() && getChildren() == null) {
+				int from = Math.min(startIndex, getNumChildrenHint());
+				int count = Math.min(length, getNumChildrenHint() - from);
+				rm.setData(new ChildrenInfo(createArrayChildren(exprDmc, from, count), false));
+				rm.done();
+				return;
+			}
+
+			int limit = (int) Math.min((long) startIndex + length, Integer.MAX_VALUE);
+			getChildren(exprDmc, limit, new DataRequestMonitor<ChildrenInfo>(fSession.getExecutor(), rm) {
+				@Override
+				protected void handleSuccess() {
+					ExpressionInfo[] children = getData().getChildren();
+					int from = Math.min(startIndex, children.length);
+					int to = (int) Math.min((long) from + length, children.length);
+					rm.setData(new ChildrenInfo(Arrays.copyOfRange(children, from, to), getData().hasMore()));
+					rm.done();
+				}
+			});
+		}
+
+		/**
+		 * Creates the expressions for a range of elements of this array. Array
+		 * elements are not created as variable objects in GDB, as there could
+		 * be an enormous amount of them which the view may never need.
+		 */
+		private ExpressionInfo[] createArrayChildren(IExpressionDMContext exprDmc, int from, int count) {
+			ExpressionInfo[] childrenOfArray = new ExpressionInfo[count];
+			String exprName = exprDmc.getExpression();
+
+			int castingIndex = 0;
+			// in case of casts, need to resolve that before dereferencing, to be safe
+			if (exprDmc instanceof ICastedExpressionDMContext) {
+				castingIndex = ((ICastedExpressionDMContext) exprDmc).getCastInfo().getArrayStartIndex();
+			}
+			if (exprDmc instanceof IIndexedPartitionDMContext) {
+				castingIndex = ((IIndexedPartitionDMContext) exprDmc).getIndex();
+			}
+			String relExprName;
+			if (exprDmc instanceof MIExpressionDMC) {
+				relExprName = ((MIExpressionDMC) exprDmc).getRelativeExpression();
+			} else {
+				// Unexpected, but avoid exception
+				relExprName = exprDmc.getExpression();
+			}
+			for (int i = 0; i < count; i++) {
+				int index = from + i;
+				String fullExpr = exprName + "[" + index + "]";//$NON-NLS-1$//$NON-NLS-2$
+				String relExpr = relExprName + "[" + (castingIndex + index) + "]";//$NON-NLS-1$//$NON-NLS-2$
+				childrenOfArray[i] = new ExpressionInfo(fullExpr, relExpr, false, fExprInfo, index);
+			}
+			return childrenOfArray;
+		}
+
 		/**
 		 * Fetch the out-standing children.
 		 *
@@ -1391,34 +1467,8 @@ public class MIVariableManager implements ICommandControl {
 			// never need.  Using -var-list-children will create a variable object for every child
 			// immediately, that is why we don't want to use it for arrays.
 			if (isArray()) {
-				ExpressionInfo[] childrenOfArray = new ExpressionInfo[getNumChildrenHint()];
-				String exprName = exprDmc.getExpression();
-
-				int castingIndex = 0;
-				// in case of casts, need to resolve that before dereferencing, to be safe
-				if (exprDmc instanceof ICastedExpressionDMContext) {
-					castingIndex = ((ICastedExpressionDMContext) exprDmc).getCastInfo().getArrayStartIndex();
-				}
-				if (exprDmc instanceof IIndexedPartitionDMContext) {
-					castingIndex = ((IIndexedPartitionDMContext) exprDmc).getIndex();
-				}
-				for (int i = 0; i < childrenOfArray.length; i++) {
-					String fullExpr = exprName + "[" + i + "]";//$NON-NLS-1$//$NON-NLS-2$
-
-					String relExpr;
-					if (exprDmc instanceof MIExpressionDMC) {
-						relExpr = ((MIExpressionDMC) exprDmc).getRelativeExpression();
-					} else {
-						// Unexpected, but avoid exception
-						relExpr = exprDmc.getExpression();
-					}
-					relExpr = relExpr + "[" + (castingIndex + i) + "]";//$NON-NLS-1$//$NON-NLS-2$
-
-					childrenOfArray[i] = new ExpressionInfo(fullExpr, relExpr, false, fExprInfo, i);
-				}
-
 				// First store these children, for the next time
-				setChildren(childrenOfArray);
+				setChildren(createArrayChildren(exprDmc, 0, getNumChildrenHint()));
 				fHasMore = false;
 				rm.setData(new ChildrenInfo(getChildren(), fHasMore));
 				rm.done();
@@ -2556,12 +2606,13 @@ public class MIVariableManager implements ICommandControl {
 		public static final long serialVersionUID = 0;
 
 		// Maximum allowed concurrent variables
-		private static final int MAX_VARIABLE_LIST = 1000;
+		private final int fMaxSize;
 
-		public LRUVariableCache() {
+		public LRUVariableCache(int maxSize) {
 			super(0, // Initial load capacity
 					0.75f, // Load factor as defined in JAVA 1.5
 					true); // Order is dictated by access, not insertion
+			fMaxSize = Math.max(1, maxSize);
 		}
 
 		// We never remove doing put operations.  Instead, we rely on our get() operations
@@ -2576,14 +2627,18 @@ public class MIVariableManager implements ICommandControl {
 			MIVariableObject varObj = super.get(key);
 			touchAncestors(varObj);
 
-			// If we're over our max size, attempt to remove eldest entry.
-			if (size() > MAX_VARIABLE_LIST) {
+			// If we're over our max size, attempt to remove the eldest entries.  Listing
+			// the children of a large container can add many entries at once, so remove
+			// as many as needed, but stop at the first one that cannot be removed yet to
+			// keep children being deleted before their parents.
+			while (size() > fMaxSize) {
 				Map.Entry<VariableObjectId, MIVariableObject> eldest = entrySet().iterator().next();
 				// First make sure we are not deleting ourselves!
-				if (!eldest.getValue().equals(varObj)
-						&& eldest.getValue().currentState == MIVariableObject.STATE_READY) {
-					remove(eldest.getKey());
+				if (eldest.getValue().equals(varObj)
+						|| eldest.getValue().currentState != MIVariableObject.STATE_READY) {
+					break;
 				}
+				remove(eldest.getKey());
 			}
 			return varObj;
 		}
@@ -2652,7 +2707,9 @@ public class MIVariableManager implements ICommandControl {
 	 */
 	public MIVariableManager(DsfSession session, DsfServicesTracker tracker) {
 		fSession = session;
-		lruVariableList = new LRUVariableCache();
+		lruVariableList = new LRUVariableCache(Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+				IGdbDebugPreferenceConstants.PREF_MAX_VARIABLE_OBJECTS,
+				IGdbDebugPreferenceConstants.MAX_VARIABLE_OBJECTS_DEFAULT, null));
 		fCommandControl = tracker.getService(ICommandControl.class);
 		fStackService = tracker.getService(IStack.class);
 		fExpressionService = tracker.getService(IExpressions.class);
@@ -3043,15 +3100,22 @@ public class MIVariableManager implements ICommandControl {
 			getVariable(exprCtx, new DataRequestMonitor<MIVariableObject>(fSession.getExecutor(), drm) {
 				@Override
 				protected void handleSuccess() {
-					getData().getChildren(exprCtx, ((ExprMetaGetChildren) command).getNumChildLimit(),
-							new DataRequestMonitor<ChildrenInfo>(fSession.getExecutor(), drm) {
-								@Override
-								protected void handleSuccess() {
-									drm.setData(new ExprMetaGetChildrenInfo(getData().getChildren()));
-									drm.done();
-									processCommandDone(token, drm.getData());
-								}
-							});
+					ExprMetaGetChildren getChildrenCmd = (ExprMetaGetChildren) command;
+					DataRequestMonitor<ChildrenInfo> childrenRm = new DataRequestMonitor<ChildrenInfo>(
+							fSession.getExecutor(), drm) {
+						@Override
+						protected void handleSuccess() {
+							drm.setData(new ExprMetaGetChildrenInfo(getData().getChildren()));
+							drm.done();
+							processCommandDone(token, drm.getData());
+						}
+					};
+					if (getChildrenCmd.getStartIndex() >= 0) {
+						getData().getChildren(exprCtx, getChildrenCmd.getStartIndex(), getChildrenCmd.getLength(),
+								childrenRm);
+					} else {
+						getData().getChildren(exprCtx, getChildrenCmd.getNumChildLimit(), childrenRm);
+					}
 				}
 			});
 
@@ -39,6 +39,7 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
@@ -69,6 +70,7 @@ import org.eclipse.cdt.dsf.mi.service.IMIExecutionDMContext;
 import org.eclipse.cdt.dsf.mi.service.command.commands.MICommand;
 import org.eclipse.cdt.dsf.mi.service.command.commands.RawCommand;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIConst;
+import org.eclipse.cdt.dsf.mi.service.command.output.MIExecAsyncOutput;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIInfo;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIList;
 import org.eclipse.cdt.dsf.mi.service.command.output.MIOOBRecord;
@@ -156,8 +158,33 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	 */
 	private OutputStream fTracingStream = null;
 
+	/**
+	 * Buffer of the traces waiting to be written to {@link #fTracingStream},
+	 * <code>null</code> when tracing is off.
+	 */
+	private volatile MITraceBuffer fTraceBuffer;
+
+	/**
+	 * Recorder of the MI conversation, <code>null</code> when not recording.
+	 */
+	private volatile MIConversationRecorder fRecorder;
+
 	private CommandFactory fCommandFactory;
 
+	/*
+	 *   Round trips to the back end saved since the last time the program stopped. They are
+	 *   traced at each stop, see traceSavedRoundTrips().
+	 */
+
+	/** Commands that shared the result of an identical pending command. */
+	private int fCoalescedCommandCount;
+
+	/** Thread and frame selections that were not sent since they were already current. */
+	private int fElidedSelectionCount;
+
+	/** Commands written to the back end together with other commands. */
+	private final AtomicInteger fBatchedCommandCount = new AtomicInteger();
+
 	/**
 	 * Event indicating that the back end process has started.
 	 */
@@ -214,14 +241,43 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	 * @since 2.0
 	 */
 	protected synchronized void setMITracingStream(OutputStream tracingStream) {
+		if (fTracingStream == tracingStream) {
+			return;
+		}
+		if (fTraceBuffer != null) {
+			fTraceBuffer.close();
+			fTraceBuffer = null;
+		}
 		fTracingStream = tracingStream;
+		if (tracingStream != null) {
+			int budget = Platform.getPreferencesService().getInt(GdbPlugin.PLUGIN_ID,
+					IGdbDebugPreferenceConstants.PREF_TRACES_BUFFER_SIZE,
+					IGdbDebugPreferenceConstants.TRACES_BUFFER_SIZE_DEFAULT, null);
+			String filter = Platform.getPreferencesService().getString(GdbPlugin.PLUGIN_ID,
+					IGdbDebugPreferenceConstants.PREF_TRACES_FILTER,
+					IGdbDebugPreferenceConstants.TRACES_FILTER_DEFAULT, null);
+			List<String> filtered = new ArrayList<>();
+			for (String operation : filter.split(",")) { //$NON-NLS-1$
+				if (!operation.trim().isEmpty()) {
+					filtered.add(operation.trim());
+				}
+			}
+			fTraceBuffer = new TraceBuffer(tracingStream, Math.max(budget, 1) * 1024, filtered);
+			fTraceBuffer.start("MI Trace Writer [" + getSession().getId() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
 	}
 
 	/**
-	 * Returns the MI tracing stream.
+	 * Records the MI conversation into the given stream, in the format read by
+	 * {@link MIConversationReader}, such that it can be replayed without the back end.
+	 * To be called before the command processing starts. The stream is closed once the
+	 * output of the back end ends.
+	 *
+	 * @param recordingStream The stream to record to.
+	 * @since 7.2
 	 */
-	private synchronized OutputStream getMITracingStream() {
-		return fTracingStream;
+	protected void setMIRecordingStream(OutputStream recordingStream) throws IOException {
+		fRecorder = new MIConversationRecorder(recordingStream);
 	}
 
 	/**
@@ -312,10 +368,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		 *  First go through the commands which have been queueud and not yet sent to the backend.
 		 */
 		for (CommandHandle commandHandle : fCommandQueue) {
-			if (commandHandle.getRequestMonitor() == null)
-				continue;
-			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
-			commandHandle.getRequestMonitor().done();
+			rejectCommand(commandHandle);
 		}
 		fCommandQueue.clear();
 
@@ -330,10 +383,7 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		List<CommandHandle> txCommands = new ArrayList<>();
 		fTxCommands.drainTo(txCommands);
 		for (CommandHandle commandHandle : txCommands) {
-			if (commandHandle.getRequestMonitor() == null)
-				continue;
-			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
-			commandHandle.getRequestMonitor().done();
+			rejectCommand(commandHandle);
 		}
 
 		// Queue a null value to tell the send thread to shut down.
@@ -347,10 +397,18 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			fRxCommands.clear();
 		}
 		for (CommandHandle commandHandle : rxCommandsCopy.values()) {
-			if (commandHandle.getRequestMonitor() == null)
-				continue;
-			commandHandle.getRequestMonitor().setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
-			commandHandle.getRequestMonitor().done();
+			rejectCommand(commandHandle);
+		}
+	}
+
+	/**
+	 * Fails the request monitors of a command, including the ones of the
+	 * commands coalesced with it, because the connection is shut down.
+	 */
+	private void rejectCommand(CommandHandle commandHandle) {
+		for (DataRequestMonitor<MIInfo> rm : commandHandle.getRequestMonitors()) {
+			rm.setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
+			rm.done();
 		}
 	}
 
@@ -384,6 +442,10 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		if (fStoppedCommandProcessing) {
 			rm.setStatus(genStatus("Connection is shut down")); //$NON-NLS-1$
 			rm.done();
+		} else if (miDone != null && coalesceCommand(handle)) {
+			// An identical command is waiting to be sent, its result will complete this one too.
+			fCoalescedCommandCount++;
+			processCommandQueued(handle);
 		} else {
 			/*
 			 *  We only allow three outstanding commands to be on the wire to the backend
@@ -407,6 +469,31 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		return handle;
 	}
 
+	/**
+	 * Attaches the given command to an identical command that is waiting to be sent,
+	 * such that the result of that command completes both.
+	 *
+	 * @return whether an identical command was found.
+	 * @see MICommand#isCoalescable()
+	 */
+	private boolean coalesceCommand(CommandHandle handle) {
+		if (!handle.getCommand().isCoalescable()) {
+			return false;
+		}
+		for (int i = fCommandQueue.size() - 1; i >= 0; i--) {
+			CommandHandle pending = fCommandQueue.get(i);
+			if (!pending.getCommand().isCoalescable()) {
+				// The command may change the result, the new command must be sent after it.
+				return false;
+			}
+			if (pending.getRequestMonitor() != null && pending.getCommand().equals(handle.getCommand())) {
+				pending.addCoalescedHandle(handle);
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private void processNextQueuedCommand() {
 		if (!fCommandQueue.isEmpty() && fRxCommands.size() < fNumberOfConcurrentCommands) {
 			final CommandHandle handle = fCommandQueue.remove(0);
@@ -431,24 +518,31 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 						// Before the command is sent, Check the Thread Id and send it to
 						// the queue only if the id has been changed. Also, don't send a threadId of 0,
 						// because that id is only used internally for single-threaded programs
-						if (targetThread != null && !targetThread.equals("0") //$NON-NLS-1$
-								&& !targetThread.equals(fCurrentThreadId)) {
-							fCurrentThreadId = targetThread;
-							resetCurrentStackLevel();
-							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
-									.createMIThreadSelect(targetContext, targetThread), null);
-							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+						if (targetThread != null && !targetThread.equals("0")) { //$NON-NLS-1$
+							if (!targetThread.equals(fCurrentThreadId)) {
+								fCurrentThreadId = targetThread;
+								resetCurrentStackLevel();
+								CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
+										.createMIThreadSelect(targetContext, targetThread), null);
+								cmdHandle.generateTokenId();
+								fTxCommands.add(cmdHandle);
+							} else {
+								fElidedSelectionCount++;
+							}
 						}
 
 						// Before the command is sent, Check the Stack level and send it to
 						// the queue only if the level has been changed.
-						if (targetFrame >= 0 && targetFrame != fCurrentStackLevel) {
-							fCurrentStackLevel = targetFrame;
-							CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
-									.createMIStackSelectFrame(targetContext, targetFrame), null);
-							cmdHandle.generateTokenId();
-							fTxCommands.add(cmdHandle);
+						if (targetFrame >= 0) {
+							if (targetFrame != fCurrentStackLevel) {
+								fCurrentStackLevel = targetFrame;
+								CommandHandle cmdHandle = new CommandHandle((MICommand<MIInfo>) getCommandFactory()
+										.createMIStackSelectFrame(targetContext, targetFrame), null);
+								cmdHandle.generateTokenId();
+								fTxCommands.add(cmdHandle);
+							} else {
+								fElidedSelectionCount++;
+							}
 						}
 					}
 				}
@@ -477,9 +571,16 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 
 		synchronized (fCommandQueue) {
 
-			for (CommandHandle handle : fCommandQueue) {
+			for (int i = 0; i < fCommandQueue.size(); i++) {
+				CommandHandle handle = fCommandQueue.get(i);
 				if (handle.equals(token)) {
-					fCommandQueue.remove(handle);
+					// The commands coalesced with the removed one still need to be sent.
+					final CommandHandle successor = handle.removeCoalescedHandles();
+					if (successor != null) {
+						fCommandQueue.set(i, successor);
+					} else {
+						fCommandQueue.remove(i);
+					}
 
 					final CommandHandle finalHandle = handle;
 					getExecutor().execute(new DsfRunnable() {
@@ -490,6 +591,16 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					});
 					break;
 				}
+				if (handle.removeCoalescedHandle(token)) {
+					final CommandHandle removedHandle = (CommandHandle) token;
+					getExecutor().execute(new DsfRunnable() {
+						@Override
+						public void run() {
+							processCommandRemoved(removedHandle);
+						}
+					});
+					break;
+				}
 			}
 		}
 	}
@@ -566,9 +677,15 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		}
 	}
 
+	/*
+	 *  The commands coalesced with a command are sent and done together with it.
+	 */
+
 	private void processCommandSent(CommandHandle commandHandle) {
-		for (ICommandListener processor : fCommandProcessors) {
-			processor.commandSent(commandHandle);
+		for (CommandHandle handle : commandHandle.getHandles()) {
+			for (ICommandListener processor : fCommandProcessors) {
+				processor.commandSent(handle);
+			}
 		}
 	}
 
@@ -576,8 +693,10 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		/*
 		 *  Tell the listeners we have completed this one.
 		 */
-		for (ICommandListener processor : fCommandProcessors) {
-			processor.commandDone(commandHandle, result);
+		for (CommandHandle handle : commandHandle.getHandles()) {
+			for (ICommandListener processor : fCommandProcessors) {
+				processor.commandDone(handle, result);
+			}
 		}
 	}
 
@@ -611,41 +730,60 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 	 * @since 5.6
 	 */
 	protected void writeToTracingStream(boolean toGdb, final String str) {
-		if (getMITracingStream() != null) {
+		MITraceBuffer traceBuffer = fTraceBuffer;
+		if (traceBuffer != null) {
+			traceBuffer.add(toGdb, str);
+		}
+	}
+
+	/**
+	 * Writes the traces in the format of the tracing console, wrapping them into
+	 * lines of 100 characters and truncating them to the preferred number of lines.
+	 */
+	private static class TraceBuffer extends MITraceBuffer {
+		private boolean fLimitEnabled;
+		private int fMaxLines;
+
+		TraceBuffer(OutputStream stream, int budget, List<String> filter) {
+			super(stream, budget, filter);
+		}
+
+		@Override
+		protected void startBatch() {
+			IEclipsePreferences node = InstanceScope.INSTANCE.getNode(GdbPlugin.PLUGIN_ID);
+			fLimitEnabled = node.getBoolean(IGdbDebugPreferenceConstants.PREF_MAX_MI_OUTPUT_LINES_ENABLE,
+					IGdbDebugPreferenceConstants.MAX_MI_OUTPUT_LINES_ENABLE_DEFAULT);
+			fMaxLines = IGdbDebugPreferenceConstants.MAX_MI_OUTPUT_LINES_DEFAULT;
 			try {
-				String message = GdbPlugin.getDebugTime() + " " + str + (toGdb ? "" : "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-				IEclipsePreferences node = InstanceScope.INSTANCE.getNode(GdbPlugin.PLUGIN_ID);
-				boolean limitEnabled = node.getBoolean(IGdbDebugPreferenceConstants.PREF_MAX_MI_OUTPUT_LINES_ENABLE,
-						IGdbDebugPreferenceConstants.MAX_MI_OUTPUT_LINES_ENABLE_DEFAULT);
-				int initialMaxLines = IGdbDebugPreferenceConstants.MAX_MI_OUTPUT_LINES_DEFAULT;
-				try {
-					initialMaxLines = node.getInt(IGdbDebugPreferenceConstants.PREF_MAX_MI_OUTPUT_LINES,
-							IGdbDebugPreferenceConstants.MAX_MI_OUTPUT_LINES_DEFAULT);
-				} catch (NumberFormatException e) {
-				}
-				int linecounter = initialMaxLines;
+				fMaxLines = node.getInt(IGdbDebugPreferenceConstants.PREF_MAX_MI_OUTPUT_LINES,
+						IGdbDebugPreferenceConstants.MAX_MI_OUTPUT_LINES_DEFAULT);
+			} catch (NumberFormatException e) {
+			}
+		}
 
-				while (message.length() > 100 && (!limitEnabled || linecounter-- > 0)) {
-					String partial = message.substring(0, 100);
-					message = message.substring(100);
-					getMITracingStream().write(partial.getBytes());
-					getMITracingStream().write("\\\n".getBytes()); //$NON-NLS-1$
-				}
-				if (linecounter <= 0) {
-					String messageTruncatedInfo = NLS.bind(Messages.AbstractMIControl_message_truncated,
-							initialMaxLines);
-					getMITracingStream().write(messageTruncatedInfo.getBytes());
-				} else {
-					getMITracingStream().write(message.getBytes());
-				}
-			} catch (IOException e) {
-				// The tracing stream could be closed at any time
-				// since the user can set a preference to turn off
-				// this tracing.
-				setMITracingStream(null);
+		@Override
+		protected void format(StringBuilder out, long time, boolean toGdb, String text) {
+			String message = GdbPlugin.getDebugTime(time) + " " + text + (toGdb ? "" : "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			int linecounter = fMaxLines;
+			int start = 0;
+			while (message.length() - start > 100 && (!fLimitEnabled || linecounter-- > 0)) {
+				out.append(message, start, start + 100);
+				out.append("\\\n"); //$NON-NLS-1$
+				start += 100;
+			}
+			if (linecounter <= 0) {
+				out.append(NLS.bind(Messages.AbstractMIControl_message_truncated, fMaxLines));
+			} else {
+				out.append(message, start, message.length());
 			}
 		}
+
+		@Override
+		protected void formatDropped(StringBuilder out, int count) {
+			out.append(NLS.bind(Messages.AbstractMIControl_traces_dropped, count));
+		}
 	}
+
 	/*
 	 *  Support class which creates a convenient wrapper for holding all information about an
 	 *  individual request.
@@ -657,6 +795,12 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		private DataRequestMonitor<MIInfo> fRequestMonitor;
 		private int fTokenId;
 
+		/**
+		 * Identical commands that share the result of this one, <code>null</code> if there are none.
+		 * Only modified while this command waits to be sent.
+		 */
+		private List<CommandHandle> fCoalescedHandles;
+
 		CommandHandle(MICommand<MIInfo> c, DataRequestMonitor<MIInfo> d) {
 			fCommand = c;
 			fRequestMonitor = d;
@@ -672,6 +816,65 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			return fRequestMonitor;
 		}
 
+		/**
+		 * Returns the request monitors to complete with the result of this command, the one
+		 * of this command followed by the ones of the commands coalesced with it.
+		 */
+		public List<DataRequestMonitor<MIInfo>> getRequestMonitors() {
+			if (fCoalescedHandles == null) {
+				return fRequestMonitor == null ? Collections.emptyList() : Collections.singletonList(fRequestMonitor);
+			}
+			List<DataRequestMonitor<MIInfo>> rms = new ArrayList<>(fCoalescedHandles.size() + 1);
+			if (fRequestMonitor != null) {
+				rms.add(fRequestMonitor);
+			}
+			for (CommandHandle handle : fCoalescedHandles) {
+				rms.add(handle.fRequestMonitor);
+			}
+			return rms;
+		}
+
+		/**
+		 * Returns this command followed by the commands coalesced with it.
+		 */
+		List<CommandHandle> getHandles() {
+			if (fCoalescedHandles == null) {
+				return Collections.singletonList(this);
+			}
+			List<CommandHandle> handles = new ArrayList<>(fCoalescedHandles.size() + 1);
+			handles.add(this);
+			handles.addAll(fCoalescedHandles);
+			return handles;
+		}
+
+		void addCoalescedHandle(CommandHandle handle) {
+			if (fCoalescedHandles == null) {
+				fCoalescedHandles = new ArrayList<>();
+			}
+			fCoalescedHandles.add(handle);
+		}
+
+		boolean removeCoalescedHandle(ICommandToken token) {
+			return fCoalescedHandles != null && fCoalescedHandles.remove(token);
+		}
+
+		/**
+		 * Removes the commands coalesced with this one.
+		 * @return the first of the removed commands, with the others coalesced with it,
+		 * or <code>null</code> if there were none.
+		 */
+		CommandHandle removeCoalescedHandles() {
+			if (fCoalescedHandles == null) {
+				return null;
+			}
+			CommandHandle successor = fCoalescedHandles.remove(0);
+			if (!fCoalescedHandles.isEmpty()) {
+				successor.fCoalescedHandles = fCoalescedHandles;
+			}
+			fCoalescedHandles = null;
+			return successor;
+		}
+
 		// This method allows us to generate the token Id when we area actually going to use
 		// it.  It is meant to help order the token ids based on when commands will actually
 		// be sent
@@ -740,59 +943,51 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					break; // Shutting down.
 				}
 
-				if (commandHandle == fTerminatorHandle) {
-					// There is a small possibility that a new command was inserted
-					// in the fRxCommands map after we cleared that map.
-					// Just to be safe, clear it again.
-					// We do this to avoid synchronizing the handling of fRxCommands
-					// because this is more efficient, as it happens only once at shutdown.
-					cancelRxCommands();
-					break; // Null command is an indicator that we're shutting down.
-				}
-
 				/*
-				 *  We note that this is an outstanding request at this point.
+				 *  Send all the commands that are ready in one write, e.g. a -thread-select
+				 *  and a -stack-select-frame together with the command they prepare.
 				 */
-				if (!(commandHandle.getCommand() instanceof RawCommand)) {
-					// RawCommands will not get an answer, so we cannot put them in the receive queue.
-					fRxCommands.put(commandHandle.getTokenId(), commandHandle);
-				}
-
-				/*
-				 *   Construct the new command and push this command out the pipeline.
-				 */
-
-				final String str;
-				if (commandHandle.getCommand() instanceof RawCommand) {
-					// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
-					str = commandHandle.getCommand().constructCommand();
-				} else if (fUseThreadGroupOption) {
-					// Implies that fUseThreadAndFrameOptions == true
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
-							commandHandle.getGroupId(), commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else if (fUseThreadAndFrameOptions) {
-					str = commandHandle.getTokenId() + commandHandle.getCommand()
-							.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
-				} else {
-					str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+				List<CommandHandle> batch = new ArrayList<>();
+				batch.add(commandHandle);
+				fTxCommands.drainTo(batch);
+
+				StringBuilder commands = new StringBuilder();
+				int commandCount = 0;
+				boolean shutdown = false;
+				for (CommandHandle handle : batch) {
+					if (handle == fTerminatorHandle) {
+						shutdown = true;
+						break;
+					}
+					commands.append(prepareCommand(handle));
+					commandCount++;
 				}
 
 				try {
-					if (fOutputStream != null) {
-
-						if (GdbDebugOptions.DEBUG) {
-							GdbDebugOptions.trace(
-									String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
+					if (fOutputStream != null && commandCount > 0) {
+						// Record the commands first, the RX thread may read their results as soon as they are written
+						MIConversationRecorder recorder = fRecorder;
+						if (recorder != null) {
+							recorder.recordCommands(commands.toString());
 						}
-						writeToTracingStream(true, str);
-
-						fOutputStream.write(str.getBytes());
+						fOutputStream.write(commands.toString().getBytes());
 						fOutputStream.flush();
+						fBatchedCommandCount.addAndGet(commandCount - 1);
 					}
 				} catch (IOException e) {
 					// Shutdown thread in case of IO error.
 					break;
 				}
+
+				if (shutdown) {
+					// There is a small possibility that a new command was inserted
+					// in the fRxCommands map after we cleared that map.
+					// Just to be safe, clear it again.
+					// We do this to avoid synchronizing the handling of fRxCommands
+					// because this is more efficient, as it happens only once at shutdown.
+					cancelRxCommands();
+					break; // Null command is an indicator that we're shutting down.
+				}
 			}
 			// Must close the stream here to avoid leaking
 			// Bug 345164 and Bug 339379
@@ -802,6 +997,47 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			} catch (IOException e) {
 			}
 		}
+
+		/**
+		 * Notes the command as outstanding and returns its MI string.
+		 */
+		private String prepareCommand(CommandHandle commandHandle) {
+			/*
+			 *  We note that this is an outstanding request at this point.
+			 */
+			if (!(commandHandle.getCommand() instanceof RawCommand)) {
+				// RawCommands will not get an answer, so we cannot put them in the receive queue.
+				fRxCommands.put(commandHandle.getTokenId(), commandHandle);
+			}
+
+			/*
+			 *   Construct the new command and push this command out the pipeline.
+			 */
+
+			final String str;
+			if (commandHandle.getCommand() instanceof RawCommand) {
+				// RawCommands CANNOT have a token id: GDB would read it as part of the RawCommand!
+				str = commandHandle.getCommand().constructCommand();
+			} else if (fUseThreadGroupOption) {
+				// Implies that fUseThreadAndFrameOptions == true
+				str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand(
+						commandHandle.getGroupId(), commandHandle.getThreadId(), commandHandle.getStackFrameId());
+			} else if (fUseThreadAndFrameOptions) {
+				str = commandHandle.getTokenId() + commandHandle.getCommand()
+						.constructCommand(commandHandle.getThreadId(), commandHandle.getStackFrameId());
+			} else {
+				str = commandHandle.getTokenId() + commandHandle.getCommand().constructCommand();
+			}
+
+			if (fOutputStream != null) {
+				if (GdbDebugOptions.DEBUG) {
+					GdbDebugOptions
+							.trace(String.format("%s %s  %s", GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, str)); //$NON-NLS-1$
+				}
+				writeToTracingStream(true, str);
+			}
+			return str;
+		}
 	}
 
 	private class RxThread extends Thread {
@@ -850,6 +1086,10 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 						}
 
 						writeToTracingStream(false, line);
+						MIConversationRecorder recorder = fRecorder;
+						if (recorder != null) {
+							recorder.recordOutput(line);
+						}
 						processMIOutput(line);
 					}
 				}
@@ -858,6 +1098,14 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 			} catch (RejectedExecutionException e) {
 				// Dispatch thread is down.
 			}
+			MIConversationRecorder recorder = fRecorder;
+			if (recorder != null) {
+				recorder.close();
+			}
+			MITraceBuffer traceBuffer = fTraceBuffer;
+			if (traceBuffer != null) {
+				traceBuffer.close();
+			}
 			// Must close the stream here to avoid leaking and
 			// to give enough time to read all the data
 			// Bug 345164 and Bug 339379
@@ -1011,19 +1259,27 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 					 *  a completion object.
 					 */
 					if (rm != null) {
-						rm.setData(result);
-
 						/*
 						 * We need to indicate if this request had an error or not.
 						 */
 						String errorResult = rr.getResultClass();
+						IStatus errorStatus = null;
 
 						if (errorResult.equals(MIResultRecord.ERROR)) {
 							String status = getStatusString(commandHandle.getCommand(), response);
 							String message = getBackendMessage(response);
 							Exception exception = new Exception(message);
-							rm.setStatus(
-									new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, REQUEST_FAILED, status, exception));
+							errorStatus = new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, REQUEST_FAILED, status,
+									exception);
+						}
+
+						// Identical commands coalesced with this one get the same result.
+						final List<DataRequestMonitor<MIInfo>> rms = commandHandle.getRequestMonitors();
+						for (DataRequestMonitor<MIInfo> requestMonitor : rms) {
+							requestMonitor.setData(result);
+							if (errorStatus != null) {
+								requestMonitor.setStatus(errorStatus);
+							}
 						}
 
 						/*
@@ -1036,8 +1292,8 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 								/*
 								 *  Complete the specific command.
 								 */
-								if (commandHandle.getRequestMonitor() != null) {
-									commandHandle.getRequestMonitor().done();
+								for (DataRequestMonitor<MIInfo> requestMonitor : rms) {
+									requestMonitor.done();
 								}
 
 								/*
@@ -1096,6 +1352,16 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 				// Process OOBs
 				final MIOOBRecord oob = fMiParser.parseMIOOBRecord(line);
 
+				if (GdbDebugOptions.DEBUG && oob instanceof MIExecAsyncOutput
+						&& "stopped".equals(((MIExecAsyncOutput) oob).getAsyncClass())) { //$NON-NLS-1$
+					getExecutor().execute(new DsfRunnable() {
+						@Override
+						public void run() {
+							traceSavedRoundTrips();
+						}
+					});
+				}
+
 				fAccumulatedOOBRecords.add(oob);
 				// limit growth, but only if these are not responses to CLI commands
 				// Bug 302927 & 330608 & 569911
@@ -1206,6 +1472,19 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		}
 	}
 
+	/**
+	 * Traces the round trips to the back end that were saved since the previous stop,
+	 * and starts counting again for the next one.
+	 */
+	private void traceSavedRoundTrips() {
+		GdbDebugOptions.trace(String.format(
+				"%s %s  Since previous stop: %d coalesced commands, %d elided selections, %d batched commands\n", //$NON-NLS-1$
+				GdbPlugin.getDebugTime(), MI_TRACE_IDENTIFIER, fCoalescedCommandCount, fElidedSelectionCount,
+				fBatchedCommandCount.getAndSet(0)));
+		fCoalescedCommandCount = 0;
+		fElidedSelectionCount = 0;
+	}
+
 	// we keep track of currentStackLevel and currentThreadId because in
 	// some cases we must use -thread-select and -stack-select-frame
 	public void resetCurrentThreadLevel() {
@@ -1248,9 +1527,12 @@ public abstract class AbstractMIControl extends AbstractDsfService implements IM
 		DataRequestMonitor<MIInfo> rm = commandHandle.getRequestMonitor();
 
 		if (rm != null) {
-			rm.setData(info);
-			rm.setStatus(new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, statusCode, errorMessage, null));
-			rm.done();
+			IStatus status = new Status(IStatus.ERROR, GdbPlugin.PLUGIN_ID, statusCode, errorMessage, null);
+			for (DataRequestMonitor<MIInfo> requestMonitor : commandHandle.getRequestMonitors()) {
+				requestMonitor.setData(info);
+				requestMonitor.setStatus(status);
+				requestMonitor.done();
+			}
 
 			/*
 			 *  Now tell the generic listeners about it.
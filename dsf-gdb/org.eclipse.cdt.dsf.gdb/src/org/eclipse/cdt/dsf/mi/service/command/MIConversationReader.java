@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads an MI conversation recorded by {@link MIConversationRecorder}.
+ *
+ * @since 7.2
+ */
+public class MIConversationReader implements Closeable {
+
+	/**
+	 * A record of the conversation.
+	 */
+	public static class Record {
+		private final byte fKind;
+		private final long fTime;
+		private final String fText;
+
+		public Record(byte kind, long time, String text) {
+			fKind = kind;
+			fTime = time;
+			fText = text;
+		}
+
+		/**
+		 * Returns {@link MIConversationRecorder#COMMANDS} or {@link MIConversationRecorder#OUTPUT}.
+		 */
+		public byte getKind() {
+			return fKind;
+		}
+
+		/**
+		 * Returns the time of the record, in microseconds since the start of the recording.
+		 */
+		public long getTime() {
+			return fTime;
+		}
+
+		public String getText() {
+			return fText;
+		}
+
+		@Override
+		public String toString() {
+			String direction = fKind == MIConversationRecorder.COMMANDS ? " -> " : " <- "; //$NON-NLS-1$ //$NON-NLS-2$
+			return fTime + direction + fText;
+		}
+	}
+
+	private final DataInputStream fInput;
+	private final long fStartTime;
+	private long fTime;
+
+	/**
+	 * Reads the header of a recording. The stream is closed when the reader is closed.
+	 *
+	 * @throws IOException if the stream does not hold a recording of a supported version
+	 */
+	public MIConversationReader(InputStream stream) throws IOException {
+		fInput = new DataInputStream(new BufferedInputStream(stream));
+		byte[] magic = new byte[MIConversationRecorder.MAGIC.length];
+		fInput.readFully(magic);
+		if (!Arrays.equals(magic, MIConversationRecorder.MAGIC)) {
+			throw new IOException("Not an MI recording"); //$NON-NLS-1$
+		}
+		int version = fInput.readByte();
+		if (version != MIConversationRecorder.VERSION) {
+			throw new IOException("Unsupported MI recording version " + version); //$NON-NLS-1$
+		}
+		fStartTime = fInput.readLong();
+	}
+
+	/**
+	 * Returns the wall clock time at which the recording started, in milliseconds.
+	 */
+	public long getStartTime() {
+		return fStartTime;
+	}
+
+	/**
+	 * Returns the next record, or <code>null</code> at the end of the recording.
+	 * A record truncated by the end of the stream ends the recording.
+	 */
+	public Record read() throws IOException {
+		int kind = fInput.read();
+		if (kind < 0) {
+			return null;
+		}
+		try {
+			fTime += readVarLong(fInput);
+			byte[] bytes = new byte[(int) readVarLong(fInput)];
+			fInput.readFully(bytes);
+			return new Record((byte) kind, fTime, new String(bytes, StandardCharsets.UTF_8));
+		} catch (EOFException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns all remaining records.
+	 */
+	public List<Record> readAll() throws IOException {
+		List<Record> records = new ArrayList<>();
+		Record record;
+		while ((record = read()) != null) {
+			records.add(record);
+		}
+		return records;
+	}
+
+	@Override
+	public void close() throws IOException {
+		fInput.close();
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed MI recording"); //$NON-NLS-1$
+	}
+}
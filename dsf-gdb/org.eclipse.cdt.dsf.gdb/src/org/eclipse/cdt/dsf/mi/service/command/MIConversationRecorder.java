@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Records the MI conversation with the back end into a compact binary log, which
+ * {@link MIConversationReader} reads back, e.g. to replay it with {@link MIReplayer}.
+ * <p>
+ * The log starts with the magic bytes <code>MIRC</code>, a version byte and the
+ * wall clock time of the start of the recording in milliseconds. Each record then
+ * consists of its kind as one byte, the time elapsed since the previous record in
+ * microseconds and the length of its text in bytes, both as variable length integers,
+ * and finally the text encoded in UTF-8.
+ * </p>
+ * The recorder is thread-safe, the commands and the output are recorded from different threads.
+ * The records are buffered, the log is only complete once the recorder is closed.
+ *
+ * @since 7.2
+ */
+public class MIConversationRecorder implements Closeable {
+
+	/** Kind of the records holding commands sent to the back end, one or more lines each */
+	public static final byte COMMANDS = 1;
+	/** Kind of the records holding a line of output received from the back end */
+	public static final byte OUTPUT = 2;
+
+	static final byte[] MAGIC = { 'M', 'I', 'R', 'C' };
+	static final byte VERSION = 1;
+
+	private final DataOutputStream fOutput;
+	private long fLastTime;
+	private boolean fClosed;
+
+	/**
+	 * Starts a recording. The stream is closed when the recorder is closed.
+	 */
+	public MIConversationRecorder(OutputStream stream) throws IOException {
+		fOutput = new DataOutputStream(new BufferedOutputStream(stream));
+		fOutput.write(MAGIC);
+		fOutput.writeByte(VERSION);
+		fOutput.writeLong(System.currentTimeMillis());
+		fLastTime = System.nanoTime();
+	}
+
+	/**
+	 * Records commands written to the back end.
+	 */
+	public void recordCommands(String commands) {
+		record(COMMANDS, commands);
+	}
+
+	/**
+	 * Records a line of output received from the back end.
+	 */
+	public void recordOutput(String line) {
+		record(OUTPUT, line);
+	}
+
+	private synchronized void record(byte kind, String text) {
+		if (fClosed) {
+			return;
+		}
+		long now = System.nanoTime();
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		try {
+			fOutput.writeByte(kind);
+			writeVarLong(fOutput, (now - fLastTime) / 1000);
+			writeVarLong(fOutput, bytes.length);
+			fOutput.write(bytes);
+		} catch (IOException e) {
+			// Recording is a debugging aid, never let it disturb the session
+			fClosed = true;
+		}
+		fLastTime = now;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (!fClosed) {
+			fClosed = true;
+			try {
+				fOutput.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+}
@@ -0,0 +1,315 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.dsf.mi.service.command.MIConversationReader.Record;
+
+/**
+ * Plays the back end side of a recorded MI conversation.
+ * <p>
+ * The output of the back end is replayed in the recorded order through {@link #getInputStream()},
+ * and the commands written to {@link #getOutputStream()} are matched against the recorded
+ * commands by their text. Since tokens depend on the order in which services happen to
+ * send their commands, the tokens of the recorded result records are replaced by the tokens
+ * of the matching live commands. The output recorded after a command is only replayed once
+ * that command was sent, or once it was given up on after a timeout. Commands that have
+ * no recorded match are answered with an error.
+ * </p>
+ * By default, the output is replayed as fast as the commands allow; in real time mode,
+ * the recorded delays of the back end are reproduced as well.
+ *
+ * @since 7.2
+ */
+public class MIReplayer {
+
+	private static final byte[] END = new byte[0];
+
+	private static class RecordedCommand {
+		final String fToken;
+		boolean fMatched;
+		boolean fSkipped;
+
+		RecordedCommand(String token) {
+			fToken = token;
+		}
+	}
+
+	private final List<Record> fRecords;
+	/** Commands of each record of commands, by record index */
+	private final Map<Integer, List<RecordedCommand>> fCommandsByRecord = new HashMap<>();
+	/** Recorded commands not matched yet, by text without token, in recorded order */
+	private final Map<String, ArrayDeque<RecordedCommand>> fPendingCommands = new HashMap<>();
+	/** Tokens of the live commands, by token of the matching recorded command */
+	private final Map<String, String> fTokens = new HashMap<>();
+
+	private final LinkedBlockingQueue<byte[]> fOutput = new LinkedBlockingQueue<>();
+	private final InputStream fInputStream = new ReplayInputStream();
+	private final OutputStream fOutputStream = new CommandOutputStream();
+
+	private boolean fRealTime;
+	private long fCommandTimeout = 1000;
+	private Thread fThread;
+	private volatile boolean fStopped;
+
+	private int fUnmatchedCount;
+	private int fSkippedCount;
+
+	public MIReplayer(List<Record> records) {
+		fRecords = new ArrayList<>(records);
+		for (int i = 0; i < fRecords.size(); i++) {
+			Record record = fRecords.get(i);
+			if (record.getKind() != MIConversationRecorder.COMMANDS) {
+				continue;
+			}
+			List<RecordedCommand> commands = new ArrayList<>();
+			for (String line : record.getText().split("\n")) { //$NON-NLS-1$
+				if (line.trim().isEmpty()) {
+					continue;
+				}
+				String[] parts = splitToken(line);
+				RecordedCommand command = new RecordedCommand(parts[0]);
+				commands.add(command);
+				fPendingCommands.computeIfAbsent(parts[1], text -> new ArrayDeque<>()).add(command);
+			}
+			fCommandsByRecord.put(i, commands);
+		}
+	}
+
+	/**
+	 * Reproduce the recorded delays between the output of the back end, instead of
+	 * replaying it as fast as possible. To be called before {@link #start()}.
+	 */
+	public void setRealTime(boolean realTime) {
+		fRealTime = realTime;
+	}
+
+	/**
+	 * Sets how long to wait for a recorded command to be sent, in milliseconds, before the
+	 * output that follows it is replayed anyway. To be called before {@link #start()}.
+	 */
+	public void setCommandTimeout(long timeout) {
+		fCommandTimeout = timeout;
+	}
+
+	/** The stream from which the output of the back end is read */
+	public InputStream getInputStream() {
+		return fInputStream;
+	}
+
+	/** The stream to which the commands for the back end are written */
+	public OutputStream getOutputStream() {
+		return fOutputStream;
+	}
+
+	/** Returns the number of commands that had no recorded match */
+	public synchronized int getUnmatchedCommandCount() {
+		return fUnmatchedCount;
+	}
+
+	/** Returns the number of recorded commands that were not sent before the timeout */
+	public synchronized int getSkippedCommandCount() {
+		return fSkippedCount;
+	}
+
+	public synchronized void start() {
+		if (fThread == null) {
+			fThread = new Thread(this::replay, "MI Replay Thread"); //$NON-NLS-1$
+			fThread.setDaemon(true);
+			fThread.start();
+		}
+	}
+
+	/**
+	 * Stops replaying and ends the output of the back end.
+	 */
+	public synchronized void stop() {
+		fStopped = true;
+		if (fThread != null) {
+			fThread.interrupt();
+		}
+		fOutput.add(END);
+	}
+
+	private void replay() {
+		long lastTime = 0;
+		try {
+			for (int i = 0; i < fRecords.size() && !fStopped; i++) {
+				Record record = fRecords.get(i);
+				if (record.getKind() == MIConversationRecorder.COMMANDS) {
+					waitForCommands(fCommandsByRecord.get(i));
+					lastTime = record.getTime();
+					continue;
+				}
+
+				String line = record.getText();
+				String[] parts = splitToken(line);
+				if (!parts[0].isEmpty()) {
+					String token;
+					synchronized (this) {
+						token = fTokens.get(parts[0]);
+					}
+					if (token != null) {
+						line = token + parts[1];
+					} else if (parts[1].startsWith("^")) { //$NON-NLS-1$
+						// The result of a command that was not sent
+						continue;
+					} else {
+						line = parts[1];
+					}
+				}
+
+				if (fRealTime && record.getTime() > lastTime) {
+					TimeUnit.MICROSECONDS.sleep(record.getTime() - lastTime);
+				}
+				lastTime = record.getTime();
+				emit(line);
+			}
+		} catch (InterruptedException e) {
+			// Stopped
+		}
+		fOutput.add(END);
+	}
+
+	private synchronized void waitForCommands(List<RecordedCommand> commands) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + fCommandTimeout;
+		for (RecordedCommand command : commands) {
+			long remaining;
+			while (!command.fMatched && !fStopped && (remaining = deadline - System.currentTimeMillis()) > 0) {
+				wait(remaining);
+			}
+			if (!command.fMatched) {
+				command.fSkipped = true;
+				fSkippedCount++;
+			}
+		}
+	}
+
+	private synchronized void commandReceived(String line) {
+		if (line.trim().isEmpty()) {
+			return;
+		}
+		String[] parts = splitToken(line);
+		ArrayDeque<RecordedCommand> pending = fPendingCommands.get(parts[1]);
+		while (pending != null && !pending.isEmpty()) {
+			RecordedCommand command = pending.poll();
+			if (!command.fSkipped) {
+				command.fMatched = true;
+				if (!command.fToken.isEmpty()) {
+					fTokens.put(command.fToken, parts[0]);
+				}
+				notifyAll();
+				return;
+			}
+		}
+
+		fUnmatchedCount++;
+		if (!parts[0].isEmpty()) {
+			emit(parts[0] + "^error,msg=\"No recorded response\""); //$NON-NLS-1$
+			emit("(gdb) "); //$NON-NLS-1$
+		}
+	}
+
+	private void emit(String line) {
+		fOutput.add((line + '\n').getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Splits a line of MI into its token, possibly empty, and the rest.
+	 */
+	static String[] splitToken(String line) {
+		int i = 0;
+		while (i < line.length() && Character.isDigit(line.charAt(i))) {
+			i++;
+		}
+		return new String[] { line.substring(0, i), line.substring(i) };
+	}
+
+	private class ReplayInputStream extends InputStream {
+		private byte[] fChunk;
+		private int fPosition;
+
+		private boolean fill() throws InterruptedIOException {
+			while (fChunk != END && (fChunk == null || fPosition == fChunk.length)) {
+				try {
+					fChunk = fOutput.take();
+					fPosition = 0;
+				} catch (InterruptedException e) {
+					throw new InterruptedIOException();
+				}
+			}
+			return fChunk != END;
+		}
+
+		@Override
+		public int read() throws InterruptedIOException {
+			if (!fill()) {
+				return -1;
+			}
+			return fChunk[fPosition++] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws InterruptedIOException {
+			if (len == 0) {
+				return 0;
+			}
+			if (!fill()) {
+				return -1;
+			}
+			int count = Math.min(len, fChunk.length - fPosition);
+			System.arraycopy(fChunk, fPosition, b, off, count);
+			fPosition += count;
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return fChunk == null || fChunk == END ? 0 : fChunk.length - fPosition;
+		}
+	}
+
+	private class CommandOutputStream extends OutputStream {
+		private final ByteArrayOutputStream fLine = new ByteArrayOutputStream();
+
+		@Override
+		public synchronized void write(int b) {
+			if (b == '\n') {
+				commandReceived(new String(fLine.toByteArray(), StandardCharsets.UTF_8));
+				fLine.reset();
+			} else {
+				fLine.write(b);
+			}
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) {
+			for (int i = off; i < off + len; i++) {
+				write(b[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Bounded store of the MI traces waiting to be written to the tracing stream.
+ * <p>
+ * The threads talking to the back end only queue the traces. A writer thread
+ * formats them and writes them in batches, such that a slow tracing console never
+ * holds up the MI communication. When the queued traces exceed the budget, the
+ * oldest ones are dropped and the number of dropped traces is written in their
+ * place.
+ * <p>
+ * Commands can be left out of the traces by their operation, e.g.
+ * <code>-var-update</code>, in which case their result records are left out as
+ * well. Out of band records can be left out by their class, e.g.
+ * <code>=library-loaded</code> or <code>~</code> for the console stream.
+ */
+abstract class MITraceBuffer {
+
+	private static class Trace {
+		final long fTime;
+		final boolean fToGdb;
+		final String fText;
+
+		Trace(long time, boolean toGdb, String text) {
+			fTime = time;
+			fToGdb = toGdb;
+			fText = text;
+		}
+	}
+
+	private final Object fLock = new Object();
+	private final OutputStream fStream;
+	private final int fBudget;
+	private final Set<String> fFilter;
+
+	/** Tokens of the filtered commands whose result record is still to come. */
+	private final Set<String> fFilteredTokens = new HashSet<>();
+
+	private ArrayDeque<Trace> fTraces = new ArrayDeque<>();
+	private int fSize;
+	private int fDropped;
+	private boolean fClosed;
+
+	/**
+	 * @param stream The tracing stream, closed by the caller.
+	 * @param budget Maximum number of characters of the queued traces.
+	 * @param filter Operations and out of band record classes to leave out.
+	 */
+	MITraceBuffer(OutputStream stream, int budget, Collection<String> filter) {
+		fStream = stream;
+		fBudget = budget;
+		fFilter = new HashSet<>(filter);
+	}
+
+	/**
+	 * Starts the writer thread, which ends once the buffer is closed.
+	 */
+	Thread start(String name) {
+		Thread writer = new Thread(this::writeTraces, name);
+		writer.setDaemon(true);
+		writer.start();
+		return writer;
+	}
+
+	/**
+	 * Queues a trace, to be called from the threads reading from and writing to
+	 * the back end.
+	 */
+	void add(boolean toGdb, String text) {
+		long time = System.currentTimeMillis();
+		synchronized (fLock) {
+			if (fClosed || isFiltered(toGdb, text)) {
+				return;
+			}
+			fTraces.add(new Trace(time, toGdb, text));
+			fSize += text.length();
+			while (fSize > fBudget && fTraces.size() > 1) {
+				fSize -= fTraces.removeFirst().fText.length();
+				fDropped++;
+			}
+			if (fTraces.size() == 1) {
+				fLock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Stops accepting traces. The writer thread writes the queued ones and ends.
+	 */
+	void close() {
+		synchronized (fLock) {
+			fClosed = true;
+			fLock.notifyAll();
+		}
+	}
+
+	/**
+	 * Appends a trace, as it should appear in the tracing stream.
+	 */
+	protected abstract void format(StringBuilder out, long time, boolean toGdb, String text);
+
+	/**
+	 * Appends the notice that the given number of traces were dropped.
+	 */
+	protected abstract void formatDropped(StringBuilder out, int count);
+
+	/**
+	 * Called by the writer thread before formatting a batch of traces.
+	 */
+	protected void startBatch() {
+	}
+
+	private boolean isFiltered(boolean toGdb, String text) {
+		if (fFilter.isEmpty()) {
+			return false;
+		}
+		int tokenEnd = 0;
+		while (tokenEnd < text.length() && Character.isDigit(text.charAt(tokenEnd))) {
+			tokenEnd++;
+		}
+		if (toGdb) {
+			int end = tokenEnd;
+			while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+				end++;
+			}
+			if (fFilter.contains(text.substring(tokenEnd, end))) {
+				if (tokenEnd > 0) {
+					fFilteredTokens.add(text.substring(0, tokenEnd));
+				}
+				return true;
+			}
+			return false;
+		}
+		if (tokenEnd < text.length() && text.charAt(tokenEnd) == '^') {
+			return tokenEnd > 0 && fFilteredTokens.remove(text.substring(0, tokenEnd));
+		}
+		if (tokenEnd == text.length()) {
+			return false;
+		}
+		char kind = text.charAt(tokenEnd);
+		if (kind == '~' || kind == '@' || kind == '&') {
+			return fFilter.contains(String.valueOf(kind));
+		}
+		int end = text.indexOf(',', tokenEnd);
+		return fFilter.contains(text.substring(tokenEnd, end < 0 ? text.length() : end));
+	}
+
+	private void writeTraces() {
+		StringBuilder out = new StringBuilder();
+		while (true) {
+			ArrayDeque<Trace> traces;
+			int dropped;
+			synchronized (fLock) {
+				while (fTraces.isEmpty() && !fClosed) {
+					try {
+						fLock.wait();
+					} catch (InterruptedException e) {
+						fClosed = true;
+					}
+				}
+				if (fTraces.isEmpty()) {
+					return;
+				}
+				traces = fTraces;
+				dropped = fDropped;
+				fTraces = new ArrayDeque<>();
+				fSize = 0;
+				fDropped = 0;
+			}
+
+			startBatch();
+			out.setLength(0);
+			if (dropped > 0) {
+				formatDropped(out, dropped);
+			}
+			for (Trace trace : traces) {
+				format(out, trace.fTime, trace.fToGdb, trace.fText);
+			}
+			try {
+				fStream.write(out.toString().getBytes(StandardCharsets.UTF_8));
+				fStream.flush();
+			} catch (IOException e) {
+				// The tracing stream could be closed at any time since the user
+				// can set a preference to turn off this tracing.
+				close();
+				synchronized (fLock) {
+					fTraces.clear();
+				}
+				return;
+			}
+		}
+	}
+}
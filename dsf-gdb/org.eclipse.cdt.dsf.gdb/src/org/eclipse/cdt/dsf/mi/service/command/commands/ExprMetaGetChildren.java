@@ -21,6 +21,8 @@ import org.eclipse.cdt.dsf.mi.service.command.output.ExprMetaGetChildrenInfo;
 public class ExprMetaGetChildren extends ExprMetaCommand<ExprMetaGetChildrenInfo> {
 
 	private int numChildLimit = IMIExpressions.CHILD_COUNT_LIMIT_UNSPECIFIED;
+	private int startIndex = -1;
+	private int length = -1;
 
 	public ExprMetaGetChildren(IExpressionDMContext ctx) {
 		super(ctx);
@@ -37,6 +39,23 @@ public class ExprMetaGetChildren extends ExprMetaCommand<ExprMetaGetChildrenInfo
 		this.numChildLimit = numChildLimit;
 	}
 
+	/**
+	 * Creates a command returning only the given range of children. For arrays,
+	 * the children before the range are not created at all.
+	 *
+	 * @param ctx
+	 * @param startIndex index of the first child to return
+	 * @param length number of children to return
+	 *
+	 * @since 7.2
+	 */
+	public ExprMetaGetChildren(IExpressionDMContext ctx, int startIndex, int length) {
+		super(ctx);
+		this.startIndex = startIndex;
+		this.length = length;
+		this.numChildLimit = (int) Math.min((long) startIndex + length, Integer.MAX_VALUE);
+	}
+
 	/**
 	 * @since 4.0
 	 */
@@ -44,11 +63,31 @@ public class ExprMetaGetChildren extends ExprMetaCommand<ExprMetaGetChildrenInfo
 		return numChildLimit;
 	}
 
+	/**
+	 * @return the index of the first child to return, or -1 if the result holds
+	 *         all children up to {@link #getNumChildLimit()}
+	 * @since 7.2
+	 */
+	public int getStartIndex() {
+		return startIndex;
+	}
+
+	/**
+	 * @return the number of children to return, or -1 if the command is not
+	 *         restricted to a range of children
+	 * @since 7.2
+	 */
+	public int getLength() {
+		return length;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = super.hashCode();
 		result = prime * result + numChildLimit;
+		result = prime * result + startIndex;
+		result = prime * result + length;
 		return result;
 	}
 
@@ -61,6 +100,8 @@ public class ExprMetaGetChildren extends ExprMetaCommand<ExprMetaGetChildrenInfo
 		ExprMetaGetChildren other = (ExprMetaGetChildren) obj;
 		if (numChildLimit != other.numChildLimit)
 			return false;
+		if (startIndex != other.startIndex || length != other.length)
+			return false;
 		return true;
 	}
 }
\ No newline at end of file
@@ -185,13 +185,17 @@ public class MICommand<V extends MIInfo> implements ICommand<V> {
 		return command.toString();
 	}
 
-	//    /*
-	//     * Checks to see if the current command can be coalesced with the
-	//     * supplied command.
-	//     */
-	//    public boolean canCoalesce(ICommand<? extends ICommandResult> command) {
-	//        return false;
-	//    }
+	/**
+	 * Returns whether this command can share the result of an identical command. The
+	 * command control sends identical commands only once if they wait to be sent at the
+	 * same time, and no command that is not coalescable was queued between them. This
+	 * only holds for commands that read the state of the debugger without changing it.
+	 *
+	 * @since 7.2
+	 */
+	public boolean isCoalescable() {
+		return false;
+	}
 
 	@Override
 	public ICommand<? extends ICommandResult> coalesceWith(ICommand<? extends ICommandResult> command) {
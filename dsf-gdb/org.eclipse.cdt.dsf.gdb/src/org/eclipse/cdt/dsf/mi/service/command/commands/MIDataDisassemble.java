@@ -124,4 +124,9 @@ public class MIDataDisassemble extends MICommand<MIDataDisassembleInfo> {
 	public MIDataDisassembleInfo getResult(MIOutput output) {
 		return new MIDataDisassembleInfo(output);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
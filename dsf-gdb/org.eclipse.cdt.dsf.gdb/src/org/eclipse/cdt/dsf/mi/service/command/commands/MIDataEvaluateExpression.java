@@ -15,6 +15,8 @@
 
 package org.eclipse.cdt.dsf.mi.service.command.commands;
 
+import java.util.regex.Pattern;
+
 import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMContext;
 import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
 import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService.ICommandControlDMContext;
@@ -32,27 +34,49 @@ import org.eclipse.cdt.dsf.mi.service.command.output.MIOutput;
  *
  */
 public class MIDataEvaluateExpression<V extends MIDataEvaluateExpressionInfo> extends MICommand<V> {
+	/**
+	 * Matches the parts of an expression that may have side effects: increments, decrements,
+	 * assignments and function calls. Casts that look like calls are matched, too.
+	 */
+	private static final Pattern SIDE_EFFECTS = Pattern
+			.compile("\\+\\+|--|(?<![=!<>])=(?!=)|<<=|>>=|[\\w)\\]]\\s*\\("); //$NON-NLS-1$
+
+	private final String fExpression;
+
 	/**
 	 * @since 1.1
 	 */
 	public MIDataEvaluateExpression(ICommandControlDMContext ctx, String expr) {
 		super(ctx, "-data-evaluate-expression", new String[] { expr }); //$NON-NLS-1$
+		fExpression = expr;
 	}
 
 	public MIDataEvaluateExpression(IMIExecutionDMContext execDmc, String expr) {
 		super(execDmc, "-data-evaluate-expression", new String[] { expr }); //$NON-NLS-1$
+		fExpression = expr;
 	}
 
 	public MIDataEvaluateExpression(IFrameDMContext frameDmc, String expr) {
 		super(frameDmc, "-data-evaluate-expression", new String[] { expr }); //$NON-NLS-1$
+		fExpression = expr;
 	}
 
 	public MIDataEvaluateExpression(IExpressionDMContext exprDmc) {
 		super(exprDmc, "-data-evaluate-expression", new String[] { exprDmc.getExpression() }); //$NON-NLS-1$
+		fExpression = exprDmc.getExpression();
 	}
 
 	@Override
 	public MIDataEvaluateExpressionInfo getResult(MIOutput output) {
 		return new MIDataEvaluateExpressionInfo(output);
 	}
+
+	/**
+	 * Evaluating an expression with side effects, e.g. <code>i++</code> or <code>f()</code>,
+	 * changes the state of the program. Such expressions are evaluated once per command.
+	 */
+	@Override
+	public boolean isCoalescable() {
+		return !SIDE_EFFECTS.matcher(fExpression).find();
+	}
 }
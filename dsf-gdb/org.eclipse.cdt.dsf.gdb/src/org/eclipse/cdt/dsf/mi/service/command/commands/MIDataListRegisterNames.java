@@ -51,4 +51,9 @@ public class MIDataListRegisterNames extends MICommand<MIDataListRegisterNamesIn
 	public MIDataListRegisterNamesInfo getResult(MIOutput output) {
 		return new MIDataListRegisterNamesInfo(output);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
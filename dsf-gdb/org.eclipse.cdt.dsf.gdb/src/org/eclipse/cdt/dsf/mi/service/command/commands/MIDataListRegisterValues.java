@@ -187,4 +187,9 @@ public class MIDataListRegisterValues extends MICommand<MIDataListRegisterValues
 		 */
 		return new MIDataListRegisterValues((IFrameDMContext) getContext(), fFmt, finalregnums);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
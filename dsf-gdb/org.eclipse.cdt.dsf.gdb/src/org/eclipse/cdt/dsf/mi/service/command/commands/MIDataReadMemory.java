@@ -132,4 +132,9 @@ public class MIDataReadMemory extends MICommand<MIDataReadMemoryInfo> {
 	public MIDataReadMemoryInfo getResult(MIOutput out) {
 		return new MIDataReadMemoryInfo(out, fword_size);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
@@ -70,4 +70,9 @@ public class MIDataReadMemoryBytes extends MICommand<MIDataReadMemoryBytesInfo>
 	public MIDataReadMemoryBytesInfo getResult(MIOutput out) {
 		return new MIDataReadMemoryBytesInfo(out, fCount, fword_size);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
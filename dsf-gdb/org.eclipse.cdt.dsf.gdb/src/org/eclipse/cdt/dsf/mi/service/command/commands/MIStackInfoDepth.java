@@ -38,4 +38,9 @@ public class MIStackInfoDepth extends MICommand<MIStackInfoDepthInfo> {
 	public MIStackInfoDepthInfo getResult(MIOutput out) {
 		return new MIStackInfoDepthInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
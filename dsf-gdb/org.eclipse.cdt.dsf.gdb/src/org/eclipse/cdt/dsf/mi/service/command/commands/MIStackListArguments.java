@@ -60,4 +60,9 @@ public class MIStackListArguments extends MICommand<MIStackListArgumentsInfo> {
 	public MIStackListArgumentsInfo getResult(MIOutput out) {
 		return new MIStackListArgumentsInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
@@ -66,4 +66,9 @@ public class MIStackListFrames extends MICommand<MIStackListFramesInfo> {
 	public MIStackListFramesInfo getResult(MIOutput out) {
 		return new MIStackListFramesInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
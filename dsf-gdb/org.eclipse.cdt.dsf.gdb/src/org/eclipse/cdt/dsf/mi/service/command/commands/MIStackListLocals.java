@@ -39,4 +39,9 @@ public class MIStackListLocals extends MICommand<MIStackListLocalsInfo> {
 	public MIStackListLocalsInfo getResult(MIOutput out) {
 		return new MIStackListLocalsInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
@@ -42,4 +42,9 @@ public class MIThreadInfo extends MICommand<MIThreadInfoInfo> {
 	public MIThreadInfoInfo getResult(MIOutput out) {
 		return new MIThreadInfoInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
@@ -44,4 +44,9 @@ public class MIVarEvaluateExpression extends MICommand<MIVarEvaluateExpressionIn
 	public MIVarEvaluateExpressionInfo getResult(MIOutput out) {
 		return new MIVarEvaluateExpressionInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
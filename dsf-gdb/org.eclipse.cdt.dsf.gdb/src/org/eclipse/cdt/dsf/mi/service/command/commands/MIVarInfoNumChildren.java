@@ -40,4 +40,9 @@ public class MIVarInfoNumChildren extends MICommand<MIVarInfoNumChildrenInfo> {
 	public MIVarInfoNumChildrenInfo getResult(MIOutput out) {
 		return new MIVarInfoNumChildrenInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
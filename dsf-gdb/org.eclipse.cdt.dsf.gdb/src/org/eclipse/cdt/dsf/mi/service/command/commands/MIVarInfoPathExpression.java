@@ -46,4 +46,9 @@ public class MIVarInfoPathExpression extends MICommand<MIVarInfoPathExpressionIn
 	public MIVarInfoPathExpressionInfo getResult(MIOutput out) {
 		return new MIVarInfoPathExpressionInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
@@ -40,4 +40,9 @@ public class MIVarInfoType extends MICommand<MIVarInfoTypeInfo> {
 	public MIVarInfoTypeInfo getResult(MIOutput out) {
 		return new MIVarInfoTypeInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
@@ -45,4 +45,9 @@ public class MIVarUpdate extends MICommand<MIVarUpdateInfo> {
 	public MIVarUpdateInfo getResult(MIOutput out) {
 		return new MIVarUpdateInfo(out);
 	}
+
+	@Override
+	public boolean isCoalescable() {
+		return true;
+	}
 }
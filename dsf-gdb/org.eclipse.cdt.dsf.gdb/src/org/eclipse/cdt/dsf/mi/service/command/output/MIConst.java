@@ -25,12 +25,49 @@ public class MIConst extends MIValue {
 
 	private String cstring = ""; //$NON-NLS-1$
 
+	/**
+	 * Line of output the value was parsed from, the value is decoded on first access.
+	 * Cleared once decoded, so that the value does not keep the whole line alive.
+	 */
+	private volatile String source;
+	private int start;
+	private int end;
+
+	public MIConst() {
+	}
+
+	/**
+	 * Creates a value for the content of a C-String that is decoded on first access.
+	 * @param line the line of output containing the C-String.
+	 * @param start the index of the first character after the opening double quote.
+	 * @param end the index of the closing double quote.
+	 */
+	MIConst(String line, int start, int end) {
+		this.cstring = null;
+		this.source = line;
+		this.start = start;
+		this.end = end;
+	}
+
 	public String getCString() {
-		return cstring;
+		String str = cstring;
+		if (str == null) {
+			String line = source;
+			if (line == null) {
+				// Decoded meanwhile by another reader
+				return cstring;
+			}
+			// Decoding is idempotent, concurrent readers at most do it twice.
+			str = MIParser.translateCString(line, start, end, true);
+			cstring = str;
+			source = null;
+		}
+		return str;
 	}
 
 	public void setCString(String str) {
 		cstring = str;
+		source = null;
 	}
 
 	/**
@@ -38,7 +75,7 @@ public class MIConst extends MIValue {
 	 * @return The translated string.
 	 */
 	public String getString() {
-		return MIStringHandler.translateCString(cstring, true);
+		return MIStringHandler.translateCString(getCString(), true);
 	}
 
 	public static String getString(String str) {
@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.mi.service.command.output;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GDB/MI data list changed registers extraction.
+ *
+ * @since 7.2
+ */
+public class MIDataListChangedRegistersInfo extends MIInfo {
+
+	private final int[] fRegisterNumbers;
+
+	public MIDataListChangedRegistersInfo(MIOutput rr) {
+		super(rr);
+		List<Integer> aList = new ArrayList<>();
+		if (isDone()) {
+			MIOutput out = getMIOutput();
+			MIResultRecord outr = out.getMIResultRecord();
+			if (outr != null) {
+				MIResult[] results = outr.getMIResults();
+				for (int i = 0; i < results.length; i++) {
+					String var = results[i].getVariable();
+					if (var.equals("changed-registers")) { //-NLS-1$
+						MIValue value = results[i].getMIValue();
+						if (value instanceof MIList) {
+							parseRegisters((MIList) value, aList);
+						}
+					}
+				}
+			}
+		}
+		fRegisterNumbers = new int[aList.size()];
+		for (int i = 0; i < fRegisterNumbers.length; i++) {
+			fRegisterNumbers[i] = aList.get(i);
+		}
+	}
+
+	/**
+	 * Returns the numbers of the registers that have changed.
+	 */
+	public int[] getRegisterNumbers() {
+		return fRegisterNumbers;
+	}
+
+	private void parseRegisters(MIList list, List<Integer> aList) {
+		MIValue[] values = list.getMIValues();
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] instanceof MIConst) {
+				try {
+					aList.add(Integer.parseInt(((MIConst) values[i]).getString().trim()));
+				} catch (NumberFormatException e) {
+				}
+			}
+		}
+	}
+}
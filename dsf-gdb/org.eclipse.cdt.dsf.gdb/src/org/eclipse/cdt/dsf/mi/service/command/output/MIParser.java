@@ -126,37 +126,32 @@ public class MIParser {
 	 *
 	 */
 	public MIResultRecord parseMIResultRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
+		Cursor in = new Cursor(line);
 		// Fetch the Token/Id
-		int id = parseToken(buffer);
+		int id = parseToken(in);
 		// Consume the '^'
-		buffer.deleteCharAt(0);
+		in.pos++;
 
 		MIResultRecord rr = new MIResultRecord();
 		rr.setToken(id);
-		if (buffer.toString().startsWith(MIResultRecord.DONE)) {
+		if (in.consume(MIResultRecord.DONE)) {
 			rr.setResultClass(MIResultRecord.DONE);
-			buffer.delete(0, MIResultRecord.DONE.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.ERROR)) {
+		} else if (in.consume(MIResultRecord.ERROR)) {
 			rr.setResultClass(MIResultRecord.ERROR);
-			buffer.delete(0, MIResultRecord.ERROR.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.EXIT)) {
+		} else if (in.consume(MIResultRecord.EXIT)) {
 			rr.setResultClass(MIResultRecord.EXIT);
-			buffer.delete(0, MIResultRecord.EXIT.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.RUNNING)) {
+		} else if (in.consume(MIResultRecord.RUNNING)) {
 			rr.setResultClass(MIResultRecord.RUNNING);
-			buffer.delete(0, MIResultRecord.RUNNING.length());
-		} else if (buffer.toString().startsWith(MIResultRecord.CONNECTED)) {
+		} else if (in.consume(MIResultRecord.CONNECTED)) {
 			rr.setResultClass(MIResultRecord.CONNECTED);
-			buffer.delete(0, MIResultRecord.CONNECTED.length());
 		} else {
 			// Error throw an exception?
 		}
 
 		// Results are separated by commas.
-		if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			MIResult[] res = processMIResults(new FSB(buffer));
+		if (in.peek() == ',') {
+			in.pos++;
+			MIResult[] res = processMIResults(in);
 			rr.setMIResults(res);
 		}
 		return rr;
@@ -166,13 +161,13 @@ public class MIParser {
 	 * Find OutOfBand Records depending on the starting token.
 	 */
 	public MIOOBRecord parseMIOOBRecord(String line) {
-		StringBuffer buffer = new StringBuffer(line);
-		int id = parseToken(buffer);
+		Cursor in = new Cursor(line);
+		int id = parseToken(in);
 		MIOOBRecord oob = null;
-		char c = buffer.length() != 0 ? buffer.charAt(0) : 0;
+		char c = in.peek();
 		if (c == '*' || c == '+' || c == '=') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			in.pos++;
 			MIAsyncRecord async = null;
 			switch (c) {
 			case '*':
@@ -192,22 +187,22 @@ public class MIParser {
 			}
 			async.setToken(id);
 			// Extract the Async-Class
-			int i = buffer.toString().indexOf(',');
+			int i = line.indexOf(',', in.pos);
 			if (i != -1) {
-				String asyncClass = buffer.substring(0, i);
+				String asyncClass = line.substring(in.pos, i);
 				async.setAsyncClass(asyncClass);
 				// Consume the async-class and the comma
-				buffer.delete(0, i + 1);
+				in.pos = i + 1;
 			} else {
-				async.setAsyncClass(buffer.toString().trim());
-				buffer.setLength(0);
+				async.setAsyncClass(line.substring(in.pos).trim());
+				in.pos = line.length();
 			}
-			MIResult[] res = processMIResults(new FSB(buffer));
+			MIResult[] res = processMIResults(in);
 			async.setMIResults(res);
 			oob = async;
 		} else if (c == '~' || c == '@' || c == '&') {
 			// Consume the first char
-			buffer.deleteCharAt(0);
+			in.pos++;
 			MIStreamRecord stream = null;
 			switch (c) {
 			case '~':
@@ -225,13 +220,14 @@ public class MIParser {
 				assert false;
 				stream = new MIConsoleStreamOutput();
 			}
-			// translateCString() assumes that the leading " is deleted
-			if (buffer.length() > 0 && buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
+			// translateCString() assumes that the leading " is consumed
+			if (in.peek() == '"') {
+				in.pos++;
 			}
 			// Don't parse any backslashes - backslashes within stream records
 			// aren't escaped.
-			stream.setCString(translateCString(new FSB(buffer), false));
+			int end = findClosingQuote(line, in.pos);
+			stream.setCString(translateCString(line, in.pos, end, false));
 			oob = stream;
 		} else {
 			// Badly format MI line, just pass it to the user as target stream
@@ -242,21 +238,18 @@ public class MIParser {
 		return oob;
 	}
 
-	private int parseToken(StringBuffer buffer) {
+	private int parseToken(Cursor in) {
 		int id = -1;
 		// Fetch the Token/Id
-		if (Character.isDigit(buffer.charAt(0))) {
-			int i = 1;
-			while (i < buffer.length() && Character.isDigit(buffer.charAt(i))) {
-				i++;
-			}
-			String numbers = buffer.substring(0, i);
+		int start = in.pos;
+		while (in.pos < in.line.length() && Character.isDigit(in.line.charAt(in.pos))) {
+			in.pos++;
+		}
+		if (in.pos > start) {
 			try {
-				id = Integer.parseInt(numbers);
+				id = Integer.parseInt(in.line, start, in.pos, 10);
 			} catch (NumberFormatException e) {
 			}
-			// Consume the token.
-			buffer.delete(0, i);
 		}
 		return id;
 	}
@@ -265,15 +258,15 @@ public class MIParser {
 	 * Assuming that the usual leading comma was consumed.
 	 * Extract the MI Result comma seperated responses.
 	 */
-	private MIResult[] processMIResults(FSB buffer) {
+	private MIResult[] processMIResults(Cursor in) {
 		List<MIResult> aList = new ArrayList<>();
-		MIResult result = processMIResult(buffer);
+		MIResult result = processMIResult(in);
 		if (result != null) {
 			aList.add(result);
 		}
-		while (buffer.length() > 0 && buffer.charAt(0) == ',') {
-			buffer.deleteCharAt(0);
-			result = processMIResult(buffer);
+		while (in.peek() == ',') {
+			in.pos++;
+			result = processMIResult(in);
 			if (result != null) {
 				aList.add(result);
 			}
@@ -282,28 +275,28 @@ public class MIParser {
 	}
 
 	/**
-	 * Construct the DsfMIResult.  Characters will be consume/delete
+	 * Construct the DsfMIResult.  Characters will be consumed
 	 * moving forward constructing the AST.
 	 */
-	private MIResult processMIResult(FSB buffer) {
+	private MIResult processMIResult(Cursor in) {
 		MIResult result = new MIResult();
 		int equal;
-		if (buffer.length() > 0 && Character.isLetter(buffer.charAt(0)) && (equal = buffer.indexOf('=')) != -1) {
+		if (!in.atEnd() && Character.isLetter(in.peek()) && (equal = in.line.indexOf('=', in.pos)) != -1) {
 			// Result is a variable and value
-			String variable = buffer.substring(0, equal);
+			String variable = in.line.substring(in.pos, equal);
 			result.setVariable(variable);
-			buffer.delete(0, equal + 1);
-			MIValue value = processMIValue(buffer);
+			in.pos = equal + 1;
+			MIValue value = processMIValue(in);
 			result.setMIValue(value);
 		} else {
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(in);
 			if (value != null) {
 				// Result is a value only (bug 527419)
 				result.setMIValue(value);
 			} else {
-				result.setVariable(buffer.toString());
+				result.setVariable(in.line.substring(in.pos));
 				result.setMIValue(new MIConst()); // Empty string:???
-				buffer.setLength(0);
+				in.pos = in.line.length();
 			}
 		}
 		return result;
@@ -312,55 +305,38 @@ public class MIParser {
 	/**
 	 * Find a DsfMIValue implementation or return null.
 	 */
-	private MIValue processMIValue(FSB buffer) {
-		MIValue value = null;
-		if (buffer.length() > 0) {
-			if (buffer.charAt(0) == '{') {
-				buffer.deleteCharAt(0);
-				value = processMITuple(buffer);
-			} else if (buffer.charAt(0) == '[') {
-				buffer.deleteCharAt(0);
-				value = processMIList(buffer);
-			} else if (buffer.charAt(0) == '"') {
-				buffer.deleteCharAt(0);
-				MIConst cnst = new MIConst();
-				// Parse backslashes - backslashes within result
-				// and out of band records are escaped.
-				cnst.setCString(translateCString(buffer, true));
-				value = cnst;
-			}
+	private MIValue processMIValue(Cursor in) {
+		switch (in.peek()) {
+		case '{':
+			in.pos++;
+			return processMITuple(in);
+		case '[':
+			in.pos++;
+			return processMIList(in);
+		case '"':
+			in.pos++;
+			// The string is only decoded when the value is accessed, most of the
+			// values of a large response are never looked at. Backslashes within
+			// result and out of band records are escaped.
+			int end = findClosingQuote(in.line, in.pos);
+			MIConst cnst = new MIConst(in.line, in.pos, end);
+			in.pos = end < in.line.length() ? end + 1 : end;
+			return cnst;
+		default:
+			return null;
 		}
-		return value;
 	}
 
 	/**
-	 * Assuming the starting '{' was deleted form the StringBuffer,
-	 * go to the closing '}' consuming/deleting all the characters.
+	 * Assuming the starting '{' was consumed, go to the closing '}'
+	 * consuming all the characters.
 	 * This is usually call by processMIvalue();
 	 */
-	private MIValue processMITuple(FSB buffer) {
+	private MIValue processMITuple(Cursor in) {
 		MITuple tuple = new MITuple();
 		List<MIValue> valueList = new ArrayList<>();
 		List<MIResult> resultList = new ArrayList<>();
-		// Catch closing '}'
-		while (buffer.length() > 0 && buffer.charAt(0) != '}') {
-			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
-			if (value != null) {
-				valueList.add(value);
-			} else {
-				MIResult result = processMIResult(buffer);
-				if (result != null) {
-					resultList.add(result);
-				}
-			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
-			}
-		}
-		if (buffer.length() > 0 && buffer.charAt(0) == '}') {
-			buffer.deleteCharAt(0);
-		}
+		processMIElements(in, '}', valueList, resultList);
 		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
 		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
 		tuple.setMIValues(values);
@@ -369,61 +345,93 @@ public class MIParser {
 	}
 
 	/**
-	 * Assuming the leading '[' was deleted, find the closing
-	 * ']' consuming/delete chars from the StringBuffer.
+	 * Assuming the leading '[' was consumed, find the closing
+	 * ']' consuming the chars.
 	 */
-	private MIValue processMIList(FSB buffer) {
+	private MIValue processMIList(Cursor in) {
 		MIList list = new MIList();
 		List<MIValue> valueList = new ArrayList<>();
 		List<MIResult> resultList = new ArrayList<>();
-		// catch closing ']'
-		while (buffer.length() > 0 && buffer.charAt(0) != ']') {
+		processMIElements(in, ']', valueList, resultList);
+		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
+		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
+		list.setMIValues(values);
+		list.setMIResults(res);
+		return list;
+	}
+
+	/**
+	 * Collects the comma separated values and results of a tuple or a list, up to
+	 * and including the given closing character.
+	 */
+	private void processMIElements(Cursor in, char closing, List<MIValue> valueList, List<MIResult> resultList) {
+		while (!in.atEnd() && in.peek() != closing) {
 			// Try for the DsfMIValue first
-			MIValue value = processMIValue(buffer);
+			MIValue value = processMIValue(in);
 			if (value != null) {
 				valueList.add(value);
 			} else {
-				MIResult result = processMIResult(buffer);
+				MIResult result = processMIResult(in);
 				if (result != null) {
 					resultList.add(result);
 				}
 			}
-			if (buffer.length() > 0 && buffer.charAt(0) == ',') {
-				buffer.deleteCharAt(0);
+			if (in.peek() == ',') {
+				in.pos++;
 			}
 		}
-		if (buffer.length() > 0 && buffer.charAt(0) == ']') {
-			buffer.deleteCharAt(0);
+		if (in.peek() == closing) {
+			in.pos++;
 		}
-		MIValue[] values = valueList.toArray(new MIValue[valueList.size()]);
-		MIResult[] res = resultList.toArray(new MIResult[resultList.size()]);
-		list.setMIValues(values);
-		list.setMIResults(res);
-		return list;
+	}
+
+	/**
+	 * Returns the index of the double quote closing the C-String starting at
+	 * <code>start</code>, or the length of the line if the string is not closed.
+	 * Assumes that the opening double quote was consumed.
+	 */
+	private static int findClosingQuote(String line, int start) {
+		int length = line.length();
+		for (int i = start; i < length; i++) {
+			char c = line.charAt(i);
+			if (c == '\\') {
+				// Skip the escaped character.
+				i++;
+			} else if (c == '"') {
+				return i;
+			}
+		}
+		return length;
 	}
 
 	/**
 	 * MI C-String rather MIConst values are enclosed in double quotes
 	 * and any double quotes or backslashes in the string are escaped.
-	 * Assuming the starting double quote was removed. This method will
-	 * stop at the closing double quote, remove the extra backslash escaping
-	 * and return the string __without__ the enclosing double quotes. The
-	 * original string buffer will move forward.
-	 * @param buffer The string buffer to read from.
+	 * This method removes the extra backslash escaping from the content
+	 * of a C-String, i.e. the characters between the enclosing double
+	 * quotes.
+	 * @param line The line containing the C-String.
+	 * @param start The index of the first character after the opening double quote.
+	 * @param end The index of the closing double quote, see {@link #findClosingQuote(String, int)}.
 	 * @param parseBackslashes Defines whether backslashes should be parsed.
 	 * This parameter is necessary to differentiate between records which
 	 * contain escaped backslashes and records which do not.
 	 * @return The translated C string.
 	 */
-	private String translateCString(FSB buffer, boolean parseBackslashes) {
-		boolean escape = false;
-		boolean closingQuotes = false;
-
-		StringBuffer sb = new StringBuffer();
+	static String translateCString(String line, int start, int end, boolean parseBackslashes) {
+		int backslash = start;
+		while (backslash < end && line.charAt(backslash) != '\\') {
+			backslash++;
+		}
+		if (backslash == end) {
+			return line.substring(start, end);
+		}
 
-		int index = 0;
-		for (; index < buffer.length() && !closingQuotes; index++) {
-			char c = buffer.charAt(index);
+		StringBuilder sb = new StringBuilder(end - start);
+		sb.append(line, start, backslash);
+		boolean escape = false;
+		for (int index = backslash; index < end; index++) {
+			char c = line.charAt(index);
 			if (c == '\\') {
 				if (escape) {
 					sb.append(c);
@@ -435,13 +443,9 @@ public class MIParser {
 					escape = true;
 				}
 			} else if (c == '"') {
-				if (escape) {
-					sb.append(c);
-					escape = false;
-				} else {
-					// Bail out.
-					closingQuotes = true;
-				}
+				// Only escaped quotes occur before the end.
+				sb.append(c);
+				escape = false;
 			} else {
 				if (escape) {
 					sb.append('\\');
@@ -450,10 +454,42 @@ public class MIParser {
 				escape = false;
 			}
 		}
-		buffer.delete(0, index);
 		return sb.toString();
 	}
 
+	/**
+	 * Position of the parser within the line of output. Unlike the {@link FSB}
+	 * used in the past, the line is never copied, strings are only created for
+	 * the parts that end up in the output records.
+	 */
+	private static final class Cursor {
+		final String line;
+		int pos;
+
+		Cursor(String line) {
+			this.line = line;
+		}
+
+		boolean atEnd() {
+			return pos >= line.length();
+		}
+
+		/**
+		 * Returns the current character, or <code>0</code> at the end of the line.
+		 */
+		char peek() {
+			return pos < line.length() ? line.charAt(pos) : 0;
+		}
+
+		boolean consume(String s) {
+			if (line.startsWith(s, pos)) {
+				pos += s.length();
+				return true;
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Tests if this string starts with the specified prefix beginning
 	 * a specified index.
@@ -485,6 +521,9 @@ public class MIParser {
 	 * with this for large arrays. Use of FSB rather than String
 	 * Buffer makes MIParser N rather than N^2 because FSB can
 	 * delete from the front in constant time.
+	 * <p>
+	 * The parser itself no longer uses this class, it keeps a position within
+	 * the line instead of deleting from a copy of it.
 	 */
 	public class FSB {
 		StringBuffer buf;
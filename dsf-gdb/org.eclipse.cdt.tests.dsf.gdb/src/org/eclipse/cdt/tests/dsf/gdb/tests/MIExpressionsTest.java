@@ -3259,6 +3259,81 @@ public class MIExpressionsTest extends BaseParametrizedTestCase {
 				new String[] { "array_double_small[3][19]", "array_double_small[3][20]" });
 	}
 
+	/**
+	 * This test verifies that a range of the children of an array can be fetched
+	 * before the other children, without changing the list of all children.
+	 */
+	@Test
+	public void testArrayChildrenWindow() throws Throwable {
+		MIStoppedEvent stoppedEvent = SyncUtil.runToLocation("testArrays");
+
+		IFrameDMContext frameDmc = SyncUtil.getStackFrame(stoppedEvent.getDMContext(), 0);
+
+		// int array_simple[10];
+		IExpressionDMContext arraySimpleExprDMC = SyncUtil.createExpression(frameDmc, "array_simple");
+
+		// get parts of the children array before the whole array
+		getChildren(arraySimpleExprDMC, 5, 3,
+				new String[] { "array_simple[5]", "array_simple[6]", "array_simple[7]" });
+		getChildren(arraySimpleExprDMC, 8, 5, new String[] { "array_simple[8]", "array_simple[9]" });
+
+		// get all children
+		String[] expectedValues = new String[10];
+		for (int i = 0; i < expectedValues.length; ++i) {
+			expectedValues[i] = String.format("array_simple[%d]", i);
+		}
+		getChildren(arraySimpleExprDMC, expectedValues);
+
+		getChildren(arraySimpleExprDMC, 0, 2, new String[] { "array_simple[0]", "array_simple[1]" });
+	}
+
+	/**
+	 * This test verifies that consecutive ranges of the children of an array refer
+	 * to the right elements, also within a partition of the array.
+	 */
+	@Test
+	public void testArrayChildrenWindowOffsets() throws Throwable {
+		MIStoppedEvent stoppedEvent = runToTag("testCasting_init");
+
+		IFrameDMContext frameDmc = SyncUtil.getStackFrame(stoppedEvent.getDMContext(), 0);
+
+		// int array_small[4] = {65, 0x41424344, 0x45464748};
+		IExpressionDMContext arraySmallExprDMC = SyncUtil.createExpression(frameDmc, "array_small");
+		IExpressionDMContext[] firstWindow = getChildren(arraySmallExprDMC, 0, 2,
+				new String[] { "array_small[0]", "array_small[1]" });
+		IExpressionDMContext[] secondWindow = getChildren(arraySmallExprDMC, 2, 2,
+				new String[] { "array_small[2]", "array_small[3]" });
+		assertEquals("65", SyncUtil.getExpressionValue(firstWindow[0], IFormattedValues.NATURAL_FORMAT));
+		assertEquals("1094861636", SyncUtil.getExpressionValue(firstWindow[1], IFormattedValues.NATURAL_FORMAT));
+		assertEquals("1162233672", SyncUtil.getExpressionValue(secondWindow[0], IFormattedValues.NATURAL_FORMAT));
+		assertEquals("0", SyncUtil.getExpressionValue(secondWindow[1], IFormattedValues.NATURAL_FORMAT));
+
+		// int array_large[111], partitioned as [0-99], [100-110]
+		IExpressionDMContext arrayLargeExprDMC = SyncUtil.createExpression(frameDmc, "array_large");
+		IExpressionDMContext[] partitions = getChildren(arrayLargeExprDMC,
+				new String[] { "*((array_large)+0)@100", "*((array_large)+100)@11" });
+		getChildren(partitions[0], 98, 2, new String[] { "array_large[98]", "array_large[99]" });
+		getChildren(partitions[1], 0, 2, new String[] { "array_large[100]", "array_large[101]" });
+		getChildren(partitions[1], 9, 5, new String[] { "array_large[109]", "array_large[110]" });
+	}
+
+	/**
+	 * This test verifies that a range of the children of a structure is cut out of
+	 * its children.
+	 */
+	@Test
+	public void testStructChildrenWindow() throws Throwable {
+		MIStoppedEvent stoppedEvent = SyncUtil.runToLocation("testArrays");
+
+		IFrameDMContext frameDmc = SyncUtil.getStackFrame(stoppedEvent.getDMContext(), 0);
+
+		IExpressionDMContext fooExprDMC = SyncUtil.createExpression(frameDmc, "array_foo[0]");
+
+		getChildren(fooExprDMC, 2, 2, new String[] { "a", "b" });
+		getChildren(fooExprDMC, 4, 3, new String[] { "c" });
+		getChildren(fooExprDMC, new String[] { "bar", "bar2", "a", "b", "c" });
+	}
+
 	/**
 	 * This test verifies that there is no RTTI support before GDB 7.5.
 	 */
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.gdb.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.debug.core.ICDTLaunchConfigurationConstants;
+import org.eclipse.cdt.dsf.debug.service.IExpressions.IExpressionDMContext;
+import org.eclipse.cdt.dsf.debug.service.IFormattedValues;
+import org.eclipse.cdt.dsf.debug.service.IStack.IFrameDMContext;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandControlService;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandListener;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandResult;
+import org.eclipse.cdt.dsf.debug.service.command.ICommandToken;
+import org.eclipse.cdt.dsf.gdb.IGdbDebugPreferenceConstants;
+import org.eclipse.cdt.dsf.gdb.internal.GdbPlugin;
+import org.eclipse.cdt.dsf.mi.service.command.commands.MIVarDelete;
+import org.eclipse.cdt.dsf.mi.service.command.events.MIStoppedEvent;
+import org.eclipse.cdt.dsf.service.DsfServicesTracker;
+import org.eclipse.cdt.dsf.service.DsfSession;
+import org.eclipse.cdt.tests.dsf.gdb.framework.BaseParametrizedTestCase;
+import org.eclipse.cdt.tests.dsf.gdb.framework.SyncUtil;
+import org.eclipse.cdt.tests.dsf.gdb.launching.TestsPlugin;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Tests that the variable objects beyond the limit set in the preferences are
+ * deleted, least recently used first.
+ */
+@RunWith(Parameterized.class)
+public class MIVariableObjectLimitTest extends BaseParametrizedTestCase {
+	private static final String EXEC_NAME = "ExpressionTestApp.exe";
+	private static final String SOURCE_NAME = "ExpressionTestApp.cc";
+
+	private static final int MAX_VARIABLE_OBJECTS = 20;
+
+	private DsfSession fSession;
+	private DsfServicesTracker fServicesTracker;
+	private ICommandControlService fCommandControl;
+
+	private final AtomicInteger fDeletedCount = new AtomicInteger();
+
+	private final ICommandListener fDeleteCounter = new ICommandListener() {
+		@Override
+		public void commandQueued(ICommandToken token) {
+		}
+
+		@Override
+		public void commandSent(ICommandToken token) {
+			if (token.getCommand() instanceof MIVarDelete) {
+				fDeletedCount.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void commandRemoved(ICommandToken token) {
+		}
+
+		@Override
+		public void commandDone(ICommandToken token, ICommandResult result) {
+		}
+	};
+
+	@Override
+	protected void setLaunchAttributes() {
+		super.setLaunchAttributes();
+
+		setLaunchAttribute(ICDTLaunchConfigurationConstants.ATTR_PROGRAM_NAME, EXEC_PATH + EXEC_NAME);
+	}
+
+	@Override
+	public void doBeforeTest() throws Exception {
+		// The limit is read when the services of the launch are created
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(GdbPlugin.PLUGIN_ID);
+		node.putInt(IGdbDebugPreferenceConstants.PREF_MAX_VARIABLE_OBJECTS, MAX_VARIABLE_OBJECTS);
+
+		super.doBeforeTest();
+
+		fSession = getGDBLaunch().getSession();
+		Runnable runnable = () -> {
+			fServicesTracker = new DsfServicesTracker(TestsPlugin.getBundleContext(), fSession.getId());
+
+			fCommandControl = fServicesTracker.getService(ICommandControlService.class);
+			fCommandControl.addCommandListener(fDeleteCounter);
+		};
+		fSession.getExecutor().submit(runnable).get();
+	}
+
+	@Override
+	public void doAfterTest() throws Exception {
+		if (fSession != null && fCommandControl != null) {
+			fSession.getExecutor().submit(() -> fCommandControl.removeCommandListener(fDeleteCounter)).get();
+		}
+		if (fServicesTracker != null) {
+			fServicesTracker.dispose();
+		}
+
+		// Restore the preference we changed
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(GdbPlugin.PLUGIN_ID);
+		node.remove(IGdbDebugPreferenceConstants.PREF_MAX_VARIABLE_OBJECTS);
+		super.doAfterTest();
+	}
+
+	@Override
+	protected int getLineForTag(String tag) throws Exception {
+		try {
+			super.getLineForTag(tag);
+		} catch (Exception e) {
+			resolveLineTagLocations(SOURCE_NAME, tag);
+		}
+		return super.getLineForTag(tag);
+	}
+
+	private MIStoppedEvent runToTag(String tag) throws Throwable {
+		String location = String.format("%s:%d", SOURCE_NAME, getLineForTag(tag));
+		return SyncUtil.runToLocation(location);
+	}
+
+	/**
+	 * This test verifies that the variable objects beyond the limit are deleted in
+	 * GDB, and that an expression whose variable object was deleted can still be
+	 * evaluated.
+	 */
+	@Test
+	public void testVariableObjectsBeyondLimitAreDeleted() throws Throwable {
+		MIStoppedEvent stoppedEvent = runToTag("testCasting_init");
+		IFrameDMContext frameDmc = SyncUtil.getStackFrame(stoppedEvent.getDMContext(), 0);
+
+		// int array_small[4] = {65, 0x41424344, 0x45464748};
+		IExpressionDMContext firstDmc = SyncUtil.createExpression(frameDmc, "array_small[1]");
+		assertEquals("1094861636", SyncUtil.getExpressionValue(firstDmc, IFormattedValues.NATURAL_FORMAT));
+
+		int count = 3 * MAX_VARIABLE_OBJECTS;
+		for (int i = 0; i < count; i++) {
+			IExpressionDMContext dmc = SyncUtil.createExpression(frameDmc, "array_large[" + i + "]");
+			SyncUtil.getExpressionValue(dmc, IFormattedValues.NATURAL_FORMAT);
+		}
+
+		// At most the limit and the variable object being looked up are kept
+		int deleted = fDeletedCount.get();
+		assertTrue("Expected at least " + (count - MAX_VARIABLE_OBJECTS) + " deletions, got " + deleted,
+				deleted >= count - MAX_VARIABLE_OBJECTS);
+
+		// The first variable object was the least recently used, it is created again
+		assertEquals("1094861636", SyncUtil.getExpressionValue(firstDmc, IFormattedValues.NATURAL_FORMAT));
+		assertTrue(fDeletedCount.get() > deleted);
+	}
+}
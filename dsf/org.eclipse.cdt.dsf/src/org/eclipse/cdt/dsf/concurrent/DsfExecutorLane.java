@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.dsf.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A DSF executor which runs its tasks serially, in submission order, on
+ * threads borrowed from a shared pool.
+ * <p>
+ * A lane gives a group of services the same confinement guarantee as a
+ * session's {@link DefaultDsfExecutor}: at most one of its tasks runs at any
+ * time and each task sees the effects of all tasks submitted before it.
+ * Different lanes however run in parallel, so services which only interact
+ * with other services through request monitors can be moved off the session
+ * executor, and their requests no longer queue behind unrelated work.
+ * Results must be handed back to clients using the client's executor, as for
+ * any other asynchronous DSF call.
+ * </p><p>
+ * By default all lanes share one cached pool of daemon threads. A different
+ * executor, e.g. one creating virtual threads, may be given to the constructor.
+ * Delayed tasks are timed by a shared timer thread and run on the lane once
+ * they are due.
+ * </p>
+ *
+ * @see org.eclipse.cdt.dsf.service.DsfSession#getExecutorLane(String)
+ * @since 2.13
+ */
+@ThreadSafe
+public class DsfExecutorLane extends AbstractExecutorService implements DsfExecutor {
+	/**
+	 * Maximum number of tasks run in one turn, before the pool thread is given
+	 * back to let other lanes make progress.
+	 */
+	private static final int MAX_TASKS_PER_TURN = 64;
+
+	private static final AtomicInteger fgPoolThreadCounter = new AtomicInteger();
+
+	/** Pool shared by all lanes which were not given an executor of their own */
+	private static final ExecutorService fgSharedPool = Executors.newCachedThreadPool(r -> {
+		Thread thread = new Thread(r, "DSF Lane Pool - " + fgPoolThreadCounter.getAndIncrement()); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/** Timer for the delayed and periodic tasks of all lanes */
+	private static final ScheduledThreadPoolExecutor fgTimer;
+	static {
+		fgTimer = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread thread = new Thread(r, "DSF Lane Timer"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		fgTimer.setRemoveOnCancelPolicy(true);
+	}
+
+	private final String fName;
+	private final Executor fPool;
+	private final Queue<Runnable> fTasks = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean fScheduled = new AtomicBoolean();
+	private final CountDownLatch fTerminated = new CountDownLatch(1);
+	private final Object fLock = new Object();
+
+	/** Thread currently running the tasks of this lane, or <code>null</code> */
+	private volatile Thread fRunner;
+	private volatile boolean fShutdown;
+
+	/**
+	 * Creates a lane running on the shared pool.
+	 * @param name Name of the lane, used for tracing.
+	 */
+	public DsfExecutorLane(String name) {
+		this(name, fgSharedPool);
+	}
+
+	/**
+	 * Creates a lane running on the given executor.
+	 * @param name Name of the lane, used for tracing.
+	 * @param pool Executor used to run the lane's tasks, it may use any number of threads.
+	 */
+	public DsfExecutorLane(String name, Executor pool) {
+		fName = name;
+		fPool = pool;
+	}
+
+	public String getName() {
+		return fName;
+	}
+
+	@Override
+	public boolean isInExecutorThread() {
+		return Thread.currentThread() == fRunner;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		if (command == null) {
+			throw new NullPointerException();
+		}
+		synchronized (fLock) {
+			if (fShutdown) {
+				throw new RejectedExecutionException("Executor lane " + fName + " is shut down"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			fTasks.add(command);
+		}
+		dispatch();
+	}
+
+	private void dispatch() {
+		if (fScheduled.compareAndSet(false, true)) {
+			try {
+				fPool.execute(this::runTasks);
+			} catch (RejectedExecutionException e) {
+				fScheduled.set(false);
+				throw e;
+			}
+		}
+	}
+
+	private void runTasks() {
+		fRunner = Thread.currentThread();
+		try {
+			for (int i = 0; i < MAX_TASKS_PER_TURN; i++) {
+				Runnable task = fTasks.poll();
+				if (task == null) {
+					break;
+				}
+				try {
+					task.run();
+				} catch (RuntimeException | Error e) {
+					// Keep the lane alive, same as the session executor does.
+					DefaultDsfExecutor.logException(e);
+				}
+			}
+		} finally {
+			fRunner = null;
+			fScheduled.set(false);
+		}
+		if (!fTasks.isEmpty()) {
+			dispatch();
+		} else if (fShutdown) {
+			checkTerminated();
+		}
+	}
+
+	private void checkTerminated() {
+		synchronized (fLock) {
+			if (fShutdown && fTasks.isEmpty() && !fScheduled.get()) {
+				fTerminated.countDown();
+			}
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		synchronized (fLock) {
+			fShutdown = true;
+		}
+		checkTerminated();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		List<Runnable> pending = new ArrayList<>();
+		synchronized (fLock) {
+			fShutdown = true;
+			for (Runnable task = fTasks.poll(); task != null; task = fTasks.poll()) {
+				pending.add(task);
+			}
+		}
+		checkTerminated();
+		return pending;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return fShutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return fTerminated.getCount() == 0;
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		return fTerminated.await(timeout, unit);
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+		return schedule(new LaneTask<Void>(command, null, 0), delay, unit);
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+		return schedule(new LaneTask<>(callable), delay, unit);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+		if (period <= 0) {
+			throw new IllegalArgumentException();
+		}
+		return schedule(new LaneTask<Void>(command, null, unit.toNanos(period)), initialDelay, unit);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+			TimeUnit unit) {
+		if (delay <= 0) {
+			throw new IllegalArgumentException();
+		}
+		return schedule(new LaneTask<Void>(command, null, -unit.toNanos(delay)), initialDelay, unit);
+	}
+
+	private <V> ScheduledFuture<V> schedule(LaneTask<V> task, long delay, TimeUnit unit) {
+		if (fShutdown) {
+			throw new RejectedExecutionException("Executor lane " + fName + " is shut down"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		task.arm(System.nanoTime() + unit.toNanos(delay));
+		return task;
+	}
+
+	/**
+	 * Task which waits on the shared timer and is then run on the lane.
+	 */
+	private class LaneTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+		/** Zero for one-shot tasks, positive for a fixed rate, negative for a fixed delay, in nanoseconds */
+		private final long fPeriod;
+		private volatile long fTime;
+		private volatile ScheduledFuture<?> fTimerFuture;
+
+		LaneTask(Runnable runnable, V result, long period) {
+			super(runnable, result);
+			fPeriod = period;
+		}
+
+		LaneTask(Callable<V> callable) {
+			super(callable);
+			fPeriod = 0;
+		}
+
+		void arm(long time) {
+			fTime = time;
+			fTimerFuture = fgTimer.schedule(this::enqueue, time - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		private void enqueue() {
+			if (isDone()) {
+				return;
+			}
+			try {
+				execute(this);
+			} catch (RejectedExecutionException e) {
+				super.cancel(false);
+			}
+		}
+
+		@Override
+		public void run() {
+			if (fPeriod == 0) {
+				super.run();
+			} else if (runAndReset()) {
+				if (fShutdown) {
+					// The lane does not accept the next run, complete the future.
+					cancel(false);
+				} else {
+					arm(fPeriod > 0 ? fTime + fPeriod : System.nanoTime() - fPeriod);
+				}
+			}
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			boolean cancelled = super.cancel(mayInterruptIfRunning);
+			ScheduledFuture<?> timerFuture = fTimerFuture;
+			if (cancelled && timerFuture != null) {
+				timerFuture.cancel(false);
+			}
+			return cancelled;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(fTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			if (other == this) {
+				return 0;
+			}
+			return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "DsfExecutorLane[" + fName + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
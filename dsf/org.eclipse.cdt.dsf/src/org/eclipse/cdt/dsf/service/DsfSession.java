@@ -30,6 +30,7 @@ import java.util.TreeMap;
 
 import org.eclipse.cdt.dsf.concurrent.ConfinedToDsfExecutor;
 import org.eclipse.cdt.dsf.concurrent.DsfExecutor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutorLane;
 import org.eclipse.cdt.dsf.concurrent.DsfRunnable;
 import org.eclipse.cdt.dsf.concurrent.ThreadSafe;
 import org.eclipse.cdt.dsf.internal.DsfPlugin;
@@ -249,6 +250,8 @@ public class DsfSession {
 					for (int i = 0; i < listeners.length; i++) {
 						listeners[i].sessionEnded(session);
 					}
+					// Services have been shut down by now, let their lanes run out.
+					session.shutdownExecutorLanes();
 				}
 			});
 		}
@@ -283,6 +286,9 @@ public class DsfSession {
 	/** Dispatch-thread executor for this session */
 	private final DsfExecutor fExecutor;
 
+	/** Serial executor lanes created for services of this session, by name */
+	private final Map<String, DsfExecutorLane> fExecutorLanes = new HashMap<>();
+
 	/** Service start-up counter for this session */
 	private int fServiceInstanceCounter;
 
@@ -318,6 +324,37 @@ public class DsfSession {
 		return fExecutor;
 	}
 
+	/**
+	 * Returns the executor lane with the given name, creating it if needed.
+	 * <p>
+	 * Services sharing a lane are confined to it the same way as services
+	 * using {@link #getExecutor()} are confined to the session executor, while
+	 * different lanes and the session executor run in parallel. Services which
+	 * use a lane must dispatch events and call other services on the session
+	 * executor, and complete request monitors on the monitor's own executor.
+	 * </p><p>
+	 * The lanes are shut down after the session-ended listeners have been called.
+	 * </p>
+	 * @param name Name of the lane, e.g. the name of the service group using it.
+	 * @since 2.13
+	 */
+	@ThreadSafe
+	public DsfExecutorLane getExecutorLane(String name) {
+		synchronized (fExecutorLanes) {
+			return fExecutorLanes.computeIfAbsent(name,
+					n -> new DsfExecutorLane(n + " (session " + fId + ")")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private void shutdownExecutorLanes() {
+		synchronized (fExecutorLanes) {
+			for (DsfExecutorLane lane : fExecutorLanes.values()) {
+				lane.shutdown();
+			}
+			fExecutorLanes.clear();
+		}
+	}
+
 	/**
 	 * Adds a new listener for service events in this session.  If the given
 	 * object is already registered as a listener, then this call does nothing.
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     See git history
+ *******************************************************************************/
+package org.eclipse.cdt.tests.dsf.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.cdt.dsf.concurrent.DataRequestMonitor;
+import org.eclipse.cdt.dsf.concurrent.DsfExecutorLane;
+import org.eclipse.cdt.dsf.concurrent.Query;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the serial executor lanes.
+ */
+public class DsfExecutorLaneTests {
+	DsfExecutorLane fLane1;
+	DsfExecutorLane fLane2;
+
+	@Before
+	public void startLanes() {
+		fLane1 = new DsfExecutorLane("lane1"); //$NON-NLS-1$
+		fLane2 = new DsfExecutorLane("lane2"); //$NON-NLS-1$
+	}
+
+	@After
+	public void shutdownLanes() throws InterruptedException {
+		fLane1.shutdown();
+		fLane2.shutdown();
+		assertTrue(fLane1.awaitTermination(5, TimeUnit.SECONDS));
+		assertTrue(fLane2.awaitTermination(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void tasksRunInOrder() throws InterruptedException, ExecutionException {
+		final List<Integer> order = new ArrayList<>();
+		final AtomicInteger concurrent = new AtomicInteger();
+		final AtomicInteger maxConcurrent = new AtomicInteger();
+		for (int i = 0; i < 1000; i++) {
+			final int n = i;
+			fLane1.execute(() -> {
+				maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+				order.add(n);
+				concurrent.decrementAndGet();
+			});
+		}
+		fLane1.submit(() -> {
+		}).get();
+		assertEquals(1, maxConcurrent.get());
+		assertEquals(1000, order.size());
+		for (int i = 0; i < order.size(); i++) {
+			assertEquals(i, (int) order.get(i));
+		}
+	}
+
+	@Test
+	public void isInExecutorThread() throws InterruptedException, ExecutionException {
+		assertFalse(fLane1.isInExecutorThread());
+		assertTrue(fLane1.submit(() -> fLane1.isInExecutorThread()).get());
+		assertFalse(fLane1.submit(() -> fLane2.isInExecutorThread()).get());
+	}
+
+	@Test
+	public void lanesRunInParallel() throws InterruptedException, ExecutionException {
+		final CountDownLatch lane2Ran = new CountDownLatch(1);
+		// Lane 1 blocks until lane 2 got to run, which would dead-lock on a shared thread.
+		Future<Boolean> lane1Result = fLane1.submit(() -> lane2Ran.await(5, TimeUnit.SECONDS));
+		fLane2.execute(lane2Ran::countDown);
+		assertTrue(lane1Result.get());
+	}
+
+	@Test
+	public void exceptionDoesNotStopLane() throws InterruptedException, ExecutionException {
+		fLane1.execute(() -> {
+			throw new IllegalStateException("expected"); //$NON-NLS-1$
+		});
+		assertEquals(Integer.valueOf(1), fLane1.submit(() -> 1).get());
+	}
+
+	@Test
+	public void queryOnLane() throws InterruptedException, ExecutionException {
+		Query<Boolean> q = new Query<>() {
+			@Override
+			protected void execute(DataRequestMonitor<Boolean> rm) {
+				rm.setData(fLane1.isInExecutorThread());
+				rm.done();
+			}
+		};
+		fLane1.execute(q);
+		assertTrue(q.get());
+	}
+
+	@Test
+	public void scheduledTasks() throws InterruptedException, ExecutionException {
+		long start = System.nanoTime();
+		ScheduledFuture<Boolean> future = fLane1.schedule(() -> fLane1.isInExecutorThread(), 50,
+				TimeUnit.MILLISECONDS);
+		assertTrue(future.get());
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+
+		final CountDownLatch ticks = new CountDownLatch(3);
+		ScheduledFuture<?> periodic = fLane1.scheduleWithFixedDelay(ticks::countDown, 0, 10, TimeUnit.MILLISECONDS);
+		assertTrue(ticks.await(5, TimeUnit.SECONDS));
+		assertTrue(periodic.cancel(false));
+		assertTrue(periodic.isCancelled());
+	}
+
+	@Test
+	public void periodicTaskCancelledByShutdown() throws InterruptedException {
+		final CountDownLatch running = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		ScheduledFuture<?> periodic = fLane1.scheduleAtFixedRate(() -> {
+			running.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, 0, 10, TimeUnit.MILLISECONDS);
+		assertTrue(running.await(5, TimeUnit.SECONDS));
+		// Shut down while the task runs, so that it cannot be armed again.
+		fLane1.shutdown();
+		release.countDown();
+		assertTrue(fLane1.awaitTermination(5, TimeUnit.SECONDS));
+		assertTrue(periodic.isCancelled());
+		assertTrue(periodic.isDone());
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void rejectAfterShutdown() {
+		fLane1.shutdown();
+		fLane1.execute(() -> {
+		});
+	}
+
+	@Test
+	public void shutdownRunsQueuedTasks() throws InterruptedException {
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger ran = new AtomicInteger();
+		fLane1.execute(() -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			ran.incrementAndGet();
+		});
+		fLane1.execute(ran::incrementAndGet);
+		fLane1.shutdown();
+		assertFalse(fLane1.isTerminated());
+		release.countDown();
+		assertTrue(fLane1.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(2, ran.get());
+	}
+}